@@ -0,0 +1,56 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the end-to-end generation of the aggregate HTML report, from the JSON outcomes on disk to the report pages.
+ * Each invocation writes a complete report, so this benchmark runs in single-shot mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AggregateReportBenchmark {
+
+    private File sourceDirectory;
+
+    private File outputDirectory;
+
+    @Setup(Level.Trial)
+    public void writeOutcomes(ReportingData data) throws IOException {
+        sourceDirectory = data.syntheticOutcomes.writeTo(Files.createTempDirectory("serenity-benchmark-outcomes").toFile());
+    }
+
+    @Setup(Level.Iteration)
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("serenity-benchmark-report").toFile();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutcomes() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+    }
+
+    @Benchmark
+    public TestOutcomes generateAggregateReport(PeakHeap peakHeap) throws IOException {
+        HtmlAggregateStoryReporter reporter = new HtmlAggregateStoryReporter("benchmark");
+        reporter.setSourceDirectory(sourceDirectory);
+        reporter.setOutputDirectory(outputDirectory);
+        return reporter.generateReportsForTestResultsFrom(sourceDirectory);
+    }
+}
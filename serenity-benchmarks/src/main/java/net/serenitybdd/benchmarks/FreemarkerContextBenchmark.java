@@ -0,0 +1,44 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.issues.SystemPropertiesIssueTracking;
+import net.thucydides.core.reports.html.FreemarkerContext;
+import net.thucydides.core.reports.html.ReportNameProvider;
+import net.thucydides.core.requirements.RequirementsService;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.thucydides.core.guice.Injectors.getInjector;
+
+/**
+ * Measures how long it takes to build the Freemarker context that each aggregate report page is rendered with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FreemarkerContextBenchmark {
+
+    private FreemarkerContext context;
+
+    private ReportNameProvider reportNameProvider;
+
+    @Setup
+    public void createContext() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        context = new FreemarkerContext(environmentVariables,
+                getInjector().getInstance(RequirementsService.class),
+                new SystemPropertiesIssueTracking(environmentVariables),
+                "");
+        reportNameProvider = new ReportNameProvider();
+    }
+
+    @Benchmark
+    public Map<String, Object> buildContext(ReportingData data) {
+        return context.getBuildContext(data.testOutcomes, reportNameProvider, true);
+    }
+}
@@ -0,0 +1,54 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.requirements.model.Requirement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * The synthetic test outcomes shared by the reporting benchmarks.
+ * The shape of the data can be changed from the command line, e.g. {@code -p outcomeCount=5000 -p stepDepth=4}.
+ */
+@State(Scope.Benchmark)
+public class ReportingData {
+
+    @Param({"1000"})
+    public int outcomeCount;
+
+    @Param({"3"})
+    public int stepDepth;
+
+    @Param({"3"})
+    public int stepsPerLevel;
+
+    @Param({"20"})
+    public int tagCardinality;
+
+    @Param({"2"})
+    public int requirementLevels;
+
+    @Param({"5"})
+    public int requirementsPerLevel;
+
+    SyntheticOutcomes syntheticOutcomes;
+    List<Requirement> requirements;
+    List<TestOutcome> outcomes;
+    TestOutcomes testOutcomes;
+
+    @Setup
+    public void generateOutcomes() {
+        syntheticOutcomes = SyntheticOutcomes.withOutcomeCount(outcomeCount)
+                                             .withStepDepth(stepDepth)
+                                             .withStepsPerLevel(stepsPerLevel)
+                                             .withTagCardinality(tagCardinality)
+                                             .withRequirementTree(requirementLevels, requirementsPerLevel);
+        requirements = syntheticOutcomes.requirements();
+        outcomes = syntheticOutcomes.testOutcomes();
+        testOutcomes = TestOutcomes.of(outcomes);
+    }
+}
@@ -0,0 +1,34 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.issues.SystemPropertiesIssueTracking;
+import net.thucydides.core.reports.html.ReportNameProvider;
+import net.thucydides.core.requirements.reports.RequirementsOutcomes;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to match the test outcomes against the requirement hierarchy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RequirementsOutcomesBenchmark {
+
+    @Benchmark
+    public int buildRequirementsOutcomes(ReportingData data) {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        RequirementsOutcomes requirementsOutcomes = new RequirementsOutcomes(data.requirements,
+                data.testOutcomes,
+                new SystemPropertiesIssueTracking(environmentVariables),
+                environmentVariables,
+                Collections.emptyList(),
+                new ReportNameProvider(),
+                "");
+        return requirementsOutcomes.getFlattenedRequirementOutcomes().size();
+    }
+}
@@ -0,0 +1,205 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.binary.BinaryTestOutcomeReporter;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.requirements.model.Requirement;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates test outcomes and a matching requirement hierarchy for the reporting benchmarks.
+ * The outcomes are generated from a fixed seed, so two runs with the same settings produce the same data.
+ * <pre>
+ *     SyntheticOutcomes outcomes = SyntheticOutcomes.withOutcomeCount(1000)
+ *                                                   .withStepDepth(3)
+ *                                                   .withTagCardinality(50)
+ *                                                   .withRequirementTree(3, 4);
+ * </pre>
+ */
+public class SyntheticOutcomes {
+
+    private static final long SEED = 20211017L;
+
+    private static final TestResult[] RESULTS = {
+            TestResult.SUCCESS, TestResult.SUCCESS, TestResult.SUCCESS, TestResult.SUCCESS,
+            TestResult.FAILURE, TestResult.ERROR, TestResult.PENDING, TestResult.IGNORED
+    };
+
+    private static final String[] REQUIREMENT_TYPES = {"theme", "capability", "feature", "story"};
+
+    private final int outcomeCount;
+    private final int stepDepth;
+    private final int stepsPerLevel;
+    private final int tagCardinality;
+    private final int requirementLevels;
+    private final int requirementsPerLevel;
+
+    private SyntheticOutcomes(int outcomeCount, int stepDepth, int stepsPerLevel,
+                              int tagCardinality, int requirementLevels, int requirementsPerLevel) {
+        this.outcomeCount = outcomeCount;
+        this.stepDepth = stepDepth;
+        this.stepsPerLevel = stepsPerLevel;
+        this.tagCardinality = tagCardinality;
+        this.requirementLevels = requirementLevels;
+        this.requirementsPerLevel = requirementsPerLevel;
+    }
+
+    public static SyntheticOutcomes withOutcomeCount(int outcomeCount) {
+        return new SyntheticOutcomes(outcomeCount, 2, 3, 20, 2, 5);
+    }
+
+    /**
+     * How deeply the steps of each test are nested. Each step has the same number of child steps.
+     */
+    public SyntheticOutcomes withStepDepth(int stepDepth) {
+        return new SyntheticOutcomes(outcomeCount, stepDepth, stepsPerLevel, tagCardinality, requirementLevels, requirementsPerLevel);
+    }
+
+    public SyntheticOutcomes withStepsPerLevel(int stepsPerLevel) {
+        return new SyntheticOutcomes(outcomeCount, stepDepth, stepsPerLevel, tagCardinality, requirementLevels, requirementsPerLevel);
+    }
+
+    /**
+     * The number of distinct tags that the tests are tagged with, in addition to their requirement tags.
+     */
+    public SyntheticOutcomes withTagCardinality(int tagCardinality) {
+        return new SyntheticOutcomes(outcomeCount, stepDepth, stepsPerLevel, tagCardinality, requirementLevels, requirementsPerLevel);
+    }
+
+    /**
+     * The shape of the requirement hierarchy: the number of levels (at most 4), and the number of children of each requirement.
+     */
+    public SyntheticOutcomes withRequirementTree(int requirementLevels, int requirementsPerLevel) {
+        if (requirementLevels < 1 || requirementLevels > REQUIREMENT_TYPES.length) {
+            throw new IllegalArgumentException("Requirement trees can have between 1 and " + REQUIREMENT_TYPES.length + " levels");
+        }
+        return new SyntheticOutcomes(outcomeCount, stepDepth, stepsPerLevel, tagCardinality, requirementLevels, requirementsPerLevel);
+    }
+
+    public List<Requirement> requirements() {
+        return requirementsAtLevel(0, null, "");
+    }
+
+    public List<TestOutcome> testOutcomes() {
+        Random random = new Random(SEED);
+        List<Requirement> leafRequirements = leafRequirementsOf(requirements());
+        ZonedDateTime startTime = ZonedDateTime.now().minusDays(1);
+
+        List<TestOutcome> outcomes = new ArrayList<>(outcomeCount);
+        for (int i = 0; i < outcomeCount; i++) {
+            Requirement requirement = leafRequirements.get(i % leafRequirements.size());
+            String storyPath = requirement.getPath();
+
+            TestOutcome outcome = TestOutcome.forTestInStory("Scenario " + i,
+                    Story.withIdAndPath(storyPath, requirement.getName(), storyPath));
+            outcome.setStartTime(startTime.plusSeconds(i));
+            outcome.setTestSource("JUnit");
+            outcome.addTags(tagsFor(requirement, random));
+            outcome.recordSteps(stepsAtLevel(1, startTime, random));
+            outcome.setDuration(100 + random.nextInt(1000));
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Write the generated outcomes as JSON files, in the same form as the outcomes of a real test run.
+     */
+    public File writeTo(File outputDirectory) throws IOException {
+        return writeTo(outputDirectory, OutcomeFormat.JSON);
+    }
+
+    /**
+     * Write the generated outcomes in the given format (JSON or binary), in the same form as the outcomes of a real test run.
+     */
+    public File writeTo(File outputDirectory, OutcomeFormat format) throws IOException {
+        if (!outputDirectory.exists() && !outputDirectory.mkdirs()) {
+            throw new IOException("Could not create " + outputDirectory);
+        }
+        AcceptanceTestReporter reporter = reporterFor(format);
+        reporter.setOutputDirectory(outputDirectory);
+        for (TestOutcome outcome : testOutcomes()) {
+            reporter.generateReportFor(outcome);
+        }
+        return outputDirectory;
+    }
+
+    static AcceptanceTestReporter reporterFor(OutcomeFormat format) {
+        switch (format) {
+            case JSON:
+                return new JSONTestOutcomeReporter();
+            case BINARY:
+                return new BinaryTestOutcomeReporter();
+            default:
+                throw new IllegalArgumentException("Synthetic outcomes can only be written as JSON or binary files, not " + format);
+        }
+    }
+
+    private List<Requirement> requirementsAtLevel(int level, Requirement parent, String parentPath) {
+        if (level >= requirementLevels) {
+            return Collections.emptyList();
+        }
+        String type = REQUIREMENT_TYPES[REQUIREMENT_TYPES.length - requirementLevels + level];
+        List<Requirement> requirements = new ArrayList<>();
+        for (int i = 0; i < requirementsPerLevel; i++) {
+            String name = type + " " + level + "-" + i + ((parent == null) ? "" : " of " + parent.getName());
+            String path = parentPath.isEmpty() ? name : parentPath + "/" + name;
+            Requirement requirement = Requirement.named(name)
+                    .withOptionalParent((parent == null) ? null : parent.getName())
+                    .withType(type)
+                    .withNarrative("Narrative for " + name)
+                    .withPath(path);
+            requirements.add(requirement.withChildren(requirementsAtLevel(level + 1, requirement, path)));
+        }
+        return requirements;
+    }
+
+    private List<Requirement> leafRequirementsOf(List<Requirement> requirements) {
+        List<Requirement> leaves = new ArrayList<>();
+        for (Requirement requirement : requirements) {
+            if (requirement.getChildren().isEmpty()) {
+                leaves.add(requirement);
+            } else {
+                leaves.addAll(leafRequirementsOf(requirement.getChildren()));
+            }
+        }
+        return leaves;
+    }
+
+    private List<TestTag> tagsFor(Requirement requirement, Random random) {
+        List<TestTag> tags = new ArrayList<>();
+        tags.add(requirement.asTag());
+        if (tagCardinality > 0) {
+            tags.add(TestTag.withName("tag " + random.nextInt(tagCardinality)).andType("tag"));
+            tags.add(TestTag.withName("component " + random.nextInt(tagCardinality)).andType("component"));
+        }
+        return tags;
+    }
+
+    private List<TestStep> stepsAtLevel(int level, ZonedDateTime startTime, Random random) {
+        List<TestStep> steps = new ArrayList<>();
+        for (int i = 0; i < stepsPerLevel; i++) {
+            TestStep step = new TestStep(startTime, "Step " + level + "." + i + " with some typical step description");
+            step.setResult(RESULTS[random.nextInt(RESULTS.length)]);
+            step.setDuration(random.nextInt(500));
+            if (level < stepDepth) {
+                stepsAtLevel(level + 1, startTime, random).forEach(step::addChildStep);
+            }
+            steps.add(step);
+        }
+        return steps;
+    }
+}
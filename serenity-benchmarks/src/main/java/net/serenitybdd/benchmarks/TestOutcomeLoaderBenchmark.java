@@ -0,0 +1,73 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to write the test outcomes of a test run to disk, and to load them again,
+ * in each of the stored outcome formats.
+ * A single format can be measured from the command line, e.g. {@code -p format=BINARY}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TestOutcomeLoaderBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public OutcomeFormat format;
+
+    private File sourceDirectory;
+
+    private File outputDirectory;
+
+    private TestOutcomeLoader loader;
+
+    private List<TestOutcome> testOutcomes;
+
+    private AcceptanceTestReporter reporter;
+
+    @Setup
+    public void prepareOutcomes(ReportingData data) throws IOException {
+        sourceDirectory = data.syntheticOutcomes.writeTo(Files.createTempDirectory("serenity-benchmark").toFile(), format);
+        loader = new TestOutcomeLoader(new MockEnvironmentVariables()).forFormat(format);
+
+        outputDirectory = Files.createTempDirectory("serenity-benchmark-output").toFile();
+        testOutcomes = data.outcomes;
+        reporter = SyntheticOutcomes.reporterFor(format);
+        reporter.setOutputDirectory(outputDirectory);
+    }
+
+    @TearDown
+    public void deleteOutcomes() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public File writeOutcomes(PeakHeap peakHeap) throws IOException {
+        File lastOutcome = null;
+        for (TestOutcome testOutcome : testOutcomes) {
+            lastOutcome = reporter.generateReportFor(testOutcome);
+        }
+        return lastOutcome;
+    }
+
+    @Benchmark
+    public List<TestOutcome> loadOutcomes(PeakHeap peakHeap) {
+        return loader.loadFrom(sourceDirectory);
+    }
+}
@@ -0,0 +1,41 @@
+package net.serenitybdd.benchmarks;
+
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.requirements.model.Requirement;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the filtering operations that the aggregate reports run for every tag, result and requirement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TestOutcomesFilteringBenchmark {
+
+    @Benchmark
+    public void filterByTag(ReportingData data, Blackhole blackhole) {
+        for (int i = 0; i < data.tagCardinality; i++) {
+            blackhole.consume(data.testOutcomes.withTag(TestTag.withName("tag " + i).andType("tag")).getTotal());
+        }
+    }
+
+    @Benchmark
+    public void filterByResult(ReportingData data, Blackhole blackhole) {
+        for (TestResult result : TestResult.values()) {
+            blackhole.consume(data.testOutcomes.withResult(result).getTotal());
+        }
+    }
+
+    @Benchmark
+    public void filterByRequirement(ReportingData data, Blackhole blackhole) {
+        for (Requirement requirement : data.requirements) {
+            blackhole.consume(data.testOutcomes.forRequirement(requirement).getTotal());
+        }
+    }
+}
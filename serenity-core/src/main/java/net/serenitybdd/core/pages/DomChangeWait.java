@@ -0,0 +1,74 @@
+package net.serenitybdd.core.pages;
+
+import net.thucydides.core.webdriver.javascript.DomChanges;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * A wait that checks its condition again each time the DOM of the page changes, instead of polling at a fixed interval.
+ * If the page cannot be observed, it falls back to sleeping for the polling interval between checks, like a FluentWait.
+ */
+class DomChangeWait implements Wait<WebDriver> {
+
+    private final WebDriver driver;
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final Duration timeout;
+    private final Duration pollingInterval;
+
+    DomChangeWait(WebDriver driver, Clock clock, Sleeper sleeper, Duration timeout, Duration pollingInterval) {
+        this.driver = driver;
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.timeout = timeout;
+        this.pollingInterval = pollingInterval;
+    }
+
+    @Override
+    public <T> T until(Function<? super WebDriver, T> isTrue) {
+        Instant end = clock.instant().plus(timeout);
+        DomChanges domChanges = DomChanges.in(driver, clock);
+        RuntimeException lastException = null;
+        while (true) {
+            try {
+                T value = isTrue.apply(driver);
+                if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                    return value;
+                }
+                lastException = null;
+            } catch (NoSuchElementException | NoSuchFrameException e) {
+                lastException = e;
+            }
+
+            Duration remaining = Duration.between(clock.instant(), end);
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d millisecond(s))",
+                                                         isTrue, timeout.toMillis()), lastException);
+            }
+            Duration maximumWait = (remaining.compareTo(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS) < 0) ?
+                    remaining : DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS;
+            if (!domChanges.waitForNextChange(maximumWait)) {
+                sleepFor(pollingInterval);
+            }
+        }
+    }
+
+    private void sleepFor(Duration interval) {
+        try {
+            sleeper.sleep(interval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
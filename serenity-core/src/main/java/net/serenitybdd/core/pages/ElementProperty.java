@@ -0,0 +1,62 @@
+package net.serenitybdd.core.pages;
+
+import java.util.function.Function;
+
+/**
+ * A property of a web element that can be read for a whole list of elements at once, using {@link ElementSnapshots}.
+ * Each property is read by a Javascript function when the driver supports Javascript,
+ * and by the equivalent WebElementFacade method otherwise.
+ */
+public enum ElementProperty {
+
+    /**
+     * The visible text, normalised the way Selenium's getText() does: table cells are separated by a single space
+     * rather than a tab, runs of spaces are collapsed, lines are trimmed and blank lines are dropped.
+     */
+    TEXT("function(element) {" +
+         "  if (!isDisplayed(element)) { return ''; }" +
+         "  return (element.innerText || '')" +
+         "      .replace(/\\r\\n?/g, '\\n')" +
+         "      .replace(/[\\u200b\\u200e\\u200f]/g, '')" +
+         "      .replace(/[ \\t\\f\\v]+/g, ' ')" +
+         "      .replace(/ *\\n */g, '\\n')" +
+         "      .replace(/\\n+/g, '\\n')" +
+         "      .replace(/\\u00a0/g, ' ')" +
+         "      .trim();" +
+         "}",
+         WebElementFacade::getText),
+
+    TEXT_CONTENT("function(element) { return element.textContent; }",
+                 WebElementFacade::getTextContent),
+
+    VALUE("function(element) { return ('value' in element) ? element.value : element.getAttribute('value'); }",
+          WebElementFacade::getValue),
+
+    VISIBLE("function(element) { return isDisplayed(element); }",
+            WebElementFacade::isVisible),
+
+    ENABLED("function(element) { return !element.disabled; }",
+            WebElementFacade::isCurrentlyEnabled),
+
+    SELECTED("function(element) { return !!(element.selected || element.checked); }",
+             WebElementFacade::isSelected),
+
+    SELECTED_VALUE("function(element) { return (element.options && element.selectedIndex >= 0) ? element.options[element.selectedIndex].value : null; }",
+                   WebElementFacade::getSelectedValue);
+
+    private final String javascriptReader;
+    private final Function<WebElementFacade, Object> elementReader;
+
+    ElementProperty(String javascriptReader, Function<WebElementFacade, Object> elementReader) {
+        this.javascriptReader = javascriptReader;
+        this.elementReader = elementReader;
+    }
+
+    String javascriptReader() {
+        return javascriptReader;
+    }
+
+    Object readFrom(WebElementFacade element) {
+        return elementReader.apply(element);
+    }
+}
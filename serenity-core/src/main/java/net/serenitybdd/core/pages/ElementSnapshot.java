@@ -0,0 +1,62 @@
+package net.serenitybdd.core.pages;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The state of a web element at the time it was read by {@link ElementSnapshots}.
+ * Only the properties that were requested are available.
+ */
+public class ElementSnapshot {
+
+    private final Map<ElementProperty, Object> properties;
+
+    ElementSnapshot(Map<ElementProperty, Object> properties) {
+        this.properties = Collections.unmodifiableMap(new EnumMap<>(properties));
+    }
+
+    public Object get(ElementProperty property) {
+        if (!properties.containsKey(property)) {
+            throw new IllegalStateException("The " + property + " property was not read for this element");
+        }
+        return properties.get(property);
+    }
+
+    public String getText() {
+        return asString(get(ElementProperty.TEXT));
+    }
+
+    public String getTextContent() {
+        return asString(get(ElementProperty.TEXT_CONTENT));
+    }
+
+    public String getValue() {
+        return asString(get(ElementProperty.VALUE));
+    }
+
+    public String getSelectedValue() {
+        return asString(get(ElementProperty.SELECTED_VALUE));
+    }
+
+    public boolean isVisible() {
+        return Boolean.TRUE.equals(get(ElementProperty.VISIBLE));
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(get(ElementProperty.ENABLED));
+    }
+
+    public boolean isSelected() {
+        return Boolean.TRUE.equals(get(ElementProperty.SELECTED));
+    }
+
+    private String asString(Object value) {
+        return (value == null) ? null : value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return properties.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package net.serenitybdd.core.pages;
+
+import net.thucydides.core.steps.StepEventBus;
+import org.apache.commons.io.IOUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascriptIsSupportedIn;
+
+/**
+ * Reads the state of a list of web elements in a single Javascript call, rather than one WebDriver call per element
+ * and per property. All of the elements are read at the same moment, so the snapshots give a consistent view of the page.
+ * If the driver does not support Javascript, each property is read from each element in turn.
+ */
+public class ElementSnapshots {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElementSnapshots.class);
+
+    /**
+     * The atom Selenium itself uses to implement isDisplayed() on W3C drivers.
+     */
+    private static final String IS_DISPLAYED_ATOM = "/org/openqa/selenium/remote/isDisplayed.js";
+
+    private static final String APPROXIMATE_IS_DISPLAYED =
+            "function(element) {" +
+            "  var style = window.getComputedStyle(element);" +
+            "  return !!(element.offsetWidth || element.offsetHeight || element.getClientRects().length)" +
+            "         && style.visibility !== 'hidden' && style.opacity !== '0';" +
+            "}";
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var isDisplayed = " + isDisplayedFunction() + ";" +
+            "var readers = {" + javascriptReaders() + "};" +
+            "var properties = arguments[1];" +
+            "return arguments[0].map(function(element) {" +
+            "  var state = {};" +
+            "  properties.forEach(function(property) { state[property] = readers[property](element); });" +
+            "  return state;" +
+            "});";
+
+    private ElementSnapshots() {
+    }
+
+    public static List<ElementSnapshot> of(List<? extends WebElementFacade> elements, ElementProperty... properties) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<WebDriver> driver = javascriptEnabledDriverFor(elements);
+        if (driver.isPresent()) {
+            try {
+                return snapshotsRead(((JavascriptExecutor) driver.get()), elements, properties);
+            } catch (WebDriverException e) {
+                LOGGER.debug("Could not read the element states in a single call, reading each element instead: {}", e.getMessage());
+            }
+        }
+        return elements.stream()
+                .map(element -> snapshotOf(element, properties))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementSnapshot> snapshotsRead(JavascriptExecutor js,
+                                                       List<? extends WebElementFacade> elements,
+                                                       ElementProperty[] properties) {
+        List<WebElement> webElements = elements.stream().map(WebElementFacade::getElement).collect(Collectors.toList());
+        List<String> propertyNames = Arrays.stream(properties).map(ElementProperty::name).collect(Collectors.toList());
+
+        Object result = js.executeScript(SNAPSHOT_SCRIPT, webElements, propertyNames);
+        if (!(result instanceof List) || ((List<?>) result).size() != elements.size()) {
+            throw new WebDriverException("Unexpected result when reading element states: " + result);
+        }
+
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (Object elementState : (List<Object>) result) {
+            Map<String, Object> values = (Map<String, Object>) elementState;
+            Map<ElementProperty, Object> snapshot = new EnumMap<>(ElementProperty.class);
+            for (ElementProperty property : properties) {
+                snapshot.put(property, values.get(property.name()));
+            }
+            snapshots.add(new ElementSnapshot(snapshot));
+        }
+        return snapshots;
+    }
+
+    private static ElementSnapshot snapshotOf(WebElementFacade element, ElementProperty[] properties) {
+        Map<ElementProperty, Object> snapshot = new EnumMap<>(ElementProperty.class);
+        for (ElementProperty property : properties) {
+            snapshot.put(property, property.readFrom(element));
+        }
+        return new ElementSnapshot(snapshot);
+    }
+
+    private static Optional<WebDriver> javascriptEnabledDriverFor(List<? extends WebElementFacade> elements) {
+        if (StepEventBus.getEventBus().webdriverCallsAreSuspended()) {
+            return Optional.empty();
+        }
+        try {
+            WebElement firstElement = elements.get(0).getElement();
+            if (firstElement instanceof WrapsDriver) {
+                WebDriver driver = ((WrapsDriver) firstElement).getWrappedDriver();
+                return javascriptIsSupportedIn(driver) ? Optional.of(driver) : Optional.empty();
+            }
+        } catch (WebDriverException elementCouldNotBeResolved) {
+            LOGGER.trace("Could not find the driver for {}", elements.get(0));
+        }
+        return Optional.empty();
+    }
+
+    private static String isDisplayedFunction() {
+        try (InputStream atom = ElementSnapshots.class.getResourceAsStream(IS_DISPLAYED_ATOM)) {
+            if (atom != null) {
+                return "(" + IOUtils.toString(atom, StandardCharsets.UTF_8) + ")";
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not load the Selenium isDisplayed atom: {}", e.getMessage());
+        }
+        return APPROXIMATE_IS_DISPLAYED;
+    }
+
+    private static String javascriptReaders() {
+        return Arrays.stream(ElementProperty.values())
+                .map(property -> property.name() + ": " + property.javascriptReader())
+                .collect(Collectors.joining(","));
+    }
+}
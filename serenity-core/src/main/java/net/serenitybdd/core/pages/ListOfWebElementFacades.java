@@ -15,7 +15,7 @@ public class ListOfWebElementFacades extends ArrayList<WebElementFacade> {
      * Returns a list of the text values of each element in the collection
      */
     public List<String> texts() {
-        return this.stream().map(WebElementFacade::getText).collect(Collectors.toList());
+        return snapshots(ElementProperty.TEXT).stream().map(ElementSnapshot::getText).collect(Collectors.toList());
     }
 
     /**
@@ -23,7 +23,17 @@ public class ListOfWebElementFacades extends ArrayList<WebElementFacade> {
      * This can be useful when elements are not visible on the page but are still in the DOM.
      */
     public List<String> textContents() {
-        return this.stream().map(WebElementFacade::getTextContent).collect(Collectors.toList());
+        return snapshots(ElementProperty.TEXT_CONTENT).stream().map(ElementSnapshot::getTextContent).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the given properties of every element in the collection in a single call where possible, e.g.
+     * <pre>
+     *     findAll(".order-line").snapshots(TEXT, VISIBLE)
+     * </pre>
+     */
+    public List<ElementSnapshot> snapshots(ElementProperty... properties) {
+        return ElementSnapshots.of(this, properties);
     }
 
     public <T> List<T> map(Function<? super WebElementFacade, T> elementConverter) {
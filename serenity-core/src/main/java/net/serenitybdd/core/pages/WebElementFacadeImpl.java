@@ -37,6 +37,7 @@ import static net.serenitybdd.core.pages.ParameterisedLocator.withArguments;
 import static net.serenitybdd.core.pages.WebElementExpectations.*;
 import static net.serenitybdd.core.selectors.Selectors.isXPath;
 import static net.thucydides.core.ThucydidesSystemProperty.LEGACY_WAIT_FOR_TEXT;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_EVENT_DRIVEN_WAITS;
 
 
 /**
@@ -1080,6 +1081,11 @@ public class WebElementFacadeImpl implements WebElementFacade, net.thucydides.co
 
     @Override
     public Wait<WebDriver> waitForCondition() {
+        if (driver != null && SERENITY_EVENT_DRIVEN_WAITS.booleanFrom(environmentVariables, false)) {
+            return new DomChangeWait(driver, webdriverClock, sleeper,
+                                     Duration.ofMillis(waitForTimeoutInMilliseconds),
+                                     Duration.ofMillis(WAIT_FOR_ELEMENT_PAUSE_LENGTH));
+        }
         return new FluentWait<>(driver, webdriverClock, sleeper)
                 .withTimeout(Duration.ofMillis(waitForTimeoutInMilliseconds))
                 .pollingEvery(Duration.ofMillis(WAIT_FOR_ELEMENT_PAUSE_LENGTH))
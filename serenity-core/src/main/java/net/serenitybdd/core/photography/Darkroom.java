@@ -10,8 +10,9 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_COMPRESS_SCREENSHOTS;
+import static net.thucydides.core.ThucydidesSystemProperty.*;
 
 /**
  * A darkroom processes and saves screenshots that were taken during the tests.
@@ -20,11 +21,14 @@ public class Darkroom {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(Darkroom.class);
     private final static List<PhotoFilter> DEFAULT_PROCESSORS = Arrays.asList(new Blurer());
-    private DarkroomProcessingLine processingLine;
-    private Thread screenshotThread;
+    private final static int DEFAULT_WORKER_COUNT = 2;
+    private final static int DEFAULT_QUEUE_SIZE = 100;
+    private final static int DEFAULT_SHUTDOWN_TIMEOUT_IN_SECONDS = 60;
+    private volatile DarkroomProcessingLine processingLine;
     private final EnvironmentVariables environmentVariables;
+    private final DarkroomMetrics metrics = new DarkroomMetrics();
 
-    public void isOpenForBusiness() {
+    public synchronized void isOpenForBusiness() {
         if (theDarkroomIsClosed()) {
             LOGGER.debug("Opening darkroom");
             start();
@@ -32,7 +36,11 @@ public class Darkroom {
     }
 
     public Darkroom() {
-        this.environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
+        this(Injectors.getInjector().getInstance(EnvironmentVariables.class));
+    }
+
+    public Darkroom(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
     }
 
     private boolean theDarkroomIsClosed() {
@@ -61,11 +69,19 @@ public class Darkroom {
     }
 
     public void start() {
+        this.processingLine = new DarkroomProcessingLine(getProcessors(),
+                Math.max(1, SERENITY_DARKROOM_THREADS.integerFrom(environmentVariables, DEFAULT_WORKER_COUNT)),
+                SERENITY_DARKROOM_QUEUE_SIZE.integerFrom(environmentVariables, DEFAULT_QUEUE_SIZE),
+                DarkroomOverflowPolicy.fromName(SERENITY_DARKROOM_OVERFLOW_POLICY.from(environmentVariables)),
+                metrics,
+                ScreenshotStore.configuredIn(environmentVariables));
+    }
 
-        this.processingLine = new DarkroomProcessingLine(getProcessors());
-        screenshotThread = new Thread(processingLine,"Darkroom Processing Line");
-        screenshotThread.setDaemon(true);
-        screenshotThread.start();
+    /**
+     * Metrics about the screenshots processed by this darkroom, across all of the times it was opened.
+     */
+    public DarkroomMetrics getMetrics() {
+        return metrics;
     }
 
     public void terminate() {
@@ -80,19 +96,15 @@ public class Darkroom {
         return processingLine.addToProcessingQueue(negative);
     }
 
-    private void ensureThatTheProcessingLineIsRunning() {
-        if (processingLine == null) {
+    private synchronized void ensureThatTheProcessingLineIsRunning() {
+        if (theDarkroomIsClosed()) {
             start();
         }
     }
 
     private void shutdownProcessingLine() {
-        processingLine.terminate();
-        try {
-            screenshotThread.join();
-        } catch (InterruptedException e) {
-            LOGGER.error("Screenshot processing interrupted",e);
-        }
+        processingLine.terminate(SERENITY_DARKROOM_SHUTDOWN_TIMEOUT.integerFrom(environmentVariables, DEFAULT_SHUTDOWN_TIMEOUT_IN_SECONDS),
+                                 TimeUnit.SECONDS);
     }
 
     /**
@@ -0,0 +1,89 @@
+package net.serenitybdd.core.photography;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how the darkroom is coping with the screenshots it is asked to process:
+ * how many negatives are waiting, how long they take to be processed, and how many were dropped
+ * or skipped because the same screenshot was already being saved.
+ */
+public class DarkroomMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maximumQueueDepth = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong totalLatencyInMillis = new AtomicLong();
+    private final AtomicLong maximumLatencyInMillis = new AtomicLong();
+
+    void negativeQueued() {
+        int depth = queueDepth.incrementAndGet();
+        maximumQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void negativeDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void negativeProcessed(long latencyInMillis) {
+        processed.incrementAndGet();
+        totalLatencyInMillis.addAndGet(latencyInMillis);
+        maximumLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    void negativeDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void negativeDeduplicated() {
+        deduplicated.incrementAndGet();
+    }
+
+    /**
+     * The number of negatives currently waiting to be processed.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaximumQueueDepth() {
+        return maximumQueueDepth.get();
+    }
+
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.get();
+    }
+
+    /**
+     * The average time between a negative being submitted and the screenshot being saved.
+     */
+    public long getAverageLatencyInMillis() {
+        long processedCount = processed.get();
+        return (processedCount == 0) ? 0 : totalLatencyInMillis.get() / processedCount;
+    }
+
+    public long getMaximumLatencyInMillis() {
+        return maximumLatencyInMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "processed: " + getProcessedCount()
+                + ", queue depth: " + getQueueDepth()
+                + " (max " + getMaximumQueueDepth() + ")"
+                + ", latency: " + getAverageLatencyInMillis() + " ms average"
+                + " (max " + getMaximumLatencyInMillis() + " ms)"
+                + ", dropped: " + getDroppedCount()
+                + ", deduplicated: " + getDeduplicatedCount();
+    }
+}
@@ -0,0 +1,32 @@
+package net.serenitybdd.core.photography;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * What the darkroom does with a new screenshot negative when its processing queue is full.
+ */
+public enum DarkroomOverflowPolicy {
+    /**
+     * Wait until there is room in the queue.
+     */
+    BLOCK,
+    /**
+     * Process the negative in the thread that submitted it.
+     */
+    CALLER_RUNS,
+    /**
+     * Discard the negative.
+     */
+    DROP;
+
+    public static DarkroomOverflowPolicy fromName(String name) {
+        if (StringUtils.isBlank(name)) {
+            return BLOCK;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase().replace("-", "_"));
+        } catch (IllegalArgumentException unknownPolicy) {
+            return BLOCK;
+        }
+    }
+}
@@ -9,90 +9,143 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-
-public class DarkroomProcessingLine implements Runnable {
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes and saves screenshot negatives using a fixed pool of worker threads.
+ * Negatives wait in a bounded queue: when the queue is full, the overflow policy decides whether the caller waits,
+ * processes the negative itself, or drops it. A negative is skipped if the same screenshot is already being saved.
+ * When a screenshot store is configured, processed screenshots are kept there and linked into the output directory,
+ * and screenshots that are already in the store are not processed again.
+ */
+public class DarkroomProcessingLine {
 
     private final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
-    boolean openForBusiness;
+    volatile boolean openForBusiness;
 
     private final List<? extends PhotoFilter> processors;
 
-    private final List<ScreenshotNegative> queue;
+    private final ThreadPoolExecutor workers;
 
+    private final DarkroomOverflowPolicy overflowPolicy;
 
-    public void terminate() {
-        openForBusiness = false;
+    private final DarkroomMetrics metrics;
 
-        synchronized (queue) {
-            queue.notifyAll();
-        }
+    private final Optional<ScreenshotStore> screenshotStore;
+
+    private final Set<Path> screenshotsInProgress = ConcurrentHashMap.newKeySet();
 
+    DarkroomProcessingLine(List<? extends PhotoFilter> processors,
+                           int workerCount,
+                           int queueCapacity,
+                           DarkroomOverflowPolicy overflowPolicy,
+                           DarkroomMetrics metrics) {
+        this(processors, workerCount, queueCapacity, overflowPolicy, metrics, Optional.empty());
     }
 
-    DarkroomProcessingLine(List<? extends PhotoFilter> processors) {
+    DarkroomProcessingLine(List<? extends PhotoFilter> processors,
+                           int workerCount,
+                           int queueCapacity,
+                           DarkroomOverflowPolicy overflowPolicy,
+                           DarkroomMetrics metrics,
+                           Optional<ScreenshotStore> screenshotStore) {
         this.processors = processors;
-        this.queue = Collections.synchronizedList(new LinkedList<ScreenshotNegative>());
+        this.screenshotStore = screenshotStore;
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount,
+                                              0L, TimeUnit.MILLISECONDS,
+                                              new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                                              new DarkroomThreadFactory(),
+                                              this::handleOverflow);
         this.openForBusiness = true;
     }
 
-    public ScreenshotReceipt addToProcessingQueue(ScreenshotNegative negative) {
-        queue.add(negative);
-        synchronized (queue) {
-            queue.notifyAll();
+    /**
+     * Stop accepting new negatives, and wait for the negatives already in the queue to be processed.
+     */
+    public void terminate(long timeout, TimeUnit unit) {
+        openForBusiness = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout, unit)) {
+                List<Runnable> unprocessedNegatives = workers.shutdownNow();
+                unprocessedNegatives.forEach(task -> ((ProcessingTask) task).drop());
+                LOGGER.warn("Darkroom processing line did not finish within {} {}: {} screenshots were not saved",
+                        timeout, unit.toString().toLowerCase(), unprocessedNegatives.size());
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error("Screenshot processing interrupted", e);
+            Thread.currentThread().interrupt();
         }
-        return recieptFor(negative);
+        LOGGER.debug("Darkroom processing line shut down ({})", metrics);
     }
 
-    private ScreenshotReceipt recieptFor(ScreenshotNegative negative) {
-        return new ScreenshotReceipt(screenshotPathFor(negative));
-    }
+    public ScreenshotReceipt addToProcessingQueue(ScreenshotNegative negative) {
+        ensureThatTheDarkroomIsStillOpen();
 
-    public void run() {
-        LOGGER.debug("Darkroom processing line starting up");
-        while (openForBusiness) {
-            synchronized (queue) {
-                processNegative();
-                try {
-                    if (openForBusiness) {
-                        queue.wait();
-                    } else {
-                        finishProcessingNegatives();
-                    }
-                } catch (InterruptedException ignore) {
-                }
-            }
+        Path screenshotPath = screenshotPathFor(negative);
+        if (!screenshotsInProgress.add(screenshotPath)) {
+            metrics.negativeDeduplicated();
+            deleteTemporaryScreenshotFrom(negative);
+        } else {
+            metrics.negativeQueued();
+            workers.execute(new ProcessingTask(negative, screenshotPath));
         }
-        LOGGER.debug("Darkroom processing line shutting down");
+        return recieptFor(negative);
     }
 
-    private void finishProcessingNegatives() {
-        processNegative();
+    public DarkroomMetrics getMetrics() {
+        return metrics;
     }
 
-    private void processNegative() {
-        while (!queue.isEmpty()) {
-            ScreenshotNegative negative = queue.remove(0);
-            if (negative != null) {
-                process(negative);
-            }
-        }
+    private ScreenshotReceipt recieptFor(ScreenshotNegative negative) {
+        return new ScreenshotReceipt(screenshotPathFor(negative));
     }
 
     public void process(ScreenshotNegative negative) {
-        ensureThatTheDarkroomIsStillOpen();
-
         Path screenshotPath = screenshotPathFor(negative);
 
-        if (!Files.exists(screenshotPath)) {
+        if (Files.exists(screenshotPath)) {
+            metrics.negativeDeduplicated();
+        } else if (screenshotStore.isPresent() && screenshotStore.get().contains(screenshotPath)) {
+            publishStoredScreenshot(screenshotStore.get(), screenshotPath);
+            metrics.negativeDeduplicated();
+        } else {
             saveProcessedScreenshot(negative);
         }
         deleteTemporaryScreenshotFrom(negative);
     }
 
+    private void handleOverflow(Runnable task, ThreadPoolExecutor executor) {
+        ProcessingTask processingTask = (ProcessingTask) task;
+        if (executor.isShutdown()) {
+            processingTask.drop();
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                task.run();
+                break;
+            case DROP:
+                LOGGER.debug("Darkroom queue full - dropping screenshot {}", processingTask.screenshotPath);
+                processingTask.drop();
+                break;
+            default:
+                try {
+                    executor.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    processingTask.drop();
+                    Thread.currentThread().interrupt();
+                }
+        }
+    }
+
     private void deleteTemporaryScreenshotFrom(ScreenshotNegative negative) {
         try {
             Files.deleteIfExists(negative.getTemporaryPath());
@@ -110,7 +163,12 @@ public class DarkroomProcessingLine implements Runnable {
             LOGGER.debug("Saving screenshot to " + negative.getScreenshotPath());
             if (!Files.exists(negative.getScreenshotPath())) {
                 ensureParentDirectoryExistsFor(negative.getScreenshotPath());
-                Files.copy(negative.getTemporaryPath(), negative.getScreenshotPath(), StandardCopyOption.REPLACE_EXISTING);
+                if (screenshotStore.isPresent()) {
+                    screenshotStore.get().store(negative.getTemporaryPath(), negative.getScreenshotPath());
+                    screenshotStore.get().publish(negative.getScreenshotPath());
+                } else {
+                    Files.copy(negative.getTemporaryPath(), negative.getScreenshotPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
             }
         } catch (FileAlreadyExistsException noFurtherActionRequired) {
         } catch (IOException e) {
@@ -118,6 +176,15 @@ public class DarkroomProcessingLine implements Runnable {
         }
     }
 
+    private void publishStoredScreenshot(ScreenshotStore store, Path screenshotPath) {
+        try {
+            LOGGER.debug("Using stored screenshot for " + screenshotPath);
+            store.publish(screenshotPath);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to save screenshot", e);
+        }
+    }
+
     private void ensureParentDirectoryExistsFor(Path screenshotPath) throws IOException {
         if (screenshotPath.getParent() != null) {
             Files.createDirectories(screenshotPath.getParent());
@@ -125,7 +192,6 @@ public class DarkroomProcessingLine implements Runnable {
 
     }
 
-
     private Path screenshotPathFor(ScreenshotNegative negative) {
         ScreenshotNegative amendedNegative = negative;
         for (PhotoFilter processor : processors) {
@@ -137,4 +203,47 @@ public class DarkroomProcessingLine implements Runnable {
     private void ensureThatTheDarkroomIsStillOpen() {
         Preconditions.checkArgument(openForBusiness,"The darkroom is closed and cannot accept any more negatives");
     }
-}
\ No newline at end of file
+
+    private class ProcessingTask implements Runnable {
+        private final ScreenshotNegative negative;
+        private final Path screenshotPath;
+        private final long submittedAt;
+
+        ProcessingTask(ScreenshotNegative negative, Path screenshotPath) {
+            this.negative = negative;
+            this.screenshotPath = screenshotPath;
+            this.submittedAt = System.currentTimeMillis();
+        }
+
+        @Override
+        public void run() {
+            metrics.negativeDequeued();
+            try {
+                process(negative);
+            } catch (Throwable e) {
+                LOGGER.warn("Failed to process screenshot", e);
+            } finally {
+                screenshotsInProgress.remove(screenshotPath);
+                metrics.negativeProcessed(System.currentTimeMillis() - submittedAt);
+            }
+        }
+
+        void drop() {
+            metrics.negativeDequeued();
+            metrics.negativeDropped();
+            screenshotsInProgress.remove(screenshotPath);
+            deleteTemporaryScreenshotFrom(negative);
+        }
+    }
+
+    private static class DarkroomThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Darkroom Processing Line-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -4,13 +4,18 @@ import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.screenshots.BlurLevel;
 import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.webdriver.WebDriverFactory;
+import net.thucydides.core.webdriver.javascript.DomChanges;
+import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import static net.serenitybdd.core.photography.ScreenshotNegative.prepareNegativeIn;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_SKIP_UNCHANGED_SCREENSHOTS;
 
 public class PhotoSession {
 
@@ -25,6 +30,7 @@ public class PhotoSession {
 
     private static ThreadLocal<ScreenshotPhoto> previousScreenshot = new ThreadLocal<>();
     private static ThreadLocal<Long> previousScreenshotTimestamp = ThreadLocal.withInitial(() -> 0L);
+    private static ThreadLocal<String> previousScreenState = new ThreadLocal<>();
 
     private static final String BLANK_SCREEN = "c118a2e3019c996cb56584ec6f8cd0b2be4c056ce4ae6b83de3c32c2e364cc61.png";
 
@@ -46,6 +52,12 @@ public class PhotoSession {
             return previousScreenshot.get();
         }
 
+        Optional<String> screenState = currentScreenState();
+        if (screenState.isPresent() && screenState.get().equals(previousScreenState.get()) && previousScreenshot.get() != null) {
+            return previousScreenshot.get();
+        }
+        previousScreenState.remove();
+
         try {
             byte[] screenshotData = screenShooterFactory.buildScreenShooter(lens).takeScreenshot();
             if (shouldIgnore(screenshotData)) {
@@ -55,6 +67,7 @@ public class PhotoSession {
             ScreenshotPhoto photo = storedScreenshot(screenshotData);
             previousScreenshot.set(photo);
             previousScreenshotTimestamp.set(System.currentTimeMillis());
+            screenState.ifPresent(previousScreenState::set);
 
             return photo;
 
@@ -71,6 +84,21 @@ public class PhotoSession {
         return (filenameFor(screenshotData).equals(BLANK_SCREEN));
     }
 
+    /**
+     * If unchanged screens are not photographed again, a cheap description of what is currently on the screen,
+     * to compare with the one recorded with the previous screenshot.
+     */
+    private Optional<String> currentScreenState() {
+        if (!SERENITY_SKIP_UNCHANGED_SCREENSHOTS.booleanFrom(environmentVariables, false) || !(lens instanceof WebDriverPhotoLens)) {
+            return Optional.empty();
+        }
+        WebDriver driver = ((WebDriverPhotoLens) lens).getDriver();
+        if (!WebDriverFactory.isAlive(driver)) {
+            return Optional.empty();
+        }
+        return DomChanges.in(driver).currentScreenState();
+    }
+
     private boolean tooSoonForNewPhoto() {
         long previousPhotoTaken = previousScreenshotTimestamp.get();
         long minimumInterval = ThucydidesSystemProperty.WEBDRIVER_MIN_SCREENSHOT_INTERVAL.integerFrom(environmentVariables, 50);
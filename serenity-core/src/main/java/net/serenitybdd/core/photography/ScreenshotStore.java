@@ -0,0 +1,90 @@
+package net.serenitybdd.core.photography;
+
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Optional;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_SCREENSHOT_STORE;
+
+/**
+ * A directory that keeps processed screenshots between test runs. Screenshot file names are derived from their content,
+ * so a screenshot that is already in the store does not need to be processed again: the report directory simply
+ * gets a hard link to the stored file (or a copy, on file systems that do not support links).
+ */
+public class ScreenshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScreenshotStore.class);
+
+    private final Path storeDirectory;
+
+    ScreenshotStore(Path storeDirectory) {
+        this.storeDirectory = storeDirectory;
+    }
+
+    /**
+     * The store configured in the serenity.screenshot.store property, if any.
+     */
+    public static Optional<ScreenshotStore> configuredIn(EnvironmentVariables environmentVariables) {
+        String storeDirectory = SERENITY_SCREENSHOT_STORE.from(environmentVariables);
+        if (StringUtils.isBlank(storeDirectory)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScreenshotStore(Paths.get(storeDirectory)));
+    }
+
+    public boolean contains(Path screenshotPath) {
+        return Files.exists(storedVersionOf(screenshotPath));
+    }
+
+    /**
+     * Add a processed screenshot to the store, under the file name of its destination path.
+     */
+    public void store(Path processedScreenshot, Path screenshotPath) throws IOException {
+        Path storedScreenshot = storedVersionOf(screenshotPath);
+        if (Files.exists(storedScreenshot)) {
+            return;
+        }
+        Files.createDirectories(storeDirectory);
+        Path incomingScreenshot = Files.createTempFile(storeDirectory, "incoming-", ".tmp");
+        try {
+            Files.copy(processedScreenshot, incomingScreenshot, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(incomingScreenshot, storedScreenshot, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException storedByAnotherThread) {
+            Files.deleteIfExists(incomingScreenshot);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(incomingScreenshot, storedScreenshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Make the stored version of a screenshot available at its destination path.
+     */
+    public void publish(Path screenshotPath) throws IOException {
+        linkOrCopy(storedVersionOf(screenshotPath), screenshotPath);
+    }
+
+    /**
+     * Screenshots never change once they are written, so a hard link is as good as a copy, and a lot cheaper.
+     */
+    public static void linkOrCopy(Path source, Path destination) throws IOException {
+        if (destination.getParent() != null) {
+            Files.createDirectories(destination.getParent());
+        }
+        try {
+            Files.createLink(destination, source);
+        } catch (FileAlreadyExistsException noFurtherActionRequired) {
+        } catch (IOException | UnsupportedOperationException linksNotSupported) {
+            LOGGER.trace("Could not link {} to {}, copying it instead", destination, source);
+            Files.copy(source, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path storedVersionOf(Path screenshotPath) {
+        return storeDirectory.resolve(screenshotPath.getFileName().toString());
+    }
+}
@@ -14,9 +14,11 @@ import java.io.IOException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static net.thucydides.core.ThucydidesSystemProperty.WEBDRIVER_DRIVER_SERVICE_POOL_SIZE;
+
 public abstract class DriverServicePool<T extends DriverService> {
 
-    private static final ConcurrentMap<String, DriverService> DRIVER_SERVICES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, StripedDriverServices<? extends DriverService>> DRIVER_SERVICES = new ConcurrentHashMap<>();
 
     protected final EnvironmentVariables environmentVariables;
 
@@ -42,36 +44,38 @@ public abstract class DriverServicePool<T extends DriverService> {
     }
 
     protected T getDriverService() {
-        return driverServiceWithName(serviceName());
+        return driverServices().nextService();
     }
 
-    private T driverServiceWithName(String serviceName) {
-
-        if (DRIVER_SERVICES.get(serviceName) != null) {
-            return (T) DRIVER_SERVICES.get(serviceName);
-        }
-
-        DRIVER_SERVICES.putIfAbsent(serviceName, newDriverService());
+    /**
+     * How many instances of this driver service should be started.
+     */
+    protected int serviceCount() {
+        int defaultServiceCount = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        return WEBDRIVER_DRIVER_SERVICE_POOL_SIZE.integerFrom(environmentVariables, defaultServiceCount);
+    }
 
-        return (T) DRIVER_SERVICES.get(serviceName);
+    @SuppressWarnings("unchecked")
+    private StripedDriverServices<T> driverServices() {
+        return (StripedDriverServices<T>) DRIVER_SERVICES.computeIfAbsent(serviceName(),
+                name -> new StripedDriverServices<>(serviceCount(), this::newDriverService));
     }
 
-    public synchronized void start() throws IOException {
-        if (!getDriverService().isRunning()) {
-            getDriverService().start();
-        }
+    public void start() throws IOException {
+        driverServices().startAll();
     }
 
-    public synchronized void shutdown() {
-        if (getDriverService().isRunning()) {
-            getDriverService().stop();
-        }
+    public void shutdown() {
+        driverServices().stopAll();
     }
 
     public WebDriver newDriver(Capabilities capabilities) {
         try {
             logger.debug("Creating new driver instance with capabilities: {}", capabilities);
-            return new RemoteWebDriver(getDriverService().getUrl(), capabilities);
+            return new RemoteWebDriver(driverServices().nextRunningService().getUrl(), capabilities);
+        } catch (IOException couldNotStartDriverService) {
+            logger.warn("Driver service could not be started ({}), falling back on default driver creation", couldNotStartDriverService.getMessage());
+            return newDriverInstance(capabilities);
         } catch (WebDriverException couldNotReachDriverService) {
             logger.warn("Remote driver creation failed ({}), falling back on default driver creation", couldNotReachDriverService.getMessage().split("\n")[0]);
             return newDriverInstance(capabilities);
@@ -79,7 +83,7 @@ public abstract class DriverServicePool<T extends DriverService> {
     }
 
     public boolean isRunning() {
-        return getDriverService().isRunning();
+        return driverServices().allRunning();
     }
 
     public void ensureServiceIsRunning() throws IOException {
@@ -35,6 +35,14 @@ public class GeckoServicePool extends DriverServicePool<GeckoDriverService> {
         configureGeckoDriverBinaries();
     }
 
+    /**
+     * The threadsafe Gecko driver service already starts a separate geckodriver process for each thread.
+     */
+    @Override
+    protected int serviceCount() {
+        return 1;
+    }
+
     @Override
     protected GeckoDriverService newDriverService() {
         return ThreadsafeGeckoDriverService.createThreadsafeService(environmentVariables);
@@ -0,0 +1,114 @@
+package net.serenitybdd.core.webdriver.servicepools;
+
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A fixed number of driver services of the same type, used in turn, so that parallel sessions do not all go through
+ * the same driver process. Each service is created and started the first time it is needed, and replaced by a new
+ * one if it stops running after it has been started. Services are only created inside the atomic updates of the
+ * stripes, so a single service is ever created for a stripe, however many threads ask for it at the same time.
+ * No lock is shared between the services.
+ */
+class StripedDriverServices<T extends DriverService> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StripedDriverServices.class);
+
+    private final int stripes;
+    private final ConcurrentMap<Integer, T> services = new ConcurrentHashMap<>();
+    private final Set<DriverService> startedServices = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final Supplier<T> newDriverService;
+
+    StripedDriverServices(int stripes, Supplier<T> newDriverService) {
+        this.stripes = Math.max(1, stripes);
+        this.newDriverService = newDriverService;
+    }
+
+    int size() {
+        return stripes;
+    }
+
+    /**
+     * The next service in turn, which may not have been started yet.
+     */
+    T nextService() {
+        return serviceAt(nextStripeIndex());
+    }
+
+    /**
+     * The next service in turn, started or restarted if necessary.
+     */
+    T nextRunningService() throws IOException {
+        return runningServiceAt(nextStripeIndex());
+    }
+
+    void startAll() throws IOException {
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            runningServiceAt(stripe);
+        }
+    }
+
+    /**
+     * Stop the running services. They are started again, rather than replaced, if they are needed afterwards.
+     */
+    void stopAll() {
+        for (T service : services.values()) {
+            if (service.isRunning()) {
+                service.stop();
+            }
+        }
+        startedServices.clear();
+    }
+
+    boolean allRunning() {
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            T service = services.get(stripe);
+            if (service == null || !service.isRunning()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nextStripeIndex() {
+        return Math.floorMod(nextStripe.getAndIncrement(), stripes);
+    }
+
+    private T serviceAt(int stripe) {
+        T service = services.get(stripe);
+        return (service != null) ? service : services.computeIfAbsent(stripe, newStripe -> newDriverService.get());
+    }
+
+    private T runningServiceAt(int stripe) throws IOException {
+        T service = serviceAt(stripe);
+        if (service.isRunning()) {
+            return service;
+        }
+        if (startedServices.contains(service)) {
+            service = replaceStoppedService(stripe, service);
+        }
+        // DriverService.start() does nothing if the service has already been started by another thread
+        service.start();
+        startedServices.add(service);
+        return service;
+    }
+
+    private T replaceStoppedService(int stripe, T stoppedService) {
+        T service = services.compute(stripe,
+                (sameStripe, currentService) -> (currentService == stoppedService) ? newDriverService.get() : currentService);
+        if (service != stoppedService && startedServices.remove(stoppedService)) {
+            LOGGER.warn("Driver service at {} stopped unexpectedly - starting a new one", stoppedService.getUrl());
+            stoppedService.stop();
+        }
+        return service;
+    }
+}
@@ -14,6 +14,7 @@ import net.thucydides.core.webdriver.WebDriverFacade;
 import net.thucydides.core.webdriver.WebdriverProxyFactory;
 import net.thucydides.core.webdriver.exceptions.ElementNotFoundAfterTimeoutError;
 import net.thucydides.core.webdriver.exceptions.ElementNotVisibleAfterTimeoutError;
+import net.thucydides.core.webdriver.javascript.DomChanges;
 import net.thucydides.core.webdriver.stubs.WebElementFacadeStub;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.NoSuchElementException;
@@ -27,6 +28,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.function.BiFunction;
 
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_CACHE_ELEMENT_LOOKUPS;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_EVENT_DRIVEN_WAITS;
 import static net.thucydides.core.annotations.locators.SearchContextType.*;
 
 public class SmartAjaxElementLocator extends SmartElementLocator implements WithConfigurableTimeout {
@@ -39,6 +42,10 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     private final MobilePlatform platform;
     private final EnvironmentVariables environmentVariables;
 
+    private WebElement cachedElement;
+    private String cachedElementPageState;
+    private Optional<DomChanges> pageTracker;
+
     /**
      * Main constructor.
      *
@@ -77,6 +84,14 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     }
 
     SmartAjaxElementLocator(Clock clock, SearchContext searchContext, Field field, MobilePlatform platform) {
+        this(clock, searchContext, field, platform, ConfiguredEnvironment.getEnvironmentVariables());
+    }
+
+    SmartAjaxElementLocator(Clock clock,
+                            SearchContext searchContext,
+                            Field field,
+                            MobilePlatform platform,
+                            EnvironmentVariables environmentVariables) {
         super(searchContext, field, platform);
         this.annotatedTimeoutInSeconds = timeoutFrom(field);
         this.clock = clock;
@@ -84,7 +99,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
 
         this.searchContext = SEARCH_CONTEXTS.get(typeOf(searchContext)).apply(searchContext, annotatedTimeoutInSeconds);
         this.platform = platform;
-        this.environmentVariables = ConfiguredEnvironment.getEnvironmentVariables();
+        this.environmentVariables = environmentVariables;
     }
 
 
@@ -106,15 +121,54 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
         }
     }
 
+    /**
+     * When element lookups are cached, a located element is reused for as long as the page stays the same:
+     * same URL, element still attached, and no DOM changes since the element was found.
+     * Checking the page costs a single script call, in place of the lookup and visibility checks of a new search.
+     * The page state read by that call is recorded for the element found after a miss, so that a miss only costs
+     * an extra call when the cached element has been detached from the page. As the state is read before the
+     * search, any change made to the page during the search leads to a new search the next time, never to a stale element.
+     */
     @Override
     public WebElement findElement() {
         if (inADisabledStep()) {
             return new WebElementFacadeStub();
-        } else if (shouldFindElementImmediately()) {
+        }
+        if (!SERENITY_CACHE_ELEMENT_LOOKUPS.booleanFrom(environmentVariables, false)) {
+            return shouldFindElementImmediately() ? findElementImmediately() : ajaxFindElement();
+        }
+        Optional<String> currentPageState = currentPageState(cachedElement);
+        if (cachedElement != null && currentPageState.isPresent() && currentPageState.get().equals(cachedElementPageState)) {
+            return cachedElement;
+        }
+        cachedElement = null;
+        cachedElementPageState = null;
+        if (shouldFindElementImmediately()) {
             return findElementImmediately();
-        } else {
-            return ajaxFindElement();
         }
+        if (!currentPageState.isPresent()) {
+            currentPageState = currentPageState(null);
+        }
+        return cached(ajaxFindElement(), currentPageState);
+    }
+
+    private Optional<String> currentPageState(WebElement element) {
+        return pageTracker().flatMap(tracker -> tracker.currentPageState(element));
+    }
+
+    private WebElement cached(WebElement element, Optional<String> pageStateBeforeLookup) {
+        if (pageStateBeforeLookup.isPresent()) {
+            cachedElement = element;
+            cachedElementPageState = pageStateBeforeLookup.get();
+        }
+        return element;
+    }
+
+    private Optional<DomChanges> pageTracker() {
+        if (pageTracker == null) {
+            pageTracker = driverInSearchContext().map(DomChanges::in);
+        }
+        return pageTracker;
     }
 
     @Deprecated
@@ -209,9 +263,34 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
         return 250;
     }
 
+    /**
+     * When event-driven waits are activated, wait for the DOM to change rather than sleeping between two attempts.
+     */
+    private Optional<DomChanges> domChangesInSearchContext() {
+        if (!SERENITY_EVENT_DRIVEN_WAITS.booleanFrom(environmentVariables, false)) {
+            return Optional.empty();
+        }
+        return driverInSearchContext().map(DomChanges::in);
+    }
+
+    private Optional<WebDriver> driverInSearchContext() {
+        if (searchContext instanceof WebDriver) {
+            return Optional.of((WebDriver) searchContext);
+        }
+        if (searchContext instanceof WrapsDriver) {
+            return Optional.of(((WrapsDriver) searchContext).getWrappedDriver());
+        }
+        return Optional.empty();
+    }
+
+    private boolean waitedForDomChangesIn(Optional<DomChanges> domChanges) {
+        return domChanges.isPresent() && domChanges.get().waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+    }
+
     private class SlowLoadingElement extends SlowLoadableComponent<SlowLoadingElement> {
         private Optional<WebDriverException> lastException = Optional.empty();
         private WebElement element;
+        private final Optional<DomChanges> domChanges = domChangesInSearchContext();
 
         public SlowLoadingElement(Clock clock, int timeOutInSeconds) {
             super(clock, timeOutInSeconds);
@@ -234,6 +313,13 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
             return SmartAjaxElementLocator.this.sleepFor();
         }
 
+        @Override
+        protected void waitFor() {
+            if (!waitedForDomChangesIn(domChanges)) {
+                super.waitFor();
+            }
+        }
+
         @Override
         protected void isLoaded() throws Error {
             if (element != null) {
@@ -256,6 +342,7 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
     private class SlowLoadingElementList extends SlowLoadableComponent<SlowLoadingElementList> {
         private Optional<WebDriverException> lastException = Optional.empty();
         private List<WebElement> elements;
+        private final Optional<DomChanges> domChanges = domChangesInSearchContext();
 
         public SlowLoadingElementList(Clock clock, int timeOutInSeconds) {
             super(clock, timeOutInSeconds);
@@ -278,6 +365,13 @@ public class SmartAjaxElementLocator extends SmartElementLocator implements With
             return SmartAjaxElementLocator.this.sleepFor();
         }
 
+        @Override
+        protected void waitFor() {
+            if (!waitedForDomChangesIn(domChanges)) {
+                super.waitFor();
+            }
+        }
+
         @Override
         protected void isLoaded() throws Error {
             if (elements == null) {
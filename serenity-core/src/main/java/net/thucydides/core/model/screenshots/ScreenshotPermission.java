@@ -9,34 +9,60 @@ import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.core.webdriver.Configuration;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class ScreenshotPermission {
 
     private final Configuration<Configuration> configuration;
 
+    /**
+     * The screenshot levels defined by annotations on methods and task classes never change, so they are only
+     * worked out once per method. They are kept against the class declaring each method, so that they do not
+     * stop step and task classes from being unloaded. Class-level preferences come from the configuration, so they
+     * are cached for each ScreenshotPermission instance.
+     */
+    private static final ClassValue<Map<Method, Optional<TakeScreenshots>>> METHOD_SCREENSHOT_PREFERENCES = preferencesByMethod();
+    private static final ClassValue<Map<Method, Optional<TakeScreenshots>>> TASK_SCREENSHOT_PREFERENCES = preferencesByMethod();
+    private final Map<Class<?>, Optional<TakeScreenshots>> classScreenshotPreferences = new ConcurrentHashMap<>();
+
     public ScreenshotPermission(Configuration configuration) {
         this.configuration = configuration;
     }
 
+    private static ClassValue<Map<Method, Optional<TakeScreenshots>>> preferencesByMethod() {
+        return new ClassValue<Map<Method, Optional<TakeScreenshots>>>() {
+            @Override
+            protected Map<Method, Optional<TakeScreenshots>> computeValue(Class<?> declaringClass) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
 
     public boolean areDisabledForThisAction() {
-        TakeScreenshots codeLevelScreenshotConfiguration
-                = stepMethodOverride().orElseGet(() -> methodOverride().orElse(taskOverride().orElse(classOverride().orElse(TakeScreenshots.UNDEFINED))));
+        CallStack callStack = new CallStack();
+        TakeScreenshots codeLevelScreenshotConfiguration = firstDefinedLevelFrom(
+                this::stepMethodOverride,
+                () -> methodOverride(callStack),
+                () -> taskOverride(callStack),
+                this::classOverride);
 
         return codeLevelScreenshotConfiguration == TakeScreenshots.DISABLED;
     }
 
     public boolean areAllowed(TakeScreenshots takeScreenshots) {
-
-        TakeScreenshots configuredLevel = stepMethodOverride()
-                .orElseGet(() -> methodOverride()
-                        .orElse(taskOverride()
-                                .orElse(classOverride()
-                                        .orElse(stepDefinitionOverride()
-                                                .orElse(configuration.getScreenshotLevel()
-                                                        .orElse(TakeScreenshots.UNDEFINED))))));
-
+        CallStack callStack = new CallStack();
+        TakeScreenshots configuredLevel = firstDefinedLevelFrom(
+                this::stepMethodOverride,
+                () -> methodOverride(callStack),
+                () -> taskOverride(callStack),
+                this::classOverride,
+                this::stepDefinitionOverride,
+                configuration::getScreenshotLevel);
 
         if (configuredLevel != TakeScreenshots.UNDEFINED) {
             return takeScreenshotLevel(takeScreenshots).isAtLeast(configuredLevel);
@@ -68,9 +94,24 @@ public class ScreenshotPermission {
         return Optional.empty();
     }
 
-    private Optional<TakeScreenshots> methodOverride() {
-        for (Method callingMethod : StackTraceAnalyser.inscopeMethodsIn(new Throwable().getStackTrace())) {
-            Optional<TakeScreenshots> overriddenScreenshotPreference = overriddenScreenshotPreferenceFor(callingMethod);
+    /**
+     * The overrides are checked in order of precedence, and each one is only worked out if the previous ones
+     * are not defined.
+     */
+    @SafeVarargs
+    private final TakeScreenshots firstDefinedLevelFrom(Supplier<Optional<TakeScreenshots>>... overrides) {
+        return Stream.of(overrides)
+                .map(Supplier::get)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst()
+                .orElse(TakeScreenshots.UNDEFINED);
+    }
+
+    private Optional<TakeScreenshots> methodOverride(CallStack callStack) {
+        for (StackTraceElement frame : callStack.frames()) {
+            Optional<TakeScreenshots> overriddenScreenshotPreference = StackTraceAnalyser.inscopeMethodAt(frame)
+                    .flatMap(this::overriddenScreenshotPreferenceFor);
             if (overriddenScreenshotPreference.isPresent()) {
                 return overriddenScreenshotPreference;
             }
@@ -78,9 +119,10 @@ public class ScreenshotPermission {
         return Optional.empty();
     }
 
-    private Optional<TakeScreenshots> taskOverride() {
-        for (Method callingMethod : StackTraceAnalyser.performAsMethodsIn(new Throwable().getStackTrace())) {
-            Optional<TakeScreenshots> overriddenScreenshotPreference = overriddenTaskScreenshotPreferenceFor(callingMethod);
+    private Optional<TakeScreenshots> taskOverride(CallStack callStack) {
+        for (StackTraceElement frame : callStack.frames()) {
+            Optional<TakeScreenshots> overriddenScreenshotPreference = StackTraceAnalyser.performAsMethodAt(frame)
+                    .flatMap(this::overriddenTaskScreenshotPreferenceFor);
             if (overriddenScreenshotPreference.isPresent()) {
                 return overriddenScreenshotPreference;
             }
@@ -106,14 +148,22 @@ public class ScreenshotPermission {
     }
 
     private Optional<TakeScreenshots> overriddenScreenshotPreferenceForClass(Class<?> declaringClass) {
-        java.util.Optional<TakeScreenshots> optionalScreenshotPreference
-                = ScreenshotPreferencesByClass.forClass(declaringClass)
-                .withEnvironmentVariables(configuration.getEnvironmentVariables()).getScreenshotPreference();
-
-        return optionalScreenshotPreference;
+        return classScreenshotPreferences.computeIfAbsent(declaringClass,
+                stepClass -> ScreenshotPreferencesByClass.forClass(stepClass)
+                        .withEnvironmentVariables(configuration.getEnvironmentVariables()).getScreenshotPreference());
     }
 
     private Optional<TakeScreenshots> overriddenScreenshotPreferenceFor(Method callingMethod) {
+        return METHOD_SCREENSHOT_PREFERENCES.get(callingMethod.getDeclaringClass())
+                .computeIfAbsent(callingMethod, this::screenshotPreferenceDeclaredOn);
+    }
+
+    private Optional<TakeScreenshots> overriddenTaskScreenshotPreferenceFor(Method callingMethod) {
+        return TASK_SCREENSHOT_PREFERENCES.get(callingMethod.getDeclaringClass())
+                .computeIfAbsent(callingMethod, this::taskScreenshotPreferenceDeclaredOn);
+    }
+
+    private Optional<TakeScreenshots> screenshotPreferenceDeclaredOn(Method callingMethod) {
         if (callingMethod.getAnnotation(Screenshots.class) != null) {
             return Optional.of(screenshotLevelFrom(callingMethod.getAnnotation(Screenshots.class)));
         }
@@ -121,7 +171,7 @@ public class ScreenshotPermission {
         return Optional.empty();
     }
 
-    private Optional<TakeScreenshots> overriddenTaskScreenshotPreferenceFor(Method callingMethod) {
+    private Optional<TakeScreenshots> taskScreenshotPreferenceDeclaredOn(Method callingMethod) {
         // Is there a @Screenshots annotation on the performAs() method
         if (callingMethod.getAnnotation(Screenshots.class) != null) {
             return Optional.of(screenshotLevelFrom(callingMethod.getAnnotation(Screenshots.class)));
@@ -178,4 +228,18 @@ public class ScreenshotPermission {
             return takeScreenshots.compareTo(requiredLevel) >= 0;
         }
     }
+
+    /**
+     * The stack trace of the current call, only captured if an override needs to look at the calling methods.
+     */
+    private static class CallStack {
+        private StackTraceElement[] frames;
+
+        StackTraceElement[] frames() {
+            if (frames == null) {
+                frames = new Throwable().getStackTrace();
+            }
+            return frames;
+        }
+    }
 }
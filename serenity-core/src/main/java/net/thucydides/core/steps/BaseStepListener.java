@@ -35,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.util.*;
@@ -60,6 +61,17 @@ public class BaseStepListener implements StepListener, StepPublisher {
      */
     private final List<TestOutcome> testOutcomes;
 
+    /**
+     * Full versions of the test outcomes that have been compacted once they were reported.
+     */
+    private CompactedTestOutcomes compactedTestOutcomes;
+
+    /**
+     * The outcomes returned by getTestOutcomes() once compacted outcomes have been reloaded, kept until the recorded
+     * outcomes change. They are only softly referenced, so that the full outcomes do not all have to stay in memory.
+     */
+    private SoftReference<List<TestOutcome>> reloadedTestOutcomes = new SoftReference<>(null);
+
 //    private ThreadLocal<TestOutcome> currentTestOutcome;
     private TestOutcome currentTestOutcome;
 
@@ -215,7 +227,11 @@ public class BaseStepListener implements StepListener, StepPublisher {
     public void cancelPreviousTest() {
         synchronized (testOutcomes) {
             if (!testOutcomes.isEmpty()) {
-                testOutcomes.remove(testOutcomes.size() - 1);
+                TestOutcome cancelledOutcome = testOutcomes.remove(testOutcomes.size() - 1);
+                reloadedTestOutcomes.clear();
+                if (compactedTestOutcomes != null) {
+                    compactedTestOutcomes.forget(cancelledOutcome);
+                }
             }
         }
     }
@@ -267,8 +283,8 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     public boolean previousScenarioWasASingleBrowserScenario() {
-        if (getTestOutcomes().size() > 1) {
-            TestOutcome previousOutcome = getTestOutcomes().get(getTestOutcomes().size() - 2);
+        if (testOutcomes.size() > 1) {
+            TestOutcome previousOutcome = testOutcomes.get(testOutcomes.size() - 2);
             return previousOutcome.hasTag(TestTag.withValue("singlebrowser"));
         } else {
             return false;
@@ -542,6 +558,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
         newTestOutcome.setTestSource(StepEventBus.getEventBus().getTestSource());
         synchronized(testOutcomes) {
         	testOutcomes.add(newTestOutcome);
+        	reloadedTestOutcomes.clear();
         }
         setAnnotatedResult(testMethod);
     }
@@ -604,7 +621,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
      */
     public void testFinished(final TestOutcome outcome, boolean inDataDrivenTest) {
 
-        if (getTestOutcomes().isEmpty()) {
+        if (testOutcomes.isEmpty()) {
             return;
         }
 
@@ -667,7 +684,10 @@ public class BaseStepListener implements StepListener, StepPublisher {
     public void testRetried() {
 //        currentStepStack.get().clear();
         currentStepStack.clear();
-        testOutcomes.remove(getCurrentTestOutcome());
+        synchronized (testOutcomes) {
+            testOutcomes.remove(getCurrentTestOutcome());
+            reloadedTestOutcomes.clear();
+        }
     }
 
     private void recordTestDuration() {
@@ -921,6 +941,9 @@ public class BaseStepListener implements StepListener, StepPublisher {
     @Override
     public void testRunFinished() {
         closeDarkroom();
+        if (compactedTestOutcomes != null) {
+            compactedTestOutcomes.clear();
+        }
     }
 
     public void currentStepDone(TestResult result) {
@@ -1106,13 +1129,52 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     public List<TestOutcome> getTestOutcomes() {
-        return testOutcomes.stream()
-                .sorted((o1, o2) -> {
-                    String creationTimeAndName1 = o1.getStartTime() + "_" + o1.getName();
-                    String creationTimeAndName2 = o1.getStartTime() + "_" + o1.getName();
-                    return creationTimeAndName1.compareTo(creationTimeAndName2);
-                })
-                .collect(Collectors.toList());
+        synchronized (testOutcomes) {
+            List<TestOutcome> outcomes = reloadedTestOutcomes.get();
+            if (outcomes == null) {
+                outcomes = testOutcomes.stream()
+                        .sorted((o1, o2) -> {
+                            String creationTimeAndName1 = o1.getStartTime() + "_" + o1.getName();
+                            String creationTimeAndName2 = o1.getStartTime() + "_" + o1.getName();
+                            return creationTimeAndName1.compareTo(creationTimeAndName2);
+                        })
+                        .map(this::fullVersionOf)
+                        .collect(Collectors.toList());
+                if (compactedTestOutcomes != null) {
+                    reloadedTestOutcomes = new SoftReference<>(outcomes);
+                }
+            }
+            return new ArrayList<>(outcomes);
+        }
+    }
+
+    private TestOutcome fullVersionOf(TestOutcome testOutcome) {
+        return (compactedTestOutcomes == null) ? testOutcome : compactedTestOutcomes.fullVersionOf(testOutcome);
+    }
+
+    /**
+     * Once the reports for the recorded test outcomes have been generated, only a lightweight summary of each outcome
+     * (id, result, duration and tags) needs to stay in memory. If compaction is enabled (see
+     * serenity.compact.reported.outcomes), the full outcomes are moved to temporary files, and are reloaded
+     * by getTestOutcomes() if they are needed again.
+     */
+    public void compactReportedTestOutcomes() {
+        if (!ThucydidesSystemProperty.SERENITY_COMPACT_REPORTED_OUTCOMES.booleanFrom(configuration.getEnvironmentVariables(), false)) {
+            return;
+        }
+        synchronized (testOutcomes) {
+            if (compactedTestOutcomes == null) {
+                compactedTestOutcomes = new CompactedTestOutcomes();
+            }
+            for (int i = 0; i < testOutcomes.size(); i++) {
+                TestOutcome summary = compactedTestOutcomes.compact(testOutcomes.get(i));
+                if (testOutcomes.get(i) == currentTestOutcome) {
+                    currentTestOutcome = summary;
+                }
+                testOutcomes.set(i, summary);
+            }
+            reloadedTestOutcomes.clear();
+        }
     }
 
     public void setDriver(final WebDriver driver) {
@@ -1125,7 +1187,7 @@ public class BaseStepListener implements StepListener, StepPublisher {
 
     public boolean aStepHasFailed() {
         TestResult currentResult = CurrentTestResult.forTestOutcome(getCurrentTestOutcome(), currentExample);
-        return ((!getTestOutcomes().isEmpty()) && currentResult.isUnsuccessful());
+        return ((!testOutcomes.isEmpty()) && currentResult.isUnsuccessful());
     }
 
     public Optional<TestStep> firstFailingStep() {
@@ -1324,6 +1386,12 @@ public class BaseStepListener implements StepListener, StepPublisher {
     }
 
     public void clearTestOutcomes (){
-        testOutcomes.clear();
+        synchronized (testOutcomes) {
+            testOutcomes.clear();
+            reloadedTestOutcomes.clear();
+        }
+        if (compactedTestOutcomes != null) {
+            compactedTestOutcomes.clear();
+        }
     }
 }
@@ -0,0 +1,114 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.guice.Injectors;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.json.JSONConverter;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Stores test outcomes that have already been reported in temporary files, so that only a lightweight summary
+ * of each outcome needs to stay in memory. The full outcome is reloaded from disk whenever it is needed again.
+ * The files are kept in a single temporary directory, which is deleted in one go when the outcomes are cleared,
+ * or when the JVM exits if they never are.
+ */
+class CompactedTestOutcomes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompactedTestOutcomes.class);
+
+    private final Map<TestOutcome, File> storedOutcomes = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final JSONConverter jsonConverter;
+
+    private File storageDirectory;
+
+    private Thread deleteStorageDirectoryOnExit;
+
+    CompactedTestOutcomes() {
+        this(Injectors.getInjector().getInstance(JSONConverter.class));
+    }
+
+    CompactedTestOutcomes(JSONConverter jsonConverter) {
+        this.jsonConverter = jsonConverter;
+    }
+
+    /**
+     * Store the test outcome on disk, and return a summary to keep in its place.
+     * If the outcome cannot be stored, it is returned unchanged.
+     */
+    TestOutcome compact(TestOutcome testOutcome) {
+        if (isCompacted(testOutcome)) {
+            return testOutcome;
+        }
+        try {
+            File storedOutcome = File.createTempFile("outcome", ".json", storageDirectory());
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(storedOutcome))) {
+                jsonConverter.toJson(testOutcome, out);
+            }
+            TestOutcome summary = testOutcome.asSummary();
+            storedOutcomes.put(summary, storedOutcome);
+            return summary;
+        } catch (IOException e) {
+            LOGGER.warn("Could not store the test outcome for {}: {}", testOutcome.getName(), e.getMessage());
+            return testOutcome;
+        }
+    }
+
+    boolean isCompacted(TestOutcome testOutcome) {
+        return storedOutcomes.containsKey(testOutcome);
+    }
+
+    /**
+     * The full version of a test outcome, reloaded from disk if it has been compacted.
+     */
+    TestOutcome fullVersionOf(TestOutcome testOutcome) {
+        File storedOutcome = storedOutcomes.get(testOutcome);
+        if (storedOutcome == null) {
+            return testOutcome;
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(storedOutcome))) {
+            return jsonConverter.fromJson(in).orElse(testOutcome);
+        } catch (IOException e) {
+            LOGGER.warn("Could not reload the test outcome for {}: {}", testOutcome.getName(), e.getMessage());
+            return testOutcome;
+        }
+    }
+
+    void forget(TestOutcome testOutcome) {
+        File storedOutcome = storedOutcomes.remove(testOutcome);
+        if (storedOutcome != null) {
+            storedOutcome.delete();
+        }
+    }
+
+    synchronized void clear() {
+        storedOutcomes.clear();
+        if (storageDirectory != null) {
+            FileUtils.deleteQuietly(storageDirectory);
+            storageDirectory = null;
+            try {
+                Runtime.getRuntime().removeShutdownHook(deleteStorageDirectoryOnExit);
+            } catch (IllegalStateException alreadyShuttingDown) {
+                // The hook will delete a directory that no longer exists
+            }
+            deleteStorageDirectoryOnExit = null;
+        }
+    }
+
+    private synchronized File storageDirectory() throws IOException {
+        if (storageDirectory == null) {
+            File newStorageDirectory = Files.createTempDirectory("serenity-outcomes").toFile();
+            deleteStorageDirectoryOnExit = new Thread(() -> FileUtils.deleteQuietly(newStorageDirectory));
+            Runtime.getRuntime().addShutdownHook(deleteStorageDirectoryOnExit);
+            storageDirectory = newStorageDirectory;
+        }
+        return storageDirectory;
+    }
+}
@@ -0,0 +1,137 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.annotations.Fields;
+import net.thucydides.core.annotations.Step;
+import net.thucydides.core.reflection.MethodFinder;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the field values that a step description can display, e.g. the 'color' field in {@code @Step("Choose #color")}.
+ * The field accessors of each step library class are looked up once, and only the fields that are referred to
+ * in the @Step annotations of a step method are read when that step is executed.
+ */
+class DisplayedFieldValues {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DisplayedFieldValues.class);
+
+    private static final String META_FIELD_PREFIX = "!#";
+
+    /**
+     * Held per class rather than in a static map, so that the cache does not keep test classloaders alive.
+     */
+    private static final ClassValue<DisplayedFieldValues> FIELD_VALUES_BY_CLASS = new ClassValue<DisplayedFieldValues>() {
+        @Override
+        protected DisplayedFieldValues computeValue(Class<?> stepLibraryClass) {
+            return new DisplayedFieldValues(stepLibraryClass);
+        }
+    };
+
+    private static final MethodType FIELD_READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<String, MethodHandle> fieldReaders;
+
+    private final Map<String, List<String>> displayedFieldsByStepMethod = new ConcurrentHashMap<>();
+
+    private DisplayedFieldValues(Class<?> stepLibraryClass) {
+        this.fieldReaders = fieldReadersFor(stepLibraryClass);
+    }
+
+    static DisplayedFieldValues forClass(Class<?> stepLibraryClass) {
+        return FIELD_VALUES_BY_CLASS.get(stepLibraryClass);
+    }
+
+    /**
+     * The values of the fields of the step library object that can appear in the description of the given step,
+     * as well as the object itself (as 'self' and 'this').
+     */
+    Map<String, Object> of(Object stepLibrary, Class<?> stepClass, Method stepMethod) {
+        Map<String, Object> fieldValues = new HashMap<>();
+        for (String fieldName : displayedFieldsFor(stepClass, stepMethod.getName())) {
+            fieldValues.put(fieldName, valueOf(fieldName, stepLibrary));
+        }
+        fieldValues.put("self", stepLibrary);
+        fieldValues.put("this", stepLibrary);
+        return fieldValues;
+    }
+
+    private List<String> displayedFieldsFor(Class<?> stepClass, String stepMethodName) {
+        return displayedFieldsByStepMethod.computeIfAbsent(stepMethodName,
+                methodName -> fieldsReferredToIn(stepTemplatesFor((stepClass != null) ? stepClass : Object.class, methodName)));
+    }
+
+    /**
+     * Step descriptions are found by method name, so any overloaded version of the step method may provide the template.
+     */
+    private List<String> stepTemplatesFor(Class<?> stepClass, String methodName) {
+        List<String> templates = new ArrayList<>();
+        for (Method method : MethodFinder.inClass(stepClass).getAllMethods()) {
+            Step step = method.getAnnotation(Step.class);
+            if (method.getName().equals(methodName) && step != null && StringUtils.isNotEmpty(step.value())) {
+                templates.add(step.value());
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * A meta-field template such as {@code "!#title"} is replaced by the value of the field it names, which can itself
+     * refer to any other field, so all the fields are read for these steps.
+     */
+    private List<String> fieldsReferredToIn(List<String> templates) {
+        if (templates.stream().anyMatch(template -> template.contains(META_FIELD_PREFIX))) {
+            return new ArrayList<>(fieldReaders.keySet());
+        }
+        List<String> referencedFields = new ArrayList<>();
+        for (String fieldName : fieldReaders.keySet()) {
+            if (templates.stream().anyMatch(template -> template.contains("#" + fieldName))) {
+                referencedFields.add(fieldName);
+            }
+        }
+        return referencedFields;
+    }
+
+    private Object valueOf(String fieldName, Object stepLibrary) {
+        try {
+            Object value = (Object) fieldReaders.get(fieldName).invokeExact(stepLibrary);
+            return (value == null) ? Fields.FieldValue.UNDEFINED : value;
+        } catch (Throwable e) {
+            LOGGER.warn("Failed to read the field " + fieldName, e);
+            return Fields.FieldValue.UNDEFINED;
+        }
+    }
+
+    private static Map<String, MethodHandle> fieldReadersFor(Class<?> stepLibraryClass) {
+        Map<String, MethodHandle> fieldReaders = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Field field : Fields.of(stepLibraryClass).allFields()) {
+            if (field.getName().contains("CGLIB")) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                fieldReaders.put(field.getName(), fieldReaderFor(lookup.unreflectGetter(field), field));
+            } catch (IllegalAccessException | RuntimeException e) {
+                LOGGER.warn("Failed to read the field " + field.getName(), e);
+            }
+        }
+        return Collections.unmodifiableMap(fieldReaders);
+    }
+
+    private static MethodHandle fieldReaderFor(MethodHandle getter, Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        }
+        return getter.asType(FIELD_READER_TYPE);
+    }
+}
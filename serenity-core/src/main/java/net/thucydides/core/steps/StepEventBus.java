@@ -11,6 +11,7 @@ import net.serenitybdd.core.parallel.Agent;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.events.TestLifecycleEvents;
 import net.thucydides.core.model.*;
+import net.thucydides.core.reports.AsyncReportWriter;
 import net.thucydides.core.util.EnvironmentVariables;
 import net.thucydides.core.webdriver.Configuration;
 import org.slf4j.Logger;
@@ -349,6 +350,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testRunFinished();
         }
+        AsyncReportWriter.flushSharedWriter();
     }
 
     public void testFinished() {
@@ -674,6 +676,7 @@ public class StepEventBus {
         for (StepListener stepListener : getAllListeners()) {
             stepListener.testRunFinished();
         }
+        AsyncReportWriter.flushSharedWriter();
     }
 
     public void updateCurrentStepTitle(String stepTitle) {
@@ -1,15 +1,5 @@
 package net.thucydides.core.steps;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.dynamic.loading.ClassInjector;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
-import net.bytebuddy.dynamic.scaffold.TypeValidation;
-import net.bytebuddy.implementation.FieldAccessor;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.serenitybdd.core.collect.NewList;
 import net.serenitybdd.core.collect.NewSet;
 import net.serenitybdd.core.di.DependencyInjector;
@@ -20,7 +10,6 @@ import net.thucydides.core.annotations.Fields;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.pages.Pages;
 import net.thucydides.core.steps.construction.ConstructionStrategy;
-import net.thucydides.core.steps.construction.StepLibraryConstructionStrategy;
 import net.thucydides.core.steps.construction.StepLibraryType;
 import net.thucydides.core.steps.di.DependencyInjectorService;
 import org.slf4j.Logger;
@@ -29,12 +18,8 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.function.Function;
 
-import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
-import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.thucydides.core.steps.construction.ConstructionStrategy.*;
 import static net.thucydides.core.steps.construction.StepLibraryType.ofTypePages;
 
@@ -53,11 +38,6 @@ public class StepFactory {
     private final DependencyInjectorService dependencyInjectorService;
 
     private static ThreadLocal<StepFactory> currentStepFactory = ThreadLocal.withInitial(() -> new StepFactory());
-    private Method privateLookupIn;
-    private Object lookup;
-
-    private final ByteBuddy byteBuddy;
-    private TypeCache<TypeCache.SimpleKey> proxyCache;
 
     /**
      * Create a new step factory.
@@ -65,22 +45,8 @@ public class StepFactory {
      * are created.
      */
     public StepFactory(final Pages pages) {
-        this.byteBuddy = new ByteBuddy().with( TypeValidation.DISABLED );
         this.pages = pages;
         this.dependencyInjectorService = Injectors.getInjector().getInstance(DependencyInjectorService.class);
-        this.proxyCache = new TypeCache.WithInlineExpunction<TypeCache.SimpleKey>( TypeCache.Sort.WEAK );
-        try {
-            if (ClassInjector.UsingLookup.isAvailable()) {
-                Class<?> methodHandles = Class.forName("java.lang.invoke.MethodHandles");
-                lookup = methodHandles.getMethod("lookup").invoke(null);
-                privateLookupIn = methodHandles.getMethod("privateLookupIn",
-                        Class.class,
-                        Class.forName("java.lang.invoke.MethodHandles$Lookup"));
-            }
-        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            LOGGER.error("Cannot get privateLookupIn method ClassInjector using lookup", e);
-            throw new IllegalStateException("No code generation strategy available");
-        }
     }
 
     /**
@@ -95,6 +61,15 @@ public class StepFactory {
         return currentStepFactory.get();
     }
 
+    /**
+     * Generate the instrumented classes for these step libraries ahead of time.
+     * The instrumented classes are shared by all of the step factories, so this only needs to be done once per JVM,
+     * for example before starting the tests in parallel.
+     */
+    public static void prepareStepLibraries(Collection<Class<?>> stepLibraryClasses) {
+        StepLibraryProxies.prepare(stepLibraryClasses);
+    }
+
     public StepFactory usingPages(Pages pages) {
         this.pages = pages;
         return this;
@@ -231,18 +206,10 @@ public class StepFactory {
     private <T> T createProxyStepLibrary(Class<T> scenarioStepsClass,
                                          Interceptor interceptor,
                                          Object... parameters) {
-        final TypeCache.SimpleKey cacheKey = getCacheKey( scenarioStepsClass, interceptor.getClass() );
-
-        Class proxyClass = load(scenarioStepsClass,proxyCache,cacheKey,byteBuddy->byteBuddy.subclass(scenarioStepsClass)
-                .defineField( ProxyConfiguration.INTERCEPTOR_FIELD_NAME, Interceptor.class, Visibility.PRIVATE )
-                .method(not(isDeclaredBy(Object.class)))
-                .intercept( MethodDelegation.to( ProxyConfiguration.InterceptorDispatcher.class ))
-                .implement( ProxyConfiguration.class )
-                .intercept( FieldAccessor.ofField( ProxyConfiguration.INTERCEPTOR_FIELD_NAME ).withAssigner( Assigner.DEFAULT, Assigner.Typing.DYNAMIC )));
+        Class proxyClass = StepLibraryProxies.proxyClassFor(scenarioStepsClass);
 
         try {
-            final ConstructionStrategy strategy = StepLibraryConstructionStrategy.forClass(scenarioStepsClass)
-                    .getStrategy();
+            final ConstructionStrategy strategy = StepLibraryProxies.constructionStrategyFor(scenarioStepsClass);
             if (STEP_LIBRARY_WITH_WEBDRIVER.equals(strategy)) {
                 return webEnabledStepLibrary(scenarioStepsClass, proxyClass,interceptor);
             } else if (STEP_LIBRARY_WITH_PAGES.equals(strategy)) {
@@ -262,35 +229,6 @@ public class StepFactory {
         }
     }
 
-    private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
-                          TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-        return cache.findOrInsert(
-                referenceClass.getClassLoader(),
-                cacheKey,
-                () -> makeProxyFunction.apply(byteBuddy).make()
-                        .load(referenceClass.getClassLoader(), getClassLoadingStrategy(referenceClass))
-                        .getLoaded(),
-                cache );
-    }
-
-    private ClassLoadingStrategy getClassLoadingStrategy(Class targetClass) {
-        ClassLoadingStrategy<ClassLoader> strategy;
-        try {
-            if (ClassInjector.UsingLookup.isAvailable()) {
-                Object privateLookup = privateLookupIn.invoke(null, targetClass, lookup);
-                strategy = ClassLoadingStrategy.UsingLookup.of(privateLookup);
-            } else if (ClassInjector.UsingReflection.isAvailable()) {
-                strategy = ClassLoadingStrategy.Default.INJECTION;
-            } else {
-                throw new IllegalStateException("No code generation strategy available");
-            }
-            return strategy;
-        } catch (InvocationTargetException | IllegalAccessException  e) {
-            LOGGER.error("Cannot get ClassLoadingStrategy  for target class " +  targetClass , e);
-            throw new IllegalStateException("No code generation strategy available");
-        }
-    }
-
     private <T> T immutableStepLibrary(Class<T> scenarioStepsClass, Class proxyClass, Object[] parameters,Interceptor interceptor) throws IllegalAccessException, InvocationTargetException, InstantiationException, NoSuchMethodException {
         final ProxyConfiguration proxy = (ProxyConfiguration)proxyClass.getDeclaredConstructor(argumentTypesFrom(scenarioStepsClass,parameters)).newInstance(parameters);
         proxy.$$_serenity_set_interceptor(interceptor);
@@ -480,15 +418,4 @@ public class StepFactory {
     private static boolean isByte(Class<?> fieldType) {
         return (fieldType.equals(Byte.class) || fieldType.equals(byte.class));
     }
-
-    private TypeCache.SimpleKey getCacheKey(Class<?> scenarioStepsClass, Class<?> interceptorClass) {
-        Set<Class<?>> key = new HashSet<Class<?>>();
-        if ( scenarioStepsClass != null ) {
-            key.add( scenarioStepsClass );
-        }
-        if ( interceptorClass != null ) {
-            key.add ( interceptorClass );
-        }
-        return new TypeCache.SimpleKey( key );
-    }
-}
\ No newline at end of file
+}
@@ -547,7 +547,7 @@ public class StepInterceptor implements MethodErrorReporter,Interceptor {
     private void notifyOfStepFailure(final Object object, final Method method, final Object[] args,
             final Throwable cause) throws Throwable {
         ExecutedStepDescription description = ExecutedStepDescription.of(testStepClass, getTestNameFrom(method, args), args)
-                                                                     .withDisplayedFields(fieldValuesIn(object));
+                                                                     .withDisplayedFields(fieldValuesIn(object, method));
 
         StepFailure failure = new StepFailure(description, cause);
         StepEventBus.getEventBus().stepFailed(failure);
@@ -567,12 +567,12 @@ public class StepInterceptor implements MethodErrorReporter,Interceptor {
 
     private void notifyStepStarted(final Object object, final Method method, final Object[] args) {
         ExecutedStepDescription description = ExecutedStepDescription.of(testStepClass, getTestNameFrom(method, args), args)
-                        .withDisplayedFields(fieldValuesIn(object));
+                        .withDisplayedFields(fieldValuesIn(object, method));
         StepEventBus.getEventBus().stepStarted(description);
     }
 
-    private Map<String, Object> fieldValuesIn(Object object) {
-        Map<String, Object> coreFieldValues = Fields.of(object).asMap();
+    private Map<String, Object> fieldValuesIn(Object object, Method method) {
+        Map<String, Object> coreFieldValues = DisplayedFieldValues.forClass(object.getClass()).of(object, testStepClass, method);
 
         if (object instanceof HasCustomFieldValues) {
             coreFieldValues.putAll(((HasCustomFieldValues) object).getCustomFieldValues());
@@ -584,7 +584,7 @@ public class StepInterceptor implements MethodErrorReporter,Interceptor {
     private void notifySkippedStepStarted(final Object object, final Method method, final Object[] args) {
 
         ExecutedStepDescription description = ExecutedStepDescription.of(testStepClass, getTestNameFrom(method, args), args)
-                        .withDisplayedFields(fieldValuesIn(object));
+                        .withDisplayedFields(fieldValuesIn(object, method));
         StepEventBus.getEventBus().skippedStepStarted(description);
     }
 
@@ -0,0 +1,139 @@
+package net.thucydides.core.steps;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.thucydides.core.steps.construction.ConstructionStrategy;
+import net.thucydides.core.steps.construction.StepLibraryConstructionStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Objects;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+/**
+ * Generates the instrumented subclasses used for step libraries, and keeps them in a cache shared by all of the
+ * step factories in the JVM. The cache is keyed on the step library class and its construction strategy, and
+ * holds the generated classes weakly, so they can be unloaded along with the class loader of the step library.
+ */
+class StepLibraryProxies {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepLibraryProxies.class);
+
+    private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(TypeValidation.DISABLED);
+
+    private static final TypeCache<ProxyKey> PROXY_CLASSES = new TypeCache.WithInlineExpunction<>(TypeCache.Sort.WEAK);
+
+    private static final ClassValue<ConstructionStrategy> CONSTRUCTION_STRATEGIES = new ClassValue<ConstructionStrategy>() {
+        @Override
+        protected ConstructionStrategy computeValue(Class<?> stepLibraryClass) {
+            return StepLibraryConstructionStrategy.forClass(stepLibraryClass).getStrategy();
+        }
+    };
+
+    private static Method privateLookupIn;
+    private static Object lookup;
+
+    static {
+        try {
+            if (ClassInjector.UsingLookup.isAvailable()) {
+                Class<?> methodHandles = Class.forName("java.lang.invoke.MethodHandles");
+                lookup = methodHandles.getMethod("lookup").invoke(null);
+                privateLookupIn = methodHandles.getMethod("privateLookupIn",
+                        Class.class,
+                        Class.forName("java.lang.invoke.MethodHandles$Lookup"));
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            LOGGER.error("Cannot get privateLookupIn method ClassInjector using lookup", e);
+        }
+    }
+
+    private StepLibraryProxies() {}
+
+    static ConstructionStrategy constructionStrategyFor(Class<?> stepLibraryClass) {
+        return CONSTRUCTION_STRATEGIES.get(stepLibraryClass);
+    }
+
+    /**
+     * Generate the proxy classes for these step libraries ahead of time, so that they do not need to be generated
+     * when the tests first use them.
+     */
+    static void prepare(Collection<Class<?>> stepLibraryClasses) {
+        stepLibraryClasses.forEach(StepLibraryProxies::proxyClassFor);
+    }
+
+    static Class<?> proxyClassFor(Class<?> stepLibraryClass) {
+        ProxyKey cacheKey = new ProxyKey(stepLibraryClass, constructionStrategyFor(stepLibraryClass));
+        return PROXY_CLASSES.findOrInsert(
+                stepLibraryClass.getClassLoader(),
+                cacheKey,
+                () -> generateProxyClassFor(stepLibraryClass),
+                PROXY_CLASSES);
+    }
+
+    private static Class<?> generateProxyClassFor(Class<?> stepLibraryClass) {
+        return BYTE_BUDDY.subclass(stepLibraryClass)
+                .defineField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME, Interceptor.class, Visibility.PRIVATE)
+                .method(not(isDeclaredBy(Object.class)))
+                .intercept(MethodDelegation.to(ProxyConfiguration.InterceptorDispatcher.class))
+                .implement(ProxyConfiguration.class)
+                .intercept(FieldAccessor.ofField(ProxyConfiguration.INTERCEPTOR_FIELD_NAME).withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC))
+                .make()
+                .load(stepLibraryClass.getClassLoader(), getClassLoadingStrategy(stepLibraryClass))
+                .getLoaded();
+    }
+
+    private static ClassLoadingStrategy<ClassLoader> getClassLoadingStrategy(Class<?> targetClass) {
+        try {
+            if (ClassInjector.UsingLookup.isAvailable() && privateLookupIn != null) {
+                Object privateLookup = privateLookupIn.invoke(null, targetClass, lookup);
+                return ClassLoadingStrategy.UsingLookup.of(privateLookup);
+            } else if (ClassInjector.UsingReflection.isAvailable()) {
+                return ClassLoadingStrategy.Default.INJECTION;
+            } else {
+                throw new IllegalStateException("No code generation strategy available");
+            }
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            LOGGER.error("Cannot get ClassLoadingStrategy  for target class " + targetClass, e);
+            throw new IllegalStateException("No code generation strategy available");
+        }
+    }
+
+    /**
+     * Refers to the step library class by name, so that the cache does not keep the class from being unloaded.
+     */
+    private static class ProxyKey {
+        private final String stepLibraryClassName;
+        private final ConstructionStrategy constructionStrategy;
+
+        ProxyKey(Class<?> stepLibraryClass, ConstructionStrategy constructionStrategy) {
+            this.stepLibraryClassName = stepLibraryClass.getName();
+            this.constructionStrategy = constructionStrategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ProxyKey proxyKey = (ProxyKey) o;
+            return stepLibraryClassName.equals(proxyKey.stepLibraryClassName)
+                    && constructionStrategy == proxyKey.constructionStrategy;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stepLibraryClassName, constructionStrategy);
+        }
+    }
+}
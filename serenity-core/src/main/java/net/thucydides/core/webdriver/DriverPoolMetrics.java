@@ -0,0 +1,83 @@
+package net.thucydides.core.webdriver;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how well the browser session pool is working: how often a test could reuse a pooled session,
+ * how long tests waited for a session, and how many sessions were closed because they were too old, too heavily used
+ * or no longer working.
+ */
+public class DriverPoolMetrics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong failedResets = new AtomicLong();
+    private final AtomicLong totalWaitInMillis = new AtomicLong();
+    private final AtomicLong maximumWaitInMillis = new AtomicLong();
+
+    void sessionReused() {
+        hits.incrementAndGet();
+    }
+
+    void sessionCreated() {
+        misses.incrementAndGet();
+    }
+
+    void sessionEvicted() {
+        evictions.incrementAndGet();
+    }
+
+    void resetFailed() {
+        failedResets.incrementAndGet();
+    }
+
+    void waitedFor(long waitInMillis) {
+        totalWaitInMillis.addAndGet(waitInMillis);
+        maximumWaitInMillis.accumulateAndGet(waitInMillis, Math::max);
+    }
+
+    /**
+     * The number of times a test was given a session that was already open.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * The number of times a new session had to be opened for a test.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getFailedResetCount() {
+        return failedResets.get();
+    }
+
+    /**
+     * The average time a test waited to be given a session, including the time needed to open new sessions.
+     */
+    public long getAverageWaitInMillis() {
+        long leases = hits.get() + misses.get();
+        return (leases == 0) ? 0 : totalWaitInMillis.get() / leases;
+    }
+
+    public long getMaximumWaitInMillis() {
+        return maximumWaitInMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "hits: " + getHitCount()
+                + ", misses: " + getMissCount()
+                + ", evictions: " + getEvictionCount()
+                + ", failed resets: " + getFailedResetCount()
+                + ", wait: " + getAverageWaitInMillis() + " ms average"
+                + " (max " + getMaximumWaitInMillis() + " ms)";
+    }
+}
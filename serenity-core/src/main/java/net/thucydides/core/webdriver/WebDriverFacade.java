@@ -121,6 +121,7 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
 
     private void forcedQuit() {
         try {
+            WebDriverSessionPool.activePool().ifPresent(pool -> pool.discard(getDriverInstance()));
             getDriverInstance().quit();
             proxiedWebDriver = null;
         } catch (WebDriverException e) {
@@ -136,15 +137,25 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         try {
             if (StepEventBus.getEventBus().isDryRun()) {
                 return new WebDriverStub();
-            } else {
-                webDriverFactory.setupFixtureServices();
-                return webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
             }
+            Optional<WebDriverSessionPool> sessionPool = WebDriverSessionPool.sharedPool(environmentVariables);
+            if (sessionPool.isPresent()) {
+                String configurationKey = WebDriverSessionPool.configurationKeyFor(driverClass, options, environmentVariables);
+                return sessionPool.get().lease(configurationKey,
+                                               webDriverFactory.getDefaultImplicitTimeout(),
+                                               this::newWebdriverInstance);
+            }
+            return newWebdriverInstance();
         } catch (DriverConfigurationError e) {
             throw new DriverConfigurationError("Could not instantiate " + driverClass, e);
         }
     }
 
+    private WebDriver newWebdriverInstance() {
+        webDriverFactory.setupFixtureServices();
+        return webDriverFactory.newWebdriverInstance(driverClass, options, environmentVariables);
+    }
+
     public <X> X getScreenshotAs(final OutputType<X> target) {
         if (proxyInstanciated() && driverCanTakeScreenshots()) {
             try {
@@ -277,8 +288,10 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
     public void quit() {
         if (proxyInstanciated()) {
             try {
-                getDriverInstance().quit();
-                webDriverFactory.shutdownFixtureServices();
+                if (!releasedToSessionPool(getDriverInstance())) {
+                    getDriverInstance().quit();
+                    webDriverFactory.shutdownFixtureServices();
+                }
                 webDriverFactory.releaseTimoutFor(getDriverInstance());
 
             } catch (WebDriverException e) {
@@ -288,6 +301,10 @@ public class WebDriverFacade implements WebDriver, TakesScreenshot, HasInputDevi
         }
     }
 
+    private boolean releasedToSessionPool(WebDriver driver) {
+        return WebDriverSessionPool.activePool().map(pool -> pool.release(driver)).orElse(false);
+    }
+
     protected boolean proxyInstanciated() {
         return (getDriverInstance() != null);
     }
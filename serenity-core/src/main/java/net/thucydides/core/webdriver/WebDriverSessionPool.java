@@ -0,0 +1,291 @@
+package net.thucydides.core.webdriver;
+
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Keeps browser sessions open between tests, so that each test does not need to wait for a new browser to start.
+ * Sessions are pooled by driver configuration: the driver class, the driver options, and the webdriver-related
+ * properties in the environment. A test thread leases a session when its driver is first used, and hands it back
+ * to the pool when the driver is closed. Returned sessions are reset (cookies and web storage cleared, extra
+ * windows closed, about:blank loaded) and health-checked before they are leased again, and are closed once they
+ * reach the configured age or number of uses. A session that is leased again has its implicit wait set back to the
+ * configured value, whatever the previous test left it at.
+ * <p>
+ * The first time a session is leased for a given configuration, the rest of the pool is opened in the background,
+ * so that tests running in other threads find a browser ready for them.
+ * <p>
+ * Pooling is enabled by setting serenity.driver.pool.size to a value greater than 0.
+ */
+public class WebDriverSessionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverSessionPool.class);
+
+    private static final int DEFAULT_MAX_AGE_IN_SECONDS = 1800;
+    private static final int DEFAULT_MAX_USES = 50;
+
+    private static final List<String> DRIVER_PROPERTY_PREFIXES = Arrays.asList(
+            "webdriver.", "serenity.driver.", "chrome", "firefox", "edge", "ie.", "safari", "appium.",
+            "saucelabs.", "browserstack.", "lambdatest.", "crossbrowsertesting."
+    );
+
+    private static WebDriverSessionPool sharedPool;
+
+    private final int poolSize;
+    private final Duration maxAge;
+    private final int maxUses;
+    private final Clock clock;
+    private final DriverPoolMetrics metrics = new DriverPoolMetrics();
+
+    private final Map<String, BlockingDeque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Set<String> prewarmedConfigurations = ConcurrentHashMap.newKeySet();
+    private final ExecutorService prewarmer;
+
+    WebDriverSessionPool(int poolSize, Duration maxAge, int maxUses, Clock clock) {
+        this.poolSize = poolSize;
+        this.maxAge = maxAge;
+        this.maxUses = maxUses;
+        this.clock = clock;
+        this.prewarmer = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "Serenity driver pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The session pool shared by all of the test threads in the JVM, if pooling is enabled.
+     * The pool settings are taken from the environment variables of the first caller.
+     */
+    public static synchronized Optional<WebDriverSessionPool> sharedPool(EnvironmentVariables environmentVariables) {
+        if (sharedPool == null) {
+            EnvironmentVariables configuredEnvironment = (environmentVariables != null) ?
+                    environmentVariables : ConfiguredEnvironment.getEnvironmentVariables();
+            int poolSize = ThucydidesSystemProperty.SERENITY_DRIVER_POOL_SIZE.integerFrom(configuredEnvironment, 0);
+            if (poolSize <= 0) {
+                return Optional.empty();
+            }
+            int maxAge = ThucydidesSystemProperty.SERENITY_DRIVER_POOL_MAX_AGE.integerFrom(configuredEnvironment,
+                                                                                          DEFAULT_MAX_AGE_IN_SECONDS);
+            int maxUses = ThucydidesSystemProperty.SERENITY_DRIVER_POOL_MAX_USES.integerFrom(configuredEnvironment,
+                                                                                            DEFAULT_MAX_USES);
+            sharedPool = new WebDriverSessionPool(poolSize, Duration.ofSeconds(maxAge), maxUses, Clock.systemUTC());
+            Runtime.getRuntime().addShutdownHook(new Thread(sharedPool::closeIdleSessions, "Serenity driver pool shutdown"));
+        }
+        return Optional.of(sharedPool);
+    }
+
+    /**
+     * The shared session pool, if one has already been created.
+     */
+    public static synchronized Optional<WebDriverSessionPool> activePool() {
+        return Optional.ofNullable(sharedPool);
+    }
+
+    /**
+     * Sessions can only be shared between drivers with the same class, options and driver configuration properties.
+     * The properties are included as a SHA-256 digest of all of their names and values, so that two different
+     * configurations never share a key.
+     */
+    public static String configurationKeyFor(Class<? extends WebDriver> driverClass,
+                                             String options,
+                                             EnvironmentVariables environmentVariables) {
+        SortedMap<String, String> driverProperties = new TreeMap<>();
+        if (environmentVariables != null) {
+            for (String key : environmentVariables.getKeys()) {
+                if (DRIVER_PROPERTY_PREFIXES.stream().anyMatch(key::startsWith)) {
+                    driverProperties.put(key, environmentVariables.getProperty(key));
+                }
+            }
+        }
+        StringBuilder driverConfiguration = new StringBuilder();
+        driverProperties.forEach((key, value) -> driverConfiguration.append(key).append('\u0000').append(value).append('\u0000'));
+        return driverClass.getName() + ":" + options + ":" + DigestUtils.sha256Hex(driverConfiguration.toString());
+    }
+
+    /**
+     * Lease a session for the given driver configuration, opening a new one if no pooled session is available.
+     * A pooled session has its implicit wait set to the given value before it is leased again.
+     */
+    public WebDriver lease(String configurationKey, Duration implicitWait, Supplier<WebDriver> newSession) {
+        long start = clock.millis();
+        prewarmIfNeeded(configurationKey, newSession);
+
+        PooledSession session = reusableSessionFor(configurationKey, implicitWait);
+        if (session == null) {
+            session = new PooledSession(configurationKey, newSession.get(), clock.instant());
+            metrics.sessionCreated();
+        } else {
+            metrics.sessionReused();
+        }
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        metrics.waitedFor(clock.millis() - start);
+        return session.driver;
+    }
+
+    /**
+     * Hand a leased session back to the pool. Sessions that are too old, have been used too often, or cannot be reset
+     * are closed instead.
+     *
+     * @return false if the driver was not leased from this pool, in which case the caller should close it as usual.
+     */
+    public boolean release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            return false;
+        }
+        if (isWornOut(session) || !reset(driver)) {
+            evict(session);
+        } else if (!idleSessionsFor(session.configurationKey).offerFirst(session)) {
+            evict(session);
+        }
+        return true;
+    }
+
+    /**
+     * Stop tracking a leased session that the caller is about to close itself.
+     */
+    public void discard(WebDriver driver) {
+        leasedSessions.remove(driver);
+    }
+
+    public DriverPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Close all of the sessions that are waiting in the pool.
+     */
+    public void closeIdleSessions() {
+        for (BlockingDeque<PooledSession> sessions : idleSessions.values()) {
+            PooledSession session;
+            while ((session = sessions.pollFirst()) != null) {
+                quietlyQuit(session.driver);
+            }
+        }
+        LOGGER.debug("Driver pool closed ({})", metrics);
+    }
+
+    private PooledSession reusableSessionFor(String configurationKey, Duration implicitWait) {
+        PooledSession session;
+        while ((session = idleSessionsFor(configurationKey).pollFirst()) != null) {
+            if (!isWornOut(session) && isReadyForReuse(session.driver, implicitWait)) {
+                return session;
+            }
+            evict(session);
+        }
+        return null;
+    }
+
+    private void prewarmIfNeeded(String configurationKey, Supplier<WebDriver> newSession) {
+        if (poolSize <= 1 || !prewarmedConfigurations.add(configurationKey)) {
+            return;
+        }
+        for (int i = 1; i < poolSize; i++) {
+            prewarmer.execute(() -> {
+                try {
+                    PooledSession session = new PooledSession(configurationKey, newSession.get(), clock.instant());
+                    if (!idleSessionsFor(configurationKey).offerLast(session)) {
+                        quietlyQuit(session.driver);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Could not open a browser session in advance: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    private BlockingDeque<PooledSession> idleSessionsFor(String configurationKey) {
+        return idleSessions.computeIfAbsent(configurationKey, key -> new LinkedBlockingDeque<>(poolSize));
+    }
+
+    private boolean isWornOut(PooledSession session) {
+        return session.uses >= maxUses || Duration.between(session.createdAt, clock.instant()).compareTo(maxAge) >= 0;
+    }
+
+    private boolean isReadyForReuse(WebDriver driver, Duration implicitWait) {
+        try {
+            driver.getWindowHandle();
+            driver.manage().timeouts().implicitlyWait(implicitWait.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            closeExtraWindowsIn(driver);
+            driver.manage().deleteAllCookies();
+            clearWebStorageIn(driver);
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.debug("Could not reset a pooled browser session: {}", e.getMessage());
+            metrics.resetFailed();
+            return false;
+        }
+    }
+
+    private void closeExtraWindowsIn(WebDriver driver) {
+        List<String> windowHandles = new ArrayList<>(driver.getWindowHandles());
+        if (windowHandles.size() > 1) {
+            for (String windowHandle : windowHandles.subList(1, windowHandles.size())) {
+                driver.switchTo().window(windowHandle).close();
+            }
+            driver.switchTo().window(windowHandles.get(0));
+        }
+    }
+
+    private void clearWebStorageIn(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException pageWithoutWebStorage) {
+                LOGGER.trace("Web storage could not be cleared: {}", pageWithoutWebStorage.getMessage());
+            }
+        }
+    }
+
+    private void evict(PooledSession session) {
+        metrics.sessionEvicted();
+        quietlyQuit(session.driver);
+    }
+
+    private void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Error while closing a pooled browser session: {}", e.getMessage());
+        }
+    }
+
+    private static class PooledSession {
+        private final String configurationKey;
+        private final WebDriver driver;
+        private final Instant createdAt;
+        private int uses;
+
+        PooledSession(String configurationKey, WebDriver driver, Instant createdAt) {
+            this.configurationKey = configurationKey;
+            this.driver = driver;
+            this.createdAt = createdAt;
+        }
+    }
+}
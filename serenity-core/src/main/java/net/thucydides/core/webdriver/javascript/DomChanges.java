@@ -0,0 +1,183 @@
+package net.thucydides.core.webdriver.javascript;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static net.thucydides.core.webdriver.javascript.JavascriptSupport.javascriptIsSupportedIn;
+
+/**
+ * Waits for the DOM of the current page to change, rather than sleeping for a fixed period between two checks.
+ * A MutationObserver is installed in the page the first time it is needed, and counts the changes made to the DOM.
+ * Each wait is a single asynchronous script call that returns as soon as the page has changed since the last wait,
+ * or when the maximum wait time has expired. Pages that change continuously (animations, timers) would otherwise
+ * be checked again in a tight loop, so the wait never returns sooner than a minimum interval after the previous one.
+ * The same counter tells callers whether the page has changed since they last looked at it.
+ */
+public class DomChanges {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomChanges.class);
+
+    /**
+     * Some changes (e.g. the end of a CSS transition) do not modify the DOM, so the page is always checked again after this delay.
+     */
+    public static final Duration MAXIMUM_WAIT_BETWEEN_CHECKS = Duration.ofMillis(500);
+
+    /**
+     * The shortest interval between two checks, however often the DOM changes.
+     */
+    public static final Duration MINIMUM_WAIT_BETWEEN_CHECKS = Duration.ofMillis(50);
+
+    private static final long UNKNOWN = -1;
+
+    /**
+     * Installs the MutationObserver that counts the changes made to the DOM, unless it is already installed in this page.
+     */
+    private static final String OBSERVE_DOM_CHANGES =
+            "var changes = window.__serenityDomChanges;" +
+            "if (!changes) {" +
+            "  changes = window.__serenityDomChanges = {page: Date.now() + '-' + Math.random(), count: 0, listeners: []};" +
+            "  new MutationObserver(function() {" +
+            "    changes.count++;" +
+            "    var listeners = changes.listeners;" +
+            "    changes.listeners = [];" +
+            "    listeners.forEach(function(listener) { listener(); });" +
+            "  }).observe(document, {attributes: true, childList: true, characterData: true, subtree: true});" +
+            "}";
+
+    private static final String WAIT_FOR_DOM_CHANGE =
+            "var lastSeenChange = arguments[0], minimumWait = arguments[1], maximumWait = arguments[2], done = arguments[arguments.length - 1];" +
+            OBSERVE_DOM_CHANGES +
+            "var earliestFinish = Date.now() + minimumWait;" +
+            "var finished = false;" +
+            "var finish = function() { if (!finished) { finished = true; clearTimeout(timer); done(changes.count); } };" +
+            "var finishNoSoonerThanTheMinimumWait = function() { setTimeout(finish, Math.max(0, earliestFinish - Date.now())); };" +
+            "var timer = setTimeout(finish, maximumWait);" +
+            "if (lastSeenChange >= 0 && changes.count !== lastSeenChange) { finishNoSoonerThanTheMinimumWait(); }" +
+            "else { changes.listeners.push(finishNoSoonerThanTheMinimumWait); }";
+
+    private static final String PAGE_STATE =
+            OBSERVE_DOM_CHANGES +
+            "if (arguments[0] && !arguments[0].isConnected) { return null; }" +
+            "return location.href + ' ' + changes.page + ' ' + changes.count;";
+
+    private static final String SCREEN_STATE =
+            OBSERVE_DOM_CHANGES +
+            "var values = '';" +
+            "var fields = document.querySelectorAll('input, textarea, select');" +
+            "for (var i = 0; i < fields.length; i++) { values += fields[i].value + (fields[i].checked ? '+' : '-') + '|'; }" +
+            "var valuesHash = 0;" +
+            "for (var j = 0; j < values.length; j++) { valuesHash = ((valuesHash << 5) - valuesHash + values.charCodeAt(j)) | 0; }" +
+            "var focused = document.activeElement;" +
+            "return [location.href, changes.page, changes.count, window.scrollX, window.scrollY, window.innerWidth, window.innerHeight," +
+            "        valuesHash, focused ? focused.tagName + '#' + focused.id : ''].join(' ');";
+
+    private final WebDriver driver;
+    private final Clock clock;
+    private boolean supported;
+    private long lastSeenChange = UNKNOWN;
+    private Instant lastCheck;
+
+    private DomChanges(WebDriver driver, Clock clock) {
+        this.driver = driver;
+        this.clock = clock;
+        this.supported = javascriptIsSupportedIn(driver);
+    }
+
+    public static DomChanges in(WebDriver driver) {
+        return new DomChanges(driver, Clock.systemUTC());
+    }
+
+    public static DomChanges in(WebDriver driver, Clock clock) {
+        return new DomChanges(driver, clock);
+    }
+
+    /**
+     * A value that identifies the current page and the number of changes made to its DOM. It is different after any
+     * navigation, reload or DOM modification.
+     *
+     * @param element an element that must still be attached to the page, or null
+     * @return empty if the page cannot be observed, or if the element is no longer attached to the page
+     */
+    public Optional<String> currentPageState(WebElement element) {
+        if (!supported) {
+            return Optional.empty();
+        }
+        try {
+            Object pageState = ((JavascriptExecutor) driver).executeScript(PAGE_STATE, element);
+            return (pageState instanceof String) ? Optional.of((String) pageState) : Optional.empty();
+        } catch (WebDriverException staleElementOrPageNotReady) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Like the page state, but also takes into account what the user can see without the DOM changing:
+     * the scroll position, the window size, the focused element, and the values of form fields.
+     */
+    public Optional<String> currentScreenState() {
+        if (!supported) {
+            return Optional.empty();
+        }
+        try {
+            Object screenState = ((JavascriptExecutor) driver).executeScript(SCREEN_STATE);
+            return (screenState instanceof String) ? Optional.of((String) screenState) : Optional.empty();
+        } catch (WebDriverException pageNotReady) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Wait until the DOM changes, or for at most the given time. If the DOM changes less than
+     * {@link #MINIMUM_WAIT_BETWEEN_CHECKS} after the previous wait returned, the wait returns at the end of that interval.
+     *
+     * @return false if the page could not be observed, in which case the caller should fall back to sleeping between checks.
+     */
+    public boolean waitForNextChange(Duration maximumWait) {
+        if (!supported) {
+            return false;
+        }
+        try {
+            Object changeCount = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_FOR_DOM_CHANGE,
+                                                                                  lastSeenChange,
+                                                                                  minimumWaitBefore(maximumWait).toMillis(),
+                                                                                  maximumWait.toMillis());
+            if (!(changeCount instanceof Number)) {
+                supported = false;
+                return false;
+            }
+            lastSeenChange = ((Number) changeCount).longValue();
+            lastCheck = clock.instant();
+            return true;
+        } catch (ScriptTimeoutException | UnsupportedCommandException cannotWaitAsynchronously) {
+            LOGGER.debug("Could not wait for DOM changes, falling back to polling: {}", cannotWaitAsynchronously.getMessage());
+            supported = false;
+            return false;
+        } catch (WebDriverException pageChangedWhileWaiting) {
+            // Typically the page was unloaded during the wait, so a new observer is needed for the next page
+            lastSeenChange = UNKNOWN;
+            return false;
+        }
+    }
+
+    private Duration minimumWaitBefore(Duration maximumWait) {
+        if (lastCheck == null) {
+            return Duration.ZERO;
+        }
+        Duration minimumWait = MINIMUM_WAIT_BETWEEN_CHECKS.minus(Duration.between(lastCheck, clock.instant()));
+        if (minimumWait.isNegative()) {
+            return Duration.ZERO;
+        }
+        return (minimumWait.compareTo(maximumWait) > 0) ? maximumWait : minimumWait;
+    }
+}
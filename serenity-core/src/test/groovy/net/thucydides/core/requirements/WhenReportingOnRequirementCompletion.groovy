@@ -60,4 +60,16 @@ class WhenReportingOnRequirementCompletion extends Specification {
         then:
             !outcome.isComplete()
     }
+
+    def "the result of a requirement is only worked out once"() {
+        given:
+            def testOutcomes = Mock(TestOutcomes)
+            def outcome = new RequirementOutcome(requirement, testOutcomes, issueTracking)
+        when:
+            def firstCheck = outcome.isFailure()
+            def secondCheck = outcome.isFailure()
+        then:
+            1 * testOutcomes.getResult() >> TestResult.FAILURE
+            firstCheck && secondCheck
+    }
 }
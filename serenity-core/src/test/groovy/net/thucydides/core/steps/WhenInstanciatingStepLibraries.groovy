@@ -168,4 +168,27 @@ class WhenInstanciatingStepLibraries extends Specification {
             immutableStepLibrary.favoriteColor == "red" && immutableStepLibrary.favoriteNumber == 42
 
     }
+
+    def "should share the instrumented step library classes between step factories"() {
+        given:
+            def stepLibraryInAnotherThread = null
+            def otherThread = Thread.start {
+                stepLibraryInAnotherThread = new StepFactory(pages).getNewStepLibraryFor(MyStepLibrary)
+            }
+            otherThread.join()
+        when:
+            def stepLibrary = stepFactory.getNewStepLibraryFor(MyStepLibrary)
+        then:
+            stepLibrary.class == stepLibraryInAnotherThread.class
+            !stepLibrary.is(stepLibraryInAnotherThread)
+    }
+
+    def "should be able to prepare the instrumented step library classes in advance"() {
+        given:
+            StepFactory.prepareStepLibraries([MyImmutableStepLibrary])
+        when:
+            def immutableStepLibrary = stepFactory.getUniqueStepLibraryFor(MyImmutableStepLibrary, "blue", 7)
+        then:
+            immutableStepLibrary.favoriteColor == "blue" && immutableStepLibrary.favoriteNumber == 7
+    }
 }
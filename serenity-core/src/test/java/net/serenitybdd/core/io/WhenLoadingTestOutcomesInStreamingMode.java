@@ -0,0 +1,111 @@
+package net.serenitybdd.core.io;
+
+import net.serenitybdd.core.rest.RestMethod;
+import net.serenitybdd.core.rest.RestQuery;
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.reports.index.IndexedTestOutcomes;
+import net.thucydides.core.reports.index.TestOutcomeIndex;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Optional;
+
+import static net.thucydides.core.util.TestResources.directoryInClasspathCalled;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenLoadingTestOutcomesInStreamingMode {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TestOutcomeLoader loader = new TestOutcomeLoader(new MockEnvironmentVariables()).forFormat(OutcomeFormat.JSON);
+
+    @Test
+    public void should_index_every_loaded_test_outcome() {
+
+        File directory = directoryInClasspathCalled("/json-test-outcomes");
+
+        IndexedTestOutcomes indexedTestOutcomes = loader.loadIndexedFrom(directory);
+
+        assertThat(indexedTestOutcomes.getOutcomes()).hasSize(loader.loadFrom(directory).size());
+        assertThat(indexedTestOutcomes.getIndex().size()).isEqualTo(indexedTestOutcomes.getOutcomes().size());
+    }
+
+    @Test
+    public void should_not_keep_screenshots_in_the_lightweight_outcomes() {
+
+        File directory = directoryInClasspathCalled("/json-test-outcomes");
+
+        IndexedTestOutcomes indexedTestOutcomes = loader.loadIndexedFrom(directory);
+
+        for (TestOutcome outcome : indexedTestOutcomes.getOutcomes()) {
+            for (TestStep step : outcome.getFlattenedTestSteps()) {
+                assertThat(step.getScreenshots()).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    public void should_reload_the_full_outcome_from_the_index() {
+
+        File directory = directoryInClasspathCalled("/json-test-outcomes");
+
+        IndexedTestOutcomes indexedTestOutcomes = loader.loadIndexedFrom(directory);
+
+        for (TestOutcome outcome : indexedTestOutcomes.getOutcomes()) {
+            TestOutcome fullOutcome = indexedTestOutcomes.getIndex().fullVersionOf(outcome);
+
+            assertThat(fullOutcome.getId()).isEqualTo(outcome.getId());
+            assertThat(fullOutcome.getResult()).isEqualTo(outcome.getResult());
+            assertThat(fullOutcome.getNestedStepCount()).isEqualTo(outcome.getNestedStepCount());
+        }
+    }
+
+    @Test
+    public void should_skip_the_rest_queries_of_the_lightweight_outcomes_and_reload_them_with_the_full_outcome() throws IOException {
+
+        File directory = temporaryFolder.newFolder("outcomes");
+        TestStep step = TestStep.forStepCalled("Search for tea").withResult(TestResult.SUCCESS);
+        step.recordRestQuery(new RestQuery(RestMethod.GET, "/products").withParameters(Collections.singletonMap("q", "tea")));
+        TestOutcome outcome = TestOutcome.forTestInStory("Searching for products", Story.called("Searching"));
+        outcome.recordStep(step);
+
+        JSONTestOutcomeReporter reporter = new JSONTestOutcomeReporter();
+        reporter.setOutputDirectory(directory);
+        reporter.generateReportFor(outcome);
+
+        IndexedTestOutcomes indexedTestOutcomes = loader.loadIndexedFrom(directory);
+        TestOutcome lightweightOutcome = indexedTestOutcomes.getOutcomes().get(0);
+        TestOutcome fullOutcome = indexedTestOutcomes.getIndex().fullVersionOf(lightweightOutcome);
+
+        assertThat(lightweightOutcome.getTestSteps().get(0).hasRestQuery()).isFalse();
+        assertThat(fullOutcome.getTestSteps().get(0).getRestQuery().getPath()).isEqualTo("/products");
+    }
+
+    @Test
+    public void should_write_and_read_the_index_file() throws IOException {
+
+        File directory = directoryInClasspathCalled("/json-test-outcomes");
+        File outputDirectory = temporaryFolder.newFolder("report");
+
+        IndexedTestOutcomes indexedTestOutcomes = loader.loadIndexedFrom(directory);
+        indexedTestOutcomes.getIndex().writeTo(outputDirectory);
+
+        Optional<TestOutcomeIndex> reloadedIndex = TestOutcomeIndex.readFrom(outputDirectory);
+
+        assertThat(reloadedIndex).isPresent();
+        assertThat(reloadedIndex.get().size()).isEqualTo(indexedTestOutcomes.getIndex().size());
+        assertThat(reloadedIndex.get().getFormat()).isEqualTo(OutcomeFormat.JSON);
+    }
+}
@@ -0,0 +1,103 @@
+package net.serenitybdd.core.io;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static net.thucydides.core.util.TestResources.directoryInClasspathCalled;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenSharingLoadedTestOutcomes {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TestOutcomeLoader loaderWithSharedOutcomes(MockEnvironmentVariables environmentVariables) {
+        environmentVariables.setProperty("serenity.outcome.snapshot", "true");
+        return new TestOutcomeLoader(environmentVariables).forFormat(OutcomeFormat.JSON);
+    }
+
+    @Test
+    public void should_reuse_the_outcomes_already_loaded_from_the_same_files() throws IOException {
+        File directory = copyOfTheTestOutcomes();
+        TestOutcomeLoader loader = loaderWithSharedOutcomes(new MockEnvironmentVariables());
+
+        List<TestOutcome> firstLoad = loader.loadSharedFrom(directory);
+        List<TestOutcome> secondLoad = loader.loadSharedFrom(directory);
+
+        assertThat(secondLoad).isNotEmpty();
+        assertThat(secondLoad).extracting(TestOutcome::getId)
+                              .containsExactlyElementsOf(firstLoad.stream().map(TestOutcome::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_give_each_caller_its_own_copy_of_the_shared_outcomes() throws IOException {
+        File directory = copyOfTheTestOutcomes();
+        TestOutcomeLoader loader = loaderWithSharedOutcomes(new MockEnvironmentVariables());
+        TestTag durationTag = TestTag.withName("Under 1 second").andType("Duration");
+
+        List<TestOutcome> firstLoad = loader.loadSharedFrom(directory);
+        firstLoad.get(0).addTag(durationTag);
+        List<TestOutcome> secondLoad = loader.loadSharedFrom(directory);
+        secondLoad.get(1).addTag(durationTag);
+        List<TestOutcome> thirdLoad = loader.loadSharedFrom(directory);
+
+        assertThat(secondLoad.get(0)).isNotSameAs(firstLoad.get(0));
+        assertThat(secondLoad.get(0).getTags()).doesNotContain(durationTag);
+        assertThat(thirdLoad.get(1).getTags()).doesNotContain(durationTag);
+    }
+
+    @Test
+    public void should_load_the_outcomes_again_when_an_outcome_file_changes() throws IOException {
+        File directory = copyOfTheTestOutcomes();
+        TestOutcomeLoader loader = loaderWithSharedOutcomes(new MockEnvironmentVariables());
+
+        List<TestOutcome> firstLoad = loader.loadSharedFrom(directory);
+        File[] outcomeFiles = directory.listFiles((dir, name) -> name.endsWith(".json"));
+        FileUtils.forceDelete(outcomeFiles[0]);
+
+        List<TestOutcome> secondLoad = loader.loadSharedFrom(directory);
+
+        assertThat(secondLoad).hasSize(firstLoad.size() - 1);
+    }
+
+    @Test
+    public void should_store_the_shared_outcomes_in_the_snapshot_cache() throws IOException {
+        File directory = copyOfTheTestOutcomes();
+        File cacheDirectory = temporaryFolder.newFolder("snapshots");
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.outcome.snapshot.cache", cacheDirectory.getAbsolutePath());
+
+        new TestOutcomeLoader(environmentVariables).forFormat(OutcomeFormat.JSON).loadSharedFrom(directory);
+
+        assertThat(cacheDirectory.listFiles((dir, name) -> name.endsWith(".snapshot"))).hasSize(1);
+    }
+
+    @Test
+    public void should_load_the_outcomes_every_time_if_sharing_is_not_activated() throws IOException {
+        File directory = copyOfTheTestOutcomes();
+        TestOutcomeLoader loader = new TestOutcomeLoader(new MockEnvironmentVariables()).forFormat(OutcomeFormat.JSON);
+
+        List<TestOutcome> firstLoad = loader.loadSharedFrom(directory);
+        List<TestOutcome> secondLoad = loader.loadSharedFrom(directory);
+
+        assertThat(secondLoad.get(0)).isNotSameAs(firstLoad.get(0));
+    }
+
+    private File copyOfTheTestOutcomes() throws IOException {
+        File directory = temporaryFolder.newFolder();
+        FileUtils.copyDirectory(directoryInClasspathCalled("/json-test-outcomes"), directory);
+        return directory;
+    }
+}
@@ -0,0 +1,100 @@
+package net.serenitybdd.core.pages;
+
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.serenitybdd.core.pages.ElementProperty.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class WhenReadingElementSnapshots {
+
+    @Before
+    public void resetTheEventBus() {
+        StepEventBus.getEventBus().reset();
+    }
+
+    private WebElementFacade anElementWithText(String text, boolean visible) {
+        WebElementFacade element = mock(WebElementFacade.class);
+        when(element.getElement()).thenReturn(mock(WebElement.class));
+        when(element.getText()).thenReturn(text);
+        when(element.isVisible()).thenReturn(visible);
+        return element;
+    }
+
+    @Test
+    public void should_read_each_element_when_the_driver_cannot_run_javascript() {
+        List<WebElementFacade> elements = Arrays.asList(anElementWithText("Apples", true),
+                                                        anElementWithText("Pears", false));
+
+        List<ElementSnapshot> snapshots = ElementSnapshots.of(elements, TEXT, VISIBLE);
+
+        assertThat(snapshots).extracting(ElementSnapshot::getText).containsExactly("Apples", "Pears");
+        assertThat(snapshots).extracting(ElementSnapshot::isVisible).containsExactly(true, false);
+    }
+
+    private WebElementFacade anElementOnAPageIn(WebDriverFacade driver) {
+        WebElement webElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) webElement).getWrappedDriver()).thenReturn(driver);
+        WebElementFacade element = mock(WebElementFacade.class);
+        when(element.getElement()).thenReturn(webElement);
+        return element;
+    }
+
+    private Map<String, Object> elementState(String text, boolean visible) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("TEXT", text);
+        state.put("VISIBLE", visible);
+        return state;
+    }
+
+    @Test
+    public void should_read_all_of_the_elements_in_a_single_script_call_when_the_driver_can_run_javascript() {
+        WebDriverFacade driver = mock(WebDriverFacade.class);
+        doReturn(ChromeDriver.class).when(driver).getDriverClass();
+        when(driver.executeScript(anyString(), any(), any())).thenReturn(Arrays.asList(elementState("Apples 12", true),
+                                                                                      elementState("", false)));
+        List<WebElementFacade> elements = Arrays.asList(anElementOnAPageIn(driver), anElementOnAPageIn(driver));
+
+        List<ElementSnapshot> snapshots = ElementSnapshots.of(elements, TEXT, VISIBLE);
+
+        verify(driver, times(1)).executeScript(anyString(), any(), any());
+        assertThat(snapshots).extracting(ElementSnapshot::getText).containsExactly("Apples 12", "");
+        assertThat(snapshots).extracting(ElementSnapshot::isVisible).containsExactly(true, false);
+        verify(elements.get(0), never()).getText();
+        verify(elements.get(1), never()).isVisible();
+    }
+
+    @Test
+    public void should_return_no_snapshots_for_an_empty_list() {
+        assertThat(ElementSnapshots.of(Arrays.asList(), TEXT)).isEmpty();
+    }
+
+    @Test
+    public void should_only_provide_the_properties_that_were_read() {
+        ElementSnapshot snapshot = ElementSnapshots.of(Arrays.asList(anElementWithText("Apples", true)), TEXT).get(0);
+
+        assertThatThrownBy(snapshot::getValue).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void should_read_the_texts_of_a_list_of_elements() {
+        ListOfWebElementFacades elements = new ListOfWebElementFacades(Arrays.asList(anElementWithText("Apples", true),
+                                                                                     anElementWithText("Pears", true)));
+
+        assertThat(elements.texts()).containsExactly("Apples", "Pears");
+    }
+}
@@ -0,0 +1,90 @@
+package net.serenitybdd.core.pages;
+
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class WhenWaitingForDomChanges {
+
+    private final WebDriver driver = mock(WebDriver.class);
+
+    private final FakeClock clock = new FakeClock();
+
+    private final Sleeper sleeper = clock::advanceBy;
+
+    private final DomChangeWait wait = new DomChangeWait(driver, clock, sleeper, Duration.ofSeconds(1), Duration.ofMillis(100));
+
+    @Test
+    public void should_return_as_soon_as_the_condition_is_met() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = wait.until(webDriver -> (attempts.incrementAndGet() == 3) ? "found" : null);
+
+        assertThat(result).isEqualTo("found");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void should_fall_back_to_polling_when_the_page_cannot_be_observed() {
+        wait.until(webDriver -> clock.millis() >= 300);
+
+        assertThat(clock.millis()).isEqualTo(300);
+    }
+
+    @Test
+    public void should_ignore_missing_elements_while_waiting() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Boolean found = wait.until(webDriver -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new NoSuchElementException("Not there yet");
+            }
+            return true;
+        });
+
+        assertThat(found).isTrue();
+    }
+
+    @Test
+    public void should_time_out_if_the_condition_is_never_met() {
+        assertThatThrownBy(() -> wait.until(webDriver -> false))
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageContaining("tried for 1000 millisecond(s)");
+    }
+
+    private static class FakeClock extends Clock {
+        private Instant now = Instant.ofEpochMilli(0);
+
+        void advanceBy(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
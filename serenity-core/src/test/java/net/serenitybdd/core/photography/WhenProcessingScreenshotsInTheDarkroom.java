@@ -0,0 +1,158 @@
+package net.serenitybdd.core.photography;
+
+import net.thucydides.core.screenshots.BlurLevel;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenProcessingScreenshotsInTheDarkroom {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final DarkroomMetrics metrics = new DarkroomMetrics();
+
+    @Test
+    public void should_save_every_screenshot_submitted_to_the_processing_line() throws IOException {
+        DarkroomProcessingLine processingLine
+                = new DarkroomProcessingLine(Collections.emptyList(), 4, 10, DarkroomOverflowPolicy.BLOCK, metrics);
+
+        Path outputDirectory = temporaryFolder.newFolder("screenshots").toPath();
+        for (int i = 0; i < 50; i++) {
+            processingLine.addToProcessingQueue(negativeFor(outputDirectory.resolve("screenshot-" + i + ".png")));
+        }
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(outputDirectory.toFile().list()).hasSize(50);
+        assertThat(metrics.getProcessedCount()).isEqualTo(50);
+        assertThat(metrics.getQueueDepth()).isZero();
+        assertThat(metrics.getMaximumQueueDepth()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    public void should_skip_screenshots_that_are_already_being_processed() throws IOException, InterruptedException {
+        CountDownLatch processingCanFinish = new CountDownLatch(1);
+        DarkroomProcessingLine processingLine
+                = new DarkroomProcessingLine(Collections.singletonList(waitingFor(processingCanFinish)), 1, 10, DarkroomOverflowPolicy.BLOCK, metrics);
+
+        Path screenshot = temporaryFolder.newFolder("screenshots").toPath().resolve("screenshot.png");
+        processingLine.addToProcessingQueue(negativeFor(screenshot));
+        processingLine.addToProcessingQueue(negativeFor(screenshot));
+        processingCanFinish.countDown();
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(Files.exists(screenshot)).isTrue();
+        assertThat(metrics.getDeduplicatedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_drop_screenshots_when_the_queue_is_full_if_requested() throws IOException, InterruptedException {
+        CountDownLatch processingCanFinish = new CountDownLatch(1);
+        DarkroomProcessingLine processingLine
+                = new DarkroomProcessingLine(Collections.singletonList(waitingFor(processingCanFinish)), 1, 1, DarkroomOverflowPolicy.DROP, metrics);
+
+        Path outputDirectory = temporaryFolder.newFolder("screenshots").toPath();
+        for (int i = 0; i < 5; i++) {
+            processingLine.addToProcessingQueue(negativeFor(outputDirectory.resolve("screenshot-" + i + ".png")));
+        }
+        processingCanFinish.countDown();
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(metrics.getDroppedCount()).isGreaterThanOrEqualTo(3);
+        assertThat(metrics.getProcessedCount() + metrics.getDroppedCount()).isEqualTo(5);
+        assertThat(outputDirectory.toFile().list()).hasSize((int) metrics.getProcessedCount());
+    }
+
+    @Test
+    public void should_process_screenshots_in_the_calling_thread_when_the_queue_is_full_if_requested() throws IOException {
+        DarkroomProcessingLine processingLine
+                = new DarkroomProcessingLine(Collections.emptyList(), 1, 1, DarkroomOverflowPolicy.CALLER_RUNS, metrics);
+
+        Path outputDirectory = temporaryFolder.newFolder("screenshots").toPath();
+        for (int i = 0; i < 20; i++) {
+            processingLine.addToProcessingQueue(negativeFor(outputDirectory.resolve("screenshot-" + i + ".png")));
+        }
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(outputDirectory.toFile().list()).hasSize(20);
+        assertThat(metrics.getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void should_keep_processed_screenshots_in_the_screenshot_store() throws IOException {
+        Path storeDirectory = temporaryFolder.newFolder("store").toPath();
+        DarkroomProcessingLine processingLine = new DarkroomProcessingLine(Collections.emptyList(), 1, 10, DarkroomOverflowPolicy.BLOCK,
+                                                                           metrics, Optional.of(new ScreenshotStore(storeDirectory)));
+
+        Path screenshot = temporaryFolder.newFolder("screenshots").toPath().resolve("screenshot.png");
+        processingLine.addToProcessingQueue(negativeFor(screenshot));
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(Files.exists(screenshot)).isTrue();
+        assertThat(Files.exists(storeDirectory.resolve("screenshot.png"))).isTrue();
+    }
+
+    @Test
+    public void should_reuse_screenshots_from_the_screenshot_store_without_processing_them_again() throws IOException {
+        Path storeDirectory = temporaryFolder.newFolder("store").toPath();
+        Files.write(storeDirectory.resolve("screenshot.png"), "stored screenshot".getBytes());
+        DarkroomProcessingLine processingLine = new DarkroomProcessingLine(Collections.singletonList(failingFilter()), 1, 10, DarkroomOverflowPolicy.BLOCK,
+                                                                           metrics, Optional.of(new ScreenshotStore(storeDirectory)));
+
+        Path screenshot = temporaryFolder.newFolder("screenshots").toPath().resolve("screenshot.png");
+        processingLine.addToProcessingQueue(negativeFor(screenshot));
+        processingLine.terminate(10, TimeUnit.SECONDS);
+
+        assertThat(new String(Files.readAllBytes(screenshot))).isEqualTo("stored screenshot");
+        assertThat(metrics.getDeduplicatedCount()).isEqualTo(1);
+    }
+
+    private PhotoFilter failingFilter() {
+        return new PhotoFilter() {
+            @Override
+            public Path amendedScreenshotPath(ScreenshotNegative negative) {
+                return negative.getScreenshotPath();
+            }
+
+            @Override
+            public ScreenshotNegative process(ScreenshotNegative negative) {
+                throw new AssertionError("Stored screenshots should not be processed again");
+            }
+        };
+    }
+
+    private ScreenshotNegative negativeFor(Path screenshotPath) throws IOException {
+        Path temporaryFile = temporaryFolder.newFile().toPath();
+        Files.write(temporaryFile, screenshotPath.toString().getBytes());
+        return new ScreenshotNegative(temporaryFile, screenshotPath, BlurLevel.NONE);
+    }
+
+    private PhotoFilter waitingFor(CountDownLatch latch) {
+        return new PhotoFilter() {
+            @Override
+            public Path amendedScreenshotPath(ScreenshotNegative negative) {
+                return negative.getScreenshotPath();
+            }
+
+            @Override
+            public ScreenshotNegative process(ScreenshotNegative negative) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return negative;
+            }
+        };
+    }
+}
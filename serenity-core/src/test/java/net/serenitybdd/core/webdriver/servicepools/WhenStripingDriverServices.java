@@ -0,0 +1,144 @@
+package net.serenitybdd.core.webdriver.servicepools;
+
+import org.junit.Test;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class WhenStripingDriverServices {
+
+    private final List<DriverService> createdServices = Collections.synchronizedList(new ArrayList<>());
+
+    private DriverService aDriverService() {
+        DriverService service = mock(DriverService.class);
+        AtomicBoolean running = new AtomicBoolean();
+        try {
+            doAnswer(invocation -> {
+                running.set(true);
+                return null;
+            }).when(service).start();
+            doAnswer(invocation -> {
+                running.set(false);
+                return null;
+            }).when(service).stop();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        when(service.isRunning()).thenAnswer(invocation -> running.get());
+        createdServices.add(service);
+        return service;
+    }
+
+    @Test
+    public void should_share_sessions_between_services_in_turn() throws IOException {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(3, this::aDriverService);
+
+        DriverService first = services.nextRunningService();
+        DriverService second = services.nextRunningService();
+        DriverService third = services.nextRunningService();
+        DriverService fourth = services.nextRunningService();
+
+        assertThat(createdServices).containsExactly(first, second, third);
+        assertThat(fourth).isSameAs(first);
+    }
+
+    @Test
+    public void should_only_create_services_when_they_are_needed() {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(4, this::aDriverService);
+
+        services.nextService();
+
+        assertThat(createdServices).hasSize(1);
+    }
+
+    @Test
+    public void should_start_every_service_in_the_pool() throws IOException {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(2, this::aDriverService);
+
+        services.startAll();
+
+        assertThat(createdServices).hasSize(2);
+        for (DriverService service : createdServices) {
+            verify(service).start();
+        }
+    }
+
+    @Test
+    public void should_replace_a_service_that_has_crashed() throws IOException {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(1, this::aDriverService);
+        DriverService crashedService = services.nextRunningService();
+        when(crashedService.isRunning()).thenReturn(false);
+
+        DriverService replacement = services.nextRunningService();
+
+        assertThat(replacement).isNotSameAs(crashedService);
+        verify(crashedService).stop();
+        verify(replacement).start();
+    }
+
+    @Test
+    public void should_stop_running_services_on_shutdown() throws IOException {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(2, this::aDriverService);
+        services.startAll();
+
+        services.stopAll();
+
+        for (DriverService service : createdServices) {
+            verify(service).stop();
+        }
+    }
+
+    @Test
+    public void should_restart_rather_than_replace_services_that_were_stopped_on_shutdown() throws IOException {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(1, this::aDriverService);
+        DriverService service = services.nextRunningService();
+        services.stopAll();
+
+        DriverService restartedService = services.nextRunningService();
+
+        assertThat(restartedService).isSameAs(service);
+        assertThat(createdServices).containsExactly(service);
+        verify(service, times(2)).start();
+        verify(service, times(1)).stop();
+    }
+
+    @Test
+    public void should_create_a_single_service_for_a_stripe_requested_by_several_threads_at_once() throws Exception {
+        StripedDriverServices<DriverService> services = new StripedDriverServices<>(1, this::aDriverService);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<DriverService>> requestedServices = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                requestedServices.add(executor.submit(() -> {
+                    ready.await();
+                    return services.nextService();
+                }));
+            }
+            ready.countDown();
+            for (Future<DriverService> requestedService : requestedServices) {
+                requestedService.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(createdServices).hasSize(1);
+    }
+
+    @Test
+    public void should_always_use_at_least_one_service() {
+        assertThat(new StripedDriverServices<>(0, this::aDriverService).size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,157 @@
+package net.thucydides.core.annotations.locators;
+
+import net.thucydides.core.steps.BaseStepListener;
+import net.thucydides.core.steps.StepEventBus;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import net.thucydides.core.webdriver.MobilePlatform;
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.FindBy;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class WhenCachingElementLookups {
+
+    @Mock
+    WebDriverFacade driver;
+
+    @Mock
+    WebElement firstElement;
+
+    @Mock
+    WebElement secondElement;
+
+    MockEnvironmentVariables environmentVariables;
+
+    SmartAjaxElementLocator locator;
+
+    String url = "http://localhost/todos";
+    int domChanges = 0;
+    Set<WebElement> detachedElements = new HashSet<>();
+    Set<WebElement> staleElements = new HashSet<>();
+    int scriptCalls = 0;
+
+    static class SomePageObject {
+
+        @FindBy(id = "someId")
+        public WebElement someField;
+
+    }
+
+    @Before
+    public void prepareTheLocator() throws NoSuchFieldException, IOException {
+        MockitoAnnotations.initMocks(this);
+
+        StepEventBus.getEventBus().reset();
+        StepEventBus.getEventBus().registerListener(new BaseStepListener(Files.createTempDirectory("out").toFile()));
+
+        doReturn(ChromeDriver.class).when(driver).getDriverClass();
+        when(driver.getCurrentImplicitTimeout()).thenReturn(Duration.ofSeconds(0));
+        when(driver.findElement(By.id("someId"))).thenReturn(firstElement, secondElement);
+        when(firstElement.isDisplayed()).thenReturn(true);
+        when(secondElement.isDisplayed()).thenReturn(true);
+        when(driver.executeScript(anyString(), any())).thenAnswer(invocation -> {
+            scriptCalls++;
+            WebElement element = invocation.getArgument(1);
+            if (staleElements.contains(element)) {
+                throw new StaleElementReferenceException("Element is no longer attached to the DOM");
+            }
+            return detachedElements.contains(element) ? null : url + " page-1 " + domChanges;
+        });
+
+        environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.cache.element.lookups", "true");
+
+        Field field = SomePageObject.class.getField("someField");
+        locator = new SmartAjaxElementLocator(Clock.systemDefaultZone(), driver, field, MobilePlatform.NONE, environmentVariables);
+    }
+
+    @Test
+    public void should_reuse_the_element_while_the_page_is_unchanged() {
+        WebElement element = locator.findElement();
+
+        assertThat(locator.findElement()).isSameAs(element).isSameAs(firstElement);
+        verify(driver, times(1)).findElement(By.id("someId"));
+    }
+
+    @Test
+    public void should_find_the_element_again_when_the_url_changes() {
+        locator.findElement();
+
+        url = "http://localhost/completed-todos";
+
+        assertThat(locator.findElement()).isSameAs(secondElement);
+    }
+
+    @Test
+    public void should_find_the_element_again_when_the_dom_changes() {
+        locator.findElement();
+
+        domChanges++;
+
+        assertThat(locator.findElement()).isSameAs(secondElement);
+    }
+
+    @Test
+    public void should_find_the_element_again_when_it_has_been_detached_from_the_page() {
+        locator.findElement();
+
+        detachedElements.add(firstElement);
+
+        assertThat(locator.findElement()).isSameAs(secondElement);
+    }
+
+    @Test
+    public void should_find_the_element_again_when_it_has_gone_stale() {
+        locator.findElement();
+
+        staleElements.add(firstElement);
+
+        assertThat(locator.findElement()).isSameAs(secondElement);
+    }
+
+    @Test
+    public void should_check_the_page_once_for_each_lookup() {
+        locator.findElement();
+        assertThat(scriptCalls).isEqualTo(1);
+
+        locator.findElement();
+        assertThat(scriptCalls).isEqualTo(2);
+
+        domChanges++;
+        locator.findElement();
+        assertThat(scriptCalls).isEqualTo(3);
+
+        assertThat(locator.findElement()).isSameAs(secondElement);
+        assertThat(scriptCalls).isEqualTo(4);
+    }
+
+    @Test
+    public void should_not_check_the_page_when_lookups_are_not_cached() {
+        environmentVariables.setProperty("serenity.cache.element.lookups", "false");
+
+        locator.findElement();
+        locator.findElement();
+
+        assertThat(scriptCalls).isZero();
+        verify(driver, times(2)).findElement(By.id("someId"));
+    }
+}
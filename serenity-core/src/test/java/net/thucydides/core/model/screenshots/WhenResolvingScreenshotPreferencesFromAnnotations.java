@@ -0,0 +1,58 @@
+package net.thucydides.core.model.screenshots;
+
+import net.thucydides.core.annotations.Screenshots;
+import net.thucydides.core.configuration.SystemPropertiesConfiguration;
+import net.thucydides.core.model.TakeScreenshots;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenResolvingScreenshotPreferencesFromAnnotations {
+
+    private final MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+
+    private ScreenshotPermission permissions;
+
+    @Before
+    public void setupPermissions() {
+        StepDefinitionAnnotations.clear();
+        environmentVariables.setProperty("serenity.take.screenshots", "FOR_EACH_ACTION");
+        permissions = new ScreenshotPermission(new SystemPropertiesConfiguration(environmentVariables));
+    }
+
+    @Test
+    public void should_use_the_configured_level_when_no_annotations_are_present() {
+        assertThat(permissions.areAllowed(TakeScreenshots.FOR_EACH_ACTION)).isTrue();
+    }
+
+    @Test
+    public void should_use_the_level_defined_on_a_calling_method() {
+        assertThat(checkedFromAMethodThatOnlyTakesScreenshotsOnFailures()).isFalse();
+        assertThat(permissions.areAllowed(TakeScreenshots.FOR_EACH_ACTION)).isTrue();
+    }
+
+    @Test
+    public void should_use_the_same_level_each_time_a_method_is_called() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(checkedFromAMethodThatOnlyTakesScreenshotsOnFailures()).isFalse();
+        }
+    }
+
+    @Test
+    public void should_know_when_screenshots_are_disabled_by_a_calling_method() {
+        assertThat(checkedFromAMethodWithScreenshotsDisabled()).isTrue();
+        assertThat(permissions.areDisabledForThisAction()).isFalse();
+    }
+
+    @Screenshots(onlyOnFailures = true)
+    public boolean checkedFromAMethodThatOnlyTakesScreenshotsOnFailures() {
+        return permissions.areAllowed(TakeScreenshots.FOR_EACH_ACTION);
+    }
+
+    @Screenshots(disabled = true)
+    public boolean checkedFromAMethodWithScreenshotsDisabled() {
+        return permissions.areDisabledForThisAction();
+    }
+}
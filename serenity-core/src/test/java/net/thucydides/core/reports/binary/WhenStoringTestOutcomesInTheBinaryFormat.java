@@ -0,0 +1,98 @@
+package net.thucydides.core.reports.binary;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+
+import static net.thucydides.core.util.TestResources.directoryInClasspathCalled;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenStoringTestOutcomesInTheBinaryFormat {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<TestOutcome> jsonOutcomes = new TestOutcomeLoader(new MockEnvironmentVariables())
+            .forFormat(OutcomeFormat.JSON)
+            .loadFrom(directoryInClasspathCalled("/json-test-outcomes"));
+
+    @Test
+    public void should_read_back_the_same_test_outcomes() throws IOException {
+
+        File outputDirectory = temporaryFolder.newFolder("binary");
+        BinaryTestOutcomeReporter reporter = new BinaryTestOutcomeReporter();
+        reporter.setOutputDirectory(outputDirectory);
+
+        for (TestOutcome outcome : jsonOutcomes) {
+            File report = reporter.generateReportFor(outcome);
+            Optional<TestOutcome> reloaded = reporter.loadReportFrom(report);
+
+            assertThat(reloaded).isPresent();
+            assertThat(reloaded.get().getId()).isEqualTo(outcome.getId());
+            assertThat(reloaded.get().getName()).isEqualTo(outcome.getName());
+            assertThat(reloaded.get().getResult()).isEqualTo(outcome.getResult());
+            assertThat(reloaded.get().getNestedStepCount()).isEqualTo(outcome.getNestedStepCount());
+            assertThat(reloaded.get().getStartTime()).isEqualTo(outcome.getStartTime());
+        }
+    }
+
+    @Test
+    public void should_keep_every_field_of_the_test_outcomes() throws IOException {
+
+        File outputDirectory = temporaryFolder.newFolder("binary");
+        BinaryTestOutcomeReporter reporter = new BinaryTestOutcomeReporter();
+        reporter.setOutputDirectory(outputDirectory);
+
+        for (TestOutcome outcome : jsonOutcomes) {
+            Optional<TestOutcome> reloaded = reporter.loadReportFrom(reporter.generateReportFor(outcome));
+
+            assertThat(reloaded).isPresent();
+            assertThat(jsonOf(reloaded.get())).isEqualTo(jsonOf(outcome));
+        }
+    }
+
+    @Test
+    public void should_load_binary_outcomes_through_the_test_outcome_loader() throws IOException {
+
+        File outputDirectory = temporaryFolder.newFolder("binary");
+        BinaryTestOutcomeReporter reporter = new BinaryTestOutcomeReporter();
+        reporter.setOutputDirectory(outputDirectory);
+        for (TestOutcome outcome : jsonOutcomes) {
+            reporter.generateReportFor(outcome);
+        }
+
+        List<TestOutcome> binaryOutcomes = new TestOutcomeLoader(new MockEnvironmentVariables())
+                .forFormat(OutcomeFormat.BINARY)
+                .loadFrom(outputDirectory);
+
+        assertThat(binaryOutcomes).hasSameSizeAs(jsonOutcomes);
+    }
+
+    @Test
+    public void should_ignore_files_that_are_not_binary_outcomes() throws IOException {
+
+        File notAnOutcome = temporaryFolder.newFile("not-an-outcome" + OutcomeFormat.BINARY.getExtension());
+        Files.write(notAnOutcome.toPath(), "{\"id\":\"not binary\"}".getBytes());
+
+        assertThat(new BinaryTestOutcomeReporter().loadReportFrom(notAnOutcome)).isEmpty();
+    }
+
+    private String jsonOf(TestOutcome outcome) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        new GsonJSONConverter(new MockEnvironmentVariables()).toJson(outcome, json);
+        return new String(json.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
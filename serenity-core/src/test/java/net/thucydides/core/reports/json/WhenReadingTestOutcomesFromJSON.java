@@ -0,0 +1,37 @@
+package net.thucydides.core.reports.json;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenReadingTestOutcomesFromJSON {
+
+    private final GsonJSONConverter converter = new GsonJSONConverter(new MockEnvironmentVariables());
+
+    @Test
+    public void should_leave_primitive_fields_at_their_defaults_when_they_are_null() {
+        String json = "{\"id\":\"searching-for-tea\",\"name\":\"Searching for tea\"," +
+                      "\"duration\":null,\"isManualTestingUpToDate\":null,\"manual\":null," +
+                      "\"testSteps\":[{\"number\":null,\"description\":\"Search for tea\",\"duration\":null," +
+                      "\"precondition\":null,\"level\":null}]," +
+                      "\"dataTable\":{\"headers\":[],\"rows\":[],\"predefinedRows\":null}}";
+
+        Optional<TestOutcome> outcome = converter.fromJson(new StringReader(json));
+
+        assertThat(outcome).isPresent();
+        assertThat(outcome.get().getDuration()).isZero();
+        assertThat(outcome.get().isManual()).isFalse();
+        TestStep step = outcome.get().getTestSteps().get(0);
+        assertThat(step.getDescription()).isEqualTo("Search for tea");
+        assertThat(step.getDuration()).isZero();
+        assertThat(step.isAPrecondition()).isFalse();
+        assertThat(outcome.get().getDataTable().getHeaders()).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.configuration.SystemPropertiesConfiguration;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenCompactingReportedTestOutcomes {
+
+    static class SampleTestCase {
+        public void a_test() {}
+        public void another_test() {}
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final CompactedTestOutcomes compactedTestOutcomes = new CompactedTestOutcomes();
+
+    @After
+    public void deleteStoredOutcomes() {
+        compactedTestOutcomes.clear();
+    }
+
+    private TestOutcome aTestOutcome() {
+        TestOutcome outcome = TestOutcome.forTest("a_test", SampleTestCase.class);
+        outcome.recordStep(TestStep.forStepCalled("a passing step").withResult(TestResult.SUCCESS));
+        outcome.recordStep(TestStep.forStepCalled("a failing step").withResult(TestResult.FAILURE));
+        outcome.addTag(TestTag.withName("smoke").andType("tag"));
+        outcome.setDuration(1234);
+        return outcome;
+    }
+
+    @Test
+    public void should_keep_only_a_summary_of_the_outcome_in_memory() {
+        TestOutcome outcome = aTestOutcome();
+
+        TestOutcome summary = compactedTestOutcomes.compact(outcome);
+
+        assertThat(summary.getTestSteps()).isEmpty();
+        assertThat(summary.getId()).isEqualTo(outcome.getId());
+        assertThat(summary.getResult()).isEqualTo(TestResult.FAILURE);
+        assertThat(summary.getDuration()).isEqualTo(1234);
+        assertThat(summary.getTags()).contains(TestTag.withName("smoke").andType("tag"));
+        assertThat(compactedTestOutcomes.isCompacted(summary)).isTrue();
+    }
+
+    @Test
+    public void should_reload_the_full_outcome_on_demand() {
+        TestOutcome summary = compactedTestOutcomes.compact(aTestOutcome());
+
+        TestOutcome fullVersion = compactedTestOutcomes.fullVersionOf(summary);
+
+        assertThat(fullVersion.getTestSteps()).hasSize(2);
+        assertThat(fullVersion.getResult()).isEqualTo(TestResult.FAILURE);
+    }
+
+    @Test
+    public void outcomes_that_were_not_compacted_are_returned_unchanged() {
+        TestOutcome outcome = aTestOutcome();
+
+        assertThat(compactedTestOutcomes.fullVersionOf(outcome)).isSameAs(outcome);
+    }
+
+    @Test
+    public void cleared_outcomes_are_no_longer_stored() {
+        TestOutcome summary = compactedTestOutcomes.compact(aTestOutcome());
+
+        compactedTestOutcomes.clear();
+
+        assertThat(compactedTestOutcomes.isCompacted(summary)).isFalse();
+        assertThat(compactedTestOutcomes.fullVersionOf(summary)).isSameAs(summary);
+    }
+
+    @Test
+    public void the_step_listener_should_only_reload_compacted_outcomes_again_when_a_new_outcome_is_recorded() throws IOException {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.compact.reported.outcomes", "true");
+        BaseStepListener stepListener = new BaseStepListener(null,
+                                                             temporaryFolder.newFolder("outcomes"),
+                                                             new SystemPropertiesConfiguration(environmentVariables));
+        stepListener.testSuiteStarted(SampleTestCase.class);
+        stepListener.testStarted("a_test");
+        stepListener.compactReportedTestOutcomes();
+
+        List<TestOutcome> reloadedOutcomes = stepListener.getTestOutcomes();
+        assertThat(stepListener.getTestOutcomes().get(0)).isSameAs(reloadedOutcomes.get(0));
+
+        stepListener.testStarted("another_test");
+        List<TestOutcome> outcomesWithTheNewTest = stepListener.getTestOutcomes();
+
+        assertThat(outcomesWithTheNewTest).hasSize(2);
+        assertThat(outcomesWithTheNewTest.get(0)).isNotSameAs(reloadedOutcomes.get(0));
+
+        stepListener.testRunFinished();
+    }
+}
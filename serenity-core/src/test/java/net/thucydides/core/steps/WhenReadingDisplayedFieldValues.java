@@ -0,0 +1,93 @@
+package net.thucydides.core.steps;
+
+import net.thucydides.core.annotations.Fields;
+import net.thucydides.core.annotations.Step;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenReadingDisplayedFieldValues {
+
+    static class BaseSteps {
+        protected String color = "red";
+    }
+
+    static class SampleSteps extends BaseSteps {
+        private int age = 42;
+        private String name;
+        private final String unused = "unused";
+        private static String planet = "Earth";
+        private String title = "#name flies to {0}";
+
+        @Step("A step about a #color thing aged #age")
+        public void a_step_with_fields() {}
+
+        @Step("A step called #name on #planet")
+        public void a_step_with_undefined_fields() {}
+
+        @Step("!#title")
+        public void a_step_with_a_meta_field() {}
+
+        @Step("A step without any fields")
+        public void a_step_without_fields() {}
+    }
+
+    private Map<String, Object> displayedFieldsFor(Object steps, String methodName) throws NoSuchMethodException {
+        return DisplayedFieldValues.forClass(steps.getClass())
+                                   .of(steps, SampleSteps.class, SampleSteps.class.getMethod(methodName));
+    }
+
+    @Test
+    public void should_read_the_fields_referred_to_in_the_step_description() throws Exception {
+        SampleSteps steps = new SampleSteps();
+
+        Map<String, Object> fields = displayedFieldsFor(steps, "a_step_with_fields");
+
+        assertThat(fields).containsEntry("color", "red")
+                          .containsEntry("age", 42)
+                          .doesNotContainKey("unused");
+    }
+
+    @Test
+    public void should_include_the_step_library_itself() throws Exception {
+        SampleSteps steps = new SampleSteps();
+
+        Map<String, Object> fields = displayedFieldsFor(steps, "a_step_without_fields");
+
+        assertThat(fields).containsOnlyKeys("self", "this")
+                          .containsEntry("self", steps);
+    }
+
+    @Test
+    public void should_read_static_fields_and_mark_null_fields_as_undefined() throws Exception {
+        SampleSteps steps = new SampleSteps();
+
+        Map<String, Object> fields = displayedFieldsFor(steps, "a_step_with_undefined_fields");
+
+        assertThat(fields).containsEntry("planet", "Earth")
+                          .containsEntry("name", Fields.FieldValue.UNDEFINED);
+    }
+
+    @Test
+    public void should_read_the_current_field_values_each_time() throws Exception {
+        SampleSteps steps = new SampleSteps();
+        displayedFieldsFor(steps, "a_step_with_fields");
+
+        steps.color = "blue";
+
+        assertThat(displayedFieldsFor(steps, "a_step_with_fields")).containsEntry("color", "blue");
+    }
+
+    @Test
+    public void should_read_the_fields_referred_to_in_a_meta_field() throws Exception {
+        SampleSteps steps = new SampleSteps();
+        steps.name = "Joe";
+
+        Map<String, Object> fields = displayedFieldsFor(steps, "a_step_with_a_meta_field");
+
+        assertThat(fields).containsEntry("title", "#name flies to {0}")
+                          .containsEntry("name", "Joe");
+    }
+}
@@ -0,0 +1,188 @@
+package net.thucydides.core.webdriver;
+
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class WhenPoolingBrowserSessions {
+
+    private static final String CHROME = "chrome";
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(2);
+
+    private WebDriverSessionPool pool;
+
+    private final Supplier<WebDriver> newSession = WhenPoolingBrowserSessions::aBrowserSession;
+
+    private static WebDriver aBrowserSession() {
+        WebDriver driver = mock(WebDriver.class);
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        when(driver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(mock(WebDriver.Timeouts.class));
+        return driver;
+    }
+
+    @Before
+    public void createPool() {
+        pool = new WebDriverSessionPool(1, Duration.ofMinutes(30), 3, Clock.systemUTC());
+    }
+
+    @Test
+    public void should_reuse_a_session_that_has_been_released() {
+        WebDriver firstSession = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(firstSession);
+
+        WebDriver secondSession = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+
+        assertThat(secondSession).isSameAs(firstSession);
+        assertThat(pool.getMetrics().getMissCount()).isEqualTo(1);
+        assertThat(pool.getMetrics().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_reset_a_session_before_returning_it_to_the_pool() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+
+        pool.release(session);
+
+        verify(session.manage()).deleteAllCookies();
+        verify(session).get("about:blank");
+        verify(session, never()).quit();
+    }
+
+    @Test
+    public void should_restore_the_implicit_wait_of_a_session_before_leasing_it_again() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+
+        pool.lease(CHROME, Duration.ofMillis(500), newSession);
+
+        verify(session.manage().timeouts()).implicitlyWait(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void should_give_different_driver_configurations_different_keys() {
+        MockEnvironmentVariables remoteChrome = new MockEnvironmentVariables();
+        remoteChrome.setProperty("webdriver.remote.url", "http://grid-a:4444/wd/hub");
+        remoteChrome.setProperty("chrome.switches", "--headless");
+        MockEnvironmentVariables otherRemoteChrome = new MockEnvironmentVariables();
+        otherRemoteChrome.setProperty("webdriver.remote.url", "http://grid-a:4444/wd/hub");
+        otherRemoteChrome.setProperty("chrome.switches", "--window-size=1280,1024");
+
+        assertThat(WebDriverSessionPool.configurationKeyFor(ChromeDriver.class, "", remoteChrome))
+                .isNotEqualTo(WebDriverSessionPool.configurationKeyFor(ChromeDriver.class, "", otherRemoteChrome))
+                .isEqualTo(WebDriverSessionPool.configurationKeyFor(ChromeDriver.class, "", remoteChrome.copy()));
+    }
+
+    @Test
+    public void should_not_share_sessions_between_driver_configurations() {
+        WebDriver chromeSession = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(chromeSession);
+
+        WebDriver firefoxSession = pool.lease("firefox", IMPLICIT_WAIT, newSession);
+
+        assertThat(firefoxSession).isNotSameAs(chromeSession);
+    }
+
+    @Test
+    public void should_close_sessions_that_have_been_used_too_often() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+        pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+        pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+
+        pool.release(session);
+
+        verify(session).quit();
+        assertThat(pool.lease(CHROME, IMPLICIT_WAIT, newSession)).isNotSameAs(session);
+        assertThat(pool.getMetrics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_close_sessions_that_are_too_old() {
+        MutableClock clock = new MutableClock();
+        pool = new WebDriverSessionPool(1, Duration.ofMinutes(30), 50, clock);
+
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+        clock.advanceBy(Duration.ofMinutes(31));
+
+        assertThat(pool.lease(CHROME, IMPLICIT_WAIT, newSession)).isNotSameAs(session);
+        verify(session).quit();
+    }
+
+    @Test
+    public void should_close_sessions_that_cannot_be_reset() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        doThrow(new WebDriverException("Browser has gone away")).when(session).get("about:blank");
+
+        pool.release(session);
+
+        verify(session).quit();
+        assertThat(pool.getMetrics().getFailedResetCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_lease_sessions_that_no_longer_respond() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+        when(session.getWindowHandle()).thenThrow(new WebDriverException("Browser has gone away"));
+
+        assertThat(pool.lease(CHROME, IMPLICIT_WAIT, newSession)).isNotSameAs(session);
+        verify(session).quit();
+    }
+
+    @Test
+    public void should_leave_drivers_that_were_not_leased_from_the_pool_to_the_caller() {
+        WebDriver unpooledDriver = newSession.get();
+
+        assertThat(pool.release(unpooledDriver)).isFalse();
+        verify(unpooledDriver, never()).quit();
+    }
+
+    @Test
+    public void should_close_idle_sessions_when_the_pool_is_shut_down() {
+        WebDriver session = pool.lease(CHROME, IMPLICIT_WAIT, newSession);
+        pool.release(session);
+
+        pool.closeIdleSessions();
+
+        verify(session).quit();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advanceBy(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package net.thucydides.core.webdriver.javascript;
+
+import net.thucydides.core.webdriver.WebDriverFacade;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+public class WhenObservingDomChanges {
+
+    @Mock
+    WebDriverFacade driver;
+
+    private final FakeClock clock = new FakeClock();
+
+    private final List<Long> minimumWaits = new ArrayList<>();
+
+    private long changeCount = 0;
+
+    private DomChanges domChanges;
+
+    @Before
+    public void observeThePage() {
+        MockitoAnnotations.initMocks(this);
+
+        doReturn(ChromeDriver.class).when(driver).getDriverClass();
+        when(driver.executeAsyncScript(anyString(), any())).thenAnswer(invocation -> {
+            minimumWaits.add(invocation.getArgument(2));
+            return ++changeCount;
+        });
+
+        domChanges = DomChanges.in(driver, clock);
+    }
+
+    @Test
+    public void should_not_delay_the_first_wait() {
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+
+        assertThat(minimumWaits).containsExactly(0L);
+    }
+
+    @Test
+    public void should_not_check_a_continuously_changing_page_more_often_than_the_minimum_interval() {
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+        clock.advanceBy(Duration.ofMillis(20));
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+
+        assertThat(minimumWaits).containsExactly(0L, 30L);
+    }
+
+    @Test
+    public void should_not_delay_a_wait_that_comes_after_the_minimum_interval() {
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+        clock.advanceBy(Duration.ofMillis(200));
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+
+        assertThat(minimumWaits).containsExactly(0L, 0L);
+    }
+
+    @Test
+    public void should_never_wait_longer_than_the_maximum_wait() {
+        domChanges.waitForNextChange(DomChanges.MAXIMUM_WAIT_BETWEEN_CHECKS);
+        domChanges.waitForNextChange(Duration.ofMillis(10));
+
+        assertThat(minimumWaits).containsExactly(0L, 10L);
+    }
+
+    private static class FakeClock extends Clock {
+        private Instant now = Instant.ofEpochMilli(0);
+
+        void advanceBy(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
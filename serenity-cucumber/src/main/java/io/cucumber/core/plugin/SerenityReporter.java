@@ -366,6 +366,7 @@ public class SerenityReporter implements Plugin, ConcurrentEventListener {
     private void handleTestRunFinished(TestRunFinished event) {
         generateReports();
         assureTestSuiteFinished();
+        getReportService().waitForPendingReports();
     }
 
     private ReportService getReportService() {
@@ -36,6 +36,7 @@ import org.junit.runners.model.Statement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.time.Clock;
 import java.util.*;
@@ -316,7 +317,8 @@ public class CucumberSerenityRunner extends ParentRunner<ParentRunner<?>> {
                 LOGGER.info("Running slice {} of {} using fork {} of {} from feature paths {}", batchNumber, batchCount, forkNumber, forkCount, featurePaths);
 
                 List<String> tagFiltersAsString = tagFilters.stream().map(Expression::toString).collect(toList());
-                WeightedCucumberScenarios weightedCucumberScenarios = new CucumberSuiteSlicer(featurePaths, TestStatistics.from(environmentVariables, featurePaths))
+                BigDecimal browserStartupOverhead = new BigDecimal(SERENITY_SLICE_BROWSER_STARTUP_OVERHEAD.integerFrom(environmentVariables, 0));
+                WeightedCucumberScenarios weightedCucumberScenarios = new CucumberSuiteSlicer(featurePaths, TestStatistics.from(environmentVariables, featurePaths), browserStartupOverhead)
                         .scenarios(batchNumber, batchCount, forkNumber, forkCount, tagFiltersAsString);
 
                 List<ParentRunner<?>> unfilteredChildren = children;
@@ -2,6 +2,7 @@ package net.serenitybdd.cucumber.suiteslicing;
 
 import net.serenitybdd.cucumber.util.TagParser;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.List;
 import java.util.function.Predicate;
@@ -12,16 +13,27 @@ public class CucumberSuiteSlicer {
 
     private final List<URI> featurePaths;
     private final TestStatistics statistics;
+    private final BigDecimal featureStartupOverhead;
 
     public CucumberSuiteSlicer(List<URI> featurePaths, TestStatistics statistics) {
+        this(featurePaths, statistics, BigDecimal.ZERO);
+    }
+
+    /**
+     * @param featureStartupOverhead the time in seconds needed to start running a new feature in a slice. It is only
+     *                               used when the statistics measure durations, as it cannot be added to other weights.
+     */
+    public CucumberSuiteSlicer(List<URI> featurePaths, TestStatistics statistics, BigDecimal featureStartupOverhead) {
         this.featurePaths = featurePaths;
         this.statistics = statistics;
+        this.featureStartupOverhead = statistics.measuresDurations() ? featureStartupOverhead : BigDecimal.ZERO;
     }
 
     public WeightedCucumberScenarios scenarios(int batchNumber, int batchCount, int forkNumber, int forkCount, List<String> tagFilters) {
         return new CucumberScenarioLoader(featurePaths, statistics).load()
             .filter(forSuppliedTags(tagFilters))
-            .slice(batchNumber).of(batchCount).slice(forkNumber).of(forkCount);
+            .slice(batchNumber).withFeatureStartupOverhead(featureStartupOverhead).of(batchCount)
+            .slice(forkNumber).withFeatureStartupOverhead(featureStartupOverhead).of(forkCount);
     }
 
     private Predicate<WeightedCucumberScenario> forSuppliedTags(List<String> tagFilters) {
@@ -0,0 +1,118 @@
+package net.serenitybdd.cucumber.suiteslicing;
+
+import net.serenitybdd.cucumber.util.BigDecimalAverageCollector;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.Inflector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Scenario weights based on the durations recorded in the Serenity JSON outcomes of previous runs.
+ * Each scenario is weighted by an exponentially weighted moving average of its durations, so that recent runs
+ * count for more than older ones. Scenarios that have never been run are given the average weight.
+ * Only the names and durations of the outcomes are needed, so the step evidence is skipped as the outcomes are read.
+ */
+public class DurationHistoryStatistics implements TestStatistics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DurationHistoryStatistics.class);
+
+    /**
+     * The weight of the most recent run in the moving average.
+     */
+    static final double SMOOTHING_FACTOR = 0.5;
+
+    private final Map<String, TestScenarioResult> results = new LinkedHashMap<>();
+    private final BigDecimal averageDuration;
+
+    DurationHistoryStatistics(List<List<TestOutcome>> runsFromOldestToNewest) {
+        Map<String, Double> movingAverages = new LinkedHashMap<>();
+        Map<String, TestOutcome> latestOutcomes = new HashMap<>();
+        for (List<TestOutcome> run : runsFromOldestToNewest) {
+            for (TestOutcome outcome : run) {
+                String scenarioKey = TestScenarioResult.scenarioKeyFor(featureOf(outcome), outcome.getName());
+                movingAverages.merge(scenarioKey, outcome.getDurationInSeconds(),
+                                     (previousAverage, duration) -> SMOOTHING_FACTOR * duration + (1 - SMOOTHING_FACTOR) * previousAverage);
+                latestOutcomes.put(scenarioKey, outcome);
+            }
+        }
+        movingAverages.forEach((scenarioKey, movingAverage) -> {
+            TestOutcome outcome = latestOutcomes.get(scenarioKey);
+            results.put(scenarioKey, new TestScenarioResult(featureOf(outcome),
+                                                            outcome.getName(),
+                                                            BigDecimal.valueOf(movingAverage).setScale(2, RoundingMode.HALF_UP)));
+        });
+        this.averageDuration = results.isEmpty() ? BigDecimal.ONE
+                : results.values().stream().map(TestScenarioResult::duration).collect(BigDecimalAverageCollector.create());
+    }
+
+    /**
+     * Load the outcomes of previous runs from a directory of JSON outcomes, or from a directory containing one
+     * sub-directory of JSON outcomes per run, ordered by modification time.
+     */
+    public static DurationHistoryStatistics fromDirectory(Path historyDirectory, EnvironmentVariables environmentVariables) {
+        TestOutcomeLoader loader = new TestOutcomeLoader(environmentVariables).forFormat(OutcomeFormat.JSON);
+        List<List<TestOutcome>> runs = runDirectoriesIn(historyDirectory.toFile()).stream()
+                .map(runDirectory -> loader.loadIndexedFrom(runDirectory).getOutcomes())
+                .collect(toList());
+        LOGGER.info("Loaded scenario durations from {} previous run(s) in {}", runs.size(), historyDirectory);
+        return new DurationHistoryStatistics(runs);
+    }
+
+    private static List<File> runDirectoriesIn(File historyDirectory) {
+        if (containsJsonOutcomes(historyDirectory)) {
+            return Collections.singletonList(historyDirectory);
+        }
+        File[] subdirectories = historyDirectory.listFiles(File::isDirectory);
+        if (subdirectories == null) {
+            throw new IllegalArgumentException(String.format("could not open scenario durations from %s", historyDirectory));
+        }
+        return Arrays.stream(subdirectories)
+                .filter(DurationHistoryStatistics::containsJsonOutcomes)
+                .sorted(Comparator.comparing(File::lastModified).thenComparing(File::getName))
+                .collect(toList());
+    }
+
+    private static boolean containsJsonOutcomes(File directory) {
+        File[] outcomeFiles = directory.listFiles((dir, name) -> name.endsWith(OutcomeFormat.JSON.getExtension()));
+        return outcomeFiles != null && outcomeFiles.length > 0;
+    }
+
+    private static String featureOf(TestOutcome outcome) {
+        return (outcome.getUserStory() != null) ? outcome.getUserStory().getName() : "";
+    }
+
+    @Override
+    public BigDecimal scenarioWeightFor(String feature, String scenario) {
+        TestScenarioResult result = results.get(TestScenarioResult.scenarioKeyFor(feature, scenario));
+        if (result == null) {
+            LOGGER.debug("No previous duration for {} -> {}, using the average weighting of {}", feature, scenario, averageDuration);
+            return averageDuration;
+        }
+        return result.duration();
+    }
+
+    @Override
+    public List<TestScenarioResult> records() {
+        return new ArrayList<>(results.values());
+    }
+
+    @Override
+    public boolean measuresDurations() {
+        return true;
+    }
+
+    public String toString() {
+        return Inflector.getInstance().kebabCase(this.getClass().getSimpleName());
+    }
+}
@@ -10,15 +10,17 @@ import java.math.BigDecimal;
 import java.net.URI;
 import java.nio.file.*;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
 public class MultiRunTestStatistics implements TestStatistics {
 
-    private final List<TestScenarioResults> results = newArrayList();
+    private final Map<String, TestScenarioResults> results = new LinkedHashMap<>();
+    private List<TestScenarioResult> averagedRecords;
+    private BigDecimal averageDuration;
 
     static Logger LOGGER = LoggerFactory.getLogger(MultiRunTestStatistics.class);
 
@@ -54,31 +56,41 @@ public class MultiRunTestStatistics implements TestStatistics {
 
     @Override
     public BigDecimal scenarioWeightFor(String feature, String scenario) {
-        return records().stream()
-            .filter(record -> record.feature.equals(feature) && record.scenario.equals(scenario))
-            .map(TestScenarioResult::duration)
-            .findFirst()
-            .orElseGet(() -> average(feature, scenario));
+        TestScenarioResults scenarioResults = results.get(TestScenarioResult.scenarioKeyFor(feature, scenario));
+        return (scenarioResults != null) ? scenarioResults.average().duration() : average(feature, scenario);
     }
 
     @Override
     public List<TestScenarioResult> records() {
-        return results.stream().map(TestScenarioResults::average).collect(toList());
+        if (averagedRecords == null) {
+            averagedRecords = results.values().stream().map(TestScenarioResults::average).collect(toList());
+        }
+        return averagedRecords;
+    }
+
+    @Override
+    public boolean measuresDurations() {
+        return true;
     }
 
     private void addStatistics(TestStatistics statistics) {
         statistics.records().forEach(record -> {
-            Optional<TestScenarioResults> existingResult = results.stream().filter(existing -> existing.scenarioKey.equals(record.scenarioKey)).findFirst();
-            if (existingResult.isPresent()) {
-                existingResult.get().addDuration(record.duration);
+            TestScenarioResults existingResult = results.get(record.scenarioKey);
+            if (existingResult != null) {
+                existingResult.addDuration(record.duration);
             } else {
-                results.add(TestScenarioResults.create(record));
+                results.put(record.scenarioKey, TestScenarioResults.create(record));
             }
         });
+        averagedRecords = null;
+        averageDuration = null;
     }
 
     private BigDecimal averageDuration() {
-        return records().stream().map(TestScenarioResult::duration).collect(BigDecimalAverageCollector.create());
+        if (averageDuration == null) {
+            averageDuration = records().stream().map(TestScenarioResult::duration).collect(BigDecimalAverageCollector.create());
+        }
+        return averageDuration;
     }
 
     private BigDecimal average(String feature, String scenario) {
@@ -11,7 +11,9 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -22,6 +24,7 @@ public class SingleRunTestStatistics implements TestStatistics {
     private static final Logger LOGGER = LoggerFactory.getLogger(SingleRunTestStatistics.class);
 
     private final List<TestScenarioResult> records;
+    private final Map<String, TestScenarioResult> recordsByScenario = new HashMap<>();
     private String fileName;
     private String[] headers;
 
@@ -30,7 +33,8 @@ public class SingleRunTestStatistics implements TestStatistics {
         Stopwatch timer = Stopwatch.started();
         this.fileName = fileName;
         this.headers = new String[]{STORY, TITLE, RESULT, DATE, STABILITY, DURATION};
-        this.records = records();
+        this.records = loadRecords();
+        records.forEach(record -> recordsByScenario.putIfAbsent(record.scenarioKey, record));
         LOGGER.debug("Loaded {} records from {} in {}", records.size(), fileName, timer.executionTimeFormatted());
     }
 
@@ -40,15 +44,24 @@ public class SingleRunTestStatistics implements TestStatistics {
 
     @Override
     public BigDecimal scenarioWeightFor(String feature, String scenario) {
-        return records.stream()
-            .filter(record -> record.feature.equals(feature) && record.scenario.equals(scenario))
-            .map(TestScenarioResult::duration)
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(String.format("no result found for feature %s and scenario %s", feature, scenario)));
+        TestScenarioResult record = recordsByScenario.get(TestScenarioResult.scenarioKeyFor(feature, scenario));
+        if (record == null) {
+            throw new IllegalArgumentException(String.format("no result found for feature %s and scenario %s", feature, scenario));
+        }
+        return record.duration();
     }
 
     @Override
     public List<TestScenarioResult> records() {
+        return records;
+    }
+
+    @Override
+    public boolean measuresDurations() {
+        return true;
+    }
+
+    private List<TestScenarioResult> loadRecords() {
         try (Reader bufferedReader = new BufferedReader(new InputStreamReader(checkNotNull(getClass().getResourceAsStream(fileName), fileName + " could not be found")))) {
             return CSVFormat.DEFAULT
                 .withHeader(headers)
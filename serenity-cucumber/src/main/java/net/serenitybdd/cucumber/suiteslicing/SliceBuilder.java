@@ -1,16 +1,24 @@
 package net.serenitybdd.cucumber.suiteslicing;
 
+import java.math.BigDecimal;
+
 public class SliceBuilder {
 
     private int sliceNumber;
     private WeightedCucumberScenarios weightedCucumberScenarios;
+    private BigDecimal featureStartupOverhead = BigDecimal.ZERO;
 
     public SliceBuilder(int sliceNumber, WeightedCucumberScenarios weightedCucumberScenarios) {
         this.sliceNumber = sliceNumber;
         this.weightedCucumberScenarios = weightedCucumberScenarios;
     }
 
+    public SliceBuilder withFeatureStartupOverhead(BigDecimal featureStartupOverhead) {
+        this.featureStartupOverhead = featureStartupOverhead;
+        return this;
+    }
+
     public WeightedCucumberScenarios of(int sliceCount) {
-        return weightedCucumberScenarios.sliceInto(sliceCount).get(sliceNumber - 1);
+        return weightedCucumberScenarios.sliceInto(sliceCount, featureStartupOverhead).get(sliceNumber - 1);
     }
 }
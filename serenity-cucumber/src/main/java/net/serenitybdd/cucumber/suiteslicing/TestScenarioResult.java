@@ -29,10 +29,14 @@ public class TestScenarioResult {
     public TestScenarioResult(String feature, String scenario, BigDecimal duration) {
         this.feature = feature;
         this.scenario = scenario;
-        this.scenarioKey = feature + ":" + scenario;
+        this.scenarioKey = scenarioKeyFor(feature, scenario);
         this.duration = duration;
     }
 
+    public static String scenarioKeyFor(String feature, String scenario) {
+        return feature + ":" + scenario;
+    }
+
     @Override
     public String toString() {
         return reflectionToString(this);
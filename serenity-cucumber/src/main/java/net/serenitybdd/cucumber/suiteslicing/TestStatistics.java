@@ -4,8 +4,10 @@ import net.thucydides.core.util.EnvironmentVariables;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.file.Paths;
 import java.util.List;
 
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_TEST_DURATION_HISTORY;
 import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_TEST_STATISTICS_DIR;
 
 public interface TestStatistics {
@@ -14,12 +16,23 @@ public interface TestStatistics {
 
     List<TestScenarioResult> records();
 
+    /**
+     * True if the scenario weights are durations in seconds, so that time-based costs such as the browser startup
+     * overhead can be added to them. Weights based on other measures (e.g. step counts) are not durations.
+     */
+    default boolean measuresDurations() {
+        return false;
+    }
+
     static TestStatistics from(EnvironmentVariables environmentVariables, List<URI> featurePaths) {
         String directory = environmentVariables.getProperty(SERENITY_TEST_STATISTICS_DIR);
-        if (directory == null) {
-            return ScenarioLineCountStatistics.fromFeaturePaths(featurePaths);
-        } else {
+        String durationHistory = environmentVariables.getProperty(SERENITY_TEST_DURATION_HISTORY);
+        if (directory != null) {
             return MultiRunTestStatistics.fromRelativePath(directory);
+        } else if (durationHistory != null) {
+            return DurationHistoryStatistics.fromDirectory(Paths.get(durationHistory), environmentVariables);
+        } else {
+            return ScenarioLineCountStatistics.fromFeaturePaths(featurePaths);
         }
     }
 
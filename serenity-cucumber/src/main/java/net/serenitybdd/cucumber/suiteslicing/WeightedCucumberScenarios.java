@@ -8,8 +8,11 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
@@ -39,15 +42,41 @@ public class WeightedCucumberScenarios {
     }
 
     public List<WeightedCucumberScenarios> sliceInto(int sliceCount) {
+        return sliceInto(sliceCount, ZERO);
+    }
+
+    /**
+     * Split the scenarios into slices of similar total weighting, placing the slowest scenarios first.
+     * The feature startup overhead (e.g. the time needed to start a new browser) is added to a slice the first time
+     * it receives a scenario from a given feature.
+     */
+    public List<WeightedCucumberScenarios> sliceInto(int sliceCount, BigDecimal featureStartupOverhead) {
         BigDecimal totalWeight = scenarios.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add);
         BigDecimal averageWeightPerSlice = totalWeight.divide(new BigDecimal(sliceCount), 2, RoundingMode.HALF_UP);
         LOGGER.debug("Total weighting for {} scenarios is {}, split across {} slices provides average weighting per slice of {}", scenarios.size(), totalWeight, sliceCount, averageWeightPerSlice);
 
         List<List<WeightedCucumberScenario>> allScenarios = IntStream.rangeClosed(1, sliceCount).mapToObj(initialiseAs -> new ArrayList<WeightedCucumberScenario>()).collect(toList());
+        List<Set<String>> featuresInSlice = IntStream.rangeClosed(1, sliceCount).mapToObj(initialiseAs -> new HashSet<String>()).collect(toList());
+        BigDecimal[] sliceWeights = new BigDecimal[sliceCount];
+        Arrays.fill(sliceWeights, ZERO);
 
         scenarios.stream()
             .sorted(bySlowestFirst().thenComparing(byFeaturePathAscending()))
-            .forEach(scenario -> allScenarios.stream().min(byLowestSumOfDurationFirst()).get().add(scenario));
+            .forEach(scenario -> {
+                int lightestSlice = 0;
+                BigDecimal lightestWeight = null;
+                for (int slice = 0; slice < sliceCount; slice++) {
+                    BigDecimal weightWithScenario = sliceWeights[slice].add(scenario.weighting())
+                        .add(featuresInSlice.get(slice).contains(scenario.feature) ? ZERO : featureStartupOverhead);
+                    if (lightestWeight == null || weightWithScenario.compareTo(lightestWeight) < 0) {
+                        lightestSlice = slice;
+                        lightestWeight = weightWithScenario;
+                    }
+                }
+                allScenarios.get(lightestSlice).add(scenario);
+                featuresInSlice.get(lightestSlice).add(scenario.feature);
+                sliceWeights[lightestSlice] = lightestWeight;
+            });
 
         return allScenarios.stream().map(WeightedCucumberScenarios::new).collect(toList());
     }
@@ -99,11 +128,6 @@ public class WeightedCucumberScenarios {
         return (item1, item2) -> compare(item1.featurePath, item2.featurePath);
     }
 
-    private static Comparator<List<WeightedCucumberScenario>> byLowestSumOfDurationFirst() {
-        return (item1, item2) -> compare(item1.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add),
-                                         item2.stream().map(WeightedCucumberScenario::weighting).reduce(ZERO, BigDecimal::add));
-    }
-
     public int totalScenarioCount() {
         return scenarios.stream().map(scenario -> scenario.scenarioCount).reduce(0, Integer::sum);
     }
@@ -4,10 +4,13 @@ package net.serenitybdd.cucumber.suiteslicing;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.*;
 
 public class CucumberSuiteSlicerTest {
@@ -51,4 +54,15 @@ public class CucumberSuiteSlicerTest {
     public void shouldSupportOldExclusionSyntaxInTheTagExpression() {
         assertThat(cucumberSuiteSlicer.scenarios(1, 1, 1, 1, asList("~@shouldPass")).scenarios, contains(expectedScenario2));
     }
+
+    @Test
+    public void shouldNotAddTheBrowserStartupOverheadToWeightsThatAreNotDurations() throws Exception {
+        List<URI> featurePaths = asList(new URI("classpath:samples"));
+        WeightedCucumberScenarios withoutOverhead = new CucumberSuiteSlicer(featurePaths, testStatistics)
+            .scenarios(1, 2, 1, 1, asList());
+        WeightedCucumberScenarios withOverhead = new CucumberSuiteSlicer(featurePaths, testStatistics, new BigDecimal(1000))
+            .scenarios(1, 2, 1, 1, asList());
+
+        assertThat(withOverhead, is(withoutOverhead));
+    }
 }
@@ -0,0 +1,75 @@
+package net.serenitybdd.cucumber.suiteslicing;
+
+import net.thucydides.core.model.Story;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class DurationHistoryStatisticsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    TestStatistics statistics;
+
+    @Before
+    public void setup() {
+        statistics = new DurationHistoryStatistics(Arrays.asList(
+            Collections.singletonList(outcome("Searching", "Search by keyword", 10000)),
+            Arrays.asList(outcome("Searching", "Search by keyword", 20000),
+                          outcome("Searching", "Search by category", 4000))));
+    }
+
+    @Test
+    public void recordCountShouldBeCorrect() {
+        assertThat(statistics.records(), hasSize(2));
+    }
+
+    @Test
+    public void scenarioWeightForShouldBeAMovingAverageOfThePreviousDurations() {
+        assertThat(statistics.scenarioWeightFor("Searching", "Search by keyword"), is(new BigDecimal("15.00")));
+    }
+
+    @Test
+    public void scenarioWeightForShouldReturnTheOnlyDurationForAScenarioRunOnce() {
+        assertThat(statistics.scenarioWeightFor("Searching", "Search by category"), is(new BigDecimal("4.00")));
+    }
+
+    @Test
+    public void scenarioWeightForShouldReturnAverageDurationForUnknownScenario() {
+        assertThat(statistics.scenarioWeightFor("Yo", "I don't exist matey"), is(new BigDecimal("9.50")));
+    }
+
+    @Test
+    public void scenarioWeightForShouldBeReadFromTheJsonOutcomesOfAPreviousRun() throws IOException {
+        File previousRun = temporaryFolder.newFolder("previous-run");
+        JSONTestOutcomeReporter reporter = new JSONTestOutcomeReporter();
+        reporter.setOutputDirectory(previousRun);
+        reporter.generateReportFor(outcome("Searching", "Search by keyword", 12000));
+
+        TestStatistics statisticsFromTheOutcomes = DurationHistoryStatistics.fromDirectory(previousRun.toPath(), new MockEnvironmentVariables());
+
+        assertThat(statisticsFromTheOutcomes.scenarioWeightFor("Searching", "Search by keyword"), is(new BigDecimal("12.00")));
+        assertThat(statisticsFromTheOutcomes.measuresDurations(), is(true));
+    }
+
+    private TestOutcome outcome(String feature, String scenario, long durationInMilliseconds) {
+        TestOutcome outcome = TestOutcome.forTestInStory(scenario, Story.called(feature));
+        outcome.setDuration(durationInMilliseconds);
+        return outcome;
+    }
+}
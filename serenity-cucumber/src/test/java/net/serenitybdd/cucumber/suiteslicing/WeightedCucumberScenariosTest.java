@@ -3,6 +3,7 @@ package net.serenitybdd.cucumber.suiteslicing;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,4 +35,19 @@ public class WeightedCucumberScenariosTest {
         assertThat(oneScenario, is(fork1));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void theFeatureStartupOverheadShouldKeepScenariosFromTheSameFeatureInTheSameSlice() {
+        WeightedCucumberScenario firstFeature = new WeightedCucumberScenario("a.feature", "a", "scenario a1", new BigDecimal(4), emptySet(), 1);
+        WeightedCucumberScenario secondFeature = new WeightedCucumberScenario("b.feature", "b", "scenario b1", new BigDecimal(4), emptySet(), 1);
+        WeightedCucumberScenario shortScenarioInSecondFeature = new WeightedCucumberScenario("b.feature", "b", "scenario b2", BigDecimal.ONE, emptySet(), 1);
+        WeightedCucumberScenarios scenarios = new WeightedCucumberScenarios(Arrays.asList(firstFeature, secondFeature, shortScenarioInSecondFeature));
+
+        List<WeightedCucumberScenarios> withoutOverhead = scenarios.sliceInto(2);
+        List<WeightedCucumberScenarios> withOverhead = scenarios.sliceInto(2, new BigDecimal(2));
+
+        assertThat(withoutOverhead.get(0).scenarios, is(Arrays.asList(firstFeature, shortScenarioInSecondFeature)));
+        assertThat(withOverhead.get(0).scenarios, is(Collections.singletonList(firstFeature)));
+        assertThat(withOverhead.get(1).scenarios, is(Arrays.asList(secondFeature, shortScenarioInSecondFeature)));
+    }
+
+}
@@ -223,6 +223,11 @@ public class SerenityParameterizedRunner extends Suite implements Taggable {
 
     public void generateReports() {
         generateReportsFor(parameterizedTestsOutcomeAggregator.aggregateTestOutcomesByTestMethods());
+        for (Runner runner : runners) {
+            if (runner instanceof SerenityRunner) {
+                ((SerenityRunner) runner).compactReportedTestOutcomes();
+            }
+        }
     }
 
     private void generateReportsFor(List<TestOutcome> testOutcomes) {
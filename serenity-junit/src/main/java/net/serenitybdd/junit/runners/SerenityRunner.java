@@ -302,6 +302,11 @@ public class SerenityRunner extends BlockJUnit4ClassRunner implements Taggable {
 
     protected void generateReports() {
         generateReportsFor(getTestOutcomes());
+        compactReportedTestOutcomes();
+    }
+
+    void compactReportedTestOutcomes() {
+        getStepListener().getBaseStepListener().compactReportedTestOutcomes();
     }
 
     private boolean skipThisTest() {
@@ -9,6 +9,7 @@ import net.thucydides.core.model.DataTable;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestResult;
 import net.thucydides.core.pages.Pages;
+import net.thucydides.core.reports.AsyncReportWriter;
 import net.thucydides.core.reports.ReportService;
 import net.thucydides.core.steps.*;
 import net.thucydides.core.util.SystemEnvironmentVariables;
@@ -120,6 +121,7 @@ public class SerenityTestExecutionListener implements TestExecutionListener {
     public void testPlanExecutionFinished(TestPlan testPlan) {
         if (!isSerenityTest) return;
         logger.debug("->TestPlanExecutionFinished " + testPlan);
+        AsyncReportWriter.flushSharedWriter();
     }
 
     private void generateReportsForTest() {
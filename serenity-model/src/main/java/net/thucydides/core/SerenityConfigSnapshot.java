@@ -0,0 +1,108 @@
+package net.thucydides.core;
+
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The values of the Serenity system properties, as defined in a given set of environment variables.
+ * Each property is resolved (taking environment-specific configuration and legacy property names into account) and
+ * parsed the first time it is read; subsequent reads simply return the stored value.
+ * A snapshot is never updated: environment variables that can be modified discard their snapshot whenever a property
+ * is set or cleared, and a fresh one is built the next time it is needed.
+ */
+public final class SerenityConfigSnapshot {
+
+    private static final ThucydidesSystemProperty[] PROPERTIES = ThucydidesSystemProperty.values();
+
+    private final EnvironmentVariables environmentVariables;
+
+    private final AtomicReferenceArray<ResolvedProperty> resolvedProperties = new AtomicReferenceArray<>(PROPERTIES.length);
+
+    private SerenityConfigSnapshot(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
+    }
+
+    /**
+     * The current snapshot of these environment variables, if they keep one, or a new snapshot otherwise.
+     */
+    public static SerenityConfigSnapshot of(EnvironmentVariables environmentVariables) {
+        SerenityConfigSnapshot snapshot = environmentVariables.getConfigSnapshot();
+        return (snapshot != null) ? snapshot : from(environmentVariables);
+    }
+
+    /**
+     * A new snapshot of these environment variables.
+     */
+    public static SerenityConfigSnapshot from(EnvironmentVariables environmentVariables) {
+        return new SerenityConfigSnapshot(environmentVariables);
+    }
+
+    public Optional<String> optionalValueOf(ThucydidesSystemProperty property) {
+        return Optional.ofNullable(resolved(property).value);
+    }
+
+    public String valueOf(ThucydidesSystemProperty property) {
+        return valueOf(property, null);
+    }
+
+    public String valueOf(ThucydidesSystemProperty property, String defaultValue) {
+        ResolvedProperty resolvedProperty = resolved(property);
+        return (resolvedProperty.value != null) ? resolvedProperty.value : defaultValue;
+    }
+
+    public boolean isDefined(ThucydidesSystemProperty property) {
+        return resolved(property).value != null;
+    }
+
+    public Boolean booleanValueOf(ThucydidesSystemProperty property, Boolean defaultValue) {
+        ResolvedProperty resolvedProperty = resolved(property);
+        return (resolvedProperty.value != null) ? resolvedProperty.booleanValue : defaultValue;
+    }
+
+    /**
+     * @throws NumberFormatException if the property is defined but is not an integer
+     */
+    public int integerValueOf(ThucydidesSystemProperty property, int defaultValue) {
+        ResolvedProperty resolvedProperty = resolved(property);
+        if (resolvedProperty.value == null) {
+            return defaultValue;
+        }
+        if (resolvedProperty.integerValue == null) {
+            return Integer.parseInt(resolvedProperty.value.trim());
+        }
+        return resolvedProperty.integerValue;
+    }
+
+    private ResolvedProperty resolved(ThucydidesSystemProperty property) {
+        ResolvedProperty resolvedProperty = resolvedProperties.get(property.ordinal());
+        if (resolvedProperty == null) {
+            resolvedProperties.compareAndSet(property.ordinal(),
+                                             null,
+                                             new ResolvedProperty(property.resolvedValueIn(environmentVariables)));
+            resolvedProperty = resolvedProperties.get(property.ordinal());
+        }
+        return resolvedProperty;
+    }
+
+    private static class ResolvedProperty {
+        private final String value;
+        private final Boolean booleanValue;
+        private final Integer integerValue;
+
+        ResolvedProperty(String value) {
+            this.value = value;
+            this.booleanValue = (value != null) ? Boolean.valueOf(value.trim()) : null;
+            this.integerValue = (value != null) ? integerValueOf(value.trim()) : null;
+        }
+
+        private static Integer integerValueOf(String value) {
+            try {
+                return Integer.valueOf(value);
+            } catch (NumberFormatException notAnInteger) {
+                return null;
+            }
+        }
+    }
+}
@@ -359,6 +359,23 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_RESTART_BROWSER_FOR_EACH,
 
+    /**
+     * Keep up to this many browser sessions for each driver configuration, and reuse them between tests instead of
+     * opening a new browser each time. Sessions are reset (cookies and web storage cleared, about:blank loaded)
+     * before being reused. 0 (the default) disables session pooling.
+     */
+    SERENITY_DRIVER_POOL_SIZE,
+
+    /**
+     * How long, in seconds, a pooled browser session can be reused before it is closed (defaults to 1800).
+     */
+    SERENITY_DRIVER_POOL_MAX_AGE,
+
+    /**
+     * How many tests can use a pooled browser session before it is closed (defaults to 50).
+     */
+    SERENITY_DRIVER_POOL_MAX_USES,
+
     @Deprecated
     THUCYDIDES_DIFFERENT_BROWSER_FOR_EACH_ACTOR,
 
@@ -705,6 +722,12 @@ public enum ThucydidesSystemProperty {
      */
     WEBDRIVER_USE_DRIVER_SERVICE_POOL,
 
+    /**
+     * How many driver service processes (e.g. chromedriver) the driver service pool should start for each driver type.
+     * New sessions are shared out between them in turn. Defaults to a quarter of the available processors (at least 1).
+     */
+    WEBDRIVER_DRIVER_SERVICE_POOL_SIZE,
+
     /**
      * Full path to the Firefox profile to be used with Firefox.
      * You can include Java system properties ${user.dir}, ${user.home} and the Windows environment variables %APPDIR%
@@ -904,6 +927,21 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_TEST_STATISTICS_DIR,
 
+    /**
+     * If specified, cucumber scenarios are sliced using the durations recorded in previous Serenity JSON outcomes.
+     * This should point to a directory of JSON outcomes, or to a directory containing one sub-directory of JSON outcomes
+     * per previous run. Recent runs count for more than older ones.
+     */
+    SERENITY_TEST_DURATION_HISTORY,
+
+    /**
+     * The time in seconds needed to start a new browser when slicing cucumber scenarios. It is counted once for each
+     * feature in a slice, so that slices running many small features are not overloaded. It is only used when the
+     * scenarios are weighted by their durations (see serenity.test.statistics.dir and serenity.test.duration.history),
+     * and not when they are weighted by their number of steps. 0 by default.
+     */
+    SERENITY_SLICE_BROWSER_STARTUP_OVERHEAD,
+
     @Deprecated
     THUCYDIDES_USE_REQUIREMENTS_DIRECTORIES,
 
@@ -1179,6 +1217,47 @@ public enum ThucydidesSystemProperty {
      */
     SERENITY_COMPRESS_SCREENSHOTS,
 
+    /**
+     * How many threads the darkroom uses to process and save the screenshots taken during a test run.
+     * Defaults to 2.
+     */
+    SERENITY_DARKROOM_THREADS,
+
+    /**
+     * The maximum number of screenshots that can wait in the darkroom to be processed. Defaults to 100.
+     */
+    SERENITY_DARKROOM_QUEUE_SIZE,
+
+    /**
+     * What the darkroom does with a new screenshot when the processing queue is full:
+     * <ul>
+     *     <li>block (the default): wait until there is room in the queue</li>
+     *     <li>caller_runs: process the screenshot in the test thread</li>
+     *     <li>drop: discard the screenshot</li>
+     * </ul>
+     */
+    SERENITY_DARKROOM_OVERFLOW_POLICY,
+
+    /**
+     * A directory where processed screenshots are kept between test runs. Screenshots that are already in this
+     * directory are not processed again, and are hard-linked (or copied, if links are not supported) into the
+     * output directory. Not used by default.
+     */
+    SERENITY_SCREENSHOT_STORE,
+
+    /**
+     * Don't take a new screenshot if nothing visible has changed since the previous one (same page, DOM, scroll position,
+     * window size, focus and form values); reuse the previous screenshot instead. Deactivated by default, as changes
+     * that do not affect the DOM, such as animations, are not detected.
+     */
+    SERENITY_SKIP_UNCHANGED_SCREENSHOTS,
+
+    /**
+     * How long (in seconds) to wait for the darkroom to finish processing screenshots at the end of a test suite.
+     * Defaults to 60 seconds.
+     */
+    SERENITY_DARKROOM_SHUTDOWN_TIMEOUT,
+
     /**
      * Specify the screenshot tool to be used to take screenshots.
      * By default it will be WebDriver. Other values include:
@@ -1286,6 +1365,66 @@ public enum ThucydidesSystemProperty {
     REPORT_MAX_THREADS,
     REPORT_KEEP_ALIVE_TIME,
 
+    /**
+     * Set this to true to write the per-test reports in the background, so that test threads do not have to wait
+     * for the JSON, XML and HTML files to be written. Any reports that are still pending are written when the
+     * test run finishes. False by default.
+     */
+    SERENITY_REPORT_ASYNC,
+
+    /**
+     * How many per-test reports can wait to be written (defaults to 1000).
+     * When the queue is full, the thread producing the report writes it itself.
+     */
+    SERENITY_REPORT_QUEUE_SIZE,
+
+    /**
+     * Set this to true to keep only a lightweight summary of each test outcome in memory once its reports have been
+     * generated. The full outcome is stored in a temporary file, and reloaded if it is needed again. False by default.
+     */
+    SERENITY_COMPACT_REPORTED_OUTCOMES,
+
+    /**
+     * Set this to true to load test outcomes in streaming mode when generating the aggregate reports.
+     * Outcomes are summarised in an index file as they are read, and only a lightweight version of each
+     * outcome (without screenshots, REST queries or report data) is kept in memory. The full outcome is reloaded
+     * from disk when an individual test report needs it. False by default.
+     */
+    SERENITY_REPORT_STREAMING,
+
+    /**
+     * Set this to true to only regenerate the aggregate report pages whose test outcomes have changed since the
+     * previous report was generated. The digests of the test outcome files are stored in a manifest file in the
+     * report directory. False by default.
+     */
+    SERENITY_REPORT_INCREMENTAL,
+
+    /**
+     * Set this to true to record how long each report page took to generate. The timings are written to a
+     * serenity-report-timings.json file in the report directory. False by default.
+     */
+    SERENITY_REPORT_TIMINGS,
+
+    /**
+     * Set this to true to load the test outcomes in a directory only once per JVM. The aggregate report, the result
+     * checker and the extended reports then share the same outcomes, as long as the outcome files do not change.
+     * The outcomes are softly referenced, so the garbage collector can reclaim them if memory runs low. False by default.
+     */
+    SERENITY_OUTCOME_SNAPSHOT,
+
+    /**
+     * A directory in which to store a serialized copy of the shared test outcomes, so that build steps running in
+     * different JVMs (such as separate Maven invocations) do not need to parse the outcome files again.
+     * Setting this property also activates the shared outcomes.
+     */
+    SERENITY_OUTCOME_SNAPSHOT_CACHE,
+
+    /**
+     * A directory (e.g. target/serenity-requirements-cache) in which to store the requirements read from the feature
+     * and story files. In later runs, only the files that are new or that have been modified since are parsed again.
+     */
+    SERENITY_REQUIREMENTS_CACHE_DIR,
+
     /**
      * Set this to true if you want Serenity to report nested step structures for subsequent steps
      * after a step failure.
@@ -1565,6 +1704,20 @@ public enum ThucydidesSystemProperty {
      */
     LEGACY_WAIT_FOR_TEXT,
 
+    /**
+     * Check element wait conditions (waitUntilVisible(), waitUntilEnabled() and so on) whenever the DOM of the page changes,
+     * using a MutationObserver in the browser, rather than polling at a fixed interval. Waits fall back to polling
+     * for drivers that do not support asynchronous Javascript. Deactivated by default.
+     */
+    SERENITY_EVENT_DRIVEN_WAITS,
+
+    /**
+     * Reuse the elements located for @FindBy fields of a page object for as long as the page does not change
+     * (same URL, and no changes to the DOM since the element was found), rather than locating them again each time
+     * they are used. Deactivated by default.
+     */
+    SERENITY_CACHE_ELEMENT_LOOKUPS,
+
     ENVIRONMENT,
 
     /**
@@ -1655,14 +1808,21 @@ public enum ThucydidesSystemProperty {
     }
 
     public String from(EnvironmentVariables environmentVariables, String defaultValue) {
+        return SerenityConfigSnapshot.of(environmentVariables).valueOf(this, defaultValue);
+    }
+
+    /**
+     * Look up the value of this property, ignoring any snapshot held by the environment variables.
+     * Returns null if the property is not defined.
+     */
+    String resolvedValueIn(EnvironmentVariables environmentVariables) {
         Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
 
         if (isDefined(newPropertyValue)) {
             return newPropertyValue.get();
         } else {
             Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? legacyValue.get() : defaultValue;
+            return (isDefined(legacyValue)) ? legacyValue.get() : null;
         }
     }
 
@@ -1675,15 +1835,7 @@ public enum ThucydidesSystemProperty {
     }
 
     public int integerFrom(EnvironmentVariables environmentVariables, int defaultValue) {
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-//                = Optional.ofNullable(environmentVariables.getProperty(withSerenityPrefix(getPropertyName())));
-
-        if (isDefined(newPropertyValue)) {
-            return Integer.parseInt(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Integer.parseInt(legacyValue.get().trim()) : defaultValue;
-        }
+        return SerenityConfigSnapshot.of(environmentVariables).integerValueOf(this, defaultValue);
     }
 
     public Boolean booleanFrom(EnvironmentVariables environmentVariables) {
@@ -1695,14 +1847,7 @@ public enum ThucydidesSystemProperty {
             return defaultValue;
         }
 
-        Optional<String> newPropertyValue = optionalPropertyValueDefinedIn(environmentVariables);
-
-        if (isDefined(newPropertyValue)) {
-            return Boolean.valueOf(newPropertyValue.get().trim());
-        } else {
-            Optional<String> legacyValue = legacyPropertyValueIfPresentIn(environmentVariables);
-            return (isDefined(legacyValue)) ? Boolean.valueOf(legacyValue.get().trim()) : defaultValue;
-        }
+        return SerenityConfigSnapshot.of(environmentVariables).booleanValueOf(this, defaultValue);
     }
 
     private Optional<String> optionalPropertyValueDefinedIn(EnvironmentVariables environmentVariables) {
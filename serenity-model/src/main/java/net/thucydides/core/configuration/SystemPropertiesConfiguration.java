@@ -2,6 +2,7 @@ package net.thucydides.core.configuration;
 
 import com.google.inject.Inject;
 import net.serenitybdd.core.environment.EnvironmentSpecificConfiguration;
+import net.thucydides.core.SerenityConfigSnapshot;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.model.TakeScreenshots;
 import net.thucydides.core.util.EnvironmentVariables;
@@ -245,9 +246,7 @@ public class SystemPropertiesConfiguration implements Configuration {
     }
 
     private String propertyNamed(ThucydidesSystemProperty property, String defaultValue) {
-        return EnvironmentSpecificConfiguration.from(environmentVariables)
-                .getOptionalProperty(property.getPropertyName(), property.getLegacyPropertyName())
-                .orElse(defaultValue);
+        return SerenityConfigSnapshot.of(environmentVariables).valueOf(property, defaultValue);
     }
 
     private Optional<Integer> integerPropertyNamed(ThucydidesSystemProperty property) {
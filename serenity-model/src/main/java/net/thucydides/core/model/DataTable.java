@@ -1,14 +1,22 @@
 package net.thucydides.core.model;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import net.thucydides.core.requirements.model.cucumber.ExampleRowResultIcon;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toMap;
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextBooleanOr;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 /**
@@ -568,4 +576,67 @@ public class DataTable {
     private String withEscapedRegExChars(String value) {
         return StringUtils.replaceEach(value, REGEX_CHARS, ESCAPED_REGEX_CHARS);
     }
+
+    /**
+     * Reads and writes data tables field by field, in the same form as Gson's reflective adapter.
+     * Tables are read through their constructor, so the row counter and line numbers are initialised as usual.
+     */
+    static final class JsonAdapter extends TypeAdapter<DataTable> {
+
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<List<String>> headersAdapter;
+        private final TypeAdapter<List<DataTableRow>> rowsAdapter;
+        private final TypeAdapter<List<DataSetDescriptor>> dataSetDescriptorsAdapter;
+
+        JsonAdapter(Gson gson) {
+            this.stringAdapter = gson.getAdapter(String.class);
+            this.headersAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+            this.rowsAdapter = gson.getAdapter(new TypeToken<List<DataTableRow>>() {});
+            this.dataSetDescriptorsAdapter = gson.getAdapter(new TypeToken<List<DataSetDescriptor>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, DataTable table) throws IOException {
+            if (table == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("headers");
+            headersAdapter.write(out, table.headers);
+            out.name("rows");
+            rowsAdapter.write(out, table.rows);
+            out.name("predefinedRows").value(table.predefinedRows);
+            out.name("scenarioOutline").value(table.scenarioOutline);
+            out.name("dataSetDescriptors");
+            dataSetDescriptorsAdapter.write(out, table.dataSetDescriptors);
+            out.endObject();
+        }
+
+        @Override
+        public DataTable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<String> headers = null;
+            List<DataTableRow> rows = null;
+            boolean predefinedRows = false;
+            String scenarioOutline = null;
+            List<DataSetDescriptor> dataSetDescriptors = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "headers": headers = headersAdapter.read(in); break;
+                    case "rows": rows = rowsAdapter.read(in); break;
+                    case "predefinedRows": predefinedRows = nextBooleanOr(in, predefinedRows); break;
+                    case "scenarioOutline": scenarioOutline = stringAdapter.read(in); break;
+                    case "dataSetDescriptors": dataSetDescriptors = dataSetDescriptorsAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return new DataTable(headers, rows, predefinedRows, scenarioOutline, dataSetDescriptors, new AtomicInteger(0));
+        }
+    }
 }
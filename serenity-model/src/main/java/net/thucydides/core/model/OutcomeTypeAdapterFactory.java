@@ -0,0 +1,134 @@
+package net.thucydides.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.thucydides.core.screenshots.ScreenshotAndHtmlSource;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Provides hand-written Gson type adapters for the classes that make up most of a stored test outcome: the outcome
+ * itself, its steps, data tables and screenshots. These adapters read and write the same JSON as Gson's reflective
+ * adapter, but stream each field directly, which makes loading and saving large numbers of outcomes much cheaper.
+ */
+public class OutcomeTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final boolean readStepEvidence;
+
+    public OutcomeTypeAdapterFactory() {
+        this(true);
+    }
+
+    private OutcomeTypeAdapterFactory(boolean readStepEvidence) {
+        this.readStepEvidence = readStepEvidence;
+    }
+
+    /**
+     * A factory whose adapters skip the screenshots, REST queries and report data of each step when reading an outcome,
+     * for when only a lightweight version of the outcome is needed.
+     */
+    public static OutcomeTypeAdapterFactory withoutStepEvidence() {
+        return new OutcomeTypeAdapterFactory(false);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == TestOutcome.class) {
+            return (TypeAdapter<T>) new TestOutcome.JsonAdapter(gson);
+        }
+        if (rawType == TestStep.class) {
+            return (TypeAdapter<T>) new TestStep.JsonAdapter(gson, readStepEvidence);
+        }
+        if (rawType == DataTable.class) {
+            return (TypeAdapter<T>) new DataTable.JsonAdapter(gson);
+        }
+        if (rawType == ScreenshotAndHtmlSource.class) {
+            return (TypeAdapter<T>) new ScreenshotAdapter(gson);
+        }
+        return null;
+    }
+
+    /**
+     * Primitive fields are read with these methods, which keep the current value of the field when the JSON value
+     * is null, as Gson's reflective adapter does.
+     */
+    static long nextLongOr(JsonReader in, long currentValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return currentValue;
+        }
+        return in.nextLong();
+    }
+
+    static int nextIntOr(JsonReader in, int currentValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return currentValue;
+        }
+        return in.nextInt();
+    }
+
+    static boolean nextBooleanOr(JsonReader in, boolean currentValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return currentValue;
+        }
+        return in.nextBoolean();
+    }
+
+    private static final class ScreenshotAdapter extends TypeAdapter<ScreenshotAndHtmlSource> {
+
+        private final TypeAdapter<File> fileAdapter;
+        private final TypeAdapter<Long> timeStampAdapter;
+
+        ScreenshotAdapter(Gson gson) {
+            this.fileAdapter = gson.getAdapter(File.class);
+            this.timeStampAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ScreenshotAndHtmlSource screenshot) throws IOException {
+            if (screenshot == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("screenshot");
+            fileAdapter.write(out, screenshot.getScreenshot());
+            out.name("htmlSource");
+            fileAdapter.write(out, screenshot.getHtmlSource().orElse(null));
+            out.name("timeStamp").value(screenshot.getTimeStamp());
+            out.endObject();
+        }
+
+        @Override
+        public ScreenshotAndHtmlSource read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            File screenshot = null;
+            File htmlSource = null;
+            Long timeStamp = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "screenshot": screenshot = fileAdapter.read(in); break;
+                    case "htmlSource": htmlSource = fileAdapter.read(in); break;
+                    case "timeStamp": timeStamp = timeStampAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ScreenshotAndHtmlSource(screenshot, htmlSource, timeStamp);
+        }
+    }
+}
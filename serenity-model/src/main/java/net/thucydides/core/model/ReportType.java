@@ -19,6 +19,9 @@ public enum ReportType {
     /** JSON reports. */
     JSON("json"),
 
+    /** Binary test outcomes. */
+    BINARY("outcome"),
+
     /** JUnit XML reports. */
     JUNIT("xml");
 
@@ -2,6 +2,12 @@ package net.thucydides.core.model;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
 import net.serenitybdd.core.exceptions.SerenityManagedException;
 import net.serenitybdd.core.exceptions.TheErrorType;
@@ -48,6 +54,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -56,6 +63,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Lists.partition;
 import static com.google.common.collect.Lists.reverse;
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextBooleanOr;
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextLongOr;
 import static net.thucydides.core.model.TestType.ANY;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -75,6 +84,12 @@ public class TestOutcome {
     private static final String ISSUES = "issues";
     private static final String NEW_LINE = System.getProperty("line.separator");
 
+    /**
+     * Counts the changes made to the tags or issues of any test outcome, so that indexes built from them can tell
+     * when they are out of date.
+     */
+    private static final AtomicLong TAG_CHANGES = new AtomicLong();
+
     /**
      * The name of the method implementing this test.
      */
@@ -1027,6 +1042,55 @@ public class TestOutcome {
         return this;
     }
 
+    /**
+     * Drop the screenshots, REST queries and report data recorded in the steps of this test outcome.
+     * The structure and results of the step tree are kept, so the outcome can still be used for aggregate reporting.
+     */
+    public TestOutcome withoutStepEvidence() {
+        this.testSteps = Collections.unmodifiableList(
+                testSteps.stream().map(TestStep::withoutEvidence).collect(Collectors.toList())
+        );
+        return this;
+    }
+
+    /**
+     * A lightweight copy of this test outcome, without the steps, example table or failure details.
+     * The identity, tags, duration and overall result of the outcome are kept.
+     */
+    public TestOutcome asSummary() {
+        TestOutcome summary = new TestOutcome(this.startTime,
+                this.duration,
+                this.title,
+                this.description,
+                this.name,
+                this.id,
+                this.testCase,
+                Collections.emptyList(),
+                this.coreIssues,
+                this.additionalIssues,
+                this.actors,
+                this.tags,
+                this.userStory,
+                null,
+                null,
+                null,
+                null,
+                this.annotatedResult,
+                null,
+                this.qualifier,
+                this.driver,
+                this.manual,
+                this.isManualTestingUpToDate,
+                this.lastTested,
+                Collections.emptyList(),
+                this.projectKey,
+                this.environmentVariables,
+                this.externalLink,
+                this.context);
+        summary.result = getResult();
+        return summary;
+    }
+
     public boolean isUnsuccessful() {
         return (getResult() == TestResult.COMPROMISED || getResult() == TestResult.ERROR || getResult() == TestResult.FAILURE);
     }
@@ -1847,6 +1911,7 @@ public class TestOutcome {
 
     public void addIssues(List<String> issues) {
         additionalIssues.addAll(issues);
+        TAG_CHANGES.incrementAndGet();
     }
 
     private List<String> readIssues() {
@@ -1867,6 +1932,7 @@ public class TestOutcome {
     public void isRelatedToIssue(String issue) {
         if (!issues().contains(issue)) {
             issues().add(issue);
+            TAG_CHANGES.incrementAndGet();
         }
     }
 
@@ -1956,19 +2022,33 @@ public class TestOutcome {
 
     public void setTags(Set<TestTag> tags) {
         this.tags = new HashSet<>(tags);
+        TAG_CHANGES.incrementAndGet();
     }
 
 
     public void addTags(List<TestTag> tags) {
         Set<TestTag> updatedTags = new HashSet<>(getTags());
-        updatedTags.addAll(tags);
+        boolean tagsAdded = updatedTags.addAll(tags);
         this.tags = updatedTags;
+        if (tagsAdded) {
+            TAG_CHANGES.incrementAndGet();
+        }
     }
 
     public void addTag(TestTag tag) {
         Set<TestTag> updatedTags = new HashSet<>(getTags());
-        updatedTags.add(tag);
+        boolean tagAdded = updatedTags.add(tag);
         this.tags = updatedTags;
+        if (tagAdded) {
+            TAG_CHANGES.incrementAndGet();
+        }
+    }
+
+    /**
+     * The number of times the tags or issues of a test outcome have been changed in this JVM.
+     */
+    public static long tagChangeCount() {
+        return TAG_CHANGES.get();
     }
 
     public List<String> getIssueKeys() {
@@ -2797,4 +2877,173 @@ public class TestOutcome {
     public List<String> getNestedTestPath(){
         return nestedTestPath;
     }
+
+    /**
+     * Reads and writes test outcomes field by field, in the same form as Gson's reflective adapter, but without
+     * looking up and setting each field by reflection. Fields are written in the order they are declared in.
+     */
+    static final class JsonAdapter extends TypeAdapter<TestOutcome> {
+
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<List<String>> stringListAdapter;
+        private final TypeAdapter<List<TestStep>> testStepsAdapter;
+        private final TypeAdapter<Story> storyAdapter;
+        private final TypeAdapter<Optional<TestTag>> featureTagAdapter;
+        private final TypeAdapter<Set<TestTag>> tagsAdapter;
+        private final TypeAdapter<ZonedDateTime> timeAdapter;
+        private final TypeAdapter<Rule> ruleAdapter;
+        private final TypeAdapter<FailureCause> failureCauseAdapter;
+        private final TypeAdapter<TestFailureCause> testFailureCauseAdapter;
+        private final TypeAdapter<TestResult> resultAdapter;
+        private final TypeAdapter<Optional<String>> qualifierAdapter;
+        private final TypeAdapter<DataTable> dataTableAdapter;
+        private final TypeAdapter<Set<? extends Flag>> flagsAdapter;
+        private final TypeAdapter<List<CastMember>> actorsAdapter;
+        private final TypeAdapter<ExternalLink> externalLinkAdapter;
+        private final TypeAdapter<Integer> orderAdapter;
+
+        JsonAdapter(Gson gson) {
+            this.stringAdapter = gson.getAdapter(String.class);
+            this.stringListAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+            this.testStepsAdapter = gson.getAdapter(new TypeToken<List<TestStep>>() {});
+            this.storyAdapter = gson.getAdapter(Story.class);
+            this.featureTagAdapter = gson.getAdapter(new TypeToken<Optional<TestTag>>() {});
+            this.tagsAdapter = gson.getAdapter(new TypeToken<Set<TestTag>>() {});
+            this.timeAdapter = gson.getAdapter(ZonedDateTime.class);
+            this.ruleAdapter = gson.getAdapter(Rule.class);
+            this.failureCauseAdapter = gson.getAdapter(FailureCause.class);
+            this.testFailureCauseAdapter = gson.getAdapter(TestFailureCause.class);
+            this.resultAdapter = gson.getAdapter(TestResult.class);
+            this.qualifierAdapter = gson.getAdapter(new TypeToken<Optional<String>>() {});
+            this.dataTableAdapter = gson.getAdapter(DataTable.class);
+            this.flagsAdapter = gson.getAdapter(new TypeToken<Set<? extends Flag>>() {});
+            this.actorsAdapter = gson.getAdapter(new TypeToken<List<CastMember>>() {});
+            this.externalLinkAdapter = gson.getAdapter(ExternalLink.class);
+            this.orderAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TestOutcome outcome) throws IOException {
+            if (outcome == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(outcome.name);
+            out.name("id").value(outcome.id);
+            out.name("testCaseName").value(outcome.testCaseName);
+            writeField(out, "testSteps", testStepsAdapter, outcome.testSteps);
+            writeField(out, "userStory", storyAdapter, outcome.userStory);
+            writeField(out, "featureTag", featureTagAdapter, outcome.featureTag);
+            out.name("title").value(outcome.title);
+            out.name("description").value(outcome.description);
+            out.name("backgroundTitle").value(outcome.backgroundTitle);
+            out.name("backgroundDescription").value(outcome.backgroundDescription);
+            writeField(out, "coreIssues", stringListAdapter, outcome.coreIssues);
+            writeField(out, "additionalIssues", stringListAdapter, outcome.additionalIssues);
+            writeField(out, "coreVersions", stringListAdapter, outcome.coreVersions);
+            writeField(out, "additionalVersions", stringListAdapter, outcome.additionalVersions);
+            writeField(out, "tags", tagsAdapter, outcome.tags);
+            writeField(out, "startTime", timeAdapter, outcome.startTime);
+            out.name("duration").value(outcome.duration);
+            writeField(out, "testRunTimestamp", timeAdapter, outcome.testRunTimestamp);
+            out.name("project").value(outcome.project);
+            writeField(out, "rule", ruleAdapter, outcome.rule);
+            writeField(out, "testFailureCause", failureCauseAdapter, outcome.testFailureCause);
+            writeField(out, "flakyTestFailureCause", testFailureCauseAdapter, outcome.flakyTestFailureCause);
+            out.name("testFailureClassname").value(outcome.testFailureClassname);
+            out.name("testFailureMessage").value(outcome.testFailureMessage);
+            out.name("testFailureSummary").value(outcome.testFailureSummary);
+            out.name("projectKey").value(outcome.projectKey);
+            writeField(out, "annotatedResult", resultAdapter, outcome.annotatedResult);
+            out.name("sessionId").value(outcome.sessionId);
+            out.name("driver").value(outcome.driver);
+            out.name("lastTested").value(outcome.lastTested);
+            out.name("isManualTestingUpToDate").value(outcome.isManualTestingUpToDate);
+            writeField(out, "manualTestEvidence", stringListAdapter, outcome.manualTestEvidence);
+            writeField(out, "qualifier", qualifierAdapter, outcome.qualifier);
+            out.name("context").value(outcome.context);
+            writeField(out, "dataTable", dataTableAdapter, outcome.dataTable);
+            out.name("manual").value(outcome.manual);
+            writeField(out, "flags", flagsAdapter, outcome.flags);
+            out.name("testSource").value(outcome.testSource);
+            writeField(out, "actors", actorsAdapter, outcome.actors);
+            writeField(out, "externalLink", externalLinkAdapter, outcome.externalLink);
+            writeField(out, "order", orderAdapter, outcome.order);
+            writeField(out, "result", resultAdapter, outcome.result);
+            writeField(out, "issues", stringListAdapter, outcome.issues);
+            writeField(out, "versions", stringListAdapter, outcome.versions);
+            writeField(out, "nestedTestPath", stringListAdapter, outcome.nestedTestPath);
+            out.name("scenarioOutline").value(outcome.scenarioOutline);
+            out.endObject();
+        }
+
+        @Override
+        public TestOutcome read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TestOutcome outcome = new TestOutcome();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name": outcome.name = stringAdapter.read(in); break;
+                    case "id": outcome.id = stringAdapter.read(in); break;
+                    case "testCaseName": outcome.testCaseName = stringAdapter.read(in); break;
+                    case "testSteps": outcome.testSteps = testStepsAdapter.read(in); break;
+                    case "userStory": outcome.userStory = storyAdapter.read(in); break;
+                    case "featureTag": outcome.featureTag = featureTagAdapter.read(in); break;
+                    case "title": outcome.title = stringAdapter.read(in); break;
+                    case "description": outcome.description = stringAdapter.read(in); break;
+                    case "backgroundTitle": outcome.backgroundTitle = stringAdapter.read(in); break;
+                    case "backgroundDescription": outcome.backgroundDescription = stringAdapter.read(in); break;
+                    case "coreIssues": outcome.coreIssues = stringListAdapter.read(in); break;
+                    case "additionalIssues": outcome.additionalIssues = stringListAdapter.read(in); break;
+                    case "coreVersions": outcome.coreVersions = stringListAdapter.read(in); break;
+                    case "additionalVersions": outcome.additionalVersions = stringListAdapter.read(in); break;
+                    case "tags": outcome.tags = tagsAdapter.read(in); break;
+                    case "startTime": outcome.startTime = timeAdapter.read(in); break;
+                    case "duration": outcome.duration = nextLongOr(in, outcome.duration); break;
+                    case "testRunTimestamp": outcome.testRunTimestamp = timeAdapter.read(in); break;
+                    case "project": outcome.project = stringAdapter.read(in); break;
+                    case "rule": outcome.rule = ruleAdapter.read(in); break;
+                    case "testFailureCause": outcome.testFailureCause = failureCauseAdapter.read(in); break;
+                    case "flakyTestFailureCause": outcome.flakyTestFailureCause = testFailureCauseAdapter.read(in); break;
+                    case "testFailureClassname": outcome.testFailureClassname = stringAdapter.read(in); break;
+                    case "testFailureMessage": outcome.testFailureMessage = stringAdapter.read(in); break;
+                    case "testFailureSummary": outcome.testFailureSummary = stringAdapter.read(in); break;
+                    case "projectKey": outcome.projectKey = stringAdapter.read(in); break;
+                    case "annotatedResult": outcome.annotatedResult = resultAdapter.read(in); break;
+                    case "sessionId": outcome.sessionId = stringAdapter.read(in); break;
+                    case "driver": outcome.driver = stringAdapter.read(in); break;
+                    case "lastTested": outcome.lastTested = stringAdapter.read(in); break;
+                    case "isManualTestingUpToDate": outcome.isManualTestingUpToDate = nextBooleanOr(in, outcome.isManualTestingUpToDate); break;
+                    case "manualTestEvidence": outcome.manualTestEvidence = stringListAdapter.read(in); break;
+                    case "qualifier": outcome.qualifier = qualifierAdapter.read(in); break;
+                    case "context": outcome.context = stringAdapter.read(in); break;
+                    case "dataTable": outcome.dataTable = dataTableAdapter.read(in); break;
+                    case "manual": outcome.manual = nextBooleanOr(in, outcome.manual); break;
+                    case "flags": outcome.flags = flagsAdapter.read(in); break;
+                    case "testSource": outcome.testSource = stringAdapter.read(in); break;
+                    case "actors": outcome.actors = actorsAdapter.read(in); break;
+                    case "externalLink": outcome.externalLink = externalLinkAdapter.read(in); break;
+                    case "order": outcome.order = orderAdapter.read(in); break;
+                    case "result": outcome.result = resultAdapter.read(in); break;
+                    case "issues": outcome.issues = stringListAdapter.read(in); break;
+                    case "versions": outcome.versions = stringListAdapter.read(in); break;
+                    case "nestedTestPath": outcome.nestedTestPath = stringListAdapter.read(in); break;
+                    case "scenarioOutline": outcome.scenarioOutline = stringAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return outcome;
+        }
+
+        private static <T> void writeField(JsonWriter out, String name, TypeAdapter<T> adapter, T value) throws IOException {
+            out.name(name);
+            adapter.write(out, value);
+        }
+    }
 }
@@ -1,6 +1,12 @@
 package net.thucydides.core.model;
 
 import com.google.common.base.Objects;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import net.serenitybdd.core.collect.NewList;
 import net.serenitybdd.core.rest.RestQuery;
 import net.serenitybdd.core.time.SystemClock;
@@ -25,6 +31,9 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextBooleanOr;
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextIntOr;
+import static net.thucydides.core.model.OutcomeTypeAdapterFactory.nextLongOr;
 import static net.thucydides.core.model.TestResult.*;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
@@ -231,6 +240,22 @@ public class TestStep implements Cloneable {
         return this.clone();
     }
 
+    /**
+     * A copy of this step and of its children, without the screenshots, REST queries and report data.
+     * The results, durations and structure of the step tree are preserved.
+     */
+    public TestStep withoutEvidence() {
+        TestStep newTestStep = clone();
+        newTestStep.screenshots = new ArrayList<>();
+        newTestStep.children = children.stream()
+                .map(TestStep::withoutEvidence)
+                .collect(Collectors.toList());
+        newTestStep.lineNumber = lineNumber;
+        newTestStep.externalLink = externalLink;
+        newTestStep.manual = manual;
+        return newTestStep;
+    }
+
 
     public void recordDuration() {
         setDuration(
@@ -723,4 +748,107 @@ public class TestStep implements Cloneable {
     public int hashCode() {
         return Objects.hashCode(number, description, duration, startTime, screenshots, exception, result, restQuery, precondition, children);
     }
+
+    /**
+     * Reads and writes test steps field by field, in the same form as Gson's reflective adapter.
+     * Nested steps are written and read by this adapter as well. If the step evidence is not needed, the screenshots,
+     * REST queries and report data are skipped as they are read, rather than being loaded and discarded afterwards.
+     */
+    static final class JsonAdapter extends TypeAdapter<TestStep> {
+
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ZonedDateTime> timeAdapter;
+        private final TypeAdapter<List<ScreenshotAndHtmlSource>> screenshotsAdapter;
+        private final TypeAdapter<FailureCause> failureCauseAdapter;
+        private final TypeAdapter<TestResult> resultAdapter;
+        private final TypeAdapter<RestQuery> restQueryAdapter;
+        private final TypeAdapter<List<ReportData>> reportDataAdapter;
+        private final TypeAdapter<Integer> lineNumberAdapter;
+        private final TypeAdapter<ExternalLink> externalLinkAdapter;
+        private final TypeAdapter<Boolean> manualAdapter;
+        private final TypeAdapter<List<TestStep>> childrenAdapter;
+        private final boolean readEvidence;
+
+        JsonAdapter(Gson gson, boolean readEvidence) {
+            this.readEvidence = readEvidence;
+            this.stringAdapter = gson.getAdapter(String.class);
+            this.timeAdapter = gson.getAdapter(ZonedDateTime.class);
+            this.screenshotsAdapter = gson.getAdapter(new TypeToken<List<ScreenshotAndHtmlSource>>() {});
+            this.failureCauseAdapter = gson.getAdapter(FailureCause.class);
+            this.resultAdapter = gson.getAdapter(TestResult.class);
+            this.restQueryAdapter = gson.getAdapter(RestQuery.class);
+            this.reportDataAdapter = gson.getAdapter(new TypeToken<List<ReportData>>() {});
+            this.lineNumberAdapter = gson.getAdapter(Integer.class);
+            this.externalLinkAdapter = gson.getAdapter(ExternalLink.class);
+            this.manualAdapter = gson.getAdapter(Boolean.class);
+            this.childrenAdapter = gson.getAdapter(new TypeToken<List<TestStep>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, TestStep step) throws IOException {
+            if (step == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("number").value(step.number);
+            out.name("description").value(step.description);
+            out.name("duration").value(step.duration);
+            writeField(out, "startTime", timeAdapter, step.startTime);
+            writeField(out, "screenshots", screenshotsAdapter, step.screenshots);
+            writeField(out, "exception", failureCauseAdapter, step.exception);
+            writeField(out, "result", resultAdapter, step.result);
+            writeField(out, "restQuery", restQueryAdapter, step.restQuery);
+            writeField(out, "reportData", reportDataAdapter, step.reportData);
+            out.name("precondition").value(step.precondition);
+            out.name("level").value(step.level);
+            writeField(out, "lineNumber", lineNumberAdapter, step.lineNumber);
+            writeField(out, "externalLink", externalLinkAdapter, step.externalLink);
+            writeField(out, "manual", manualAdapter, step.manual);
+            writeField(out, "children", childrenAdapter, step.children);
+            out.endObject();
+        }
+
+        @Override
+        public TestStep read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TestStep step = new TestStep();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "number": step.number = nextIntOr(in, step.number); break;
+                    case "description": step.description = stringAdapter.read(in); break;
+                    case "duration": step.duration = nextLongOr(in, step.duration); break;
+                    case "startTime": step.startTime = timeAdapter.read(in); break;
+                    case "screenshots": step.screenshots = readEvidence ? screenshotsAdapter.read(in) : skipped(in, step.screenshots); break;
+                    case "exception": step.exception = failureCauseAdapter.read(in); break;
+                    case "result": step.result = resultAdapter.read(in); break;
+                    case "restQuery": step.restQuery = readEvidence ? restQueryAdapter.read(in) : skipped(in, null); break;
+                    case "reportData": step.reportData = readEvidence ? reportDataAdapter.read(in) : skipped(in, null); break;
+                    case "precondition": step.precondition = nextBooleanOr(in, step.precondition); break;
+                    case "level": step.level = nextIntOr(in, step.level); break;
+                    case "lineNumber": step.lineNumber = lineNumberAdapter.read(in); break;
+                    case "externalLink": step.externalLink = externalLinkAdapter.read(in); break;
+                    case "manual": step.manual = manualAdapter.read(in); break;
+                    case "children": step.children = childrenAdapter.read(in); break;
+                    default: in.skipValue();
+                }
+            }
+            in.endObject();
+            return step;
+        }
+
+        private static <T> T skipped(JsonReader in, T valueInstead) throws IOException {
+            in.skipValue();
+            return valueInstead;
+        }
+
+        private static <T> void writeField(JsonWriter out, String name, TypeAdapter<T> adapter, T value) throws IOException {
+            out.name(name);
+            adapter.write(out, value);
+        }
+    }
 }
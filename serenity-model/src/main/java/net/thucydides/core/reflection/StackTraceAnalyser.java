@@ -5,10 +5,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -19,6 +23,29 @@ public class StackTraceAnalyser {
     private final StackTraceElement stackTraceElement;
     private final Logger logger = LoggerFactory.getLogger(StackTraceAnalyser.class);
 
+    /**
+     * Resolving the method for a stack frame means loading the class by name and looking the method up reflectively,
+     * so the results are cached. Classes are only weakly referenced by name, and the methods are kept against their
+     * classes, so that the caches never stop classes or their class loaders from being unloaded.
+     */
+    private static final Reference<Class<?>> CLASS_NOT_FOUND = new WeakReference<>(null);
+    private static final Map<String, Reference<Class<?>>> FRAME_CLASSES = new ConcurrentHashMap<>();
+    private static final Map<String, Reference<Class<?>>> TASK_CLASSES = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Map<String, Optional<Method>>> INSCOPE_METHODS = new ClassValue<Map<String, Optional<Method>>>() {
+        @Override
+        protected Map<String, Optional<Method>> computeValue(Class<?> frameClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Optional<Method>> PERFORM_AS_METHODS = new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> taskClass) {
+            return performAsMethodOf(uninstrumented(taskClass));
+        }
+    };
+
     private StackTraceAnalyser(StackTraceElement stackTraceElement) {
         this.stackTraceElement = stackTraceElement;
     }
@@ -30,16 +57,7 @@ public class StackTraceAnalyser {
     public Method getMethod() {
         try {
             if (allowedClassName(stackTraceElement.getClassName()) && !lambda(stackTraceElement.getClassName())) {
-                Class callingClass = Class.forName(stackTraceElement.getClassName());
-
-                if (stackTraceElement.getClassName().contains("$")) {
-                    callingClass = callingClass.getSuperclass();
-                    if (callingClass == null) {
-                        logger.trace("Ignored class without superclass: " + stackTraceElement.getClassName());
-                        return null;
-                    }
-                }
-                return extractMethod(stackTraceElement, callingClass);
+                return methodIn(Class.forName(stackTraceElement.getClassName()));
             }
         } catch (ClassNotFoundException classNotFoundIgnored) {
             logger.trace("Couldn't find class during Stack analysis: " + classNotFoundIgnored.getLocalizedMessage());
@@ -49,6 +67,18 @@ public class StackTraceAnalyser {
         return null;
     }
 
+    private Method methodIn(Class<?> frameClass) {
+        Class<?> callingClass = frameClass;
+        if (stackTraceElement.getClassName().contains("$")) {
+            callingClass = callingClass.getSuperclass();
+            if (callingClass == null) {
+                logger.trace("Ignored class without superclass: " + stackTraceElement.getClassName());
+                return null;
+            }
+        }
+        return extractMethod(stackTraceElement, callingClass);
+    }
+
     public Method getUnfilteredMethod() {
         try {
             Class callingClass = Class.forName(stackTraceElement.getClassName());
@@ -115,42 +145,96 @@ public class StackTraceAnalyser {
     public static List<Method> inscopeMethodsIn(StackTraceElement[] stackTrace) {
         List<Method> methods = new ArrayList<>();
         for (StackTraceElement stackTraceElement : stackTrace) {
-            Method method = StackTraceAnalyser.forStackTraceElement(stackTraceElement).getMethod();
-            if (method != null) {
-                methods.add(method);
-            }
+            inscopeMethodAt(stackTraceElement).ifPresent(methods::add);
         }
         return methods;
     }
 
+    /**
+     * The in-scope method called at this point of the stack trace, if any.
+     */
+    public static Optional<Method> inscopeMethodAt(StackTraceElement stackTraceElement) {
+        StackTraceAnalyser analyser = StackTraceAnalyser.forStackTraceElement(stackTraceElement);
+        String className = stackTraceElement.getClassName();
+        if (!analyser.allowedClassName(className) || analyser.lambda(className)) {
+            return Optional.empty();
+        }
+        String methodKey = stackTraceElement.getMethodName() + (isInstrumentedMethod(stackTraceElement) ? "#generated" : "");
+        return cachedClassNamed(className, FRAME_CLASSES, frameClassName -> Class.forName(frameClassName))
+                .flatMap(frameClass -> INSCOPE_METHODS.get(frameClass).computeIfAbsent(methodKey,
+                        key -> Optional.ofNullable(analyser.inscopeMethodIn(frameClass))));
+    }
+
+    private Method inscopeMethodIn(Class<?> frameClass) {
+        try {
+            return methodIn(frameClass);
+        } catch (NoClassDefFoundError noClassDefFoundErrorIgnored) {
+            logger.trace("Couldn't find class definition during Stack analysis: " + noClassDefFoundErrorIgnored.getLocalizedMessage());
+            return null;
+        }
+    }
+
     public static List<Method> performAsMethodsIn(StackTraceElement[] stackTrace) {
         return stream(stackTrace)
-                .filter(stackTraceElement -> stackTraceElement.getMethodName().equals("performAs"))
-                .map(StackTraceElement::getClassName)
-                .map(StackTraceAnalyser::uninstrumentedTaskClass)
-                .filter(Optional::isPresent)
-                .map(StackTraceAnalyser::performAsMethod)
+                .map(StackTraceAnalyser::performAsMethodAt)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
     }
 
-    private static Optional<Method> performAsMethod(Optional<Class<?>> taskClass) {
-        return stream(taskClass.get().getMethods())
+    /**
+     * The performAs() method of the (uninstrumented) task class called at this point of the stack trace, if any.
+     */
+    public static Optional<Method> performAsMethodAt(StackTraceElement stackTraceElement) {
+        if (!stackTraceElement.getMethodName().equals("performAs")) {
+            return Optional.empty();
+        }
+        return cachedClassNamed(stackTraceElement.getClassName(), TASK_CLASSES,
+                                taskClassName -> Thread.currentThread().getContextClassLoader().loadClass(taskClassName))
+                .flatMap(PERFORM_AS_METHODS::get);
+    }
+
+    private static Optional<Method> performAsMethodOf(Class<?> taskClass) {
+        return stream(taskClass.getMethods())
                 .filter(method -> method.getName().equals("performAs"))
                 .findFirst();
     }
 
-    private static Optional<Class<?>> uninstrumentedTaskClass(String taskClassName) {
-        try {
-            Class<?> performingClass = Thread.currentThread().getContextClassLoader().loadClass(taskClassName);
-            while (isInstrumented(performingClass)) {
-                performingClass = performingClass.getSuperclass();
-            }
-            return Optional.of(performingClass);
-        } catch (ClassNotFoundException e) {
+    private static Class<?> uninstrumented(Class<?> taskClass) {
+        Class<?> performingClass = taskClass;
+        while (isInstrumented(performingClass)) {
+            performingClass = performingClass.getSuperclass();
+        }
+        return performingClass;
+    }
+
+    /**
+     * The class with this name, loaded the first time it is asked for and then remembered for as long as
+     * nothing else lets it be unloaded. Classes that cannot be found are remembered as well.
+     */
+    private static Optional<Class<?>> cachedClassNamed(String className,
+                                                       Map<String, Reference<Class<?>>> loadedClasses,
+                                                       ClassLoading classLoading) {
+        Reference<Class<?>> cachedClass = loadedClasses.get(className);
+        if (cachedClass == CLASS_NOT_FOUND) {
             return Optional.empty();
         }
+        Class<?> loadedClass = (cachedClass == null) ? null : cachedClass.get();
+        if (loadedClass == null) {
+            try {
+                loadedClass = classLoading.load(className);
+                loadedClasses.put(className, new WeakReference<>(loadedClass));
+            } catch (ClassNotFoundException | NoClassDefFoundError classNotFound) {
+                loadedClasses.put(className, CLASS_NOT_FOUND);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(loadedClass);
+    }
+
+    @FunctionalInterface
+    private interface ClassLoading {
+        Class<?> load(String className) throws ClassNotFoundException;
     }
 
     private static boolean isInstrumented(Class<?> performingClass) {
@@ -3,6 +3,7 @@ package net.thucydides.core.reports;
 import net.thucydides.core.model.TestOutcome;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +15,12 @@ public interface AcceptanceTestLoader {
 
     Optional<TestOutcome> loadReportFrom(final Path reportFile);
 
+    /**
+     * Load a test outcome from the contents of a report file that has already been read, for example to work out
+     * a digest of the file as well.
+     */
+    Optional<TestOutcome> loadReportFrom(final InputStream reportContents, final String reportFileName);
+
     List<TestOutcome> loadReportsFrom(final Path outputDirectory);
 
     Optional<OutcomeFormat> getFormat();
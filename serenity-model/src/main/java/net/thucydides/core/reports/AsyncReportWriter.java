@@ -0,0 +1,165 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes reports using a pool of worker threads that is shared by all of the report services in the JVM.
+ * Reports wait in a bounded queue: when the queue is full, the thread submitting a report writes it itself.
+ * Callers can either wait for the reports they submit, or leave them to be written in the background and
+ * call {@link #flush()} when the test run is finished. Reports still pending when the JVM shuts down are flushed
+ * by a shutdown hook.
+ */
+public class AsyncReportWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncReportWriter.class);
+
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private static AsyncReportWriter sharedWriter;
+
+    private final ThreadPoolExecutor workers;
+
+    private final ReportWriterMetrics metrics;
+
+    private final Queue<Future<?>> pendingReports = new ConcurrentLinkedQueue<>();
+
+    AsyncReportWriter(int workerCount, int queueCapacity, ReportWriterMetrics metrics) {
+        this.metrics = metrics;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount,
+                                              0L, TimeUnit.MILLISECONDS,
+                                              new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                                              new ReportWriterThreadFactory(),
+                                              new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * The report writer shared by all of the report services in the JVM.
+     * The size of the pool and of the queue are taken from the environment variables of the first caller.
+     */
+    public static synchronized AsyncReportWriter sharedWriter(EnvironmentVariables environmentVariables) {
+        if (sharedWriter == null) {
+            int workerCount = ThucydidesSystemProperty.REPORT_MAX_THREADS.integerFrom(environmentVariables,
+                                                                                      Runtime.getRuntime().availableProcessors());
+            int queueSize = ThucydidesSystemProperty.SERENITY_REPORT_QUEUE_SIZE.integerFrom(environmentVariables,
+                                                                                          DEFAULT_QUEUE_SIZE);
+            sharedWriter = new AsyncReportWriter(Math.max(1, workerCount), queueSize, new ReportWriterMetrics());
+            Runtime.getRuntime().addShutdownHook(new Thread(AsyncReportWriter::flushOnShutdown, "Serenity report writer shutdown"));
+        }
+        return sharedWriter;
+    }
+
+    /**
+     * Wait for any reports still being written in the background by the shared report writer.
+     */
+    public static void flushSharedWriter() {
+        AsyncReportWriter writer;
+        synchronized (AsyncReportWriter.class) {
+            writer = sharedWriter;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private static void flushOnShutdown() {
+        try {
+            flushSharedWriter();
+        } catch (ReportGenerationFailedError e) {
+            LOGGER.error("Some reports could not be written", e);
+        }
+    }
+
+    /**
+     * Queue a report to be written, and return a future that completes once it has been written.
+     */
+    public Future<?> submit(Runnable report) {
+        ReportTask task = new ReportTask(report);
+        metrics.reportQueued();
+        workers.execute(task);
+        return task;
+    }
+
+    /**
+     * Queue a report to be written in the background. The report will be written by the time {@link #flush()} returns.
+     */
+    public void submitInBackground(Runnable report) {
+        pendingReports.add(submit(report));
+    }
+
+    /**
+     * Wait for all of the reports submitted in the background to be written.
+     *
+     * @throws ReportGenerationFailedError if any of these reports could not be written
+     */
+    public void flush() {
+        ReportGenerationFailedError failure = null;
+        Future<?> pendingReport;
+        while ((pendingReport = pendingReports.poll()) != null) {
+            try {
+                pendingReport.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new ReportGenerationFailedError("Failed to generate reports", e.getCause());
+                } else {
+                    LOGGER.warn("Failed to generate reports", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReportGenerationFailedError("Interrupted while waiting for reports to be written", e);
+            }
+        }
+        LOGGER.debug("Report writer flushed ({})", metrics);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public ReportWriterMetrics getMetrics() {
+        return metrics;
+    }
+
+    private class ReportTask extends FutureTask<Void> {
+        private final long submittedAt;
+
+        ReportTask(Runnable report) {
+            super(report, null);
+            this.submittedAt = System.currentTimeMillis();
+        }
+
+        @Override
+        public void run() {
+            metrics.reportDequeued();
+            super.run();
+        }
+
+        @Override
+        protected void set(Void result) {
+            metrics.reportWritten(System.currentTimeMillis() - submittedAt);
+            super.set(result);
+        }
+
+        @Override
+        protected void setException(Throwable failure) {
+            metrics.reportFailed();
+            super.setException(failure);
+        }
+    }
+
+    private static class ReportWriterThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Serenity Report Writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -30,7 +30,6 @@ import java.util.concurrent.*;
 @SuppressWarnings("restriction")
 public class ReportService {
 
-    private final int maximumPoolSize;
     /**
      * Where will the reports go?
      */
@@ -49,6 +48,16 @@ public class ReportService {
 
     private JUnitXMLOutcomeReporter jUnitXMLOutcomeReporter;
 
+    /**
+     * Writes the reports for individual test outcomes.
+     */
+    private final AsyncReportWriter reportWriter;
+
+    /**
+     * Should the reports be written in the background, without making the test threads wait?
+     */
+    private final boolean asyncReporting;
+
     private final static Logger LOGGER = LoggerFactory.getLogger(ReportService.class);
 
     @Inject
@@ -85,7 +94,8 @@ public class ReportService {
         getSubscribedReporters().addAll(subscribedReporters);
         getSubscribedFullReporters().addAll(subscribedFullReporters);
         jUnitXMLOutcomeReporter = new JUnitXMLOutcomeReporter(outputDirectory);
-        this.maximumPoolSize = ThucydidesSystemProperty.REPORT_MAX_THREADS.integerFrom(environmentVariables, Runtime.getRuntime().availableProcessors());
+        this.reportWriter = AsyncReportWriter.sharedWriter(environmentVariables);
+        this.asyncReporting = ThucydidesSystemProperty.SERENITY_REPORT_ASYNC.booleanFrom(environmentVariables, false);
     }
 
     public void setOutputDirectory(File outputDirectory) {
@@ -126,10 +136,16 @@ public class ReportService {
      * @param testOutcomeResults A list of test outcomes to use in report generation.
      *                           These may be stored in memory (e.g. by a Listener instance) or read from the XML
      *                           test results.
+     *                           If asynchronous reporting is enabled, the reports are written in the background,
+     *                           and are only guaranteed to be complete once {@link #waitForPendingReports()} returns.
      */
 
     public void generateReportsFor(final List<TestOutcome> testOutcomeResults) {
         final TestOutcomes allTestOutcomes = TestOutcomes.of(testOutcomeResults);
+        if (asyncReporting) {
+            generateReportsInTheBackgroundFor(allTestOutcomes);
+            return;
+        }
         for (final AcceptanceTestReporter reporter : getSubscribedReporters()) {
             generateReportsFor(reporter, allTestOutcomes);
         }
@@ -140,6 +156,31 @@ public class ReportService {
 
     }
 
+    private void generateReportsInTheBackgroundFor(final TestOutcomes allTestOutcomes) {
+        for (final AcceptanceTestReporter reporter : getSubscribedReporters()) {
+            for (final TestOutcome outcome : allTestOutcomes.getOutcomes()) {
+                reportWriter.submitInBackground(() -> generateReportFor(outcome, reporter));
+            }
+        }
+        for (final AcceptanceTestFullReporter reporter : getSubscribedFullReporters()) {
+            reportWriter.submitInBackground(() -> generateFullReportFor(allTestOutcomes, reporter));
+        }
+        reportWriter.submitInBackground(() -> generateJUnitTestResults(allTestOutcomes));
+    }
+
+    /**
+     * Wait for any reports that are still being written in the background.
+     *
+     * @throws ReportGenerationFailedError if any of these reports could not be written
+     */
+    public void waitForPendingReports() {
+        reportWriter.flush();
+    }
+
+    public ReportWriterMetrics getReportWriterMetrics() {
+        return reportWriter.getMetrics();
+    }
+
     /**
      * Store some configuration properties under output directory
      */
@@ -174,22 +215,15 @@ public class ReportService {
 
         List<? extends TestOutcome> outcomes = testOutcomes.getOutcomes();
 
-        ExecutorService executorService = Executors.newFixedThreadPool(maximumPoolSize);
-
-        try {
-            final ArrayList<Future> tasks = new ArrayList<>(outcomes.size());
-            for (final TestOutcome outcome : outcomes) {
-                tasks.add(executorService.submit(() -> {
-                    LOGGER.debug("Processing test outcome " + outcome.getCompleteName());
-                    generateReportFor(outcome, reporter);
-                    LOGGER.debug("Processing test outcome " + outcome.getCompleteName() + " done");
-                }));
-            }
-            waitForReportGenerationToFinish(tasks);
-        } finally {
-            LOGGER.debug("Shutting down executor service");
-            executorService.shutdown();
+        final ArrayList<Future> tasks = new ArrayList<>(outcomes.size());
+        for (final TestOutcome outcome : outcomes) {
+            tasks.add(reportWriter.submit(() -> {
+                LOGGER.debug("Processing test outcome " + outcome.getCompleteName());
+                generateReportFor(outcome, reporter);
+                LOGGER.debug("Processing test outcome " + outcome.getCompleteName() + " done");
+            }));
         }
+        waitForReportGenerationToFinish(tasks);
 
         LOGGER.debug("Reports generated in: " + (System.currentTimeMillis() - t0) + " ms");
 
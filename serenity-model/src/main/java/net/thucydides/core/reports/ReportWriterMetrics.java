@@ -0,0 +1,78 @@
+package net.thucydides.core.reports;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how the report writer is keeping up with the reports it is asked to write:
+ * how many reports are waiting, how long they take to be written, and how many could not be written.
+ */
+public class ReportWriterMetrics {
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maximumQueueDepth = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalLatencyInMillis = new AtomicLong();
+    private final AtomicLong maximumLatencyInMillis = new AtomicLong();
+
+    void reportQueued() {
+        int depth = queueDepth.incrementAndGet();
+        maximumQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    void reportDequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void reportWritten(long latencyInMillis) {
+        written.incrementAndGet();
+        totalLatencyInMillis.addAndGet(latencyInMillis);
+        maximumLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    void reportFailed() {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * The number of reports currently waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaximumQueueDepth() {
+        return maximumQueueDepth.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * The average time between a report being submitted and the report being written.
+     */
+    public long getAverageLatencyInMillis() {
+        long writtenCount = written.get();
+        return (writtenCount == 0) ? 0 : totalLatencyInMillis.get() / writtenCount;
+    }
+
+    public long getMaximumLatencyInMillis() {
+        return maximumLatencyInMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        return "written: " + getWrittenCount()
+                + ", queue depth: " + getQueueDepth()
+                + " (max " + getMaximumQueueDepth() + ")"
+                + ", latency: " + getAverageLatencyInMillis() + " ms average"
+                + " (max " + getMaximumLatencyInMillis() + " ms)"
+                + ", failed: " + getFailedCount();
+    }
+}
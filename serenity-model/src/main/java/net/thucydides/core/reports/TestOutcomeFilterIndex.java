@@ -0,0 +1,213 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestStep;
+import net.thucydides.core.model.TestTag;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index over a sorted list of test outcomes, shared by a TestOutcomes instance and all of the views
+ * derived from it. Each entry maps a tag, tag type, issue, error type or result to the positions of the matching
+ * outcomes in the sorted list, so that filtering a set of test outcomes does not need to scan every outcome.
+ * The tag and issue entries are built in a single pass the first time they are needed, and are built again if the
+ * tags or issues of any test outcome have changed since then (for example when duration or release tags are added).
+ */
+class TestOutcomeFilterIndex {
+
+    private final List<TestOutcome> outcomes;
+
+    private volatile TagEntries tagEntries;
+    private volatile Map<String, BitSet> errorTypes;
+    private final Map<TestResult, BitSet> results = new ConcurrentHashMap<>();
+
+    TestOutcomeFilterIndex(List<? extends TestOutcome> sortedOutcomes) {
+        this.outcomes = Collections.unmodifiableList(new ArrayList<>(sortedOutcomes));
+    }
+
+    int size() {
+        return outcomes.size();
+    }
+
+    BitSet all() {
+        BitSet all = new BitSet(outcomes.size());
+        all.set(0, outcomes.size());
+        return all;
+    }
+
+    List<TestOutcome> outcomesIn(BitSet members) {
+        if (members.cardinality() == outcomes.size()) {
+            return outcomes;
+        }
+        List<TestOutcome> selectedOutcomes = new ArrayList<>(members.cardinality());
+        members.stream().forEach(position -> selectedOutcomes.add(outcomes.get(position)));
+        return Collections.unmodifiableList(selectedOutcomes);
+    }
+
+    BitSet matching(BitSet members, Predicate<TestOutcome> condition) {
+        BitSet matches = new BitSet(outcomes.size());
+        members.stream()
+                .filter(position -> condition.test(outcomes.get(position)))
+                .forEach(matches::set);
+        return matches;
+    }
+
+    /**
+     * Outcomes with a tag of this name, ignoring case.
+     */
+    BitSet withTagName(String tagName) {
+        return copyOf(tagEntries().byName.get(tagName.toLowerCase()));
+    }
+
+    /**
+     * Outcomes with a tag of this type, ignoring case.
+     */
+    BitSet withTagType(String tagType) {
+        return copyOf(tagEntries().byType.get(tagType.toLowerCase()));
+    }
+
+    /**
+     * Outcomes with a tag of one of these types (case-sensitive).
+     */
+    BitSet withTagTypeIn(Collection<String> tagTypes) {
+        BitSet matches = new BitSet(outcomes.size());
+        tagEntries().byExactType.forEach((tagType, positions) -> {
+            if (tagTypes.contains(tagType)) {
+                matches.or(positions);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Outcomes with this tag, or with a more general form of this tag.
+     * Issue tags are matched against the issues associated with each outcome.
+     */
+    BitSet withMatchingTag(TestTag tag) {
+        if (tag.getType().equalsIgnoreCase("issue")) {
+            return copyOf(tagEntries().byIssue.get(tag.getName()));
+        }
+        TagEntries entries = tagEntries();
+        String tagName = tag.normalisedName();
+        BitSet matches = copyOf(entries.byTag.get(tag));
+        orWith(matches, entries.byLastNameSegmentAndType.get(nameAndType(tagName, tag.getType())));
+        for (int slash = tagName.indexOf('/'); slash >= 0; slash = tagName.indexOf('/', slash + 1)) {
+            orWith(matches, entries.byNameAndType.get(nameAndType(tagName.substring(slash + 1), tag.getType())));
+        }
+        return matches;
+    }
+
+    /**
+     * Outcomes that failed with this error type, either in the test itself or in one of the rows of a data-driven test.
+     */
+    BitSet withErrorType(String errorType) {
+        return copyOf(errorTypes().get(errorType));
+    }
+
+    /**
+     * Outcomes with at least one scenario with the given result. Since counting scenarios depends on the type of
+     * test, the condition is supplied by the caller; it is only evaluated once per result.
+     */
+    BitSet withResult(TestResult result, Predicate<TestOutcome> hasScenarioWithResult) {
+        return copyOf(results.computeIfAbsent(result, key -> matching(all(), hasScenarioWithResult)));
+    }
+
+    private BitSet copyOf(BitSet positions) {
+        return (positions == null) ? new BitSet(outcomes.size()) : (BitSet) positions.clone();
+    }
+
+    private static void orWith(BitSet matches, BitSet positions) {
+        if (positions != null) {
+            matches.or(positions);
+        }
+    }
+
+    private TagEntries tagEntries() {
+        long tagChanges = TestOutcome.tagChangeCount();
+        TagEntries entries = tagEntries;
+        if (entries == null || entries.tagChanges != tagChanges) {
+            entries = new TagEntries(outcomes, tagChanges);
+            tagEntries = entries;
+        }
+        return entries;
+    }
+
+    private static String nameAndType(String normalisedName, String type) {
+        return normalisedName + "\n" + type;
+    }
+
+    private Map<String, BitSet> errorTypes() {
+        Map<String, BitSet> entries = errorTypes;
+        if (entries == null) {
+            entries = new HashMap<>();
+            for (int position = 0; position < outcomes.size(); position++) {
+                for (String errorType : errorTypesIn(outcomes.get(position))) {
+                    entries.computeIfAbsent(errorType, key -> new BitSet()).set(position);
+                }
+            }
+            errorTypes = entries;
+        }
+        return entries;
+    }
+
+    private Set<String> errorTypesIn(TestOutcome outcome) {
+        Set<String> errorTypes = new HashSet<>();
+        if (!outcome.isDataDriven()) {
+            if (outcome.getResult().isAtLeast(TestResult.FAILURE)) {
+                errorTypes.add(outcome.getTestFailureErrorType());
+            }
+        } else {
+            for (TestStep step : outcome.getTestSteps()) {
+                if (step.getResult().isAtLeast(TestResult.FAILURE) && step.getException() != null) {
+                    errorTypes.add(step.getException().getErrorType());
+                }
+            }
+        }
+        return errorTypes;
+    }
+
+    /**
+     * A tag matches the tags that are equal to it, the tags whose last dotted name segment is its name, and the tags
+     * whose name is one of the trailing '/' segments of its name (see {@link TestTag#isAsOrMoreSpecificThan}),
+     * so each of these forms is indexed separately.
+     */
+    private static class TagEntries {
+        private final long tagChanges;
+        private final Map<TestTag, BitSet> byTag = new HashMap<>();
+        private final Map<String, BitSet> byLastNameSegmentAndType = new HashMap<>();
+        private final Map<String, BitSet> byNameAndType = new HashMap<>();
+        private final Map<String, BitSet> byName = new HashMap<>();
+        private final Map<String, BitSet> byType = new HashMap<>();
+        private final Map<String, BitSet> byExactType = new HashMap<>();
+        private final Map<String, BitSet> byIssue = new HashMap<>();
+
+        TagEntries(List<TestOutcome> outcomes, long tagChanges) {
+            this.tagChanges = tagChanges;
+            for (int position = 0; position < outcomes.size(); position++) {
+                TestOutcome outcome = outcomes.get(position);
+                for (TestTag tag : outcome.getAllTags()) {
+                    entryFor(byTag, tag).set(position);
+                    entryFor(byLastNameSegmentAndType, nameAndType(lastNameSegmentOf(tag), tag.getType())).set(position);
+                    entryFor(byNameAndType, nameAndType(tag.normalisedName(), tag.getType())).set(position);
+                    entryFor(byName, tag.getName().toLowerCase()).set(position);
+                    entryFor(byType, tag.getType().toLowerCase()).set(position);
+                    entryFor(byExactType, tag.getType()).set(position);
+                }
+                for (String issue : outcome.getIssues()) {
+                    entryFor(byIssue, issue).set(position);
+                }
+            }
+        }
+
+        private static String lastNameSegmentOf(TestTag tag) {
+            return tag.normalisedName().replaceFirst(".*?([^\\.]+)$", "$1");
+        }
+
+        private static <K> BitSet entryFor(Map<K, BitSet> entries, K key) {
+            return entries.computeIfAbsent(key, k -> new BitSet());
+        }
+    }
+}
@@ -4,14 +4,22 @@ import com.google.inject.Inject;
 import net.serenitybdd.core.collect.NewList;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.binary.BinaryOutcomeConverter;
+import net.thucydides.core.reports.binary.BinaryTestOutcomeReporter;
+import net.thucydides.core.reports.index.IndexedTestOutcomes;
+import net.thucydides.core.reports.index.TestOutcomeIndex;
 import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
 import net.thucydides.core.reports.junit.JUnitXMLOutcomeReporter;
 import net.thucydides.core.reports.xml.XMLTestOutcomeReporter;
 import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -82,6 +90,84 @@ public class TestOutcomeLoader {
 
     }
 
+    /**
+     * Load the test outcomes from a given directory, or reuse the outcomes already loaded from the same files
+     * if shared outcome snapshots are activated (see the serenity.outcome.snapshot property).
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
+     * @return The full list of test outcomes.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
+     */
+    public List<TestOutcome> loadSharedFrom(final File reportDirectory) throws IOException {
+        java.util.Optional<TestOutcomeSnapshots> snapshots = TestOutcomeSnapshots.configuredIn(environmentVariables);
+        if (!snapshots.isPresent() || !reportDirectory.isDirectory()) {
+            return loadFrom(reportDirectory);
+        }
+        return snapshots.get().outcomesFrom(reportDirectory,
+                                            formatConfiguration.getPreferredFormat(),
+                                            getAllOutcomeFilesFrom(reportDirectory),
+                                            () -> loadFrom(reportDirectory));
+    }
+
+    /**
+     * Load a single test outcome from a given file, in the same way as the outcomes loaded from a directory.
+     *
+     * @param sourceFile A test outcome file in the format of this loader.
+     * @return The test outcome, if the file contains a valid outcome.
+     */
+    public java.util.Optional<TestOutcome> loadOutcomeFrom(final File sourceFile) {
+        return getOutcomeReporter().loadReportFrom(sourceFile).map(TestOutcomeLoader::augmented);
+    }
+
+    /**
+     * Load the test outcomes from a given directory in streaming mode.
+     * Each outcome is summarised in a {@link TestOutcomeIndex} as it is read, and only a lightweight version of the
+     * outcome, without screenshots, REST queries or report data, is kept in memory. For JSON and binary outcomes, the
+     * step evidence is skipped as the file is read rather than being loaded and then discarded. The full version of an
+     * outcome can be reloaded from the index when it is needed.
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
+     * @return The lightweight test outcomes, along with the index of the outcome files they were read from.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
+     */
+    public IndexedTestOutcomes loadIndexedFrom(final File reportDirectory) throws ReportLoadingFailedError {
+        return loadIndexedFrom(reportDirectory, false);
+    }
+
+    /**
+     * Load the test outcomes from a given directory, recording each outcome in a {@link TestOutcomeIndex} as it is read.
+     *
+     * @param reportDirectory An existing directory that contains the test outcomes in XML or JSON format.
+     * @param keepStepEvidence If false, screenshots, REST queries and report data are removed from the loaded outcomes.
+     * @return The test outcomes, along with the index of the outcome files they were read from.
+     * @throws ReportLoadingFailedError Thrown if the specified directory was invalid or loading finished with error.
+     */
+    public IndexedTestOutcomes loadIndexedFrom(final File reportDirectory, boolean keepStepEvidence) throws ReportLoadingFailedError {
+
+        final ExecutorService executorPool = Executors.newFixedThreadPool(NumberOfThreads.forIOOperations());
+        try {
+            final TestOutcomeIndex index = new TestOutcomeIndex(reportDirectory, formatConfiguration.getPreferredFormat(), this);
+            final boolean skipStepEvidence = !keepStepEvidence && canSkipStepEvidenceWhileReading();
+            final AcceptanceTestLoader testOutcomeReporter = skipStepEvidence ? getLightweightOutcomeReporter() : getOutcomeReporter();
+
+            final List<Callable<Set<TestOutcome>>> partitions = new ArrayList<>();
+            for(File sourceFile : getAllOutcomeFilesFrom(reportDirectory)) {
+                partitions.add(new IndexingTestOutcomeLoaderCallable(testOutcomeReporter, sourceFile, index, !keepStepEvidence && !skipStepEvidence));
+            }
+
+            List<TestOutcome> testOutcomes = new ArrayList<>();
+            for(Future<Set<TestOutcome>> loadedTestOutcome : executorPool.invokeAll(partitions)) {
+                testOutcomes.addAll(loadedTestOutcome.get());
+            }
+            List<TestOutcome> orderedOutcomes = hasAnnotatedOrder(testOutcomes) ? inAnnotatedOrder(testOutcomes) : inOrderOfTestExecution(testOutcomes);
+            return new IndexedTestOutcomes(index, orderedOutcomes);
+        } catch (Exception e) {
+            throw new ReportLoadingFailedError("Can not load reports for some reason", e);
+        } finally {
+            executorPool.shutdown();
+        }
+    }
+
     private final static List<? extends OutcomeAugmenter> AUGMENTERS = NewList.of(
             new FlagsAugmenter()
     );
@@ -98,20 +184,59 @@ public class TestOutcomeLoader {
 
         @Override
         public Set<TestOutcome> call() throws Exception {
-            java.util.Optional<TestOutcome> loadedTestOutcome = testOutcomeReporter.loadReportFrom(sourceFile);
+            return augmented(testOutcomeReporter.loadReportFrom(sourceFile));
+        }
 
+        protected Set<TestOutcome> augmented(java.util.Optional<TestOutcome> loadedTestOutcome) {
             return loadedTestOutcome.map(Collections::singleton).orElse(Collections.emptySet())
                     .stream()
-                    .map(this::augmented)
+                    .map(TestOutcomeLoader::augmented)
                     .collect(Collectors.toSet());
         }
+    }
+
+    private static TestOutcome augmented(final TestOutcome testOutcome) {
+
+        AUGMENTERS.forEach(
+                augmenter -> augmenter.augment(testOutcome)
+        );
+        return testOutcome;
+    }
 
-        private TestOutcome augmented(final TestOutcome testOutcome) {
+    class IndexingTestOutcomeLoaderCallable extends TestOutcomeLoaderCallable {
 
-            AUGMENTERS.forEach(
-                    augmenter -> augmenter.augment(testOutcome)
-            );
-            return testOutcome;
+        private final AcceptanceTestLoader testOutcomeReporter;
+        private final File sourceFile;
+        private final TestOutcomeIndex index;
+        private final boolean removeStepEvidence;
+
+        IndexingTestOutcomeLoaderCallable(AcceptanceTestLoader testOutcomeReporter,
+                                          File sourceFile,
+                                          TestOutcomeIndex index,
+                                          boolean removeStepEvidence) {
+            super(testOutcomeReporter, sourceFile);
+            this.testOutcomeReporter = testOutcomeReporter;
+            this.sourceFile = sourceFile;
+            this.index = index;
+            this.removeStepEvidence = removeStepEvidence;
+        }
+
+        /**
+         * The outcome file is read once, and the same contents are used both to load the outcome and to work out
+         * the digest recorded in the index.
+         */
+        @Override
+        public Set<TestOutcome> call() throws Exception {
+            byte[] contents = Files.readAllBytes(sourceFile.toPath());
+            Set<TestOutcome> loadedOutcomes = augmented(testOutcomeReporter.loadReportFrom(new ByteArrayInputStream(contents), sourceFile.getName()));
+            String digest = DigestUtils.sha256Hex(contents);
+            for (TestOutcome testOutcome : loadedOutcomes) {
+                index.record(testOutcome, sourceFile, digest);
+                if (removeStepEvidence) {
+                    testOutcome.withoutStepEvidence();
+                }
+            }
+            return loadedOutcomes;
         }
     }
 
@@ -137,14 +262,14 @@ public class TestOutcomeLoader {
 
         public TestOutcomes from(final File reportsDirectory) throws IOException {
             TestOutcomeLoader loader = new TestOutcomeLoader().forFormat(format);
-            return TestOutcomes.of(loader.loadFrom(reportsDirectory));
+            return TestOutcomes.of(loader.loadSharedFrom(reportsDirectory));
         }
 
     }
 
     public static TestOutcomes testOutcomesIn(final File reportsDirectory) throws IOException {
         TestOutcomeLoader loader = new TestOutcomeLoader();
-        return TestOutcomes.of(loader.loadFrom(reportsDirectory));
+        return TestOutcomes.of(loader.loadSharedFrom(reportsDirectory));
     }
 
     private static List<TestOutcome> inOrderOfTestExecution(List<TestOutcome> testOutcomes) {
@@ -171,16 +296,39 @@ public class TestOutcomeLoader {
                 return new XMLTestOutcomeReporter();
             case JSON:
                 return new JSONTestOutcomeReporter();
+            case BINARY:
+                return new BinaryTestOutcomeReporter();
             default:
                 throw new IllegalArgumentException("Unsupported report format: " + formatConfiguration.getPreferredFormat());
         }
     }
 
+    private boolean canSkipStepEvidenceWhileReading() {
+        OutcomeFormat format = formatConfiguration.getPreferredFormat();
+        return format == OutcomeFormat.JSON || format == OutcomeFormat.BINARY;
+    }
+
+    /**
+     * A loader that skips the screenshots, REST queries and report data of each step as the outcome files are read.
+     */
+    private AcceptanceTestLoader getLightweightOutcomeReporter() {
+        switch (formatConfiguration.getPreferredFormat()) {
+            case JSON:
+                return new JSONTestOutcomeReporter(new GsonJSONConverter(environmentVariables).withoutStepEvidence());
+            case BINARY:
+                return new BinaryTestOutcomeReporter(new BinaryOutcomeConverter(environmentVariables).withoutStepEvidence());
+            default:
+                throw new IllegalArgumentException("Step evidence cannot be skipped in the " + formatConfiguration.getPreferredFormat() + " format");
+        }
+    }
+
     private class SerializedOutcomeFilenameFilter implements FilenameFilter {
         public boolean accept(final File file, final String filename) {
             return (filename.toLowerCase(Locale.getDefault()).endsWith(formatConfiguration.getPreferredFormat().getExtension())
                     && (!filename.endsWith(".features.json"))
                     && (!filename.endsWith("manifest.json"))
+                    && (!filename.equals(TestOutcomeIndex.INDEX_FILE))
+                    && (!filename.equals("serenity-report-timings.json"))
                     && (!filename.startsWith(JUnitXMLOutcomeReporter.FILE_PREFIX))) ;
         }
     }
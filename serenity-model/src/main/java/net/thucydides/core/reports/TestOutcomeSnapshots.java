@@ -0,0 +1,203 @@
+package net.thucydides.core.reports;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.binary.BinaryOutcomeConverter;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.ref.SoftReference;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_OUTCOME_SNAPSHOT;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_OUTCOME_SNAPSHOT_CACHE;
+
+/**
+ * Keeps the test outcomes most recently loaded from a directory, so that the aggregate report, the result checker
+ * and the extended reports that run in the same JVM do not each parse the whole directory again.
+ * A snapshot is identified by the directory, the outcome format, and the names, sizes and modification times of the
+ * outcome files, so it is loaded again as soon as an outcome file changes. Only one snapshot is kept, through a
+ * soft reference, and it can also be stored on disk for build steps that run in another JVM.
+ * The reports add tags to the outcomes they are given, so the snapshot is kept in the binary outcome format, and every
+ * caller gets its own copy of the outcomes.
+ */
+class TestOutcomeSnapshots {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestOutcomeSnapshots.class);
+
+    private static final String SNAPSHOT_FORMAT = "serenity-outcome-snapshot-1";
+
+    private static final Object LOCK = new Object();
+    private static String latestFingerprint;
+    private static SoftReference<List<byte[]>> latestSnapshot = new SoftReference<>(null);
+
+    private final EnvironmentVariables environmentVariables;
+    private final Optional<Path> cacheDirectory;
+
+    private TestOutcomeSnapshots(EnvironmentVariables environmentVariables) {
+        this.environmentVariables = environmentVariables;
+        String cacheDirectoryPath = SERENITY_OUTCOME_SNAPSHOT_CACHE.from(environmentVariables);
+        this.cacheDirectory = StringUtils.isBlank(cacheDirectoryPath) ? Optional.empty() : Optional.of(Paths.get(cacheDirectoryPath));
+    }
+
+    static Optional<TestOutcomeSnapshots> configuredIn(EnvironmentVariables environmentVariables) {
+        boolean snapshotsActivated = SERENITY_OUTCOME_SNAPSHOT.booleanFrom(environmentVariables, false)
+                || StringUtils.isNotBlank(SERENITY_OUTCOME_SNAPSHOT_CACHE.from(environmentVariables));
+        return snapshotsActivated ? Optional.of(new TestOutcomeSnapshots(environmentVariables)) : Optional.empty();
+    }
+
+    /**
+     * The outcomes from the given outcome files, loaded only if there is no up-to-date snapshot of these files.
+     * Each caller gets its own copy of the outcomes, so changes made by one caller are not seen by the others.
+     */
+    List<TestOutcome> outcomesFrom(File directory,
+                                   OutcomeFormat format,
+                                   List<File> outcomeFiles,
+                                   Supplier<List<TestOutcome>> loadOutcomes) throws IOException {
+        String fingerprint = fingerprintOf(directory, format, outcomeFiles);
+        List<byte[]> snapshot;
+        synchronized (LOCK) {
+            snapshot = latestSnapshot.get();
+            if (snapshot != null && fingerprint.equals(latestFingerprint)) {
+                LOGGER.debug("Reusing the {} test outcomes already loaded from {}", snapshot.size(), directory);
+            } else {
+                snapshot = storedSnapshotMatching(directory, format, fingerprint).orElse(null);
+                if (snapshot == null) {
+                    List<TestOutcome> outcomes = loadOutcomes.get();
+                    snapshot = snapshotOf(outcomes);
+                    remember(fingerprint, snapshot);
+                    store(snapshot, directory, format, fingerprint);
+                    return outcomes;
+                }
+                remember(fingerprint, snapshot);
+            }
+        }
+        return outcomesIn(snapshot);
+    }
+
+    private void remember(String fingerprint, List<byte[]> snapshot) {
+        latestFingerprint = fingerprint;
+        latestSnapshot = new SoftReference<>(snapshot);
+    }
+
+    private List<byte[]> snapshotOf(List<TestOutcome> outcomes) {
+        BinaryOutcomeConverter converter = new BinaryOutcomeConverter(environmentVariables);
+        List<byte[]> snapshot = new ArrayList<>(outcomes.size());
+        ByteArrayOutputStream serializedOutcome = new ByteArrayOutputStream();
+        for (TestOutcome outcome : outcomes) {
+            serializedOutcome.reset();
+            try {
+                converter.toBinary(outcome, serializedOutcome);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            snapshot.add(serializedOutcome.toByteArray());
+        }
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    private List<TestOutcome> outcomesIn(List<byte[]> snapshot) {
+        BinaryOutcomeConverter converter = new BinaryOutcomeConverter(environmentVariables);
+        return snapshot.parallelStream()
+                .map(serializedOutcome -> outcomeFrom(serializedOutcome, converter))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+
+    private Optional<TestOutcome> outcomeFrom(byte[] serializedOutcome, BinaryOutcomeConverter converter) {
+        try {
+            return converter.fromBinary(new ByteArrayInputStream(serializedOutcome));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String fingerprintOf(File directory, OutcomeFormat format, List<File> outcomeFiles) throws IOException {
+        List<File> sortedFiles = new ArrayList<>(outcomeFiles);
+        sortedFiles.sort(Comparator.comparing(File::getName));
+
+        StringBuilder fileDetails = new StringBuilder(directory.getCanonicalPath()).append('\n').append(format);
+        for (File outcomeFile : sortedFiles) {
+            fileDetails.append('\n').append(outcomeFile.getName())
+                       .append(' ').append(outcomeFile.length())
+                       .append(' ').append(outcomeFile.lastModified());
+        }
+        return DigestUtils.sha256Hex(fileDetails.toString());
+    }
+
+    private Optional<List<byte[]>> storedSnapshotMatching(File directory, OutcomeFormat format, String fingerprint) {
+        Optional<Path> snapshotFile = snapshotFileFor(directory, format);
+        if (!snapshotFile.isPresent() || !Files.exists(snapshotFile.get())) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile.get())))) {
+            if (!SNAPSHOT_FORMAT.equals(in.readUTF()) || !fingerprint.equals(in.readUTF())) {
+                return Optional.empty();
+            }
+            int outcomeCount = in.readInt();
+            List<byte[]> snapshot = new ArrayList<>(outcomeCount);
+            for (int i = 0; i < outcomeCount; i++) {
+                byte[] serializedOutcome = new byte[in.readInt()];
+                in.readFully(serializedOutcome);
+                snapshot.add(serializedOutcome);
+            }
+            LOGGER.debug("Loaded {} test outcomes for {} from {}", snapshot.size(), directory, snapshotFile.get());
+            return Optional.of(Collections.unmodifiableList(snapshot));
+        } catch (IOException | RuntimeException unreadableSnapshot) {
+            LOGGER.debug("Could not read the test outcome snapshot {}: {}", snapshotFile.get(), unreadableSnapshot.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(List<byte[]> snapshot, File directory, OutcomeFormat format, String fingerprint) {
+        Optional<Path> snapshotFile = snapshotFileFor(directory, format);
+        if (!snapshotFile.isPresent()) {
+            return;
+        }
+        Path incomingSnapshot = null;
+        try {
+            Files.createDirectories(snapshotFile.get().getParent());
+            incomingSnapshot = Files.createTempFile(snapshotFile.get().getParent(), "incoming-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(incomingSnapshot)))) {
+                out.writeUTF(SNAPSHOT_FORMAT);
+                out.writeUTF(fingerprint);
+                out.writeInt(snapshot.size());
+                for (byte[] serializedOutcome : snapshot) {
+                    out.writeInt(serializedOutcome.length);
+                    out.write(serializedOutcome);
+                }
+            }
+            Files.move(incomingSnapshot, snapshotFile.get(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not store the test outcome snapshot for {}: {}", directory, e.getMessage());
+            deleteQuietly(incomingSnapshot);
+        }
+    }
+
+    private void deleteQuietly(Path incomingSnapshot) {
+        if (incomingSnapshot == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(incomingSnapshot);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private Optional<Path> snapshotFileFor(File directory, OutcomeFormat format) {
+        return cacheDirectory.map(
+                cache -> cache.resolve(DigestUtils.sha256Hex(directory.getAbsolutePath() + "\n" + format) + ".snapshot")
+        );
+    }
+}
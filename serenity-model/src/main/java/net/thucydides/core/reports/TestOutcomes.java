@@ -45,7 +45,14 @@ public class TestOutcomes {
     private final Optional<TestOutcomes> rootOutcomes;
     private final double estimatedAverageStepCount;
     private final EnvironmentVariables environmentVariables;
-    private final RequirementsService requirementsService;
+    private RequirementsService requirementsService;
+
+    /**
+     * The index is built over the sorted outcomes of the original set, and shared by every view derived from it.
+     * The members are the positions in the index of the outcomes in this view.
+     */
+    private final TestOutcomeFilterIndex index;
+    private final BitSet members;
 
     /**
      * A label indicating where these tests come from (e.g. the tag, the result status, etc).
@@ -69,9 +76,23 @@ public class TestOutcomes {
                            TestResult resultFilter,
                            TestOutcomes rootOutcomes,
                            EnvironmentVariables environmentVariables) {
-        outcomeCount = outcomeCount + outcomes.size();
+        this(new TestOutcomeFilterIndex(sorted(outcomes)), null,
+             estimatedAverageStepCount, label, testTag, resultFilter, rootOutcomes, environmentVariables);
+    }
+
+    private TestOutcomes(TestOutcomeFilterIndex index,
+                         BitSet members,
+                         double estimatedAverageStepCount,
+                         String label,
+                         TestTag testTag,
+                         TestResult resultFilter,
+                         TestOutcomes rootOutcomes,
+                         EnvironmentVariables environmentVariables) {
+        this.index = index;
+        this.members = (members != null) ? members : index.all();
+        this.outcomes = index.outcomesIn(this.members);
 
-        this.outcomes = Collections.unmodifiableList(sorted(outcomes));
+        outcomeCount = outcomeCount + outcomes.size();
 
         this.estimatedAverageStepCount = estimatedAverageStepCount;
         this.label = label;
@@ -79,10 +100,9 @@ public class TestOutcomes {
         this.resultFilter = resultFilter;
         this.rootOutcomes = Optional.ofNullable(rootOutcomes);
         this.environmentVariables = environmentVariables;
-        this.requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
     }
 
-    private List<TestOutcome> sorted(Collection<? extends TestOutcome> outcomes) {
+    private static List<TestOutcome> sorted(Collection<? extends TestOutcome> outcomes) {
         return outcomes.stream()
                 .sorted(Comparator.comparing(TestOutcome::getPath,
                         Comparator.nullsFirst(naturalOrder()))
@@ -116,12 +136,34 @@ public class TestOutcomes {
         this(outcomes, estimatedAverageStepCount, "");
     }
 
+    /**
+     * A view of the outcomes at the given positions of the index, in the same order as the original outcomes.
+     */
+    private TestOutcomes view(BitSet members, String label, TestTag testTag, TestResult resultFilter, TestOutcomes rootOutcomes) {
+        return new TestOutcomes(index, members, estimatedAverageStepCount, label, testTag, resultFilter, rootOutcomes, environmentVariables);
+    }
+
+    /**
+     * The outcomes in this set that are also in the matching positions of the index.
+     */
+    private TestOutcomes subset(BitSet matches) {
+        matches.and(members);
+        return view(matches, "", null, null, null);
+    }
+
+    private RequirementsService requirementsService() {
+        if (requirementsService == null) {
+            requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
+        }
+        return requirementsService;
+    }
+
     public TestOutcomes withLabel(String label) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label);
+        return view(members, label, null, null, null);
     }
 
     public TestOutcomes withResultFilter(TestResult testResult) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, testResult);
+        return view(members, label, null, testResult, null);
     }
 
     public TestOutcomes filteredByEnvironmentTags() {
@@ -140,7 +182,7 @@ public class TestOutcomes {
         return havingResult(TestResult.valueOf(result.toUpperCase()));
     }
 
-    private List<TestOutcome> outcomesFilteredByResult(TestResult... results) {
+    private TestOutcomes outcomesFilteredByResult(TestResult... results) {
         if (onlyPassing(results)) {
             return outcomesExclusivelyWithResults(results);
         } else {
@@ -152,18 +194,14 @@ public class TestOutcomes {
         return stream(results).allMatch( result -> result == TestResult.SUCCESS);
     }
 
-    private List<TestOutcome> outcomesExclusivelyWithResults(TestResult... results) {
+    private TestOutcomes outcomesExclusivelyWithResults(TestResult... results) {
         List<TestResult> eligableResults = NewList.of(results);
 
-        return outcomes.stream()
-                .filter(outcome -> eligableResults.contains(outcome.getResult()))
-                .collect(Collectors.toList());
+        return subset(index.matching(members, outcome -> eligableResults.contains(outcome.getResult())));
     }
 
-    private List<TestOutcome> outcomesWithAtLeastOneResultOf(TestResult... results) {
-        return outcomes.stream()
-                .filter(outcome -> outcomeHasResultFrom(outcome, results))
-                .collect(Collectors.toList());
+    private TestOutcomes outcomesWithAtLeastOneResultOf(TestResult... results) {
+        return subset(index.matching(members, outcome -> outcomeHasResultFrom(outcome, results)));
     }
 
     private boolean outcomeHasResultFrom(TestOutcome outcome, TestResult... results) {
@@ -180,7 +218,7 @@ public class TestOutcomes {
 
     public TestOutcomes havingResult(TestResult result) {
 
-        return TestOutcomes.of(outcomesFilteredByResult(result))
+        return outcomesFilteredByResult(result)
                 .withLabel(labelForTestsWithStatus(result.name()))
                 .withResultFilter(result)
                 .withRootOutcomes(getRootOutcomes());
@@ -249,7 +287,7 @@ public class TestOutcomes {
     }
 
     public List<String> getRequirementTagTypes() {
-       return requirementsService.getRequirementTypes()
+       return requirementsService().getRequirementTypes()
                .stream()
                .filter(tagType -> getTagTypes().contains(tagType))
                .collect(Collectors.toList());
@@ -369,20 +407,16 @@ public class TestOutcomes {
 
     public TestOutcomes forRequirement(Requirement requirement) {
 
-        Set<TestOutcome> testOutcomesForThisRequirement = new HashSet<>();
+        List<TestOutcomes> testOutcomesForThisRequirement = new ArrayList<>();
 
         for(Requirement childRequirement : RequirementsTree.forRequirement(requirement).asFlattenedList()) {
-            testOutcomesForThisRequirement.addAll(
-                    withTag(childRequirement.asTag()).getOutcomes()
-            );
+            testOutcomesForThisRequirement.add(outcomesWithMatchingTag(childRequirement.asTag()));
             if (childRequirement.getCardNumber() != null) {
-                testOutcomesForThisRequirement.addAll(
-                        withCardNumber(childRequirement.getCardNumber()).getOutcomes()
-                );
+                testOutcomesForThisRequirement.add(outcomesWithMatchingTag(issueTag(childRequirement.getCardNumber())));
             }
         }
 
-        return TestOutcomes.of(testOutcomesForThisRequirement)
+        return unionOf(testOutcomesForThisRequirement)
                 .withLabel(requirement.getDisplayName())
                 .withTestTag(requirement.asTag())
                 .withRootOutcomes(getRootOutcomes());
@@ -409,24 +443,7 @@ public class TestOutcomes {
     }
 
     public TestOutcomes ofType(TestType testType) {
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> outcome.typeCompatibleWith(testType))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes);
-    }
-
-    private boolean failedWith(TestOutcome outcome, String testFailureErrorType) {
-        if (!outcome.isDataDriven()) {
-            return (outcome.getTestFailureErrorType().equals(testFailureErrorType) && (outcome.getResult().isAtLeast(TestResult.FAILURE)));
-        }
-        return outcome.getTestSteps().stream()
-                .anyMatch(
-                        step -> step.getResult().isAtLeast(TestResult.FAILURE)
-                                && step.getException() != null
-                                && step.getException().getErrorType().equals(testFailureErrorType)
-                );
+        return subset(index.matching(members, outcome -> outcome.typeCompatibleWith(testType)));
     }
 
     public Integer scenarioCountWithResult(TestResult result) {
@@ -484,28 +501,17 @@ public class TestOutcomes {
     }
 
     public TestOutcomes withErrorType(String testFailureErrorType) {
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> failedWith(outcome, testFailureErrorType))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes).withLabel("");
+        return subset(index.withErrorType(testFailureErrorType)).withLabel("");
     }
 
     public TestOutcomes withResult(TestResult result) {
-
-        List<TestOutcome> filteredOutcomes = outcomes
-                .stream()
-                .filter(outcome -> countScenariosWithResult(result, outcome) > 0)
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(filteredOutcomes);
+        return subset(index.withResult(result, outcome -> countScenariosWithResult(result, outcome) > 0));
     }
 
     public TestOutcomes withRequirementsTags() {
         for (TestOutcome outcome : outcomes) {
             List<TestTag> outcomeTags = new ArrayList<>(outcome.getAllTags());
-            List<Requirement> parentRequirements = requirementsService.getAncestorRequirementsFor(outcome);
+            List<Requirement> parentRequirements = requirementsService().getAncestorRequirementsFor(outcome);
             for(Requirement requirement : parentRequirements) {
                 outcomeTags.add(requirement.asTag());
             }
@@ -590,26 +596,16 @@ public class TestOutcomes {
      * @return A new set of test outcomes for this tag type
      */
     public TestOutcomes withTagType(String tagType) {
-
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithType(tagType))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(tagType).withRootOutcomes(getRootOutcomes());
+        return subset(index.withTagType(tagType)).withLabel(tagType).withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withTagTypes(List<String> tagTypes) {
-
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithTypes(tagTypes))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(Joiner.on(",").join(tagTypes))
+        return subset(index.withTagTypeIn(tagTypes)).withLabel(Joiner.on(",").join(tagTypes))
                            .withRootOutcomes(getRootOutcomes());
     }
 
     private TestOutcomes withRootOutcomes(TestOutcomes rootOutcomes) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, this.label, this.testTag, this.resultFilter, rootOutcomes, environmentVariables);
+        return view(members, label, testTag, resultFilter, rootOutcomes);
     }
 
     /**
@@ -619,47 +615,68 @@ public class TestOutcomes {
      * @return A new set of test outcomes for this tag name
      */
     public TestOutcomes withTag(String tagName) {
-
-        List<TestOutcome> testOutcomesWithTags = outcomes.stream()
-                .filter(outcome -> outcome.hasTagWithName(tagName))
-                .collect(Collectors.toList());
-
-        return TestOutcomes.of(testOutcomesWithTags).withLabel(tagName).withRootOutcomes(getRootOutcomes());
+        return subset(index.withTagName(tagName)).withLabel(tagName).withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withTag(TestTag tag) {
-        List<? extends TestOutcome> outcomesWithMatchingTag = matchingOutcomes(outcomes, tag);
-        return TestOutcomes.of(outcomesWithMatchingTag)
+        return outcomesWithMatchingTag(tag)
                            .withLabel(tag.getShortName())
                            .withTestTag(tag)
                            .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes withCardNumber(String issueCardNumber) {
-        List<? extends TestOutcome> outcomesWithMatchingTag
-                = matchingOutcomes(outcomes, TestTag.withName(issueCardNumber).andType("issue"));
-        return TestOutcomes.of(outcomesWithMatchingTag)
-                .withTestTag(TestTag.withName(issueCardNumber).andType("issue"))
+        return outcomesWithMatchingTag(issueTag(issueCardNumber))
+                .withTestTag(issueTag(issueCardNumber))
                 .withRootOutcomes(getRootOutcomes());
     }
+
+    private TestTag issueTag(String issueCardNumber) {
+        return TestTag.withName(issueCardNumber).andType("issue");
+    }
+
     private TestOutcomes withTestTag(TestTag tag) {
-        return new TestOutcomes(this.outcomes, this.estimatedAverageStepCount, label, tag);
+        return view(members, label, tag, null, null);
     }
 
     public TestOutcomes withTags(Collection<TestTag> tags) {
-        Set<TestOutcome> filteredOutcomes = new HashSet<>();
+        List<TestOutcomes> filteredOutcomes = new ArrayList<>();
         for (TestTag tag : tags) {
-            filteredOutcomes.addAll(matchingOutcomes(outcomes, tag));
+            filteredOutcomes.add(outcomesWithMatchingTag(tag));
         }
-        return TestOutcomes.of(filteredOutcomes);
+        return unionOf(filteredOutcomes);
     }
 
-    private List<? extends TestOutcome> matchingOutcomes(List<? extends TestOutcome> outcomes, TestTag tag) {
+    /**
+     * Data-driven outcomes are trimmed down to the data rows with a matching tag. If this changes any of the
+     * matching outcomes, the result can no longer share the index, and is built from the trimmed outcomes instead.
+     */
+    private TestOutcomes outcomesWithMatchingTag(TestTag tag) {
+        BitSet matches = index.withMatchingTag(tag);
+        matches.and(members);
 
-        return outcomes.stream()
-                .filter(outcome -> hasMatchingTag(outcome, tag))
+        List<TestOutcome> matchingOutcomes = index.outcomesIn(matches);
+        List<TestOutcome> filteredOutcomes = matchingOutcomes.stream()
                 .map(outcome -> outcome.withDataRowsfilteredbyTag(tag))
                 .collect(Collectors.toList());
+
+        for (int i = 0; i < matchingOutcomes.size(); i++) {
+            if (filteredOutcomes.get(i) != matchingOutcomes.get(i)) {
+                return TestOutcomes.of(filteredOutcomes);
+            }
+        }
+        return subset(matches);
+    }
+
+    private TestOutcomes unionOf(List<TestOutcomes> outcomeSets) {
+        if (outcomeSets.stream().allMatch(outcomeSet -> outcomeSet.index == index)) {
+            BitSet union = new BitSet(index.size());
+            outcomeSets.forEach(outcomeSet -> union.or(outcomeSet.members));
+            return subset(union);
+        }
+        Set<TestOutcome> combinedOutcomes = new HashSet<>();
+        outcomeSets.forEach(outcomeSet -> combinedOutcomes.addAll(outcomeSet.getOutcomes()));
+        return TestOutcomes.of(combinedOutcomes);
     }
 
     private List<? extends TestOutcome> matchingOutcomesWithTagsFrom(List<? extends TestOutcome> outcomes, Collection<TestTag> tags) {
@@ -691,7 +708,7 @@ public class TestOutcomes {
     }
 
     public TestOutcomes getUnsuccessfulTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.ERROR, TestResult.FAILURE,  TestResult.COMPROMISED))
+        return outcomesFilteredByResult(TestResult.ERROR, TestResult.FAILURE,  TestResult.COMPROMISED)
                 .withLabel(labelForTestsWithStatus("unsuccessful tests"))
                 .withResultFilter(TestResult.UNSUCCESSFUL)
                 .withRootOutcomes(getRootOutcomes());
@@ -703,28 +720,28 @@ public class TestOutcomes {
      * @return A new set of test outcomes containing only the failing tests
      */
     public TestOutcomes getFailingTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.FAILURE))
+        return outcomesFilteredByResult(TestResult.FAILURE)
                 .withLabel(labelForTestsWithStatus("failing tests"))
                 .withResultFilter(TestResult.FAILURE)
                 .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes getAbortedTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.ABORTED))
+        return outcomesFilteredByResult(TestResult.ABORTED)
                 .withLabel(labelForTestsWithStatus("aborted tests"))
                 .withResultFilter(TestResult.ABORTED)
                 .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes getErrorTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.ERROR))
+        return outcomesFilteredByResult(TestResult.ERROR)
                 .withLabel(labelForTestsWithStatus("tests with errors"))
                 .withResultFilter(TestResult.ERROR)
                 .withRootOutcomes(getRootOutcomes());
     }
 
     public TestOutcomes getCompromisedTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.COMPROMISED))
+        return outcomesFilteredByResult(TestResult.COMPROMISED)
                 .withLabel(labelForTestsWithStatus("compromised tests"))
                 .withResultFilter(TestResult.COMPROMISED)
                 .withRootOutcomes(getRootOutcomes());
@@ -744,7 +761,7 @@ public class TestOutcomes {
      * @return A new set of test outcomes containing only the successful tests
      */
     public TestOutcomes getPassingTests() {
-        return TestOutcomes.of(outcomesFilteredByResult(TestResult.SUCCESS))
+        return outcomesFilteredByResult(TestResult.SUCCESS)
                 .withLabel(labelForTestsWithStatus("passing tests"))
                 .withResultFilter(TestResult.SUCCESS)
                 .withRootOutcomes(getRootOutcomes());
@@ -0,0 +1,423 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.thucydides.core.reports.binary.BinaryOutcomeFormat.*;
+
+/**
+ * A Gson {@link JsonReader} that reads a document written in the binary outcome format, so that the existing Gson
+ * type adapters can be used to read binary outcomes.
+ * Values are decoded one token at a time as the type adapters ask for them, without building a tree of the whole
+ * document first.
+ * <p>
+ * Gson's own map adapter relies on internals of the text reader to read object field names as map keys, so maps
+ * are read with a {@link NamedKeyMapTypeAdapterFactory} instead.
+ */
+class BinaryJsonReader extends JsonReader {
+
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private static final int NOTHING_PEEKED = -1;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int IN_ARRAY = 2;
+    private static final int EXPECTING_NAME = 3;
+    private static final int EXPECTING_VALUE = 4;
+
+    private final DataInputStream in;
+
+    private final List<String> stringTable = new ArrayList<>();
+
+    private int[] scopes = new int[32];
+    private int depth = 0;
+
+    private int peekedTag = NOTHING_PEEKED;
+
+    private boolean headerRead = false;
+
+    BinaryJsonReader(InputStream inputStream) {
+        super(UNREADABLE_READER);
+        this.in = new DataInputStream(inputStream);
+        push(EMPTY_DOCUMENT);
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        int scope = scopes[depth - 1];
+        if (scope == NONEMPTY_DOCUMENT) {
+            return JsonToken.END_DOCUMENT;
+        }
+        int tag = peekedTag();
+        if (scope == EXPECTING_NAME) {
+            if (tag == END) {
+                return JsonToken.END_OBJECT;
+            }
+            if (tag == STRING || tag == STRING_REFERENCE) {
+                return JsonToken.NAME;
+            }
+            throw new MalformedJsonException("Expected a field name in binary outcome but found tag " + tag);
+        }
+        if (scope == IN_ARRAY && tag == END) {
+            return JsonToken.END_ARRAY;
+        }
+        return valueTokenFor(tag);
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        consumeValue();
+        push(IN_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        peekedTag = NOTHING_PEEKED;
+        depth--;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        consumeValue();
+        push(EXPECTING_NAME);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        peekedTag = NOTHING_PEEKED;
+        depth--;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        String name = readString(peekedTag);
+        peekedTag = NOTHING_PEEKED;
+        scopes[depth - 1] = EXPECTING_VALUE;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected a string but was " + token + " at " + getPath());
+        }
+        String value;
+        switch (peekedTag) {
+            case STRING:
+            case STRING_REFERENCE:
+                value = readString(peekedTag);
+                break;
+            case LONG:
+                value = Long.toString(readLong());
+                break;
+            case DOUBLE:
+                value = Double.toString(in.readDouble());
+                break;
+            case NUMBER:
+                value = readUtf8();
+                break;
+            default:
+                throw new IllegalStateException("Expected a string but was " + token + " at " + getPath());
+        }
+        consumeValue();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.BOOLEAN) {
+            throw new IllegalStateException("Expected a boolean but was " + token + " at " + getPath());
+        }
+        boolean value = (peekedTag == TRUE);
+        consumeValue();
+        return value;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        consumeValue();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected a double but was " + token + " at " + getPath());
+        }
+        double value;
+        switch (peekedTag) {
+            case LONG:
+                value = readLong();
+                break;
+            case DOUBLE:
+                value = in.readDouble();
+                break;
+            case NUMBER:
+                value = Double.parseDouble(readUtf8());
+                break;
+            case STRING:
+            case STRING_REFERENCE:
+                value = Double.parseDouble(readString(peekedTag));
+                break;
+            default:
+                throw new IllegalStateException("Expected a double but was " + token + " at " + getPath());
+        }
+        consumeValue();
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected a long but was " + token + " at " + getPath());
+        }
+        long value;
+        switch (peekedTag) {
+            case LONG:
+                value = readLong();
+                break;
+            case DOUBLE:
+                value = exactLong(in.readDouble());
+                break;
+            case NUMBER:
+                value = exactLong(readUtf8());
+                break;
+            case STRING:
+            case STRING_REFERENCE:
+                value = exactLong(readString(peekedTag));
+                break;
+            default:
+                throw new IllegalStateException("Expected a long but was " + token + " at " + getPath());
+        }
+        consumeValue();
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value != (int) value) {
+            throw new NumberFormatException("Expected an int but was " + value + " at " + getPath());
+        }
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        JsonToken token = peek();
+        switch (token) {
+            case NAME:
+                nextName();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BOOLEAN:
+                nextBoolean();
+                break;
+            case NULL:
+                nextNull();
+                break;
+            case STRING:
+            case NUMBER:
+                // Strings are read rather than skipped so that later references to them can be resolved
+                nextString();
+                break;
+            default:
+                throw new IllegalStateException("Expected a value but was " + token + " at " + getPath());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        peekedTag = NOTHING_PEEKED;
+        depth = 1;
+        scopes[0] = NONEMPTY_DOCUMENT;
+        in.close();
+    }
+
+    @Override
+    public String getPath() {
+        return "binary outcome (depth " + (depth - 1) + ")";
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private int peekedTag() throws IOException {
+        if (peekedTag == NOTHING_PEEKED) {
+            if (!headerRead) {
+                readHeader();
+            }
+            peekedTag = in.readUnsignedByte();
+        }
+        return peekedTag;
+    }
+
+    private void readHeader() throws IOException {
+        byte[] header = new byte[MAGIC_NUMBER.length];
+        in.readFully(header);
+        if (!Arrays.equals(header, MAGIC_NUMBER)) {
+            throw new MalformedJsonException("Not a binary Serenity outcome");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new MalformedJsonException("Unsupported binary outcome version: " + version);
+        }
+        headerRead = true;
+    }
+
+    private JsonToken valueTokenFor(int tag) throws IOException {
+        switch (tag) {
+            case NULL:
+                return JsonToken.NULL;
+            case TRUE:
+            case FALSE:
+                return JsonToken.BOOLEAN;
+            case LONG:
+            case DOUBLE:
+            case NUMBER:
+                return JsonToken.NUMBER;
+            case STRING:
+            case STRING_REFERENCE:
+                return JsonToken.STRING;
+            case BEGIN_ARRAY:
+                return JsonToken.BEGIN_ARRAY;
+            case BEGIN_OBJECT:
+                return JsonToken.BEGIN_OBJECT;
+            default:
+                throw new MalformedJsonException("Unexpected tag in binary outcome: " + tag);
+        }
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " at " + getPath());
+        }
+    }
+
+    /**
+     * Mark the peeked value as read, and move the enclosing object or document on to what comes after it.
+     */
+    private void consumeValue() {
+        peekedTag = NOTHING_PEEKED;
+        int scope = scopes[depth - 1];
+        if (scope == EXPECTING_VALUE) {
+            scopes[depth - 1] = EXPECTING_NAME;
+        } else if (scope == EMPTY_DOCUMENT) {
+            scopes[depth - 1] = NONEMPTY_DOCUMENT;
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private static long exactLong(double value) {
+        long longValue = (long) value;
+        if (longValue != value) {
+            throw new NumberFormatException("Expected a long but was " + value);
+        }
+        return longValue;
+    }
+
+    private static long exactLong(String value) {
+        try {
+            return new BigDecimal(value).longValueExact();
+        } catch (ArithmeticException notALong) {
+            throw new NumberFormatException("Expected a long but was " + value);
+        }
+    }
+
+    private String readString(int tag) throws IOException {
+        if (tag == STRING_REFERENCE) {
+            return stringTable.get((int) readVarLong());
+        }
+        int length = (int) readVarLong();
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (length <= MAXIMUM_SHARED_STRING_LENGTH) {
+            stringTable.add(value);
+        }
+        return value;
+    }
+
+    private String readUtf8() throws IOException {
+        byte[] bytes = new byte[(int) readVarLong()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readLong() throws IOException {
+        long encoded = readVarLong();
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int nextByte;
+        do {
+            nextByte = in.readUnsignedByte();
+            value |= (long) (nextByte & 0x7F) << shift;
+            shift += 7;
+        } while ((nextByte & 0x80) != 0);
+        return value;
+    }
+}
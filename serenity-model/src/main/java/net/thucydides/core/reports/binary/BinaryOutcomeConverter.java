@@ -0,0 +1,65 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.gson.Gson;
+import net.thucydides.core.model.OutcomeTypeAdapterFactory;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.json.AScenarioHasNoNameException;
+import net.thucydides.core.reports.json.gson.GsonJSONConverter;
+import net.thucydides.core.util.EnvironmentVariables;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Converts test outcomes to and from the binary outcome format.
+ * The outcomes are mapped using the same Gson configuration as the JSON outcomes, so both formats hold the same data,
+ * and are read as a stream of tokens without building an intermediate JSON tree.
+ */
+public class BinaryOutcomeConverter {
+
+    private final Gson gson;
+
+    public BinaryOutcomeConverter(EnvironmentVariables environmentVariables) {
+        this.gson = new GsonJSONConverter(environmentVariables).getGson()
+                .newBuilder()
+                .registerTypeAdapterFactory(new NamedKeyMapTypeAdapterFactory())
+                .create();
+    }
+
+    private BinaryOutcomeConverter(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * A converter that reads lightweight test outcomes, skipping the screenshots, REST queries and report data
+     * of each step as the outcome is read.
+     */
+    public BinaryOutcomeConverter withoutStepEvidence() {
+        return new BinaryOutcomeConverter(gson.newBuilder().registerTypeAdapterFactory(OutcomeTypeAdapterFactory.withoutStepEvidence()).create());
+    }
+
+    public void toBinary(TestOutcome testOutcome, OutputStream outputStream) throws IOException {
+        testOutcome.calculateDynamicFieldValues();
+        BinaryJsonWriter writer = new BinaryJsonWriter(outputStream);
+        gson.toJson(testOutcome, TestOutcome.class, writer);
+        writer.flush();
+    }
+
+    public Optional<TestOutcome> fromBinary(InputStream inputStream) throws IOException {
+        TestOutcome testOutcome = gson.fromJson(new BinaryJsonReader(inputStream), TestOutcome.class);
+        return (testOutcome != null && isValid(testOutcome)) ? Optional.of(testOutcome) : Optional.empty();
+    }
+
+    private boolean isValid(TestOutcome testOutcome) {
+        boolean isValidOutcome = isNotEmpty(testOutcome.getId());
+        if (isValidOutcome && isEmpty(testOutcome.getName())) {
+            throw new AScenarioHasNoNameException(testOutcome.getId());
+        }
+        return isValidOutcome;
+    }
+}
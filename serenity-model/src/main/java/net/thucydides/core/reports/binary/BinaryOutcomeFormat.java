@@ -0,0 +1,38 @@
+package net.thucydides.core.reports.binary;
+
+/**
+ * The binary outcome format stores the same document as the JSON outcome format, in a more compact form.
+ * A file starts with a magic number and a version byte, followed by a single encoded value:
+ * <ul>
+ *     <li>Objects and arrays are written as a start marker, followed by their contents and an end marker.
+ *     Object fields are written as a string (the name) followed by the value.</li>
+ *     <li>Strings are written as a length-prefixed UTF-8 byte sequence. Short strings are numbered in the order they
+ *     first appear, and later occurrences are written as a reference to this number, so field names and common
+ *     values like test results only appear once in each file.</li>
+ *     <li>Integers are written as zig-zag encoded variable-length integers, and other numbers as doubles.</li>
+ * </ul>
+ */
+final class BinaryOutcomeFormat {
+
+    static final byte[] MAGIC_NUMBER = {'S', 'B', 'O'};
+    static final int VERSION = 1;
+
+    static final int NULL = 0x00;
+    static final int TRUE = 0x01;
+    static final int FALSE = 0x02;
+    static final int LONG = 0x03;
+    static final int DOUBLE = 0x04;
+    static final int NUMBER = 0x05;
+    static final int STRING = 0x06;
+    static final int STRING_REFERENCE = 0x07;
+    static final int BEGIN_ARRAY = 0x08;
+    static final int BEGIN_OBJECT = 0x09;
+    static final int END = 0x0A;
+
+    /**
+     * Strings of up to this many bytes are added to the table of shared strings.
+     */
+    static final int MAXIMUM_SHARED_STRING_LENGTH = 64;
+
+    private BinaryOutcomeFormat() {}
+}
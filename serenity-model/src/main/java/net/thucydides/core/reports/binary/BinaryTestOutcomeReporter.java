@@ -0,0 +1,143 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.common.base.Preconditions;
+import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.model.ReportType;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.AcceptanceTestLoader;
+import net.thucydides.core.reports.AcceptanceTestReporter;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.io.SafelyMoveFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Stores test outcomes in the compact binary outcome format, and loads them back for the aggregate reports.
+ * Use the 'binary' output format to produce these files.
+ */
+public class BinaryTestOutcomeReporter implements AcceptanceTestReporter, AcceptanceTestLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryTestOutcomeReporter.class);
+
+    private File outputDirectory;
+
+    private transient String qualifier;
+
+    private BinaryOutcomeConverter converter;
+
+    public BinaryTestOutcomeReporter() {
+    }
+
+    /**
+     * A reporter that reads and writes outcomes with a given converter, for example one that skips the step evidence.
+     */
+    public BinaryTestOutcomeReporter(BinaryOutcomeConverter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public String getName() {
+        return "binary";
+    }
+
+    private BinaryOutcomeConverter converter() {
+        if (converter == null) {
+            converter = new BinaryOutcomeConverter(ConfiguredEnvironment.getEnvironmentVariables());
+        }
+        return converter;
+    }
+
+    @Override
+    public File generateReportFor(TestOutcome testOutcome) throws IOException {
+        TestOutcome storedTestOutcome = testOutcome.withQualifier(qualifier);
+        Preconditions.checkNotNull(outputDirectory);
+        String reportFilename = storedTestOutcome.getReportName(ReportType.BINARY);
+        File temporary = new File(outputDirectory, reportFilename.concat(UUID.randomUUID().toString()));
+        File report = new File(outputDirectory, reportFilename);
+
+        LOGGER.debug("Generating binary report for {} to file {}", testOutcome.getTitle(), report.getAbsolutePath());
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(temporary))) {
+            converter().toBinary(storedTestOutcome, outputStream);
+        }
+
+        SafelyMoveFiles.withMaxRetriesOf(3).from(temporary.toPath()).to(report.toPath());
+
+        return report;
+    }
+
+    @Override
+    public void setOutputDirectory(final File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    @Override
+    public void setQualifier(final String qualifier) {
+        this.qualifier = qualifier;
+    }
+
+    @Override
+    public void setResourceDirectory(String resourceDirectoryPath) {
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final Path reportFile) {
+        return loadReportFrom(reportFile.toFile());
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final File reportFile) {
+        if (!reportFile.getName().toLowerCase().endsWith(OutcomeFormat.BINARY.getExtension())) {
+            return Optional.empty();
+        }
+        try (InputStream in = new FileInputStream(reportFile)) {
+            return loadReportFrom(in, reportFile.getName());
+        } catch (IOException e) {
+            LOGGER.debug("Could not read the binary Serenity test report: " + reportFile.getName()
+                    + System.lineSeparator() + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final InputStream reportContents, final String reportFileName) {
+        if (!reportFileName.toLowerCase().endsWith(OutcomeFormat.BINARY.getExtension())) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(reportContents)) {
+            return converter().fromBinary(in);
+        } catch (Throwable e) {
+            LOGGER.debug("This file was not a valid binary Serenity test report: " + reportFileName
+                    + System.lineSeparator() + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<TestOutcome> loadReportsFrom(final Path outputDirectory) {
+        return loadReportsFrom(outputDirectory.toFile());
+    }
+
+    @Override
+    public List<TestOutcome> loadReportsFrom(File outputDirectory) {
+        File[] reportFiles = outputDirectory.listFiles(
+                (directory, filename) -> filename.toLowerCase(Locale.getDefault()).endsWith(OutcomeFormat.BINARY.getExtension())
+        );
+        List<TestOutcome> testOutcomes = new ArrayList<>();
+        if (reportFiles != null) {
+            for (File reportFile : reportFiles) {
+                loadReportFrom(reportFile).ifPresent(testOutcomes::add);
+            }
+        }
+        return testOutcomes;
+    }
+
+    @Override
+    public Optional<OutcomeFormat> getFormat() {
+        return Optional.of(OutcomeFormat.BINARY);
+    }
+}
@@ -0,0 +1,119 @@
+package net.thucydides.core.reports.binary;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Reads maps written as JSON objects by reading each field name as a key, rather than through the internals of
+ * Gson's text reader, so that maps can be read from a {@link BinaryJsonReader}.
+ * Maps are written in the same way as by Gson's own map adapter.
+ */
+class NamedKeyMapTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (!Map.class.isAssignableFrom(rawType)) {
+            return null;
+        }
+        Supplier<Map<Object, Object>> newMap = mapConstructorFor(rawType);
+        if (newMap == null) {
+            return null;
+        }
+        Type[] keyAndValueTypes = keyAndValueTypesOf(type.getType());
+        TypeAdapter<T> defaultAdapter = gson.getDelegateAdapter(this, type);
+        return new NamedKeyMapTypeAdapter<>(defaultAdapter,
+                                            newMap,
+                                            keyAndValueTypes[0],
+                                            gson.getAdapter(TypeToken.get(keyAndValueTypes[0])),
+                                            gson.getAdapter(TypeToken.get(keyAndValueTypes[1])));
+    }
+
+    private static Supplier<Map<Object, Object>> mapConstructorFor(Class<?> rawType) {
+        if (rawType.isAssignableFrom(LinkedHashMap.class)) {
+            return LinkedHashMap::new;
+        }
+        if (rawType.isAssignableFrom(TreeMap.class)) {
+            return TreeMap::new;
+        }
+        if (rawType.isAssignableFrom(ConcurrentHashMap.class)) {
+            return ConcurrentHashMap::new;
+        }
+        return null;
+    }
+
+    private static Type[] keyAndValueTypesOf(Type mapType) {
+        Type type = upperBoundOf(mapType);
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getActualTypeArguments().length == 2) {
+            Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+            return new Type[]{upperBoundOf(typeArguments[0]), upperBoundOf(typeArguments[1])};
+        }
+        return new Type[]{Object.class, Object.class};
+    }
+
+    private static Type upperBoundOf(Type type) {
+        return (type instanceof WildcardType) ? ((WildcardType) type).getUpperBounds()[0] : type;
+    }
+
+    private static class NamedKeyMapTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final TypeAdapter<T> defaultAdapter;
+        private final Supplier<Map<Object, Object>> newMap;
+        private final boolean keysAreNames;
+        private final TypeAdapter<?> keyAdapter;
+        private final TypeAdapter<?> valueAdapter;
+
+        NamedKeyMapTypeAdapter(TypeAdapter<T> defaultAdapter,
+                               Supplier<Map<Object, Object>> newMap,
+                               Type keyType,
+                               TypeAdapter<?> keyAdapter,
+                               TypeAdapter<?> valueAdapter) {
+            this.defaultAdapter = defaultAdapter;
+            this.newMap = newMap;
+            this.keysAreNames = keyType == String.class || keyType == Object.class || keyType == CharSequence.class;
+            this.keyAdapter = keyAdapter;
+            this.valueAdapter = valueAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, T map) throws IOException {
+            defaultAdapter.write(out, map);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(JsonReader in) throws IOException {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            if (token != JsonToken.BEGIN_OBJECT) {
+                return defaultAdapter.read(in);
+            }
+            Map<Object, Object> map = newMap.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                Object key = keysAreNames ? name : keyAdapter.fromJsonTree(new JsonPrimitive(name));
+                if (map.put(key, valueAdapter.read(in)) != null) {
+                    throw new JsonSyntaxException("duplicate key: " + key);
+                }
+            }
+            in.endObject();
+            return (T) map;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package net.thucydides.core.reports.index;
+
+import net.thucydides.core.model.TestOutcome;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test outcomes loaded in streaming mode: lightweight outcomes without step evidence,
+ * along with the index that can be used to reload the full version of each outcome on demand.
+ */
+public class IndexedTestOutcomes {
+    private final TestOutcomeIndex index;
+    private final List<TestOutcome> outcomes;
+
+    public IndexedTestOutcomes(TestOutcomeIndex index, List<TestOutcome> outcomes) {
+        this.index = index;
+        this.outcomes = Collections.unmodifiableList(outcomes);
+    }
+
+    public TestOutcomeIndex getIndex() {
+        return index;
+    }
+
+    public List<TestOutcome> getOutcomes() {
+        return outcomes;
+    }
+}
@@ -0,0 +1,166 @@
+package net.thucydides.core.reports.index;
+
+import com.google.gson.Gson;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.OutcomeFormat;
+import net.thucydides.core.reports.TestOutcomeLoader;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the test outcomes found in a directory, made up of one compact summary per outcome file.
+ * The index is written next to the aggregate report, and is used to load the full version of a test outcome
+ * (including the complete step tree and evidence) only when it is needed, for example to render the page of
+ * an individual test.
+ */
+public class TestOutcomeIndex {
+
+    public static final String INDEX_FILE = "serenity-outcome-index.json";
+
+    private final String sourceDirectory;
+    private final OutcomeFormat format;
+    private final Map<String, TestOutcomeSummary> summaries;
+    private final Map<String, TestOutcomeSummary> summariesById = new ConcurrentHashMap<>();
+    private final Map<TestOutcome, TestOutcomeSummary> loadedOutcomes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile TestOutcomeLoader loader;
+
+    private static final Gson GSON = new Gson();
+
+    public TestOutcomeIndex(File sourceDirectory, OutcomeFormat format) {
+        this(sourceDirectory.getAbsolutePath(), format, new ConcurrentHashMap<>(), null);
+    }
+
+    /**
+     * @param loader the loader used to read the outcomes, which is also used to reload the full version of an outcome.
+     */
+    public TestOutcomeIndex(File sourceDirectory, OutcomeFormat format, TestOutcomeLoader loader) {
+        this(sourceDirectory.getAbsolutePath(), format, new ConcurrentHashMap<>(), loader);
+    }
+
+    private TestOutcomeIndex(String sourceDirectory,
+                             OutcomeFormat format,
+                             Map<String, TestOutcomeSummary> summaries,
+                             TestOutcomeLoader loader) {
+        this.sourceDirectory = sourceDirectory;
+        this.format = format;
+        this.summaries = summaries;
+        this.loader = loader;
+        summaries.values().forEach(this::indexById);
+    }
+
+    private void indexById(TestOutcomeSummary summary) {
+        if (summary.getId() != null) {
+            summariesById.putIfAbsent(summary.getId(), summary);
+        }
+    }
+
+    /**
+     * Record the summary of an outcome loaded from a given file.
+     * Several outcome files may share the same test id, so summaries are stored by source file.
+     */
+    public void record(TestOutcome testOutcome, File sourceFile) throws IOException {
+        record(testOutcome, sourceFile, digestOf(sourceFile));
+    }
+
+    /**
+     * Record the summary of an outcome loaded from a given file, whose digest has already been worked out.
+     */
+    public void record(TestOutcome testOutcome, File sourceFile, String digest) {
+        TestOutcomeSummary summary = TestOutcomeSummary.of(testOutcome, sourceFile.getName(), digest);
+        summaries.put(summary.getSourceFile(), summary);
+        indexById(summary);
+        loadedOutcomes.put(testOutcome, summary);
+    }
+
+    private String digestOf(File sourceFile) throws IOException {
+        try (InputStream contents = new FileInputStream(sourceFile)) {
+            return DigestUtils.sha256Hex(contents);
+        }
+    }
+
+    public Collection<TestOutcomeSummary> getSummaries() {
+        return Collections.unmodifiableCollection(summaries.values());
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+
+    public Optional<TestOutcomeSummary> summaryFor(TestOutcome testOutcome) {
+        TestOutcomeSummary summary = loadedOutcomes.get(testOutcome);
+        if (summary != null) {
+            return Optional.of(summary);
+        }
+        return Optional.ofNullable(testOutcome.getId()).map(summariesById::get);
+    }
+
+    public File getSourceDirectory() {
+        return new File(sourceDirectory);
+    }
+
+    public OutcomeFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Reload the complete version of a test outcome from the file it was originally read from.
+     * The outcome is reloaded through the same loader as the other outcomes, so it is augmented in the same way.
+     * If the outcome is not in the index, or the file can no longer be read, the outcome passed in is returned.
+     */
+    public TestOutcome fullVersionOf(TestOutcome testOutcome) {
+        return summaryFor(testOutcome)
+                .map(summary -> new File(sourceDirectory, summary.getSourceFile()))
+                .filter(File::exists)
+                .flatMap(sourceFile -> loader().loadOutcomeFrom(sourceFile))
+                .orElse(testOutcome);
+    }
+
+    private TestOutcomeLoader loader() {
+        TestOutcomeLoader outcomeLoader = loader;
+        if (outcomeLoader == null) {
+            outcomeLoader = new TestOutcomeLoader().forFormat(format);
+            loader = outcomeLoader;
+        }
+        return outcomeLoader;
+    }
+
+    public void writeTo(File outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory.toPath());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(outputDirectory, INDEX_FILE)), StandardCharsets.UTF_8)) {
+            GSON.toJson(new StoredIndex(sourceDirectory, format, new ArrayList<>(summaries.values())), writer);
+        }
+    }
+
+    public static Optional<TestOutcomeIndex> readFrom(File outputDirectory) throws IOException {
+        File indexFile = new File(outputDirectory, INDEX_FILE);
+        if (!indexFile.exists()) {
+            return Optional.empty();
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(indexFile), StandardCharsets.UTF_8)) {
+            StoredIndex storedIndex = GSON.fromJson(reader, StoredIndex.class);
+            if (storedIndex == null) {
+                return Optional.empty();
+            }
+            Map<String, TestOutcomeSummary> summaries = new ConcurrentHashMap<>();
+            storedIndex.outcomes.forEach(summary -> summaries.put(summary.getSourceFile(), summary));
+            return Optional.of(new TestOutcomeIndex(storedIndex.sourceDirectory, storedIndex.format, summaries, null));
+        }
+    }
+
+    private static class StoredIndex {
+        private final String sourceDirectory;
+        private final OutcomeFormat format;
+        private final List<TestOutcomeSummary> outcomes;
+
+        StoredIndex(String sourceDirectory, OutcomeFormat format, List<TestOutcomeSummary> outcomes) {
+            this.sourceDirectory = sourceDirectory;
+            this.format = format;
+            this.outcomes = outcomes;
+        }
+    }
+}
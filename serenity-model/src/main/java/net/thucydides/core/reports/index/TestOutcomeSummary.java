@@ -0,0 +1,115 @@
+package net.thucydides.core.reports.index;
+
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestResult;
+import net.thucydides.core.model.TestTag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact, serializable summary of a test outcome, used to build the outcome index.
+ * It records just enough information to find a test outcome and to report on it without keeping the
+ * full step tree in memory: the id, the file the outcome was loaded from, the result, the tags, the duration
+ * and the requirement the test belongs to. The digest of the outcome file is also recorded, so that changes to an
+ * outcome can be detected between report runs.
+ */
+public class TestOutcomeSummary {
+
+    private final String id;
+    private final String sourceFile;
+    private final String digest;
+    private final String name;
+    private final String title;
+    private final TestResult result;
+    private final long duration;
+    private final List<TestTag> tags;
+    private final String requirementPath;
+    private final String requirementName;
+
+    public TestOutcomeSummary(String id,
+                              String sourceFile,
+                              String digest,
+                              String name,
+                              String title,
+                              TestResult result,
+                              long duration,
+                              List<TestTag> tags,
+                              String requirementPath,
+                              String requirementName) {
+        this.id = id;
+        this.sourceFile = sourceFile;
+        this.digest = digest;
+        this.name = name;
+        this.title = title;
+        this.result = result;
+        this.duration = duration;
+        this.tags = new ArrayList<>(tags);
+        this.requirementPath = requirementPath;
+        this.requirementName = requirementName;
+    }
+
+    public static TestOutcomeSummary of(TestOutcome testOutcome, String sourceFile, String digest) {
+        String requirementPath = (testOutcome.getUserStory() != null) ? testOutcome.getUserStory().getPath() : null;
+        String requirementName = (testOutcome.getUserStory() != null) ? testOutcome.getUserStory().getName() : null;
+        return new TestOutcomeSummary(testOutcome.getId(),
+                sourceFile,
+                digest,
+                testOutcome.getName(),
+                testOutcome.getTitle(),
+                testOutcome.getResult(),
+                testOutcome.getDuration(),
+                new ArrayList<>(testOutcome.getTags()),
+                requirementPath,
+                requirementName);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSourceFile() {
+        return sourceFile;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public TestResult getResult() {
+        return result;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public List<TestTag> getTags() {
+        return new ArrayList<>(tags);
+    }
+
+    public String getRequirementPath() {
+        return requirementPath;
+    }
+
+    public String getRequirementName() {
+        return requirementName;
+    }
+
+    @Override
+    public String toString() {
+        return "TestOutcomeSummary{" +
+                "id='" + id + '\'' +
+                ", sourceFile='" + sourceFile + '\'' +
+                ", result=" + result +
+                '}';
+    }
+}
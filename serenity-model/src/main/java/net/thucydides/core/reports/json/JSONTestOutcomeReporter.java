@@ -40,8 +40,15 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
     JSONConverter jsonConverter;
 
     public JSONTestOutcomeReporter() {
+        this(Injectors.getInjector().getInstance(JSONConverter.class));
+    }
+
+    /**
+     * A reporter that reads and writes outcomes with a given converter, for example one that skips the step evidence.
+     */
+    public JSONTestOutcomeReporter(JSONConverter jsonConverter) {
         encoding = ThucydidesSystemProperty.THUCYDIDES_REPORT_ENCODING.from(environmentVariables, StandardCharsets.UTF_8.name());
-        jsonConverter = Injectors.getInjector().getInstance(JSONConverter.class);
+        this.jsonConverter = jsonConverter;
     }
 
     @Override
@@ -98,10 +105,24 @@ public class JSONTestOutcomeReporter implements AcceptanceTestReporter, Acceptan
         if (!reportFile.getName().toLowerCase().endsWith(".json")) {
             return Optional.empty();
         }
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(reportFile), encoding))) {
+        try (InputStream in = new FileInputStream(reportFile)) {
+            return loadReportFrom(in, reportFile.getName());
+        } catch (IOException e) {
+            LOGGER.debug("Could not read the JSON Serenity test report: " + reportFile.getName()
+                    + System.lineSeparator() + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final InputStream reportContents, final String reportFileName) {
+        if (!reportFileName.toLowerCase().endsWith(".json")) {
+            return Optional.empty();
+        }
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(reportContents, encoding))) {
             return jsonConverter.fromJson(in);
         } catch (Throwable e) {
-            LOGGER.debug("This file was not a valid JSON Serenity test report: " + reportFile.getName()
+            LOGGER.debug("This file was not a valid JSON Serenity test report: " + reportFileName
                     + System.lineSeparator() + e.getMessage());
             return Optional.empty();
         }
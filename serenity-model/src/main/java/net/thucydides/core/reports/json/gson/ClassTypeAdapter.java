@@ -1,24 +1,24 @@
 package net.thucydides.core.reports.json.gson;
 
-import com.google.gson.*;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-public class ClassTypeAdapter implements JsonSerializer<Class<?>>, JsonDeserializer<Class<?>> {
+public class ClassTypeAdapter extends TypeAdapter<Class<?>> {
 
     @Override
-    public JsonElement serialize(Class<?> src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(src.getName());
+    public void write(JsonWriter out, Class<?> value) throws IOException {
+        out.value(value.getName());
     }
 
     @Override
-    public Class<?> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-            throws JsonParseException {
+    public Class<?> read(JsonReader in) throws IOException {
         try {
-            return Class.forName(json.getAsString());
+            return Class.forName(in.nextString());
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
     }
-
 }
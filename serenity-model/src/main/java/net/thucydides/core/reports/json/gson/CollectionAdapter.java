@@ -8,6 +8,10 @@ import com.google.gson.JsonSerializer;
 import java.lang.reflect.Type;
 import java.util.Collection;
 
+/**
+ * @deprecated Collections are now written by the streaming {@link CollectionTypeAdapterFactory}.
+ */
+@Deprecated
 public class CollectionAdapter implements JsonSerializer<Collection<?>> {
   @Override
   public JsonElement serialize(Collection<?> src, Type typeOfSrc, JsonSerializationContext context) {
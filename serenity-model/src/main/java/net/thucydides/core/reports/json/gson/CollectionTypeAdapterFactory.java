@@ -0,0 +1,67 @@
+package net.thucydides.core.reports.json.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Writes collections straight to the JSON stream, leaving empty collections out altogether.
+ * Each element is written using the adapter for its runtime type. Collections are read using the standard Gson adapter.
+ */
+public class CollectionTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!Collection.class.isAssignableFrom(type.getRawType())) {
+            return null;
+        }
+        TypeAdapter<T> defaultAdapter = gson.getDelegateAdapter(this, type);
+        return new CollectionTypeAdapter<>(gson, defaultAdapter);
+    }
+
+    private static class CollectionTypeAdapter<T> extends TypeAdapter<T> {
+        private final Gson gson;
+        private final TypeAdapter<T> defaultAdapter;
+
+        CollectionTypeAdapter(Gson gson, TypeAdapter<T> defaultAdapter) {
+            this.gson = gson;
+            this.defaultAdapter = defaultAdapter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, T value) throws IOException {
+            Collection<?> collection = (Collection<?>) value;
+            if (collection == null || collection.isEmpty()) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            Class<?> elementType = null;
+            TypeAdapter<Object> elementAdapter = null;
+            for (Object element : collection) {
+                if (element == null) {
+                    out.nullValue();
+                    continue;
+                }
+                if (element.getClass() != elementType) {
+                    elementType = element.getClass();
+                    elementAdapter = (TypeAdapter<Object>) gson.getAdapter(elementType);
+                }
+                elementAdapter.write(out, element);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            return defaultAdapter.read(in);
+        }
+    }
+}
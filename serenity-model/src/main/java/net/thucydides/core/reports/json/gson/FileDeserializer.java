@@ -10,7 +10,10 @@ import java.lang.reflect.Type;
 
 /**
  * Created by john on 11/02/15.
+ *
+ * @deprecated Files are now written and read by the streaming {@link FileTypeAdapter}.
  */
+@Deprecated
 public class FileDeserializer implements JsonDeserializer<File> {
     public File deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
         return new File(json.getAsJsonPrimitive().getAsString());
@@ -10,7 +10,10 @@ import java.lang.reflect.Type;
 
 /**
  * Created by john on 11/02/15.
+ *
+ * @deprecated Files are now written and read by the streaming {@link FileTypeAdapter}.
  */
+@Deprecated
 public class FileSerializer implements JsonSerializer<File> {
     public JsonElement serialize(File src, Type typeOfSrc, JsonSerializationContext context) {
         return new JsonPrimitive(src.getName());
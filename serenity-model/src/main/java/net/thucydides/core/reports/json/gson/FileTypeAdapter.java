@@ -0,0 +1,24 @@
+package net.thucydides.core.reports.json.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Files are stored using their name only.
+ */
+public class FileTypeAdapter extends TypeAdapter<File> {
+
+    @Override
+    public void write(JsonWriter out, File file) throws IOException {
+        out.value(file.getName());
+    }
+
+    @Override
+    public File read(JsonReader in) throws IOException {
+        return new File(in.nextString());
+    }
+}
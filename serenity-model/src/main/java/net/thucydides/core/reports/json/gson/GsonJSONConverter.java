@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.inject.Inject;
 import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.model.OutcomeTypeAdapterFactory;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.flags.Flag;
 import net.thucydides.core.reports.json.AScenarioHasNoNameException;
@@ -15,7 +16,6 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -28,7 +28,7 @@ public class GsonJSONConverter implements JSONConverter {
 
     Gson gson;
 
-    protected Gson getGson() {
+    public Gson getGson() {
         return gson;
     }
 
@@ -41,17 +41,32 @@ public class GsonJSONConverter implements JSONConverter {
         GsonBuilder gsonBuilder = new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
 //                .registerTypeAdapterFactory(GuavaOptionalTypeAdapter.FACTORY)
-                .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter())
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory())
+                .registerTypeAdapterFactory(new OutcomeTypeAdapterFactory())
                 .registerTypeAdapter(Flag.class, new InterfaceAdapter<Flag>())
-                .registerTypeAdapter(StackTraceElement.class, new StackTraceElementSerializer())
-                .registerTypeAdapter(StackTraceElement.class, new StackTraceElementDeserializer())
-                .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter())
-                .registerTypeAdapter(File.class, new FileSerializer())
-                .registerTypeAdapter(File.class, new FileDeserializer())
-                .registerTypeAdapter(Class.class, new ClassTypeAdapter());
+                .registerTypeAdapter(StackTraceElement.class, new StackTraceElementTypeAdapter().nullSafe())
+                .registerTypeAdapter(ZonedDateTime.class, new ZonedDateTimeAdapter().nullSafe())
+                .registerTypeAdapter(File.class, new FileTypeAdapter().nullSafe())
+                .registerTypeAdapter(Class.class, new ClassTypeAdapter().nullSafe());
         this.gson = (usePrettyPrinting()) ? gsonBuilder.setPrettyPrinting().create() : gsonBuilder.create();
     }
 
+    private GsonJSONConverter(EnvironmentVariables environmentVariables, String encoding, Gson gson) {
+        this.environmentVariables = environmentVariables;
+        this.encoding = encoding;
+        this.gson = gson;
+    }
+
+    /**
+     * A converter that reads lightweight test outcomes, skipping the screenshots, REST queries and report data
+     * of each step as the JSON is read.
+     */
+    public GsonJSONConverter withoutStepEvidence() {
+        return new GsonJSONConverter(environmentVariables,
+                                     encoding,
+                                     gson.newBuilder().registerTypeAdapterFactory(OutcomeTypeAdapterFactory.withoutStepEvidence()).create());
+    }
+
     @Override
     public java.util.Optional<TestOutcome> fromJson(InputStream inputStream) throws IOException {
         return fromJson(new InputStreamReader(inputStream, encoding));
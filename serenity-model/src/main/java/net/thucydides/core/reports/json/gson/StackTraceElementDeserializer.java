@@ -9,7 +9,10 @@ import java.lang.reflect.Type;
 
 /**
  * Created by john on 11/02/15.
+ *
+ * @deprecated Stack trace elements are now written and read by the streaming {@link StackTraceElementTypeAdapter}.
  */
+@Deprecated
 public class StackTraceElementDeserializer implements JsonDeserializer<StackTraceElement> {
     public StackTraceElement deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
         String declaringClass = json.getAsJsonObject().get("declaringClass").getAsString();
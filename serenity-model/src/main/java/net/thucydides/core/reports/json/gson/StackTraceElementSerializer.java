@@ -4,6 +4,10 @@ import com.google.gson.*;
 
 import java.lang.reflect.Type;
 
+/**
+ * @deprecated Stack trace elements are now written and read by the streaming {@link StackTraceElementTypeAdapter}.
+ */
+@Deprecated
 public class StackTraceElementSerializer implements JsonSerializer<StackTraceElement> {
     @Override
     public JsonElement serialize(StackTraceElement src, Type typeOfSrc,
@@ -0,0 +1,57 @@
+package net.thucydides.core.reports.json.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class StackTraceElementTypeAdapter extends TypeAdapter<StackTraceElement> {
+
+    @Override
+    public void write(JsonWriter out, StackTraceElement element) throws IOException {
+        out.beginObject();
+        out.name("declaringClass").value(element.getClassName());
+        out.name("methodName").value(element.getMethodName());
+        out.name("fileName").value(element.getFileName());
+        out.name("lineNumber").value(element.getLineNumber());
+        out.endObject();
+    }
+
+    @Override
+    public StackTraceElement read(JsonReader in) throws IOException {
+        String declaringClass = null;
+        String methodName = null;
+        String fileName = null;
+        int lineNumber = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "declaringClass":
+                    declaringClass = in.nextString();
+                    break;
+                case "methodName":
+                    methodName = in.nextString();
+                    break;
+                case "fileName":
+                    fileName = in.nextString();
+                    break;
+                case "lineNumber":
+                    lineNumber = in.nextInt();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new StackTraceElement(declaringClass, methodName, fileName, lineNumber);
+    }
+}
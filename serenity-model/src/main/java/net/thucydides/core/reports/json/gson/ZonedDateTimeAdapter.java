@@ -1,37 +1,39 @@
 package net.thucydides.core.reports.json.gson;
 
-import com.google.gson.*;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
-public class ZonedDateTimeAdapter implements JsonDeserializer<ZonedDateTime>, JsonSerializer<ZonedDateTime> {
+public class ZonedDateTimeAdapter extends TypeAdapter<ZonedDateTime> {
+
     @Override
-    public ZonedDateTime deserialize(final JsonElement json, final Type typeOfT, final JsonDeserializationContext context) throws JsonParseException {
-        JsonPrimitive jsonPrimitive = json.getAsJsonPrimitive();
-        try {
+    public void write(JsonWriter out, ZonedDateTime value) throws IOException {
+        out.value(value.toString());
+    }
 
+    @Override
+    public ZonedDateTime read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        try {
             // if provided as String - '2011-12-03T10:15:30+01:00[Europe/Paris]'
-            if (jsonPrimitive.isString()) {
-                return ZonedDateTime.parse(jsonPrimitive.getAsString());
+            if (token == JsonToken.STRING) {
+                return ZonedDateTime.parse(in.nextString());
             }
 
             // if provided as Long
-            if (jsonPrimitive.isNumber()) {
-                return ZonedDateTime.ofInstant(Instant.ofEpochMilli(jsonPrimitive.getAsLong()), ZoneId.systemDefault());
+            if (token == JsonToken.NUMBER) {
+                return ZonedDateTime.ofInstant(Instant.ofEpochMilli(in.nextLong()), ZoneId.systemDefault());
             }
-
         } catch (RuntimeException e) {
             throw new JsonParseException("Unable to parse ZonedDateTime", e);
         }
         throw new JsonParseException("Unable to parse ZonedDateTime");
     }
-
-
-    @Override
-    public JsonElement serialize(ZonedDateTime src, Type typeOfSrc, JsonSerializationContext context) {
-        return new JsonPrimitive(src.toString());
-    }
 }
@@ -6,14 +6,18 @@ import freemarker.template.Version;
 import net.serenitybdd.core.time.Stopwatch;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages Freemarker templates.
+ * Templates are parsed once, and the parsed templates are shared by all the threads that generate reports.
  */
 public class FreeMarkerTemplateManager {
 
     public static final Version FREEMARKER_VERSION = new Version(2, 3, 23);
     private Configuration configuration;
+    private final Map<String, ReportTemplate> templates = new ConcurrentHashMap<>();
 
     FreeMarkerTemplateManager() {
         configuration = new Configuration(FREEMARKER_VERSION);
@@ -25,6 +29,14 @@ public class FreeMarkerTemplateManager {
     }
 
     public ReportTemplate getTemplateFrom(final String template) throws Exception {
-        return new FreemarkerReportTemplate(configuration, template);
+        ReportTemplate parsedTemplate = templates.get(template);
+        if (parsedTemplate == null) {
+            parsedTemplate = new FreemarkerReportTemplate(configuration, template);
+            ReportTemplate templateParsedByAnotherThread = templates.putIfAbsent(template, parsedTemplate);
+            if (templateParsedByAnotherThread != null) {
+                parsedTemplate = templateParsedByAnotherThread;
+            }
+        }
+        return parsedTemplate;
     }
 }
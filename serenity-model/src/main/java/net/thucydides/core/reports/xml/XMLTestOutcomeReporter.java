@@ -127,19 +127,26 @@ public class XMLTestOutcomeReporter implements AcceptanceTestReporter, Acceptanc
 
     @Override
     public Optional<TestOutcome> loadReportFrom(final File reportFile) {
-        try (
-                InputStream input = new FileInputStream(reportFile);
-                InputStreamReader reader = new InputStreamReader(input, encoding);
-        ) {
+        try (InputStream input = new FileInputStream(reportFile)) {
+            return loadReportFrom(input, reportFile.getPath());
+        } catch (FileNotFoundException e) {
+            LOGGER.debug("Could not find expected file during report generation: " + reportFile);
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("Could not load a report for some reason" + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<TestOutcome> loadReportFrom(final InputStream reportContents, final String reportFileName) {
+        try (InputStreamReader reader = new InputStreamReader(reportContents, encoding)) {
             XStream xstream = xstreamInstance();
             xstream.alias("acceptance-test-run", TestOutcome.class);
             xstream.registerConverter(usingXmlConverter());
             return Optional.of((TestOutcome) xstream.fromXML(reader));
         } catch (CannotResolveClassException e) {
-            LOGGER.debug("Failed to resolve a serialised class during report generation: " + reportFile, e);
-            return Optional.empty();
-        } catch (FileNotFoundException e) {
-            LOGGER.debug("Could not find expected file during report generation: " + reportFile);
+            LOGGER.debug("Failed to resolve a serialised class during report generation: " + reportFileName, e);
             return Optional.empty();
         } catch (IOException e) {
             LOGGER.warn("Could not load a report for some reason" + e.getMessage());
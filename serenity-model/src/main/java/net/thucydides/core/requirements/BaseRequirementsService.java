@@ -26,6 +26,7 @@ public abstract class BaseRequirementsService implements RequirementsService {
     protected List<Requirement> requirements;
     protected List<Release> releases;
     private Map<Requirement, List<Requirement>> requirementAncestors;
+    private volatile RequirementsIndex requirementsIndex;
 
     protected final EnvironmentVariables environmentVariables;
 
@@ -90,9 +91,23 @@ public abstract class BaseRequirementsService implements RequirementsService {
     }
 
     Optional<Requirement> matchingAncestorFor(Requirement requirement) {
-        return getRequirementAncestors().keySet().stream().filter(
-                requirementKey -> requirementKey.matches(requirement)
-        ).findFirst();
+        Map<Requirement, List<Requirement>> ancestors = getRequirementAncestors();
+        return indexOf(requirements).withSameNameTypeAndParentAs(requirement).stream()
+                .filter(ancestors::containsKey)
+                .filter(requirementKey -> requirementKey.matches(requirement))
+                .findFirst();
+    }
+
+    /**
+     * The index of the current requirements tree, built again only when the requirements are reloaded.
+     */
+    private RequirementsIndex indexOf(List<Requirement> requirements) {
+        RequirementsIndex index = requirementsIndex;
+        if (index == null || !index.isIndexOf(requirements)) {
+            index = RequirementsIndex.of(requirements);
+            requirementsIndex = index;
+        }
+        return index;
     }
 
 
@@ -145,17 +160,11 @@ public abstract class BaseRequirementsService implements RequirementsService {
     }
 
     private java.util.Optional<Requirement> findMatchingIndexedRequirement(Requirement requirement) {
-        return AllRequirements.asStreamFrom(requirements)
-                .filter(requirement::matches)
-                .map(matchingRequirement -> mostPreciseOf(requirement, matchingRequirement))
-                .findFirst();
-//
-//        for(Requirement indexedRequirement : AllRequirements.in(requirements)) {
-//            if (requirement.matches(indexedRequirement)) {
-//                return java.util.Optional.of(mostPreciseOf(requirement,indexedRequirement));
-//            }
-//        }
-//        return java.util.Optional.empty();
+        if (requirements == null) {
+            return java.util.Optional.empty();
+        }
+        return indexOf(requirements).matching(requirement)
+                .map(matchingRequirement -> mostPreciseOf(requirement, matchingRequirement));
     }
 
     private Requirement mostPreciseOf(Requirement thisRequirement, Requirement thatRequirement) {
@@ -3,7 +3,7 @@ package net.thucydides.core.requirements;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
-import net.thucydides.core.reports.json.gson.CollectionAdapter;
+import net.thucydides.core.reports.json.gson.CollectionTypeAdapterFactory;
 import net.thucydides.core.reports.json.gson.OptionalTypeAdapter;
 import net.thucydides.core.requirements.model.Requirement;
 
@@ -12,7 +12,6 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +25,7 @@ public class FileSystemRequirementsStore implements RequirementsStore {
         this.storeName = storeName;
         this.gson = new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
-                .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter()).create();
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory()).create();
 
     }
 
@@ -26,9 +26,12 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static net.thucydides.core.ThucydidesSystemProperty.FEATURE_FILE_ENCODING;
+import static net.thucydides.core.ThucydidesSystemProperty.FEATURE_FILE_LANGUAGE;
 import static net.thucydides.core.files.TheDirectoryStructure.startingAt;
 import static net.thucydides.core.requirements.RequirementsPath.pathElements;
 import static net.thucydides.core.requirements.RequirementsPath.stripRootFromPath;
@@ -60,8 +63,12 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
     private final RequirementsConfiguration requirementsConfiguration;
 
+    private final Optional<RequirementsFileCache> requirementsCache;
+    private boolean savesRequirementsCache = true;
+
     //    @Transient
     private volatile List<Requirement> requirements;
+    private volatile RequirementsIndex requirementsIndex;
 
     public FileSystemRequirementsTagProvider(EnvironmentVariables environmentVariables) {
         this(environmentVariables,
@@ -117,6 +124,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 //                .withRequirementTypes(getRequirementTypes(rootDirectory));
         this.overviewReader = new OverviewReader();
         this.requirementsConfiguration = new RequirementsConfiguration(environmentVariables);
+        this.requirementsCache = RequirementsFileCache.configuredIn(environmentVariables);
 
         directoryPaths = rootDirectories(rootDirectory, environmentVariables);
 
@@ -139,6 +147,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         this.overviewReader = new OverviewReader();
         directoryPaths = rootDirectories(rootDirectory, environmentVariables);
         this.requirementsConfiguration = new RequirementsConfiguration(environmentVariables);
+        this.requirementsCache = RequirementsFileCache.configuredIn(environmentVariables);
         this.level = level;//requirementsConfiguration.initialLevel();
         maxDepth = maxDirectoryDepthIn(directoryPaths);
     }
@@ -173,6 +182,10 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
                             .collect(Collectors.toList());
 
                     requirements = RequirementAncestry.addParentsTo(requirements);
+
+                    if (savesRequirementsCache) {
+                        requirementsCache.ifPresent(RequirementsFileCache::save);
+                    }
                 }
             }
         }
@@ -245,13 +258,23 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         String candidatePath = testOutcome.getPath();
         String parentRequirementId = testOutcome.getParentId();
 
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement ->
-                                (requirement.getId() != null && requirement.getId().equals(parentRequirementId)) ||
-                                        ((requirement.getFeatureFileName() != null) && (requirement.getFeatureFileName().equalsIgnoreCase(candidatePath))) ||
-                                        ((requirement.getPath() != null) && (equivalentPaths(requirement.getPath(), candidatePath)))
-                ).findFirst();
+        RequirementsIndex index = requirementsIndex();
+        return index.firstOf(index.withId(parentRequirementId),
+                             index.withFeatureFileNameIgnoringCase(candidatePath),
+                             index.withEquivalentPath(candidatePath));
+    }
+
+    /**
+     * The index of the requirements tree, built once the requirements have been loaded.
+     */
+    private RequirementsIndex requirementsIndex() {
+        List<Requirement> currentRequirements = getRequirements();
+        RequirementsIndex index = requirementsIndex;
+        if (index == null || !index.isIndexOf(currentRequirements)) {
+            index = RequirementsIndex.of(currentRequirements, this::normalisedPath);
+            requirementsIndex = index;
+        }
+        return index;
     }
 
 
@@ -268,10 +291,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> parentRequirementsOf(Requirement matchingRequirement) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirement.getChildren().contains(matchingRequirement))
-                .findFirst();
+        return requirementsIndex().parentOf(matchingRequirement);
     }
 
     private List<String> stripStorySuffixFrom(List<String> pathElements) {
@@ -289,12 +309,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> getMatchingRequirementFor(TestTag storyOrFeatureTag) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> requirement.asTag().isAsOrMoreSpecificThan(storyOrFeatureTag)
-                )
-                .findFirst();
+        return requirementsIndex().withTagAsOrMoreSpecificThan(storyOrFeatureTag);
     }
 
     private java.util.Optional<TestTag> getMatchingRequirementTagsFor(TestTag storyOrFeatureTag) {
@@ -371,16 +386,14 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
         Path testOutcomeRequirementsPath =  RootDirectory.definedIn(environmentVariables).getRelativePathOf(testOutcome.getPath());
 
-        Optional<Requirement> requirementWithMatchingPath = AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirementHasPathMatching(requirement, testOutcomeRequirementsPath)).findFirst();
-
-        Optional<Requirement> requirementWithAMatchingName = AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirementHasNameMatching(requirement, testOutcomeRequirementsPath)).findFirst();
-
+        RequirementsIndex index = requirementsIndex();
 
+        Optional<Requirement> requirementWithMatchingPath = index.withPath(testOutcomeRequirementsPath);
         if (requirementWithMatchingPath.isPresent()) {
             return requirementWithMatchingPath;
         }
+
+        Optional<Requirement> requirementWithAMatchingName = index.withFeatureFilePath(testOutcomeRequirementsPath);
         if (requirementWithAMatchingName.isPresent()) {
             return requirementWithAMatchingName;
         }
@@ -389,25 +402,14 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
             return Optional.empty();
         }
 
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(requirement -> requirement.getPath() != null)
-                .filter(requirement -> equivalentPaths(requirement.getPath(), testOutcome.getPath()))
-                .findFirst();
-    }
-
-    private boolean requirementHasPathMatching(Requirement requirement, Path expectedPath) {
-        return requirement.getPath() != null  && expectedPath.equals(Paths.get(requirement.getPath()));
+        return index.withEquivalentPath(testOutcome.getPath());
     }
 
-    private boolean requirementHasNameMatching(Requirement requirement,Path expectedPath) {
-        return requirement.getFeatureFileName() != null  && expectedPath.equals(Paths.get(requirement.getFeatureFileName()));
-    }
-
-
-    private boolean equivalentPaths(String pathA, String pathB) {
-        String normalisedPathA = removeFeatureOrStoryPrefixFrom(pathA.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
-        String normalisedPathB = removeFeatureOrStoryPrefixFrom(pathB.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
-        return normalisedPathA.equalsIgnoreCase(normalisedPathB);
+    /**
+     * Paths that refer to the same requirement have the same normalised form, ignoring case.
+     */
+    private String normalisedPath(String path) {
+        return removeFeatureOrStoryPrefixFrom(path.replaceAll("[/\\\\]", "/")).replaceAll("\\.", "/").replaceAll(" ", "_");
     }
 
     private String removeFeatureOrStoryPrefixFrom(String path) {
@@ -429,23 +431,11 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     }
 
     private java.util.Optional<Requirement> requirementWithMatchingParentId(TestOutcome testOutcome) {
-
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> (requirement.getId() != null
-                                && testOutcome.getParentId() != null
-                                && (requirement.getId().equals(testOutcome.getParentId())))
-                )
-                .findFirst();
+        return requirementsIndex().withId(testOutcome.getParentId());
     }
 
     public java.util.Optional<Requirement> getRequirementFor(TestTag testTag) {
-        return AllRequirements.asStreamFrom(getRequirements())
-                .filter(
-                        requirement -> (requirement.getName().equalsIgnoreCase(testTag.getName())
-                                && requirement.getType().equalsIgnoreCase(testTag.getType()))
-                )
-                .findFirst();
+        return requirementsIndex().forTag(testTag);
     }
 
     private java.util.Optional<Requirement> lastRequirementFrom(List<String> storyPathElements) {
@@ -537,12 +527,27 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
 
 
     private Stream<Requirement> loadStoriesFrom(File[] storyFiles) {
+        if (requirementsCache.isPresent()) {
+            return requirementsCache.get().requirementsFrom(Arrays.asList(storyFiles),
+                                                            requirementsCacheContext(),
+                                                            this::readRequirementsFromStoryOrFeatureFile,
+                                                            invalidFeatureFiles::add).stream();
+        }
         return Arrays.stream(storyFiles)
                 .map(this::readRequirementsFromStoryOrFeatureFile)
                 .filter(Optional::isPresent)
                 .map(Optional::get);
     }
 
+    /**
+     * The settings that affect the requirements read from a feature or story file.
+     */
+    private String requirementsCacheContext() {
+        return baseDirectory() + "\n" + requirementTypes
+                + "\n" + FEATURE_FILE_LANGUAGE.from(environmentVariables, "en")
+                + "\n" + FEATURE_FILE_ENCODING.from(environmentVariables, Charset.defaultCharset().name());
+    }
+
     public Requirement readRequirementFrom(File requirementDirectory) {
         java.util.Optional<Narrative> requirementNarrative = narrativeReader.loadFrom(requirementDirectory, Math.max(0, level - 1));
 
@@ -555,7 +560,7 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
         }
     }
 
-    private Set<File> invalidFeatureFiles = new HashSet<>();
+    private Set<File> invalidFeatureFiles = ConcurrentHashMap.newKeySet();
 
     public Optional<Requirement> readRequirementsFromStoryOrFeatureFile(File storyFile) {
 
@@ -732,16 +737,24 @@ public class FileSystemRequirementsTagProvider extends AbstractRequirementsTagPr
     private List<Requirement> readChildrenFrom(File requirementDirectory) {
         String childDirectory = rootDirectory + "/" + requirementDirectory.getName();
         if (childrenExistFor(childDirectory)) {
-            RequirementsTagProvider childReader = new FileSystemRequirementsTagProvider(rootDirectory, childDirectory, level + 1, environmentVariables);
+            RequirementsTagProvider childReader = new FileSystemRequirementsTagProvider(rootDirectory, childDirectory, level + 1, environmentVariables).asNestedProvider();
             return childReader.getRequirements();
         } else if (childrenExistFor(requirementDirectory.getPath())) {
-            RequirementsTagProvider childReader = new FileSystemRequirementsTagProvider(rootDirectory, requirementDirectory.getPath(), level + 1, environmentVariables);
+            RequirementsTagProvider childReader = new FileSystemRequirementsTagProvider(rootDirectory, requirementDirectory.getPath(), level + 1, environmentVariables).asNestedProvider();
             return childReader.getRequirements();
         } else {
             return NO_REQUIREMENTS;
         }
     }
 
+    /**
+     * Nested providers leave it to the top-level provider to store the requirements cache once the whole tree is read.
+     */
+    private FileSystemRequirementsTagProvider asNestedProvider() {
+        this.savesRequirementsCache = false;
+        return this;
+    }
+
     private boolean childrenExistFor(String path) {
         if (hasSubdirectories(path)) {
             return true;
@@ -3,7 +3,7 @@ package net.thucydides.core.requirements;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
-import net.thucydides.core.reports.json.gson.CollectionAdapter;
+import net.thucydides.core.reports.json.gson.CollectionTypeAdapterFactory;
 import net.thucydides.core.reports.json.gson.OptionalTypeAdapter;
 import net.thucydides.core.requirements.model.Requirement;
 
@@ -11,7 +11,6 @@ import java.io.*;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.Collection;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -27,7 +26,7 @@ public class RequirementPersister {
         this.gson = new GsonBuilder()
                 .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
 //                .registerTypeAdapterFactory(GuavaOptionalTypeAdapter.FACTORY)
-                .registerTypeHierarchyAdapter(Collection.class, new CollectionAdapter()).create();
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory()).create();
 
     }
 
@@ -0,0 +1,198 @@
+package net.thucydides.core.requirements;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.thucydides.core.reports.json.gson.CollectionTypeAdapterFactory;
+import net.thucydides.core.reports.json.gson.OptionalTypeAdapter;
+import net.thucydides.core.requirements.model.Requirement;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REQUIREMENTS_CACHE_DIR;
+
+/**
+ * Keeps the requirements read from each feature or story file, so that only the files that are new or that have
+ * changed since the last run need to be parsed again.
+ * A cached requirement is identified by the path of the file and by the context in which it was read (the requirements
+ * root directory and the parsing options), and it is only reused if the size and modification time of the file
+ * have not changed. The cache is shared by all the requirements providers in the JVM, and stored on disk between runs.
+ */
+class RequirementsFileCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequirementsFileCache.class);
+
+    private static final String CACHE_FORMAT = "serenity-requirements-cache-1";
+    private static final String CACHE_FILE_NAME = "requirements-cache.json";
+
+    private static final Map<Path, RequirementsFileCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Path cacheFile;
+    private final Gson gson;
+    private final Map<String, CachedRequirement> cachedRequirements = new ConcurrentHashMap<>();
+    private volatile boolean modified = false;
+
+    private RequirementsFileCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        this.gson = new GsonBuilder()
+                .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+                .registerTypeAdapterFactory(new CollectionTypeAdapterFactory()).create();
+        readStoredRequirements();
+    }
+
+    static Optional<RequirementsFileCache> configuredIn(EnvironmentVariables environmentVariables) {
+        String cacheDirectory = SERENITY_REQUIREMENTS_CACHE_DIR.from(environmentVariables);
+        if (StringUtils.isBlank(cacheDirectory)) {
+            return Optional.empty();
+        }
+        Path cacheFile = Paths.get(cacheDirectory).resolve(CACHE_FILE_NAME).toAbsolutePath();
+        return Optional.of(CACHES.computeIfAbsent(cacheFile, RequirementsFileCache::new));
+    }
+
+    /**
+     * Forget the caches loaded in this JVM, so that the next cache used is read again from disk.
+     */
+    static void clearLoadedCaches() {
+        CACHES.clear();
+    }
+
+    /**
+     * The requirements defined in the given files, in the same order. The files that are not in the cache, or that
+     * have changed since they were cached, are read in parallel.
+     * Files that did not define a requirement when they were read (typically invalid feature files) are not read
+     * again until they change, but are still passed to the given consumer, whether they were read now or in a previous run.
+     */
+    List<Requirement> requirementsFrom(List<File> files,
+                                       String context,
+                                       Function<File, Optional<Requirement>> readRequirement,
+                                       Consumer<File> fileWithoutRequirement) {
+        String contextKey = DigestUtils.sha256Hex(context);
+
+        List<File> changedFiles = files.stream()
+                .filter(file -> !upToDate(cachedRequirements.get(keyFor(file, contextKey)), file))
+                .collect(Collectors.toList());
+
+        if (!changedFiles.isEmpty()) {
+            LOGGER.debug("Reading requirements from {} new or modified files", changedFiles.size());
+            changedFiles.parallelStream().forEach(
+                    file -> {
+                        long size = file.length();
+                        long lastModified = file.lastModified();
+                        Requirement requirement = readRequirement.apply(file).orElse(null);
+                        cachedRequirements.put(keyFor(file, contextKey),
+                                               new CachedRequirement(file.getAbsolutePath(), size, lastModified, requirement));
+                    }
+            );
+            modified = true;
+        }
+
+        List<Requirement> requirements = new ArrayList<>();
+        for (File file : files) {
+            CachedRequirement cachedRequirement = cachedRequirements.get(keyFor(file, contextKey));
+            if (cachedRequirement != null && cachedRequirement.requirement != null) {
+                requirements.add(cachedRequirement.requirement);
+            } else if (cachedRequirement != null) {
+                fileWithoutRequirement.accept(file);
+            }
+        }
+        return requirements;
+    }
+
+    private String keyFor(File file, String contextKey) {
+        return file.getAbsolutePath() + "#" + contextKey;
+    }
+
+    private boolean upToDate(CachedRequirement cachedRequirement, File file) {
+        return cachedRequirement != null
+                && cachedRequirement.size == file.length()
+                && cachedRequirement.lastModified == file.lastModified();
+    }
+
+    /**
+     * Store the cached requirements on disk if any files have been read since the cache was loaded.
+     * Requirements read from files that no longer exist are discarded.
+     */
+    void save() {
+        if (!modified) {
+            return;
+        }
+        synchronized (this) {
+            cachedRequirements.values().removeIf(cachedRequirement -> !new File(cachedRequirement.path).exists());
+
+            StoredRequirements storedRequirements = new StoredRequirements(CACHE_FORMAT, new HashMap<>(cachedRequirements));
+            Path incomingCacheFile = null;
+            try {
+                Files.createDirectories(cacheFile.getParent());
+                incomingCacheFile = Files.createTempFile(cacheFile.getParent(), "incoming-", ".tmp");
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(incomingCacheFile), StandardCharsets.UTF_8))) {
+                    gson.toJson(storedRequirements, writer);
+                }
+                Files.move(incomingCacheFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                modified = false;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Could not store the requirements cache in {}: {}", cacheFile, e.getMessage());
+                deleteQuietly(incomingCacheFile);
+            }
+        }
+    }
+
+    private void readStoredRequirements() {
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+        try (Reader reader = new InputStreamReader(new BufferedInputStream(Files.newInputStream(cacheFile)), StandardCharsets.UTF_8)) {
+            StoredRequirements storedRequirements = gson.fromJson(reader, StoredRequirements.class);
+            if (storedRequirements != null && CACHE_FORMAT.equals(storedRequirements.format) && storedRequirements.requirements != null) {
+                cachedRequirements.putAll(storedRequirements.requirements);
+                LOGGER.debug("Loaded {} cached requirements from {}", cachedRequirements.size(), cacheFile);
+            }
+        } catch (IOException | RuntimeException unreadableCache) {
+            LOGGER.debug("Could not read the requirements cache {}: {}", cacheFile, unreadableCache.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path incomingCacheFile) {
+        if (incomingCacheFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(incomingCacheFile);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static class StoredRequirements {
+        private final String format;
+        private final Map<String, CachedRequirement> requirements;
+
+        StoredRequirements(String format, Map<String, CachedRequirement> requirements) {
+            this.format = format;
+            this.requirements = requirements;
+        }
+    }
+
+    private static class CachedRequirement {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final Requirement requirement;
+
+        CachedRequirement(String path, long size, long lastModified, Requirement requirement) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.requirement = requirement;
+        }
+    }
+}
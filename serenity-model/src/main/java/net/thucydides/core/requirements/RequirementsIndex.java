@@ -0,0 +1,175 @@
+package net.thucydides.core.requirements;
+
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.requirements.model.Requirement;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An index of a requirements tree, used to find the requirement of a test outcome without walking the whole tree
+ * for every lookup. The index is built once for a given list of requirements, and is not changed afterwards.
+ * Where several requirements share the same key, the index returns the first one in the order of the tree
+ * (each requirement before its children), which is the one a search through the tree would find.
+ */
+class RequirementsIndex {
+
+    private final List<Requirement> indexedRequirements;
+    private final List<Requirement> allRequirements;
+    private final Map<Requirement, Integer> positions = new IdentityHashMap<>();
+
+    private final Map<String, Requirement> byId = new HashMap<>();
+    private final Map<String, Requirement> byFeatureFileName = new HashMap<>();
+    private final Map<Path, Requirement> byPath = new HashMap<>();
+    private final Map<Path, Requirement> byFeatureFilePath = new HashMap<>();
+    private final Map<String, Requirement> byNormalisedPath = new HashMap<>();
+    private final Map<String, Requirement> byTag = new HashMap<>();
+    private final Map<List<String>, List<Requirement>> byNameTypeAndParent = new HashMap<>();
+    private final Map<Requirement, Requirement> parents = new HashMap<>();
+    private final Map<TestTag, Optional<Requirement>> lessSpecificTagMatches = new ConcurrentHashMap<>();
+
+    private final Function<String, String> pathNormaliser;
+
+    private RequirementsIndex(List<Requirement> requirements, Function<String, String> pathNormaliser) {
+        this.indexedRequirements = requirements;
+        this.pathNormaliser = pathNormaliser;
+        this.allRequirements = AllRequirements.asStreamFrom(requirements).collect(Collectors.toList());
+
+        for (Requirement requirement : allRequirements) {
+            positions.putIfAbsent(requirement, positions.size());
+            if (requirement.getId() != null) {
+                byId.putIfAbsent(requirement.getId(), requirement);
+            }
+            if (requirement.getFeatureFileName() != null) {
+                byFeatureFileName.putIfAbsent(lowerCase(requirement.getFeatureFileName()), requirement);
+                pathOf(requirement.getFeatureFileName()).ifPresent(path -> byFeatureFilePath.putIfAbsent(path, requirement));
+            }
+            if (requirement.getPath() != null) {
+                pathOf(requirement.getPath()).ifPresent(path -> byPath.putIfAbsent(path, requirement));
+                byNormalisedPath.putIfAbsent(normalised(requirement.getPath()), requirement);
+            }
+            if (requirement.getName() != null && requirement.getType() != null) {
+                byTag.putIfAbsent(tagKey(requirement.getName(), requirement.getType()), requirement);
+            }
+            byNameTypeAndParent.computeIfAbsent(nameTypeAndParentOf(requirement), key -> new ArrayList<>()).add(requirement);
+            for (Requirement child : requirement.getChildren()) {
+                parents.putIfAbsent(child, requirement);
+            }
+        }
+    }
+
+    static RequirementsIndex of(List<Requirement> requirements) {
+        return new RequirementsIndex(requirements, path -> path);
+    }
+
+    /**
+     * @param pathNormaliser converts the requirement and test outcome paths into a form in which equivalent paths
+     *                       are equal, ignoring case.
+     */
+    static RequirementsIndex of(List<Requirement> requirements, Function<String, String> pathNormaliser) {
+        return new RequirementsIndex(requirements, pathNormaliser);
+    }
+
+    boolean isIndexOf(List<Requirement> requirements) {
+        return indexedRequirements == requirements;
+    }
+
+    Optional<Requirement> withId(String id) {
+        return (id == null) ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    Optional<Requirement> withFeatureFileNameIgnoringCase(String featureFileName) {
+        return (featureFileName == null) ? Optional.empty() : Optional.ofNullable(byFeatureFileName.get(lowerCase(featureFileName)));
+    }
+
+    Optional<Requirement> withPath(Path path) {
+        return (path == null) ? Optional.empty() : Optional.ofNullable(byPath.get(path));
+    }
+
+    Optional<Requirement> withFeatureFilePath(Path path) {
+        return (path == null) ? Optional.empty() : Optional.ofNullable(byFeatureFilePath.get(path));
+    }
+
+    Optional<Requirement> withEquivalentPath(String path) {
+        return (path == null) ? Optional.empty() : Optional.ofNullable(byNormalisedPath.get(normalised(path)));
+    }
+
+    /**
+     * The requirement with the same name and type as this tag, ignoring case.
+     */
+    Optional<Requirement> forTag(TestTag tag) {
+        return Optional.ofNullable(byTag.get(tagKey(tag.getName(), tag.getType())));
+    }
+
+    /**
+     * The first requirement whose tag is the same as, or more specific than, this tag.
+     */
+    Optional<Requirement> withTagAsOrMoreSpecificThan(TestTag tag) {
+        return lessSpecificTagMatches.computeIfAbsent(tag,
+                lessSpecificTag -> allRequirements.stream()
+                        .filter(requirement -> requirement.asTag().isAsOrMoreSpecificThan(lessSpecificTag))
+                        .findFirst()
+        );
+    }
+
+    /**
+     * The first indexed requirement that the given requirement matches (same name, type, parent and card number).
+     */
+    Optional<Requirement> matching(Requirement requirement) {
+        return byNameTypeAndParent.getOrDefault(nameTypeAndParentOf(requirement), Collections.emptyList())
+                .stream()
+                .filter(requirement::matches)
+                .findFirst();
+    }
+
+    /**
+     * The indexed requirements with the same name, type and parent as the given requirement, in the order of the tree.
+     */
+    List<Requirement> withSameNameTypeAndParentAs(Requirement requirement) {
+        return byNameTypeAndParent.getOrDefault(nameTypeAndParentOf(requirement), Collections.emptyList());
+    }
+
+    Optional<Requirement> parentOf(Requirement requirement) {
+        return Optional.ofNullable(parents.get(requirement));
+    }
+
+    /**
+     * Of the requirements found, the one that comes first in the requirements tree.
+     */
+    @SafeVarargs
+    final Optional<Requirement> firstOf(Optional<Requirement>... candidates) {
+        return Arrays.stream(candidates)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .min(Comparator.comparing(positions::get));
+    }
+
+    private String normalised(String path) {
+        return lowerCase(pathNormaliser.apply(path));
+    }
+
+    private static Optional<Path> pathOf(String path) {
+        try {
+            return Optional.of(Paths.get(path));
+        } catch (InvalidPathException notAValidPath) {
+            return Optional.empty();
+        }
+    }
+
+    private static String tagKey(String name, String type) {
+        return lowerCase(name) + "\n" + lowerCase(type);
+    }
+
+    private static List<String> nameTypeAndParentOf(Requirement requirement) {
+        return Arrays.asList(requirement.getName(), requirement.getType(), requirement.getParent());
+    }
+
+    private static String lowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -15,10 +15,10 @@ import net.thucydides.core.requirements.ExcludedUnrelatedRequirementTypes;
 import net.thucydides.core.requirements.model.Requirement;
 import net.thucydides.core.util.EnvironmentVariables;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class RequirementOutcome {
@@ -30,6 +30,11 @@ public class RequirementOutcome {
     private final EnvironmentVariables environmentVariables;
     private ReportFormatter reportFormatter;
 
+    private final Map<String, Boolean> statusCache = new ConcurrentHashMap<>();
+    private volatile List<ChildOutcome> childOutcomes;
+    private volatile List<Requirement> flattenedRequirements;
+    private volatile Integer testCount;
+
     public RequirementOutcome(Requirement requirement, TestOutcomes testOutcomes,
                               long requirementsWithoutTests, long estimatedUnimplementedTests,
                               IssueTracking issueTracking) {
@@ -62,32 +67,41 @@ public class RequirementOutcome {
      * A Requirement is considered complete if it has associated tests to all of the tests are successful.
      */
     public boolean isComplete() {
-        return (!getTestOutcomes().getTests().isEmpty()) && getTestOutcomes().getResult() == TestResult.SUCCESS && allChildRequirementsAreSuccessful();
+        return cachedStatus("Complete",
+                () -> (!getTestOutcomes().getTests().isEmpty()) && getTestOutcomes().getResult() == TestResult.SUCCESS && allChildRequirementsAreSuccessful());
     }
 
     public boolean isFailure() {
-        return getTestOutcomes().getResult() == TestResult.FAILURE || anyChildRequirementsAreFailures();
+        return cachedStatus("Failure",
+                () -> getTestOutcomes().getResult() == TestResult.FAILURE || anyChildRequirementsAre(RequirementOutcome::isFailure));
     }
 
     public boolean isError() {
-        return getTestOutcomes().getResult() == TestResult.ERROR || anyChildRequirementsAreErrors();
+        return cachedStatus("Error",
+                () -> getTestOutcomes().getResult() == TestResult.ERROR || anyChildRequirementsAre(RequirementOutcome::isError));
     }
 
     public boolean isCompromised() {
-        return getTestOutcomes().getResult() == TestResult.COMPROMISED || anyChildRequirementsAreCompromised();
+        return cachedStatus("Compromised",
+                () -> getTestOutcomes().getResult() == TestResult.COMPROMISED
+                        || anyChildRequirementsAre(RequirementOutcome::isCompromised, RequirementOutcome::isError));
     }
 
     public boolean isPending() {
 //        return (getTestOutcomes().getTestCount() == 0) || getTestOutcomes().getResult() == TestResult.PENDING || anyChildRequirementsArePending();
-        return getTestOutcomes().getResult() == TestResult.PENDING || anyChildRequirementsArePending();
+        return cachedStatus("Pending",
+                () -> getTestOutcomes().getResult() == TestResult.PENDING || anyChildRequirementsAre(RequirementOutcome::isPending));
     }
 
     public boolean isIgnored() {
-        return getTestOutcomes().getResult() == TestResult.IGNORED || anyChildRequirementsAreIgnored();
+        return cachedStatus("Ignored",
+                () -> getTestOutcomes().getResult() == TestResult.IGNORED || anyChildRequirementsAre(RequirementOutcome::isIgnored));
     }
 
     public boolean isSkipped() {
-        return getTestOutcomes().getResult() == TestResult.SKIPPED || anyChildRequirementsAreSkipped();
+        return cachedStatus("Skipped",
+                () -> getTestOutcomes().getResult() == TestResult.SKIPPED
+                        || anyChildRequirementsAre(RequirementOutcome::isSkipped, RequirementOutcome::isIgnored));
     }
 
     public int getFlattenedRequirementCount() {
@@ -95,16 +109,19 @@ public class RequirementOutcome {
     }
 
     public List<Requirement> getFlattenedRequirements() {
-        List<Requirement> flattenedRequirements = new ArrayList();
-        flattenedRequirements.add(requirement);
-        flattenedRequirements.addAll(requirement.getNestedChildren());
-        return NewList.copyOf(flattenedRequirements);
+        List<Requirement> requirements = flattenedRequirements;
+        if (requirements == null) {
+            List<Requirement> allRequirements = new ArrayList();
+            allRequirements.add(requirement);
+            allRequirements.addAll(requirement.getNestedChildren());
+            requirements = NewList.copyOf(allRequirements);
+            flattenedRequirements = requirements;
+        }
+        return requirements;
     }
 
     public List<Requirement> getFlattenedRequirements(Requirement... excludingRequirement) {
-        List<Requirement> flattenedRequirements = new ArrayList();
-        flattenedRequirements.add(requirement);
-        flattenedRequirements.addAll(requirement.getNestedChildren());
+        List<Requirement> flattenedRequirements = new ArrayList(getFlattenedRequirements());
         flattenedRequirements.removeAll(NewList.of(excludingRequirement));
         return NewList.copyOf(flattenedRequirements);
     }
@@ -113,129 +130,88 @@ public class RequirementOutcome {
         return requirementsWithoutTests;
     }
 
-
-    private boolean allChildRequirementsAreSuccessful() {
-        if (requirement.hasChildren()) {
-            return allChildRequirementsAreSuccessfulFor(requirement.getChildren());
-        } else {
-            return true;
+    /**
+     * The result flags only depend on the requirement and its test outcomes, so each one is worked out once,
+     * the first time it is needed.
+     */
+    private boolean cachedStatus(String status, Supplier<Boolean> computeStatus) {
+        Boolean cachedValue = statusCache.get(status);
+        if (cachedValue == null) {
+            cachedValue = computeStatus.get();
+            statusCache.put(status, cachedValue);
         }
+        return cachedValue;
     }
 
-    private boolean anyChildRequirementsAreFailures() {
-        return anyChildRequirementsAreFailuresFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsAreErrors() {
-        return anyChildRequirementsAreErrorsFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsAreCompromised() {
-        return anyChildRequirementsAreCompromisedFor(requirement.getChildren());
-    }
-
-    private boolean anyChildRequirementsArePending() {
-        return anyChildRequirementsArePendingFor(requirement.getChildren());
+    /**
+     * The outcomes of the nested requirements, all evaluated against the test outcomes of this requirement.
+     * They are created once, so that their own result flags are only worked out once.
+     */
+    private List<ChildOutcome> childOutcomes() {
+        List<ChildOutcome> outcomes = childOutcomes;
+        if (outcomes == null) {
+            outcomes = requirement.hasChildren()
+                    ? childOutcomesOf(requirement.getChildren(), testOutcomes.forRequirement(requirement))
+                    : Collections.emptyList();
+            childOutcomes = outcomes;
+        }
+        return outcomes;
     }
 
-    private boolean anyChildRequirementsAreIgnored() {
-        return anyChildRequirementsAreIgnoredFor(requirement.getChildren());
+    private List<ChildOutcome> childOutcomesOf(List<Requirement> requirements, TestOutcomes outcomesForThisRequirement) {
+        return requirements.stream()
+                .map(childRequirement -> new ChildOutcome(new RequirementOutcome(childRequirement, outcomesForThisRequirement, issueTracking),
+                                                          childOutcomesOf(childRequirement.getChildren(), outcomesForThisRequirement)))
+                .collect(Collectors.toList());
     }
 
-    private boolean anyChildRequirementsAreSkipped() {
-        return anyChildRequirementsAreSkippedFor(requirement.getChildren());
+    private boolean allChildRequirementsAreSuccessful() {
+        return allChildRequirementsAreSuccessfulFor(childOutcomes());
     }
 
-    private boolean allChildRequirementsAreSuccessfulFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                                                                      testOutcomes.forRequirement(requirement),
-                                                                      issueTracking);
-            if (!childOutcomes.isComplete()) {
+    private boolean allChildRequirementsAreSuccessfulFor(List<ChildOutcome> outcomes) {
+        for (ChildOutcome childOutcome : outcomes) {
+            if (!childOutcome.outcome.isComplete()) {
                 return false;
-            } else if (!allChildRequirementsAreSuccessfulFor(childRequirement.getChildren())) {
+            } else if (!allChildRequirementsAreSuccessfulFor(childOutcome.children)) {
                 return false;
             }
         }
         return true;
     }
 
-    private boolean anyChildRequirementsAreErrorsFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isError()) {
-                return true;
-            } else if (anyChildRequirementsAreErrorsFor(childRequirement.getChildren())) {
-                return true;
-            }
-        }
-        return false;
+    private boolean anyChildRequirementsAre(Predicate<RequirementOutcome> status) {
+        return anyChildRequirementsAre(status, status);
     }
 
-    private boolean anyChildRequirementsAreFailuresFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isFailure()) {
-                return true;
-            } else if (anyChildRequirementsAreFailuresFor(childRequirement.getChildren())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private boolean anyChildRequirementsAreCompromisedFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isCompromised()) {
-                return true;
-            } else if (anyChildRequirementsAreErrorsFor(childRequirement.getChildren())) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Check the direct children with one status, and the requirements nested below them with another.
+     */
+    private boolean anyChildRequirementsAre(Predicate<RequirementOutcome> childStatus, Predicate<RequirementOutcome> nestedStatus) {
+        return anyChildRequirementsAreFor(childOutcomes(), childStatus, nestedStatus);
     }
 
-    private boolean anyChildRequirementsArePendingFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isPending()) {
+    private boolean anyChildRequirementsAreFor(List<ChildOutcome> outcomes,
+                                               Predicate<RequirementOutcome> childStatus,
+                                               Predicate<RequirementOutcome> nestedStatus) {
+        for (ChildOutcome childOutcome : outcomes) {
+            if (childStatus.test(childOutcome.outcome)) {
                 return true;
-            } else if (anyChildRequirementsArePendingFor(childRequirement.getChildren())) {
+            } else if (anyChildRequirementsAreFor(childOutcome.children, nestedStatus, nestedStatus)) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean anyChildRequirementsAreIgnoredFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isIgnored()) {
-                return true;
-            } else if (anyChildRequirementsAreIgnoredFor(childRequirement.getChildren())) {
-                return true;
-            }
-        }
-        return false;
-    }
+    private static class ChildOutcome {
+        private final RequirementOutcome outcome;
+        private final List<ChildOutcome> children;
 
-    private boolean anyChildRequirementsAreSkippedFor(List<Requirement> requirements) {
-        for(Requirement childRequirement : requirements) {
-            RequirementOutcome childOutcomes = new RequirementOutcome(childRequirement,
-                    testOutcomes.forRequirement(requirement), issueTracking);
-            if (childOutcomes.isSkipped()) {
-                return true;
-            } else if (anyChildRequirementsAreIgnoredFor(childRequirement.getChildren())) {
-                return true;
-            }
+        ChildOutcome(RequirementOutcome outcome, List<ChildOutcome> children) {
+            this.outcome = outcome;
+            this.children = children;
         }
-        return false;
     }
 
     public String getCardNumberWithLinks() {
@@ -256,7 +232,12 @@ public class RequirementOutcome {
     }
 
     public int getTestCount() {
-        return testOutcomes.getTotal();
+        Integer count = testCount;
+        if (count == null) {
+            count = testOutcomes.getTotal();
+            testCount = count;
+        }
+        return count;
     }
 
     public TestOutcomes getTests() {
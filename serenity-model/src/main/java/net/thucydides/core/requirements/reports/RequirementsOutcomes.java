@@ -16,7 +16,6 @@ import net.thucydides.core.requirements.model.Requirement;
 import net.thucydides.core.util.EnvironmentVariables;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,7 +42,7 @@ public class RequirementsOutcomes {
 
     public final static Integer DEFAULT_TESTS_PER_REQUIREMENT = 4;
 
-    private final Map<String, Integer> totalCountCache = new ConcurrentHashMap<>();
+    private volatile RequirementCounts requirementCounts;
 
     public RequirementsOutcomes(List<Requirement> requirements,
                                 TestOutcomes testOutcomes,
@@ -133,28 +132,16 @@ public class RequirementsOutcomes {
     }
 
     public int getFlattenedRequirementCount() {
-        if (totalIsCachedFor("FlattenedRequirementCount")) {
-            return cachedTotalOf("FlattenedRequirementCount");
-        }
-
-        int requirementCount = requirementOutcomes.stream()
-                .mapToInt(RequirementOutcome::getFlattenedRequirementCount)
-                .sum();
-
-        return cachedTotal("FlattenedRequirementCount", requirementCount);
-    }
-
-    private int cachedTotal(String key, int total) {
-        totalCountCache.put(key, total);
-        return total;
-    }
-
-    private int cachedTotalOf(String key) {
-        return totalCountCache.get(key);
+        return requirementCounts().flattenedRequirements;
     }
 
-    private boolean totalIsCachedFor(String key) {
-        return totalCountCache.containsKey(key);
+    private RequirementCounts requirementCounts() {
+        RequirementCounts counts = requirementCounts;
+        if (counts == null) {
+            counts = new RequirementCounts(requirementOutcomes);
+            requirementCounts = counts;
+        }
+        return counts;
     }
 
     private List<Requirement> getFlattenedRequirements(Requirement rootRequirement) {
@@ -254,17 +241,7 @@ public class RequirementsOutcomes {
     }
 
     public int getCompletedRequirementsCount() {
-        if (totalIsCachedFor("CompletedRequirementsCount")) {
-            return cachedTotalOf("CompletedRequirementsCount");
-        }
-
-        int completedRequirements = 0;
-        for (RequirementOutcome requirementOutcome : requirementOutcomes) {
-            if (requirementOutcome.isComplete()) {
-                completedRequirements++;
-            }
-        }
-        return cachedTotal("CompletedRequirementsCount", completedRequirements);
+        return requirementCounts().completed;
     }
 
     public int getUnsuccessfulRequirementsCount() {
@@ -272,99 +249,31 @@ public class RequirementsOutcomes {
     }
 
     public int getErrorRequirementsCount() {
-        if (totalIsCachedFor("ErrorRequirementsCount")) {
-            return cachedTotalOf("ErrorRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isError)
-                .count();
-
-        return cachedTotal("ErrorRequirementsCount", matchingRequirements);
+        return requirementCounts().error;
     }
 
     public int getFailingRequirementsCount() {
-        if (totalIsCachedFor("FailingRequirementsCount")) {
-            return cachedTotalOf("FailingRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isFailure)
-                .count();
-
-        return cachedTotal("FailingRequirementsCount", matchingRequirements);
+        return requirementCounts().failing;
     }
 
     public int getPendingRequirementsCount() {
-        if (totalIsCachedFor("PendingRequirementsCount")) {
-            return cachedTotalOf("PendingRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isPending)
-                .count();
-
-        return cachedTotal("PendingRequirementsCount", matchingRequirements);
+        return requirementCounts().pending;
     }
 
     public int getCompromisedRequirementsCount() {
-        if (totalIsCachedFor("CompromisedRequirementsCount")) {
-            return cachedTotalOf("CompromisedRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isCompromised)
-                .count();
-
-        return cachedTotal("CompromisedRequirementsCount", matchingRequirements);
+        return requirementCounts().compromised;
     }
 
     public int getIgnoredRequirementsCount() {
-        if (totalIsCachedFor("IgnoredRequirementsCount")) {
-            return cachedTotalOf("IgnoredRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isIgnored)
-                .count();
-
-
-        return cachedTotal("IgnoredRequirementsCount", matchingRequirements);
+        return requirementCounts().ignored;
     }
 
     public int getSkippedRequirementsCount() {
-        if (totalIsCachedFor("SkippedRequirementsCount")) {
-            return cachedTotalOf("SkippedRequirementsCount");
-        }
-
-        int matchingRequirements = (int) requirementOutcomes.stream()
-                .filter(RequirementOutcome::isSkipped)
-                .count();
-
-
-        return cachedTotal("SkippedRequirementsCount", matchingRequirements);
+        return requirementCounts().skipped;
     }
 
     public int getRequirementsWithoutTestsCount() {
-        if (totalIsCachedFor("RequirementsWithoutTestsCount")) {
-            return cachedTotalOf("RequirementsWithoutTestsCount");
-        }
-
-        int requirementsWithNoTests = 0;
-        for (Requirement requirement : getTopLevelRequirements()) {
-            if (!testsRecordedFor(requirement) && !isPending(requirement)) {
-                requirementsWithNoTests++;
-            }
-        }
-        return cachedTotal("IgnoredRequirementsCount", requirementsWithNoTests);
-    }
-
-    private boolean isPending(Requirement requirement) {
-        return requirementOutcomes.stream().anyMatch(req -> req.getRequirement().equals(requirement) && req.isPending());
-    }
-
-    private boolean testsRecordedFor(Requirement requirement) {
-        return requirementOutcomes.stream().anyMatch(req -> req.getRequirement().equals(requirement) && req.getTestCount() > 0);
+        return requirementCounts().withoutTests;
     }
 
     private Stream<Requirement> getAllRequirementsStream() {
@@ -373,10 +282,6 @@ public class RequirementsOutcomes {
         );
     }
 
-    private List<Requirement> getTopLevelRequirements() {
-        return requirementOutcomes.stream().map(RequirementOutcome::getRequirement).collect(Collectors.toList());
-    }
-
     public long getTotalRequirements() {
         return getAllRequirementsStream().count();
     }
@@ -404,7 +309,7 @@ public class RequirementsOutcomes {
 
     public List<RequirementOutcome> getLeafRequirementOutcomes() {
         if (leafRequirementOutcomes == null) {
-            leafRequirementOutcomes = geLeafRequirementOutcomes(getFlattenedRequirementOutcomes(requirementOutcomes));
+            leafRequirementOutcomes = geLeafRequirementOutcomes(getFlattenedRequirementOutcomes());
         }
         return leafRequirementOutcomes;
     }
@@ -612,4 +517,49 @@ public class RequirementsOutcomes {
     public Optional<RequirementOutcome> getOutcomeFor(Requirement requirement) {
         return requirementOutcomes.stream().filter(requirementOutcome -> requirementOutcome.getRequirement().equals(requirement)).findFirst();
     }
+
+    /**
+     * The requirement totals shown in the reports, worked out in a single pass through the requirement outcomes
+     * the first time one of them is needed.
+     */
+    private static class RequirementCounts {
+        private int flattenedRequirements;
+        private int completed;
+        private int error;
+        private int failing;
+        private int pending;
+        private int compromised;
+        private int ignored;
+        private int skipped;
+        private int withoutTests;
+
+        RequirementCounts(List<RequirementOutcome> requirementOutcomes) {
+            Set<Requirement> testedRequirements = new HashSet<>();
+            Set<Requirement> pendingRequirements = new HashSet<>();
+
+            for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+                flattenedRequirements += requirementOutcome.getFlattenedRequirementCount();
+                if (requirementOutcome.isComplete()) { completed++; }
+                if (requirementOutcome.isError()) { error++; }
+                if (requirementOutcome.isFailure()) { failing++; }
+                if (requirementOutcome.isPending()) {
+                    pending++;
+                    pendingRequirements.add(requirementOutcome.getRequirement());
+                }
+                if (requirementOutcome.isCompromised()) { compromised++; }
+                if (requirementOutcome.isIgnored()) { ignored++; }
+                if (requirementOutcome.isSkipped()) { skipped++; }
+                if (requirementOutcome.getTestCount() > 0) {
+                    testedRequirements.add(requirementOutcome.getRequirement());
+                }
+            }
+
+            for (RequirementOutcome requirementOutcome : requirementOutcomes) {
+                Requirement requirement = requirementOutcome.getRequirement();
+                if (!testedRequirements.contains(requirement) && !pendingRequirements.contains(requirement)) {
+                    withoutTests++;
+                }
+            }
+        }
+    }
 }
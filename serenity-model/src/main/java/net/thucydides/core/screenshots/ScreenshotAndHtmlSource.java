@@ -26,6 +26,12 @@ public class ScreenshotAndHtmlSource implements Comparable<ScreenshotAndHtmlSour
         this.timeStamp = System.currentTimeMillis();
     }
 
+    public ScreenshotAndHtmlSource(File screenshot, File sourcecode, Long timeStamp) {
+        this.screenshot = screenshot;
+        this.htmlSource = sourcecode;
+        this.timeStamp = timeStamp;
+    }
+
     public String getScreenshotName() {
         return screenshot.getName();
     }
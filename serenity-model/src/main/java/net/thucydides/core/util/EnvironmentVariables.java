@@ -1,5 +1,7 @@
 package net.thucydides.core.util;
 
+import net.thucydides.core.SerenityConfigSnapshot;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,4 +74,12 @@ public interface EnvironmentVariables {
     Map<String, String> asMap();
 
     Map<String,String> simpleSystemPropertiesAsMap();
+
+    /**
+     * The snapshot of the Serenity system properties that is kept up to date with these environment variables, or
+     * null if they do not keep one.
+     */
+    default SerenityConfigSnapshot getConfigSnapshot() {
+        return null;
+    }
 }
@@ -2,6 +2,7 @@ package net.thucydides.core.util;
 
 import net.serenitybdd.core.collect.NewMap;
 import net.serenitybdd.core.environment.ConfiguredEnvironment;
+import net.thucydides.core.SerenityConfigSnapshot;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
@@ -11,6 +12,7 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     private Properties properties = new Properties();
     private Map<String, String> values = new HashMap<>();
+    private volatile SerenityConfigSnapshot configSnapshot;
 
     public MockEnvironmentVariables() {
         this.properties.setProperty("user.home", System.getProperty("user.home"));
@@ -117,15 +119,18 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
 
     public void setProperty(String name, String value) {
         properties.setProperty(name, value);
+        configSnapshot = null;
     }
 
     public void setProperties(Map<String, String> newProperties) {
         properties.putAll(newProperties);
+        configSnapshot = null;
     }
 
 
     public void clearProperty(String name) {
         properties.remove(name);
+        configSnapshot = null;
     }
 
     public EnvironmentVariables copy() {
@@ -164,6 +169,16 @@ public class MockEnvironmentVariables implements EnvironmentVariables {
         return value;
     }
 
+    @Override
+    public SerenityConfigSnapshot getConfigSnapshot() {
+        SerenityConfigSnapshot snapshot = configSnapshot;
+        if (snapshot == null) {
+            snapshot = SerenityConfigSnapshot.from(this);
+            configSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
     @Override
     public Map<String, String> asMap() {
         Map<String, String> environmentValues = new HashMap<>();
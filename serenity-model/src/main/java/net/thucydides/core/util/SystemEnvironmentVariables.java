@@ -1,6 +1,7 @@
 package net.thucydides.core.util;
 
 import net.serenitybdd.core.collect.NewMap;
+import net.thucydides.core.SerenityConfigSnapshot;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
@@ -16,6 +17,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
     private Map<String, String> properties;
     private Map<String, String> systemValues;
+    private volatile SerenityConfigSnapshot configSnapshot;
 
     public SystemEnvironmentVariables() {
         this(System.getProperties(), System.getenv());
@@ -157,6 +159,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
         HashMap<String, String> workingCopy = new HashMap<>(properties);
         workingCopy.put(name, value);
         properties = NewMap.copyOf(workingCopy);
+        configSnapshot = null;
 
         propertySetLock.unlock();
     }
@@ -165,6 +168,7 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
 
         propertySetLock.lock();
         this.properties.putAll(properties);
+        configSnapshot = null;
         propertySetLock.unlock();
     }
 
@@ -175,10 +179,21 @@ public class SystemEnvironmentVariables implements EnvironmentVariables {
         HashMap<String, String> workingCopy = new HashMap(properties);
         workingCopy.remove(name);
         properties = NewMap.copyOf(workingCopy);
+        configSnapshot = null;
 
         propertySetLock.unlock();
     }
 
+    @Override
+    public SerenityConfigSnapshot getConfigSnapshot() {
+        SerenityConfigSnapshot snapshot = configSnapshot;
+        if (snapshot == null) {
+            snapshot = SerenityConfigSnapshot.from(this);
+            configSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
     @Override
     public Map<String, String> asMap() {
         Map<String, String> environmentValues = new HashMap<>(properties);
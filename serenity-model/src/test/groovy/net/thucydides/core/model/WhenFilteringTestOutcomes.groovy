@@ -0,0 +1,118 @@
+package net.thucydides.core.model
+
+import net.thucydides.core.reports.TestOutcomes
+import spock.lang.Specification
+
+class WhenFilteringTestOutcomes extends Specification {
+
+    def outcome1 = TestOutcome.forTestInStory("someTest 1", Story.withId("1","story"))
+    def outcome2 = TestOutcome.forTestInStory("someTest 2", Story.withId("1","story"))
+    def outcome3 = TestOutcome.forTestInStory("someTest 3", Story.withId("1","story"))
+    def outcome4 = TestOutcome.forTestInStory("someTest 4", Story.withId("1","story"))
+
+    def release1 = TestTag.withName("PROJ Release 1").andType("version")
+    def release2 = TestTag.withName("PROJ Release 2").andType("version")
+    def smokeTest = TestTag.withName("smoke").andType("tag")
+
+    def setup() {
+        outcome1.addTags([release1, smokeTest])
+        outcome2.addTags([release1])
+        outcome3.addTags([release2, smokeTest])
+        outcome4.addTags([release2])
+        outcome1.setResult(TestResult.SUCCESS)
+        outcome2.setResult(TestResult.FAILURE)
+        outcome3.setResult(TestResult.SUCCESS)
+        outcome4.setResult(TestResult.PENDING)
+        outcome2.addIssues(["ISSUE-1"])
+    }
+
+    def "should filter test outcomes by tag name, ignoring case"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withTag("proj release 1").outcomes == [outcome1, outcome2]
+    }
+
+    def "should filter test outcomes by tag type"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withTagType("TAG").outcomes == [outcome1, outcome3]
+    }
+
+    def "should combine the outcomes matching any of a set of tags"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withTags([release1, smokeTest]).outcomes == [outcome1, outcome2, outcome3]
+    }
+
+    def "should filter test outcomes by issue"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withCardNumber("ISSUE-1").outcomes == [outcome2]
+    }
+
+    def "should filter test outcomes by result"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withResult(TestResult.SUCCESS).outcomes == [outcome1, outcome3]
+    }
+
+    def "should only filter the outcomes in a nested set of test outcomes"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        when:
+            def release2Outcomes = outcomes.withTag(release2)
+        then:
+            release2Outcomes.withTag(smokeTest).outcomes == [outcome3]
+            release2Outcomes.withResult(TestResult.SUCCESS).outcomes == [outcome3]
+            release2Outcomes.withCardNumber("ISSUE-1").outcomes.isEmpty()
+    }
+
+    def "nested test outcomes should keep the order of the original test outcomes"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome4, outcome3, outcome2, outcome1])
+        when:
+            def smokeTests = outcomes.outcomes.findAll { it.hasTag(smokeTest) }
+        then:
+            outcomes.withTag(smokeTest).outcomes == smokeTests
+            outcomes.withTag(smokeTest).withLabel("smoke tests").outcomes == smokeTests
+    }
+
+    def "should take tags added after the outcomes were first filtered into account"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+            outcomes.withTag(smokeTest)
+        when:
+            outcome4.addTag(smokeTest)
+            outcomes.withRequirementsTags()
+        then:
+            outcomes.withTag(smokeTest).outcomes == [outcome1, outcome3, outcome4]
+    }
+
+    def "should take tags added to the outcomes directly into account"() {
+        given:
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+            def fastTests = TestTag.withName("Under 1 second").andType("Duration")
+            outcomes.withTag(smokeTest)
+        when:
+            outcome2.addTag(fastTests)
+        then:
+            outcomes.withTag(fastTests).outcomes == [outcome2]
+    }
+
+    def "should match the outcomes with a more general form of a tag"() {
+        given:
+            outcome1.addTag(TestTag.withName("net.serenity.flights").andType("feature"))
+            outcome2.addTag(TestTag.withName("flights").andType("feature"))
+            outcome3.addTag(TestTag.withName("booking").andType("feature"))
+            def outcomes = TestOutcomes.of([outcome1, outcome2, outcome3, outcome4])
+        expect:
+            outcomes.withTag(TestTag.withName("flights").andType("feature")).outcomes == [outcome1, outcome2]
+            outcomes.withTag(TestTag.withName("travel/flights").andType("feature")).outcomes == [outcome2]
+            outcomes.withTag(TestTag.withName("flights").andType("capability")).outcomes == []
+    }
+}
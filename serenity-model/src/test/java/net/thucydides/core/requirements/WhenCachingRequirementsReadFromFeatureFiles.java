@@ -0,0 +1,122 @@
+package net.thucydides.core.requirements;
+
+import net.thucydides.core.requirements.model.Requirement;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenCachingRequirementsReadFromFeatureFiles {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    File featuresDirectory;
+    File cacheDirectory;
+    MockEnvironmentVariables environmentVariables;
+
+    @Before
+    public void copyTheFeatureFiles() throws IOException {
+        featuresDirectory = temporaryFolder.newFolder("features");
+        FileUtils.copyDirectory(new File(ClassLoader.getSystemClassLoader().getResource("features").getFile()), featuresDirectory);
+
+        cacheDirectory = temporaryFolder.newFolder("requirements-cache");
+        environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.requirements.cache.dir", cacheDirectory.getAbsolutePath());
+    }
+
+    @After
+    public void forgetTheLoadedCaches() {
+        RequirementsFileCache.clearLoadedCaches();
+    }
+
+    @Test
+    public void should_store_the_requirements_read_from_the_feature_files() {
+        requirementNamesIn(featuresDirectory);
+
+        assertThat(new File(cacheDirectory, "requirements-cache.json")).exists();
+    }
+
+    @Test
+    public void should_read_the_same_requirements_from_the_cache() {
+        List<String> requirementsReadFromTheFeatureFiles = requirementNamesIn(featuresDirectory);
+
+        List<String> requirementsReadFromTheCache = requirementNamesIn(featuresDirectory);
+
+        assertThat(requirementsReadFromTheCache).isEqualTo(requirementsReadFromTheFeatureFiles)
+                                                .contains("Adding new items to the todo list");
+    }
+
+    @Test
+    public void should_read_a_feature_file_again_when_it_changes() throws IOException {
+        requirementNamesIn(featuresDirectory);
+
+        File featureFile = new File(featuresDirectory, "record_todos/add_new_items_to_the_todo_list.feature");
+        String featureText = FileUtils.readFileToString(featureFile, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(featureFile,
+                                    featureText.replace("Adding new items to the todo list", "Adding items to the list"),
+                                    StandardCharsets.UTF_8);
+
+        assertThat(requirementNamesIn(featuresDirectory)).contains("Adding items to the list")
+                                                         .doesNotContain("Adding new items to the todo list");
+    }
+
+    @Test
+    public void should_read_the_same_requirements_from_the_cache_stored_on_disk_as_from_the_feature_files() {
+        List<String> requirementsReadFromTheFeatureFiles = requirementDescriptionsIn(featuresDirectory, new MockEnvironmentVariables());
+        requirementDescriptionsIn(featuresDirectory, environmentVariables);
+
+        RequirementsFileCache.clearLoadedCaches();
+
+        assertThat(requirementDescriptionsIn(featuresDirectory, environmentVariables)).isEqualTo(requirementsReadFromTheFeatureFiles);
+    }
+
+    @Test
+    public void should_not_read_unchanged_feature_files_again_in_a_later_run() throws IOException {
+        requirementNamesIn(featuresDirectory);
+        RequirementsFileCache.clearLoadedCaches();
+
+        File featureFile = new File(featuresDirectory, "record_todos/add_new_items_to_the_todo_list.feature");
+        long lastModified = featureFile.lastModified();
+        String featureText = FileUtils.readFileToString(featureFile, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(featureFile,
+                                    featureText.replace("Adding new items to the todo list", "Adding NEW ITEMS to the todo list"),
+                                    StandardCharsets.UTF_8);
+        featureFile.setLastModified(lastModified);
+
+        assertThat(requirementNamesIn(featuresDirectory)).contains("Adding new items to the todo list");
+    }
+
+    private List<String> requirementDescriptionsIn(File directory, MockEnvironmentVariables environment) {
+        List<Requirement> requirements = new FileSystemRequirementsTagProvider(environment, directory.getAbsolutePath()).getRequirements();
+        return AllRequirements.asStreamFrom(requirements).map(this::descriptionOf).collect(Collectors.toList());
+    }
+
+    private String descriptionOf(Requirement requirement) {
+        return String.join(" | ",
+                           requirement.getName(),
+                           requirement.getType(),
+                           String.valueOf(requirement.getTags()),
+                           (requirement.getScenarioTags() == null) ? "" : String.valueOf(new TreeMap<>(requirement.getScenarioTags())),
+                           (requirement.getBackground() == null) ? ""
+                                   : requirement.getBackground().getTitle() + ": " + requirement.getBackground().getDescription(),
+                           requirement.getChildren().stream().map(Requirement::getName).collect(Collectors.joining(", ")));
+    }
+
+    private List<String> requirementNamesIn(File directory) {
+        List<Requirement> requirements = new FileSystemRequirementsTagProvider(environmentVariables, directory.getAbsolutePath()).getRequirements();
+        return AllRequirements.asStreamFrom(requirements).map(Requirement::getName).collect(Collectors.toList());
+    }
+}
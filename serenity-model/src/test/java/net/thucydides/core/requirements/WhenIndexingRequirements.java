@@ -0,0 +1,75 @@
+package net.thucydides.core.requirements;
+
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.requirements.model.Requirement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenIndexingRequirements {
+
+    Requirement capability;
+    Requirement feature;
+    RequirementsIndex index;
+
+    @Before
+    public void indexTheRequirements() {
+        feature = Requirement.named("Grow new potatoes")
+                .withOptionalParent("Grow potatoes")
+                .withTypeOf("feature")
+                .withPath("grow_potatoes/grow_new_potatoes.feature")
+                .withFeatureFileyName("grow_new_potatoes.feature");
+        capability = Requirement.named("Grow potatoes")
+                .withTypeOf("capability")
+                .withPath("grow_potatoes")
+                .withChildren(Collections.singletonList(feature));
+
+        index = RequirementsIndex.of(Collections.singletonList(capability), path -> path.replace("\\", "/"));
+    }
+
+    @Test
+    public void should_find_a_requirement_by_tag_ignoring_case() {
+        assertThat(index.forTag(TestTag.withName("grow NEW potatoes").andType("Feature"))).contains(feature);
+    }
+
+    @Test
+    public void should_find_a_requirement_by_path() {
+        assertThat(index.withPath(Paths.get("grow_potatoes/grow_new_potatoes.feature"))).contains(feature);
+        assertThat(index.withFeatureFilePath(Paths.get("grow_new_potatoes.feature"))).contains(feature);
+        assertThat(index.withFeatureFileNameIgnoringCase("GROW_NEW_POTATOES.feature")).contains(feature);
+    }
+
+    @Test
+    public void should_find_a_requirement_by_equivalent_path() {
+        assertThat(index.withEquivalentPath("grow_potatoes\\GROW_NEW_POTATOES.feature")).contains(feature);
+        assertThat(index.withEquivalentPath("grow_carrots")).isEmpty();
+    }
+
+    @Test
+    public void should_find_the_parent_of_a_requirement() {
+        assertThat(index.parentOf(feature)).contains(capability);
+        assertThat(index.parentOf(capability)).isEmpty();
+    }
+
+    @Test
+    public void should_find_the_indexed_requirement_matching_another_requirement() {
+        Requirement sameFeature = Requirement.named("Grow new potatoes").withOptionalParent("Grow potatoes").withTypeOf("feature");
+
+        assertThat(index.matching(sameFeature)).contains(feature);
+    }
+
+    @Test
+    public void should_prefer_the_requirement_that_comes_first_in_the_tree() {
+        assertThat(index.firstOf(Optional.of(feature), Optional.empty(), Optional.of(capability))).contains(capability);
+    }
+
+    @Test
+    public void should_only_be_the_index_of_the_requirements_it_was_built_from() {
+        assertThat(index.isIndexOf(Collections.singletonList(capability))).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package net.thucydides.core.util;
+
+import net.thucydides.core.SerenityConfigSnapshot;
+import org.junit.Test;
+
+import static net.thucydides.core.ThucydidesSystemProperty.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WhenReadingAConfigurationSnapshot {
+
+    private final MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+
+    @Test
+    public void should_read_typed_values_from_the_environment_variables() {
+        environmentVariables.setProperty("serenity.verbose.steps", "true");
+        environmentVariables.setProperty("serenity.step.delay", " 100 ");
+        environmentVariables.setProperty("webdriver.driver", "chrome");
+
+        SerenityConfigSnapshot snapshot = environmentVariables.getConfigSnapshot();
+
+        assertThat(snapshot.booleanValueOf(SERENITY_VERBOSE_STEPS, false)).isTrue();
+        assertThat(snapshot.integerValueOf(SERENITY_STEP_DELAY, 0)).isEqualTo(100);
+        assertThat(snapshot.valueOf(WEBDRIVER_DRIVER)).isEqualTo("chrome");
+    }
+
+    @Test
+    public void should_use_the_default_value_for_undefined_or_empty_properties() {
+        environmentVariables.setProperty("webdriver.driver", "");
+
+        SerenityConfigSnapshot snapshot = environmentVariables.getConfigSnapshot();
+
+        assertThat(snapshot.valueOf(WEBDRIVER_DRIVER, "firefox")).isEqualTo("firefox");
+        assertThat(snapshot.booleanValueOf(SERENITY_VERBOSE_STEPS, true)).isTrue();
+        assertThat(snapshot.integerValueOf(SERENITY_STEP_DELAY, 50)).isEqualTo(50);
+        assertThat(snapshot.optionalValueOf(WEBDRIVER_BASE_URL)).isEmpty();
+    }
+
+    @Test
+    public void should_read_legacy_and_environment_specific_properties() {
+        environmentVariables.setProperty("thucydides.verbose.steps", "true");
+        environmentVariables.setProperty("environment", "staging");
+        environmentVariables.setProperty("environments.staging.webdriver.base.url", "https://staging.example.com");
+
+        SerenityConfigSnapshot snapshot = environmentVariables.getConfigSnapshot();
+
+        assertThat(snapshot.booleanValueOf(SERENITY_VERBOSE_STEPS, false)).isTrue();
+        assertThat(snapshot.valueOf(WEBDRIVER_BASE_URL)).isEqualTo("https://staging.example.com");
+    }
+
+    @Test
+    public void should_reuse_the_same_snapshot_until_a_property_changes() {
+        SerenityConfigSnapshot snapshot = environmentVariables.getConfigSnapshot();
+
+        assertThat(environmentVariables.getConfigSnapshot()).isSameAs(snapshot);
+
+        environmentVariables.setProperty("serenity.step.delay", "100");
+
+        assertThat(environmentVariables.getConfigSnapshot()).isNotSameAs(snapshot);
+        assertThat(SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0)).isEqualTo(100);
+
+        environmentVariables.clearProperty("serenity.step.delay");
+
+        assertThat(SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0)).isEqualTo(0);
+    }
+
+    @Test
+    public void should_refresh_the_snapshot_of_the_system_environment_when_a_property_changes() {
+        EnvironmentVariables systemEnvironmentVariables = new SystemEnvironmentVariables();
+        systemEnvironmentVariables.setProperty("serenity.verbose.steps", "false");
+
+        assertThat(SERENITY_VERBOSE_STEPS.booleanFrom(systemEnvironmentVariables, true)).isFalse();
+
+        systemEnvironmentVariables.setProperty("serenity.verbose.steps", "true");
+
+        assertThat(SERENITY_VERBOSE_STEPS.booleanFrom(systemEnvironmentVariables, false)).isTrue();
+    }
+
+    @Test
+    public void should_report_properties_that_are_not_integers() {
+        environmentVariables.setProperty("serenity.step.delay", "soon");
+
+        assertThatThrownBy(() -> SERENITY_STEP_DELAY.integerFrom(environmentVariables, 0))
+                .isInstanceOf(NumberFormatException.class);
+    }
+}
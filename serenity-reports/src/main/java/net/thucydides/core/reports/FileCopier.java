@@ -26,10 +26,28 @@ class FileCopier implements Callable<Path> {
         public Path call() throws Exception {
             Path destinationFile = targetDirectory.resolve(sourcePath.getFileName());
             try {
+                if (isScreenshot(sourcePath)) {
+                    return linkOrCopy(sourcePath, destinationFile);
+                }
                 return Files.copy(sourcePath, destinationFile, COPY_OPTIONS);
             } catch (IOException e) {
                 LOGGER.error("Error during copying files to the target directory", e);
                 return null;
             }
         }
+
+        /**
+         * Screenshot files are named after their content and never change, so they can be shared between report directories.
+         */
+        private boolean isScreenshot(Path file) {
+            return file.getFileName().toString().endsWith(".png");
+        }
+
+        private Path linkOrCopy(Path source, Path destination) throws IOException {
+            try {
+                return Files.createLink(destination, source);
+            } catch (IOException | UnsupportedOperationException linksNotSupported) {
+                return Files.copy(source, destination, COPY_OPTIONS);
+            }
+        }
     }
\ No newline at end of file
@@ -9,6 +9,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_GENERATE_CSV_REPORTS;
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
@@ -50,6 +51,11 @@ public class AggregateReportingTask extends BaseReportingTask implements Reporti
          LOGGER.debug("Aggregate reports generated in {} ms ", stopwatch.stop());
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
     @Override
     public String reportName() {
         return "index.html";
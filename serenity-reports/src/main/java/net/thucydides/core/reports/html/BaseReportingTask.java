@@ -6,11 +6,8 @@ import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
@@ -40,9 +37,7 @@ public abstract class BaseReportingTask implements ReportingTask {
                                       final String outputFile) throws IOException {
 
         Path outputPath = outputDirectory.toPath().resolve(outputFile);
-        try (BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            mergeTemplate(template).withContext(context).to(writer);
-        }
+        freemarker.getRenderingSession().renderPage(template, context, outputPath);
     }
 
     protected Merger mergeTemplate(final String templateFile) {
@@ -8,6 +8,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 public class DurationReportingTask extends BaseReportingTask implements ReportingTask {
 
@@ -75,6 +76,11 @@ public class DurationReportingTask extends BaseReportingTask implements Reportin
         return sb.toString();
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
     @Override
     public String reportName() {
         return reportName;
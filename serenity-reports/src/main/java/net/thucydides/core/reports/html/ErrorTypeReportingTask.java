@@ -9,6 +9,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
 
@@ -49,6 +50,11 @@ public class ErrorTypeReportingTask extends BaseReportingTask implements Reporti
         LOGGER.debug("Error type reports generated in {} ms ", stopwatch.stop());
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
     @Override
     public String reportName() {
         return filename;
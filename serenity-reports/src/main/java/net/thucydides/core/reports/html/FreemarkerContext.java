@@ -3,15 +3,12 @@ package net.thucydides.core.reports.html;
 import net.serenitybdd.core.buildinfo.BuildInfoProvider;
 import net.serenitybdd.core.buildinfo.BuildProperties;
 import net.serenitybdd.core.environment.EnvironmentSpecificConfiguration;
-import net.serenitybdd.core.reports.styling.TagStylist;
 import net.serenitybdd.reports.model.*;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.issues.IssueTracking;
-import net.thucydides.core.model.NumericalFormatter;
 import net.thucydides.core.model.ReportType;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
-import net.thucydides.core.model.formatters.ReportFormatter;
 import net.thucydides.core.reports.ReportOptions;
 import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.reports.html.accessibility.ChartColorScheme;
@@ -21,9 +18,6 @@ import net.thucydides.core.requirements.reports.ScenarioOutcome;
 import net.thucydides.core.requirements.reports.ScenarioOutcomes;
 import net.thucydides.core.tags.OutcomeTagFilter;
 import net.thucydides.core.util.EnvironmentVariables;
-import net.thucydides.core.util.Inflector;
-import net.thucydides.core.util.TagInflector;
-import net.thucydides.core.util.VersionProvider;
 import org.joda.time.DateTime;
 import org.joda.time.ReadableDateTime;
 
@@ -52,8 +46,6 @@ public class FreemarkerContext {
     private final TestTag parentTag;
     private final RequirementsService requirementsService;
     private final List<String> requirementTypes;
-    private final String version;
-    private final String buildNumber;
     private final List<String> tagTypes;
     private final ReportOptions reportOptions;
     private final CustomReportFields customReportFields;
@@ -61,6 +53,7 @@ public class FreemarkerContext {
     private final Collection<TestTag> tagsOfType;
     private final List<String> customFields;
     private final List<String> customFieldValues;
+    private final ReportRenderingSession renderingSession;
 
     public FreemarkerContext(EnvironmentVariables environmentVariables,
                              RequirementsService requirements,
@@ -75,10 +68,6 @@ public class FreemarkerContext {
         this.parentTag = parentTag;
         this.requirementsService = Injectors.getInjector().getInstance(RequirementsService.class);
         this.requirementTypes = requirements.getRequirementTypes();
-
-        VersionProvider versionProvider = new VersionProvider(environmentVariables);
-        this.version = versionProvider.getVersion();
-        this.buildNumber = versionProvider.getBuildNumberText();
         this.tagTypes = new ReportTags(environmentVariables).getDisplayedTagTypes();
         this.reportOptions = new ReportOptions(environmentVariables);
         this.customReportFields = new CustomReportFields(environmentVariables);
@@ -86,6 +75,29 @@ public class FreemarkerContext {
         this.tagsOfType = requirements.getTagsOfType(tagTypes);
         this.customFields = customReportFields.getFieldNames();
         this.customFieldValues = customReportFields.getValues();
+        this.renderingSession = new ReportRenderingSession(environmentVariables);
+    }
+
+    /**
+     * Reports for a given tag share everything except the parent tag with the reports they were created from.
+     */
+    private FreemarkerContext(FreemarkerContext freemarkerContext, TestTag parentTag) {
+        this.environmentVariables = freemarkerContext.environmentVariables;
+        this.requirements = freemarkerContext.requirements;
+        this.issueTracking = freemarkerContext.issueTracking;
+        this.relativeLink = freemarkerContext.relativeLink;
+        this.buildProperties = freemarkerContext.buildProperties;
+        this.parentTag = parentTag;
+        this.requirementsService = freemarkerContext.requirementsService;
+        this.requirementTypes = freemarkerContext.requirementTypes;
+        this.tagTypes = freemarkerContext.tagTypes;
+        this.reportOptions = freemarkerContext.reportOptions;
+        this.customReportFields = freemarkerContext.customReportFields;
+        this.requirementsWithTag = freemarkerContext.requirementsWithTag;
+        this.tagsOfType = freemarkerContext.tagsOfType;
+        this.customFields = freemarkerContext.customFields;
+        this.customFieldValues = freemarkerContext.customFieldValues;
+        this.renderingSession = freemarkerContext.renderingSession;
     }
 
 
@@ -143,8 +155,6 @@ public class FreemarkerContext {
         context.put("maxTestDuration", formattedDuration(maxDurationOf(testOutcomes.getOutcomes())));
         context.put("minTestDuration", formattedDuration(minDurationOf(testOutcomes.getOutcomes())));
 
-        context.put("serenityVersionNumber", version);
-        context.put("buildNumber", buildNumber);
         context.put("build", buildProperties);
 
         context.put("resultCounts", ResultCounts.forOutcomesIn(testOutcomes));
@@ -164,9 +174,6 @@ public class FreemarkerContext {
                 .withRequirementsFrom(requirementsService)
                 .withMaxOf(5));
 
-        context.put("inflection", Inflector.getInstance());
-        context.put("tagInflector", new TagInflector(environmentVariables));
-
         RequirementsFilter requirementsFilter = new RequirementsFilter(environmentVariables);
 
         Collection<TestTag> coveredTags = requirementsWithTag
@@ -233,16 +240,9 @@ public class FreemarkerContext {
 
 
     private void addFormattersToContext(final Map<String, Object> context) {
-        Formatter formatter = new Formatter();
-        ReportFormatter reportFormatter = new ReportFormatter();
-        context.put("formatter", formatter);
-        context.put("reportFormatter", reportFormatter);
-        context.put("formatted", new NumericalFormatter());
-        context.put("inflection", Inflector.getInstance());
-        context.put("tagInflector", new TagInflector(environmentVariables));
-        context.put("styling", TagStylist.from(environmentVariables));
+        renderingSession.addSharedHelpersTo(context);
         context.put("relativeLink", relativeLink);
-        context.put("reportOptions", new ReportOptions(environmentVariables));
+        context.put("reportOptions", reportOptions);
         context.put("showDetailedStoryDescription", SERENITY_SHOW_STORY_DETAILS_IN_TESTS.booleanFrom(environmentVariables, false));
     }
 
@@ -254,7 +254,11 @@ public class FreemarkerContext {
         return startTime == null ? "" : startTime.toString(TIMESTAMP_FORMAT);
     }
 
+    public ReportRenderingSession getRenderingSession() {
+        return renderingSession;
+    }
+
     public FreemarkerContext withParentTag(TestTag knownTag) {
-        return new FreemarkerContext(environmentVariables, requirements, issueTracking, relativeLink, knownTag);
+        return new FreemarkerContext(this, knownTag);
     }
 }
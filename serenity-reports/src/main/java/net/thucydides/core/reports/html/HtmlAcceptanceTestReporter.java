@@ -1,14 +1,12 @@
 package net.thucydides.core.reports.html;
 
 import com.google.common.base.Preconditions;
-import net.serenitybdd.core.reports.styling.TagStylist;
 import net.serenitybdd.core.time.Stopwatch;
 import net.thucydides.core.ThucydidesSystemProperty;
 import net.thucydides.core.guice.Injectors;
 import net.thucydides.core.images.ResizableImage;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.*;
-import net.thucydides.core.model.formatters.ReportFormatter;
 import net.thucydides.core.model.screenshots.Screenshot;
 import net.thucydides.core.reports.AcceptanceTestReporter;
 import net.thucydides.core.reports.OutcomeFormat;
@@ -17,17 +15,12 @@ import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.requirements.model.Requirement;
 import net.thucydides.core.tags.BreadcrumbTagFilter;
 import net.thucydides.core.util.EnvironmentVariables;
-import net.thucydides.core.util.Inflector;
-import net.thucydides.core.util.TagInflector;
-import net.thucydides.core.util.VersionProvider;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
@@ -50,6 +43,7 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
 
     private final IssueTracking issueTracking;
     private RequirementsService requirementsService;
+    private ReportRenderingSession renderingSession;
 
     public void setQualifier(final String qualifier) {
         this.qualifier = qualifier;
@@ -82,6 +76,20 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
         this.requirementsService = requirementsService;
     }
 
+    /**
+     * Share the template helpers of a reporting run, rather than creating them for each test report.
+     */
+    void setRenderingSession(ReportRenderingSession renderingSession) {
+        this.renderingSession = renderingSession;
+    }
+
+    private ReportRenderingSession getRenderingSession() {
+        if (renderingSession == null) {
+            renderingSession = new ReportRenderingSession(getEnvironmentVariables());
+        }
+        return renderingSession;
+    }
+
     private ReportNameProvider getReportNameProvider() {
         return new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirementsService);
     }
@@ -157,9 +165,7 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
         LOGGER.debug("Generating report in {}", outputFile);
 
         Path outputPath = getOutputDirectory().toPath().resolve(outputFile);
-        try(BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            mergeTemplate(template).withContext(context).to(writer);
-        }
+        getRenderingSession().renderPage(template, context, outputPath);
 
         LOGGER.debug("Generated report {} in {} ms", outputFile, stopwatch.stop());
         return outputPath.toFile();
@@ -178,10 +184,6 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
         context.put("testOutcome", testOutcome);
         context.put("currentTag", TestTag.EMPTY_TAG);
         context.put("reportNameInContext", getReportNameProvider());
-        context.put("inflection", Inflector.getInstance());
-        EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
-        context.put("tagInflector", new TagInflector(environmentVariables));
-        context.put("styling", TagStylist.from(environmentVariables));
         context.put("requirementTypes", requirementsService.getRequirementTypes());
 
         addParentRequirmentFieldToContext(testOutcome, context);
@@ -226,17 +228,10 @@ public class HtmlAcceptanceTestReporter extends HtmlReporter implements Acceptan
     }
 
     private void addFormattersToContext(final Map<String, Object> context) {
-        Formatter formatter = new Formatter();
-        ReportFormatter reportFormatter = new ReportFormatter();
+        getRenderingSession().addSharedHelpersTo(context);
         context.put("reportOptions", new ReportOptions(getEnvironmentVariables(), requirementsService));
-        context.put("formatter", formatter);
-        context.put("reportFormatter", reportFormatter);
         context.put("reportName", new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirementsService));
         context.put("absoluteReportName", new ReportNameProvider(NO_CONTEXT, ReportType.HTML, requirementsService));
-
-        VersionProvider versionProvider = new VersionProvider(getEnvironmentVariables());
-        context.put("serenityVersionNumber", versionProvider.getVersion());
-        context.put("buildNumber", versionProvider.getBuildNumberText());
     }
 
     private void generateScreenshotReportsFor(final TestOutcome testOutcome) throws IOException {
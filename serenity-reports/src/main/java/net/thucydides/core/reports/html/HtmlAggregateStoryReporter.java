@@ -12,6 +12,8 @@ import net.thucydides.core.model.ReportType;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.model.TestTag;
 import net.thucydides.core.reports.*;
+import net.thucydides.core.reports.index.IndexedTestOutcomes;
+import net.thucydides.core.reports.index.TestOutcomeIndex;
 import net.thucydides.core.requirements.DefaultRequirements;
 import net.thucydides.core.requirements.Requirements;
 import net.thucydides.core.requirements.model.RequirementsConfiguration;
@@ -29,6 +31,8 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static net.thucydides.core.ThucydidesSystemProperty.REPORT_SCOREBOARD_SIZE;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REPORT_INCREMENTAL;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REPORT_STREAMING;
 import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_TEST_ROOT;
 import static net.thucydides.core.guice.Injectors.getInjector;
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
@@ -56,6 +60,7 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     private final EnvironmentVariables environmentVariables;
     private FormatConfiguration formatConfiguration;
     private boolean generateTestOutcomeReports = false;
+    private Optional<TestOutcomeIndex> outcomeIndex = Optional.empty();
 
     public static final CopyOption[] COPY_OPTIONS = new CopyOption[]{StandardCopyOption.COPY_ATTRIBUTES};
 
@@ -162,14 +167,18 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
 
         List<String> knownRequirementReportNames = requirementReportNamesFrom(requirementsOutcomes, reportNameProvider);
 
+        Optional<IncrementalReports> incrementalReports = incrementalReports(testOutcomes);
+
         List<ReportingTask> reportingTasks = new ArrayList<>();
 
         if (generateTestOutcomeReports) {
-            reportingTasks.addAll(HtmlTestOutcomeReportingTask.testOutcomeReportsFor(testOutcomes).using(environmentVariables, requirements.getRequirementsService(), getOutputDirectory(), issueTracking));
+            reportingTasks.addAll(HtmlTestOutcomeReportingTask.testOutcomeReportsFor(testOutcomes)
+                    .withFullOutcomesFrom(streamingReporting() ? outcomeIndex : Optional.empty())
+                    .using(environmentVariables, requirements.getRequirementsService(), getOutputDirectory(), issueTracking));
         }
 
         reportingTasks.add(new TextSummaryReportTask(context, environmentVariables, getOutputDirectory(), testOutcomes));
-        reportingTasks.add(new CopyResourcesTask());
+        reportingTasks.add(new CopyResourcesTask(testOutcomes));
         reportingTasks.add(new CopyTestResultsTask());
         reportingTasks.add(new AggregateReportingTask(context, environmentVariables, requirements.getRequirementsService(), getOutputDirectory(), testOutcomes));
 
@@ -220,11 +229,35 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
                     failure.getType()));
         }
 
-        Reporter.generateReportsFor(reportingTasks);
+        if (incrementalReports.isPresent()) {
+            Reporter.generateReportsFor(incrementalReports.get().tasksToGenerate(reportingTasks), getOutputDirectory());
+            incrementalReports.get().saveManifest();
+        } else {
+            Reporter.generateReportsFor(reportingTasks, getOutputDirectory());
+        }
 
         LOGGER.info("Test results for {} tests generated in {} in directory: {}", testOutcomes.getTestCount(), stopwatch.executionTimeFormatted(), getOutputDirectory().toURI());
     }
 
+    private Optional<IncrementalReports> incrementalReports(TestOutcomes testOutcomes) {
+        if (!incrementalReporting()) {
+            return Optional.empty();
+        }
+        return outcomeIndex.map(index -> new IncrementalReports(getOutputDirectory(),
+                                                                index,
+                                                                environmentVariables,
+                                                                requirements.getRequirementsService().getRequirements(),
+                                                                testOutcomes));
+    }
+
+    private boolean incrementalReporting() {
+        return SERENITY_REPORT_INCREMENTAL.booleanFrom(environmentVariables, false);
+    }
+
+    private boolean streamingReporting() {
+        return SERENITY_REPORT_STREAMING.booleanFrom(environmentVariables, false);
+    }
+
     private List<ReportingTask> durationReports(TestOutcomes testOutcomes,
                                                 FreemarkerContext context,
                                                 List<String> requirementTypes,
@@ -261,9 +294,22 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     private TestOutcomes loadTestOutcomesFrom(File sourceDirectory) throws IOException {
+        if (streamingReporting() || incrementalReporting()) {
+            return loadIndexedTestOutcomesFrom(sourceDirectory);
+        }
         return TestOutcomeLoader.loadTestOutcomes().inFormat(getFormat()).from(sourceDirectory);//.withRequirementsTags();
     }
 
+    private TestOutcomes loadIndexedTestOutcomesFrom(File sourceDirectory) throws IOException {
+        IndexedTestOutcomes indexedTestOutcomes = new TestOutcomeLoader(environmentVariables).forFormat(getFormat())
+                .loadIndexedFrom(sourceDirectory, !streamingReporting());
+        indexedTestOutcomes.getIndex().writeTo(getOutputDirectory());
+        outcomeIndex = Optional.of(indexedTestOutcomes.getIndex());
+
+        LOGGER.debug("Indexed {} test outcomes in {}", indexedTestOutcomes.getIndex().size(), sourceDirectory);
+        return TestOutcomes.of(indexedTestOutcomes.getOutcomes());
+    }
+
     protected SerenitySystemProperties getSystemProperties() {
         return SerenitySystemProperties.getProperties();
     }
@@ -349,11 +395,26 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
     }
 
     private class CopyResourcesTask implements ReportingTask {
+        private final TestOutcomes testOutcomes;
+
+        CopyResourcesTask(TestOutcomes testOutcomes) {
+            this.testOutcomes = testOutcomes;
+        }
+
         @Override
         public void generateReports() throws IOException {
             copyResourcesToOutputDirectory();
         }
 
+        /**
+         * The report resources are a fixed set of several hundred files, so they are costed like the aggregate report,
+         * which is built from every test, to start copying them with the first of the larger reports.
+         */
+        @Override
+        public int estimatedCost() {
+            return testOutcomes.getTestCount();
+        }
+
         @Override
         public String reportName() {
             return "CopyResourcesTask";
@@ -366,6 +427,11 @@ public class HtmlAggregateStoryReporter extends HtmlReporter implements UserStor
             copyTestResultsToOutputDirectory();
         }
 
+        @Override
+        public int estimatedCost() {
+            return countTestResultsToCopy();
+        }
+
         @Override
         public String reportName() {
             return "CopyTestResultsTask";
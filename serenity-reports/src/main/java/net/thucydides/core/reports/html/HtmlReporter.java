@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * An HTML report generates reports in a given directory and uses resources (images,...) from another.
@@ -100,6 +101,27 @@ public abstract class HtmlReporter extends ThucydidesReporter {
         }
     }
 
+    /**
+     * The number of files and directories at the top of the source directory that copyTestResultsToOutputDirectory()
+     * will copy, as a rough measure of how long the copy will take. Nothing is copied if the source directory is
+     * also the output directory.
+     */
+    protected int countTestResultsToCopy() {
+        Path sourcePath = getSourceDirectoryOrDefault().toPath();
+        Path destinationPath = getOutputDirectory().toPath();
+        try {
+            if (!Files.exists(sourcePath) || (Files.exists(destinationPath) && Files.isSameFile(sourcePath, destinationPath))) {
+                return 0;
+            }
+            try (Stream<Path> testResults = Files.list(sourcePath)) {
+                return (int) testResults.count();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not count the test results in {}: {}", sourcePath, e.getMessage());
+            return 1;
+        }
+    }
+
     private void copyDirectoryContents(Path sourcePath, Path destinationPath) throws IOException {
         Files.walkFileTree(sourcePath, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
                 Integer.MAX_VALUE, new CopyDirectory(sourcePath, destinationPath));
@@ -3,6 +3,7 @@ package net.thucydides.core.reports.html;
 import net.thucydides.core.issues.IssueTracking;
 import net.thucydides.core.model.TestOutcome;
 import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.index.TestOutcomeIndex;
 import net.thucydides.core.requirements.RequirementsService;
 import net.thucydides.core.util.EnvironmentVariables;
 import org.slf4j.Logger;
@@ -11,8 +12,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,21 +26,54 @@ public class HtmlTestOutcomeReportingTask implements ReportingTask {
     private final RequirementsService requirementsService;
     private final EnvironmentVariables environmentVariables;
     private final IssueTracking issueTracking;
+    private final Optional<TestOutcomeIndex> outcomeIndex;
+    private final Optional<ReportRenderingSession> renderingSession;
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(HtmlTestOutcomeReportingTask.class);
 
     public HtmlTestOutcomeReportingTask(TestOutcome testOutcome, File outputDirectory, RequirementsService requirementsService, EnvironmentVariables environmentVariables, IssueTracking issueTracking) {
+        this(testOutcome, outputDirectory, requirementsService, environmentVariables, issueTracking, Optional.empty());
+    }
+
+    public HtmlTestOutcomeReportingTask(TestOutcome testOutcome,
+                                        File outputDirectory,
+                                        RequirementsService requirementsService,
+                                        EnvironmentVariables environmentVariables,
+                                        IssueTracking issueTracking,
+                                        Optional<TestOutcomeIndex> outcomeIndex) {
+        this(testOutcome, outputDirectory, requirementsService, environmentVariables, issueTracking, outcomeIndex, Optional.empty());
+    }
+
+    HtmlTestOutcomeReportingTask(TestOutcome testOutcome,
+                                 File outputDirectory,
+                                 RequirementsService requirementsService,
+                                 EnvironmentVariables environmentVariables,
+                                 IssueTracking issueTracking,
+                                 Optional<TestOutcomeIndex> outcomeIndex,
+                                 Optional<ReportRenderingSession> renderingSession) {
         this.testOutcome = testOutcome;
         this.outputDirectory = outputDirectory;
         this.requirementsService = requirementsService;
         this.environmentVariables = environmentVariables;
         this.issueTracking = issueTracking;
+        this.outcomeIndex = outcomeIndex;
+        this.renderingSession = renderingSession;
     }
 
 
     @Override
     public String reportName() {
-        return testOutcome.getReportName();
+        return testOutcome.getHtmlReport();
+    }
+
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(TestOutcomes.of(Collections.singletonList(testOutcome)));
+    }
+
+    @Override
+    public int estimatedCost() {
+        return 1;
     }
 
     @Override
@@ -49,10 +85,18 @@ public class HtmlTestOutcomeReportingTask implements ReportingTask {
                                                                              issueTracking);
 
         reporter.setOutputDirectory(outputDirectory);
-        reporter.generateReportFor(testOutcome);
+        renderingSession.ifPresent(reporter::setRenderingSession);
+        reporter.generateReportFor(fullVersionOf(testOutcome));
     }
 
 
+    /**
+     * Outcomes loaded in streaming mode have no step evidence, so the complete outcome is reloaded from disk
+     * just before the individual test report is rendered.
+     */
+    private TestOutcome fullVersionOf(TestOutcome testOutcome) {
+        return outcomeIndex.map(index -> index.fullVersionOf(testOutcome)).orElse(testOutcome);
+    }
 
     public static TestOutcomeReportBuilder testOutcomeReportsFor(TestOutcomes testOutcomes) {
         return new TestOutcomeReportBuilder(testOutcomes);
@@ -60,17 +104,24 @@ public class HtmlTestOutcomeReportingTask implements ReportingTask {
 
     public static class TestOutcomeReportBuilder {
         private final TestOutcomes testOutcomes;
+        private Optional<TestOutcomeIndex> outcomeIndex = Optional.empty();
 
         public TestOutcomeReportBuilder(TestOutcomes testOutcomes) {
             this.testOutcomes = testOutcomes;
         }
 
+        public TestOutcomeReportBuilder withFullOutcomesFrom(Optional<TestOutcomeIndex> outcomeIndex) {
+            this.outcomeIndex = outcomeIndex;
+            return this;
+        }
+
         public List<ReportingTask> using(final EnvironmentVariables environmentVariables,
                                          final RequirementsService requirementsService,
                                          final File outputDirectory,
                                          final IssueTracking issueTracking) {
+            Optional<ReportRenderingSession> renderingSession = Optional.of(new ReportRenderingSession(environmentVariables));
             return testOutcomes.getOutcomes().parallelStream()
-                    .map(outcome -> new HtmlTestOutcomeReportingTask(outcome, outputDirectory, requirementsService, environmentVariables, issueTracking))
+                    .map(outcome -> new HtmlTestOutcomeReportingTask(outcome, outputDirectory, requirementsService, environmentVariables, issueTracking, outcomeIndex, renderingSession))
                     .collect(Collectors.toList());
         }
     }
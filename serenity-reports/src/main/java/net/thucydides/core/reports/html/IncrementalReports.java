@@ -0,0 +1,187 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.thucydides.core.ThucydidesSystemProperty;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.model.TestTag;
+import net.thucydides.core.reports.TestOutcomes;
+import net.thucydides.core.reports.index.TestOutcomeIndex;
+import net.thucydides.core.reports.index.TestOutcomeSummary;
+import net.thucydides.core.reports.json.gson.CollectionTypeAdapterFactory;
+import net.thucydides.core.reports.json.gson.OptionalTypeAdapter;
+import net.thucydides.core.requirements.model.Requirement;
+import net.thucydides.core.util.EnvironmentVariables;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Works out which report pages need to be generated again when the aggregate report is generated in incremental mode.
+ * Each page is fingerprinted using the digests and the tags of the test outcomes it is generated from, along with
+ * the inputs that can change any page without changing an outcome file: the report configuration, the requirements
+ * (which the breadcrumbs and requirement tags come from) and the tags of the whole run.
+ * A page is only generated again if its fingerprint has changed since the previous run, or if the page no longer exists.
+ * Pages that do not declare the test outcomes they are generated from are always generated.
+ */
+class IncrementalReports {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalReports.class);
+
+    private static final Gson REQUIREMENTS_JSON = new GsonBuilder()
+            .registerTypeAdapterFactory(OptionalTypeAdapter.FACTORY)
+            .registerTypeAdapterFactory(new CollectionTypeAdapterFactory()).create();
+
+    private final File outputDirectory;
+    private final TestOutcomeIndex index;
+    private final Optional<ReportManifest> previousManifest;
+    private final ReportManifest currentManifest;
+    private final String sharedInputs;
+
+    IncrementalReports(File outputDirectory,
+                       TestOutcomeIndex index,
+                       EnvironmentVariables environmentVariables,
+                       List<Requirement> requirements,
+                       TestOutcomes testOutcomes) {
+        this.outputDirectory = outputDirectory;
+        this.index = index;
+        this.previousManifest = ReportManifest.readFrom(outputDirectory);
+        this.currentManifest = new ReportManifest();
+        this.sharedInputs = DigestUtils.sha256Hex(configurationIn(environmentVariables)
+                + "\n" + REQUIREMENTS_JSON.toJson(requirements)
+                + "\n" + tagsIn(testOutcomes.getOutcomes()));
+        index.getSummaries().forEach(summary -> currentManifest.recordOutcome(summary.getSourceFile(), summary.getDigest()));
+    }
+
+    /**
+     * The values of all the Serenity properties, and of the custom report fields, that are defined for this run.
+     */
+    private static String configurationIn(EnvironmentVariables environmentVariables) {
+        SortedMap<String, String> configuration = new TreeMap<>();
+        for (ThucydidesSystemProperty property : ThucydidesSystemProperty.values()) {
+            String value = property.from(environmentVariables);
+            if (value != null) {
+                configuration.put(property.getPropertyName(), value);
+            }
+        }
+        environmentVariables.getPropertiesWithPrefix("report.")
+                .forEach((key, value) -> configuration.put(key.toString(), String.valueOf(value)));
+        return configuration.toString();
+    }
+
+    private static String tagsIn(List<? extends TestOutcome> testOutcomes) {
+        return testOutcomes.stream()
+                .flatMap(testOutcome -> testOutcome.getAllTags().stream())
+                .map(TestTag::getCompleteName)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    List<ReportingTask> tasksToGenerate(List<ReportingTask> reportingTasks) {
+        if (previousManifest.isPresent()) {
+            LOGGER.info("Incremental report generation: {} of {} test outcome files have changed",
+                    changedOutcomeFilesSince(previousManifest.get()).size(), index.size());
+        }
+
+        List<ReportingTask> tasksToGenerate = new ArrayList<>();
+        for (ReportingTask reportingTask : reportingTasks) {
+            Optional<String> fingerprint = fingerprintOf(reportingTask);
+            if (!fingerprint.isPresent()) {
+                tasksToGenerate.add(reportingTask);
+            } else if (isUpToDate(reportingTask, fingerprint.get())) {
+                currentManifest.recordPage(reportingTask.reportName(), fingerprint.get());
+            } else {
+                tasksToGenerate.add(new FingerprintedReportingTask(reportingTask, fingerprint.get()));
+            }
+        }
+        LOGGER.debug("Incremental report generation: {} of {} reports need to be generated", tasksToGenerate.size(), reportingTasks.size());
+        return tasksToGenerate;
+    }
+
+    void saveManifest() throws IOException {
+        currentManifest.writeTo(outputDirectory);
+    }
+
+    private Set<String> changedOutcomeFilesSince(ReportManifest manifest) {
+        Map<String, String> previousDigests = manifest.getOutcomeDigests();
+        return currentManifest.getOutcomeDigests().entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(previousDigests.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    private boolean isUpToDate(ReportingTask reportingTask, String fingerprint) {
+        return previousManifest.flatMap(manifest -> manifest.fingerprintOf(reportingTask.reportName()))
+                .map(previousFingerprint -> previousFingerprint.equals(fingerprint))
+                .orElse(false)
+                && new File(outputDirectory, reportingTask.reportName()).exists();
+    }
+
+    /**
+     * The fingerprint of a page is built from the digests and the tags of the outcomes it is generated from,
+     * and from the inputs shared by all the pages.
+     * If any of these outcomes cannot be found in the index, the page has no fingerprint and will always be generated.
+     */
+    private Optional<String> fingerprintOf(ReportingTask reportingTask) {
+        Optional<TestOutcomes> sourceOutcomes = reportingTask.sourceOutcomes();
+        if (!sourceOutcomes.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> digests = new ArrayList<>();
+        for (TestOutcome testOutcome : sourceOutcomes.get().getOutcomes()) {
+            Optional<String> digest = index.summaryFor(testOutcome).map(TestOutcomeSummary::getDigest);
+            if (!digest.isPresent()) {
+                return Optional.empty();
+            }
+            digests.add(digest.get() + " " + tagsIn(Collections.singletonList(testOutcome)));
+        }
+        Collections.sort(digests);
+        return Optional.of(DigestUtils.sha256Hex(reportingTask.reportName() + "\n" + sharedInputs + "\n" + String.join("\n", digests)));
+    }
+
+    /**
+     * Records the fingerprint of a page in the manifest once the page has been successfully generated.
+     */
+    private class FingerprintedReportingTask implements ReportingTask {
+        private final ReportingTask reportingTask;
+        private final String fingerprint;
+
+        FingerprintedReportingTask(ReportingTask reportingTask, String fingerprint) {
+            this.reportingTask = reportingTask;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public void generateReports() throws IOException {
+            reportingTask.generateReports();
+            currentManifest.recordPage(reportingTask.reportName(), fingerprint);
+        }
+
+        @Override
+        public String reportName() {
+            return reportingTask.reportName();
+        }
+
+        @Override
+        public Optional<TestOutcomes> sourceOutcomes() {
+            return reportingTask.sourceOutcomes();
+        }
+
+        @Override
+        public int estimatedCost() {
+            return reportingTask.estimatedCost();
+        }
+
+        @Override
+        public String toString() {
+            return reportingTask.toString();
+        }
+    }
+}
@@ -11,13 +11,15 @@ import java.util.concurrent.Callable;
 
 class ReportExecutor implements Callable<Void> {
     private final ReportingTask reportingTask;
+    private final ReportTimings reportTimings;
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(ReportExecutor.class);
 
     private final EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
 
-    public ReportExecutor(ReportingTask reportingTask) {
+    public ReportExecutor(ReportingTask reportingTask, ReportTimings reportTimings) {
         this.reportingTask = reportingTask;
+        this.reportTimings = reportTimings;
     }
 
     public ReportingTask getReportingTask() {
@@ -27,10 +29,17 @@ class ReportExecutor implements Callable<Void> {
     @Override
     public Void call() throws Exception {
         Stopwatch reportingStopwatch = Stopwatch.started();
+        long startedAt = System.currentTimeMillis();
         if (verboseReporting()) {
             LOGGER.info("Generating report {}...", reportingTask);
         }
-        reportingTask.generateReports();
+        boolean successful = false;
+        try {
+            reportingTask.generateReports();
+            successful = true;
+        } finally {
+            reportTimings.record(reportingTask, startedAt, System.currentTimeMillis(), successful);
+        }
         if (verboseReporting()) {
             LOGGER.info("Report {} generated in {} ms", reportingTask, reportingStopwatch.stop());
         }
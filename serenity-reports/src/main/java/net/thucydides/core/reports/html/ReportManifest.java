@@ -0,0 +1,74 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Records the digests of the test outcome files used to generate a report, and a fingerprint of the test outcomes
+ * each report page was generated from. The manifest is stored next to the generated report, and is used to work
+ * out which pages need to be generated again in incremental mode.
+ */
+class ReportManifest {
+
+    static final String MANIFEST_FILE = "serenity-report-manifest.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Map<String, String> outcomes;
+    private final Map<String, String> pages;
+
+    ReportManifest() {
+        this(new TreeMap<>(), new TreeMap<>());
+    }
+
+    private ReportManifest(Map<String, String> outcomes, Map<String, String> pages) {
+        this.outcomes = outcomes;
+        this.pages = pages;
+    }
+
+    static Optional<ReportManifest> readFrom(File outputDirectory) {
+        File manifestFile = new File(outputDirectory, MANIFEST_FILE);
+        if (!manifestFile.exists()) {
+            return Optional.empty();
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8)) {
+            ReportManifest storedManifest = GSON.fromJson(reader, ReportManifest.class);
+            if (storedManifest == null || storedManifest.outcomes == null || storedManifest.pages == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new ReportManifest(new TreeMap<>(storedManifest.outcomes), new TreeMap<>(storedManifest.pages)));
+        } catch (IOException | RuntimeException unreadableManifest) {
+            return Optional.empty();
+        }
+    }
+
+    void writeTo(File outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory.toPath());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(outputDirectory, MANIFEST_FILE)), StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    synchronized void recordOutcome(String sourceFile, String digest) {
+        outcomes.put(sourceFile, digest);
+    }
+
+    synchronized void recordPage(String reportName, String fingerprint) {
+        pages.put(reportName, fingerprint);
+    }
+
+    synchronized Optional<String> fingerprintOf(String reportName) {
+        return Optional.ofNullable(pages.get(reportName));
+    }
+
+    synchronized Map<String, String> getOutcomeDigests() {
+        return new TreeMap<>(outcomes);
+    }
+}
@@ -0,0 +1,63 @@
+package net.thucydides.core.reports.html;
+
+import net.serenitybdd.core.reports.styling.TagStylist;
+import net.thucydides.core.model.NumericalFormatter;
+import net.thucydides.core.model.formatters.ReportFormatter;
+import net.thucydides.core.reports.templates.TemplateManager;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.Inflector;
+import net.thucydides.core.util.TagInflector;
+import net.thucydides.core.util.VersionProvider;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The objects shared by all the pages generated in a reporting run.
+ * The helper objects used by the templates only depend on the configuration, so they are created once and
+ * added to the context of each page, rather than being created again for every page.
+ */
+public class ReportRenderingSession {
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, Object> sharedHelpers;
+
+    public ReportRenderingSession(EnvironmentVariables environmentVariables) {
+        VersionProvider versionProvider = new VersionProvider(environmentVariables);
+
+        Map<String, Object> helpers = new HashMap<>();
+        helpers.put("formatter", new Formatter());
+        helpers.put("reportFormatter", new ReportFormatter());
+        helpers.put("formatted", new NumericalFormatter());
+        helpers.put("inflection", Inflector.getInstance());
+        helpers.put("tagInflector", new TagInflector(environmentVariables));
+        helpers.put("styling", TagStylist.from(environmentVariables));
+        helpers.put("serenityVersionNumber", versionProvider.getVersion());
+        helpers.put("buildNumber", versionProvider.getBuildNumberText());
+        this.sharedHelpers = Collections.unmodifiableMap(helpers);
+    }
+
+    public void addSharedHelpersTo(Map<String, Object> context) {
+        context.putAll(sharedHelpers);
+    }
+
+    /**
+     * Merge a template with the given context, writing the result directly to the output file.
+     */
+    public void renderPage(String template, Map<String, Object> context, Path outputPath) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputPath), StandardCharsets.UTF_8),
+                                                OUTPUT_BUFFER_SIZE)) {
+            TemplateManager.getTemplateFrom(template).merge(context, writer);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to merge template: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package net.thucydides.core.reports.html;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records when each report page was generated, how long it took, and on which thread, so that slow pages
+ * and idle threads can be spotted. The timings can be written to a JSON file in the report directory.
+ */
+class ReportTimings {
+
+    /**
+     * The test outcome loader skips this file by name, as it is written next to the test outcomes.
+     */
+    static final String TIMINGS_FILE = "serenity-report-timings.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final long startTime = System.currentTimeMillis();
+    private final Queue<ReportTiming> timings = new ConcurrentLinkedQueue<>();
+
+    void record(ReportingTask reportingTask, long startedAt, long finishedAt, boolean successful) {
+        timings.add(new ReportTiming(reportingTask.toString(),
+                                     reportingTask.estimatedCost(),
+                                     startedAt - startTime,
+                                     finishedAt - startedAt,
+                                     Thread.currentThread().getName(),
+                                     successful));
+    }
+
+    List<ReportTiming> getTimings() {
+        List<ReportTiming> recordedTimings = new ArrayList<>(timings);
+        recordedTimings.sort(Comparator.comparing(ReportTiming::getStartedAfter));
+        return recordedTimings;
+    }
+
+    void writeTo(File outputDirectory, int threads) throws IOException {
+        Files.createDirectories(outputDirectory.toPath());
+        Summary summary = new Summary(System.currentTimeMillis() - startTime, threads, getTimings());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(outputDirectory, TIMINGS_FILE)), StandardCharsets.UTF_8)) {
+            GSON.toJson(summary, writer);
+        }
+    }
+
+    static class ReportTiming {
+        private final String report;
+        private final int estimatedCost;
+        private final long startedAfter;
+        private final long duration;
+        private final String thread;
+        private final boolean successful;
+
+        ReportTiming(String report, int estimatedCost, long startedAfter, long duration, String thread, boolean successful) {
+            this.report = report;
+            this.estimatedCost = estimatedCost;
+            this.startedAfter = startedAfter;
+            this.duration = duration;
+            this.thread = thread;
+            this.successful = successful;
+        }
+
+        public String getReport() {
+            return report;
+        }
+
+        public int getEstimatedCost() {
+            return estimatedCost;
+        }
+
+        /**
+         * Time in milliseconds between the start of report generation and the start of this report.
+         */
+        public long getStartedAfter() {
+            return startedAfter;
+        }
+
+        /**
+         * Time in milliseconds spent generating this report.
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        public boolean isSuccessful() {
+            return successful;
+        }
+    }
+
+    private static class Summary {
+        private final long totalDuration;
+        private final int threads;
+        private final List<ReportTiming> reports;
+
+        private Summary(long totalDuration, int threads, List<ReportTiming> reports) {
+            this.totalDuration = totalDuration;
+            this.threads = threads;
+            this.reports = reports;
+        }
+    }
+}
@@ -8,12 +8,20 @@ import net.thucydides.core.reports.*;
 import net.thucydides.core.util.*;
 import org.slf4j.*;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.stream.*;
 
 import static net.thucydides.core.ThucydidesSystemProperty.REPORT_TIMEOUT_THREADDUMPS;
+import static net.thucydides.core.ThucydidesSystemProperty.SERENITY_REPORT_TIMINGS;
 
+/**
+ * Generates report pages in parallel. The most expensive pages (such as the home page and the requirements
+ * overview) are started first, so that they do not hold up the end of the run. The pages are generated in
+ * a work-stealing pool, so that threads that finish early pick up the pages still waiting to be generated.
+ */
 class Reporter {
 
     private static final TimeoutValue DEFAULT_TIMEOUT = new TimeoutValue(600, TimeUnit.SECONDS);
@@ -21,27 +29,46 @@ class Reporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(HtmlAggregateStoryReporter.class);
 
     private final Collection<ReportingTask> reportingTasks;
+    private final Optional<File> outputDirectory;
 
     private final EnvironmentVariables environmentVariables = Injectors.getInjector().getInstance(EnvironmentVariables.class);
 
-    private Reporter(Collection<ReportingTask> reportingTasks) {
+    private Reporter(Collection<ReportingTask> reportingTasks, Optional<File> outputDirectory) {
         this.reportingTasks = reportingTasks;
+        this.outputDirectory = outputDirectory;
     }
 
     public static void generateReportsFor(Collection<ReportingTask> reportingTasks) {
-        new Reporter(reportingTasks).generateReports();
+        new Reporter(reportingTasks, Optional.empty()).generateReports();
+    }
+
+    public static void generateReportsFor(Collection<ReportingTask> reportingTasks, File outputDirectory) {
+        new Reporter(reportingTasks, Optional.of(outputDirectory)).generateReports();
+    }
+
+    /**
+     * The reporting tasks in the order they should be started: most expensive first.
+     */
+    static List<ReportingTask> inSchedulingOrder(Collection<ReportingTask> reportingTasks) {
+        List<ReportingTask> scheduledTasks = new ArrayList<>(reportingTasks);
+        Map<ReportingTask, Integer> estimatedCosts = new IdentityHashMap<>();
+        scheduledTasks.forEach(task -> estimatedCosts.put(task, task.estimatedCost()));
+        scheduledTasks.sort(Comparator.comparing(estimatedCosts::get, Comparator.reverseOrder()));
+        return scheduledTasks;
     }
 
     private void generateReports() {
         Stopwatch stopwatch = Stopwatch.started();
 
-        ExecutorService executorPool = Executors.newFixedThreadPool(NumberOfThreads.forIOOperations());
+        int threads = NumberOfThreads.forIOOperations();
+        ForkJoinPool executorPool = new ForkJoinPool(threads, inheritingClassLoaderOf(Thread.currentThread()), null, false);
+        ReportTimings reportTimings = new ReportTimings();
 
         ErrorTally errorTally = new ErrorTally();
         try {
             final List<ReportExecutor> partitions
-                    = reportingTasks.stream()
-                    .map(ReportExecutor::new)
+                    = inSchedulingOrder(reportingTasks).stream()
+                    .map(task -> new ReportExecutor(task, reportTimings))
                     .collect(Collectors.toList());
 
             final List<ReportExecutorFuture> futures
@@ -75,6 +102,9 @@ class Reporter {
         }
 
         LOGGER.debug("Test outcome reports generated in {} ms", stopwatch.stop());
+        if (outputDirectory.isPresent() && SERENITY_REPORT_TIMINGS.booleanFrom(environmentVariables, false)) {
+            writeTimings(reportTimings, threads);
+        }
         if (errorTally.hasErrors()) {
             LOGGER.warn(errorTally.errorSummary());
             if (showThreaddumpOnReportTimeout()) {
@@ -84,6 +114,27 @@ class Reporter {
         }
     }
 
+    /**
+     * Report templates and resources are loaded through the context class loader, which may not be the
+     * system class loader when reports are generated from a build tool plugin.
+     */
+    private static ForkJoinPool.ForkJoinWorkerThreadFactory inheritingClassLoaderOf(Thread parentThread) {
+        ClassLoader classLoader = parentThread.getContextClassLoader();
+        return pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setContextClassLoader(classLoader);
+            return worker;
+        };
+    }
+
+    private void writeTimings(ReportTimings reportTimings, int threads) {
+        try {
+            reportTimings.writeTo(outputDirectory.get(), threads);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the report timings to {}: {}", outputDirectory.get(), e.getMessage());
+        }
+    }
+
     private boolean showThreaddumpOnReportTimeout() {
         return REPORT_TIMEOUT_THREADDUMPS.booleanFrom(environmentVariables, false);
     }
@@ -1,8 +1,28 @@
 package net.thucydides.core.reports.html;
 
+import net.thucydides.core.reports.TestOutcomes;
+
 import java.io.IOException;
+import java.util.Optional;
 
 public interface ReportingTask {
     void generateReports() throws IOException;
     String reportName();
+
+    /**
+     * The test outcomes this report is generated from, if they are known.
+     * Incremental report generation uses them to decide whether a report needs to be generated again.
+     * Reports that do not declare their test outcomes are always generated.
+     */
+    default Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.empty();
+    }
+
+    /**
+     * A rough measure of the work needed to generate this report, used to start the most expensive reports first.
+     * By default, this is the number of test outcomes the report is generated from.
+     */
+    default int estimatedCost() {
+        return sourceOutcomes().map(TestOutcomes::getTestCount).orElse(1);
+    }
 }
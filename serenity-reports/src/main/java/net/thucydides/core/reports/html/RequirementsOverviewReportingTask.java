@@ -86,6 +86,16 @@ class RequirementsOverviewReportingTask extends BaseReportingTask implements Rep
         this.requirementsFilter = new RequirementsFilter(environmentVariables);
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
+    @Override
+    public int estimatedCost() {
+        return testOutcomes.getTestCount() + requirementsOutcomes.getFlattenedRequirementCount();
+    }
+
     @Override
     public String reportName() {
         return reportName;
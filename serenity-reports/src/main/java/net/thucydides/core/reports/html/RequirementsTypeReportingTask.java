@@ -1,6 +1,7 @@
 package net.thucydides.core.reports.html;
 
 import com.google.common.base.Objects;
+import net.thucydides.core.reports.TestOutcomes;
 import net.thucydides.core.tags.OutcomeTagFilter;
 import net.thucydides.core.requirements.reports.RequirementsOutcomes;
 import net.thucydides.core.requirements.reports.ScenarioOutcome;
@@ -11,6 +12,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -72,6 +74,16 @@ class RequirementsTypeReportingTask extends BaseReportingTask implements Reporti
 
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(requirementsOutcomes.getTestOutcomes());
+    }
+
+    @Override
+    public int estimatedCost() {
+        return requirementsOutcomes.getTestOutcomes().getTestCount() + requirementsOutcomes.getFlattenedRequirementCount();
+    }
+
     @Override
     public String reportName() {
         return reportName;
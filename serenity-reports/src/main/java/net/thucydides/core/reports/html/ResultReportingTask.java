@@ -8,6 +8,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 public class ResultReportingTask extends BaseReportingTask implements ReportingTask {
 
@@ -40,6 +41,11 @@ public class ResultReportingTask extends BaseReportingTask implements ReportingT
         this.reportName = reportNameProvider.withPrefix(tag).forTestResult(testResult);
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
     @Override
     public String reportName() {
         return reportName;
@@ -13,6 +13,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -168,6 +169,11 @@ public class TagReportingTask extends BaseReportingTask implements ReportingTask
 
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes.withTag(tag));
+    }
+
     @Override
     public String reportName() {
         return reportName;
@@ -8,6 +8,7 @@ import net.thucydides.core.util.EnvironmentVariables;
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 import static net.thucydides.core.reports.html.ReportNameProvider.NO_CONTEXT;
 
@@ -37,6 +38,11 @@ public class TextSummaryReportTask extends BaseReportingTask implements Reportin
         LOGGER.trace("Summary report generated: {} ms", stopwatch.stop());
     }
 
+    @Override
+    public Optional<TestOutcomes> sourceOutcomes() {
+        return Optional.of(testOutcomes);
+    }
+
     @Override
     public String reportName() {
         return "summary.txt";
@@ -1,6 +1,8 @@
 package net.thucydides.core.reports;
 
 import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
 import org.hamcrest.Matcher;
 import org.junit.Before;
 import org.junit.Rule;
@@ -93,6 +95,44 @@ public class WhenUsingAReportService {
         verify(reporter).setOutputDirectory(outputDirectory);
     }
 
+    @Test
+    public void a_report_service_can_write_reports_in_the_background() throws Exception {
+        List<TestOutcome> testOutcomeResults = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            testOutcomeResults.add(TestOutcome.forTest("test" + i, ATestCase.class));
+        }
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<>(), new ArrayList<>(), asyncReporting());
+
+        reportService.subscribe(reporter);
+
+        reportService.generateReportsFor(testOutcomeResults);
+        reportService.waitForPendingReports();
+
+        verify(reporter, times(100)).generateReportFor(Matchers.any(TestOutcome.class));
+        assertThat(reportService.getReportWriterMetrics().getQueueDepth(), is(0));
+    }
+
+    @Test(expected = ReportGenerationFailedError.class)
+    public void failures_in_background_reports_are_reported_when_the_pending_reports_are_written() throws Exception {
+        List<TestOutcome> testOutcomeResults = new ArrayList<>();
+        testOutcomeResults.add(testOutcome);
+        doThrow(new IOException("Disk full")).when(reporter).generateReportFor(testOutcome);
+
+        ReportService reportService = new ReportService(outputDirectory, new ArrayList<>(), new ArrayList<>(), asyncReporting());
+
+        reportService.subscribe(reporter);
+
+        reportService.generateReportsFor(testOutcomeResults);
+        reportService.waitForPendingReports();
+    }
+
+    private EnvironmentVariables asyncReporting() {
+        MockEnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+        environmentVariables.setProperty("serenity.report.async", "true");
+        return environmentVariables;
+    }
+
     @Test
     public void default_reporters_should_include_xml_html_and_json() {
         List reporters = ReportService.getDefaultReporters();
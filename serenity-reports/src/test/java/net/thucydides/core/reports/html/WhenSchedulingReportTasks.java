@@ -0,0 +1,80 @@
+package net.thucydides.core.reports.html;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WhenSchedulingReportTasks {
+
+    @Test
+    public void should_start_the_most_expensive_reports_first() {
+        List<ReportingTask> tasks = Arrays.asList(new StubTask("tag-report", 5),
+                                                  new StubTask("index.html", 500),
+                                                  new StubTask("test-report", 1),
+                                                  new StubTask("capabilities.html", 800));
+
+        assertThat(namesOf(Reporter.inSchedulingOrder(tasks)))
+                .containsExactly("capabilities.html", "index.html", "tag-report", "test-report");
+    }
+
+    @Test
+    public void should_keep_reports_with_the_same_cost_in_their_original_order() {
+        List<ReportingTask> tasks = Arrays.asList(new StubTask("first", 1),
+                                                  new StubTask("second", 1),
+                                                  new StubTask("third", 1));
+
+        assertThat(namesOf(Reporter.inSchedulingOrder(tasks))).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void should_record_the_timings_of_each_report() throws Exception {
+        ReportTimings reportTimings = new ReportTimings();
+        StubTask task = new StubTask("index.html", 500);
+
+        new ReportExecutor(task, reportTimings).call();
+
+        assertThat(reportTimings.getTimings()).hasSize(1);
+        ReportTimings.ReportTiming timing = reportTimings.getTimings().get(0);
+        assertThat(timing.getReport()).isEqualTo("index.html");
+        assertThat(timing.getEstimatedCost()).isEqualTo(500);
+        assertThat(timing.getThread()).isEqualTo(Thread.currentThread().getName());
+        assertThat(timing.isSuccessful()).isTrue();
+    }
+
+    private List<String> namesOf(List<ReportingTask> tasks) {
+        return tasks.stream().map(ReportingTask::reportName).collect(Collectors.toList());
+    }
+
+    private static class StubTask implements ReportingTask {
+        private final String name;
+        private final int cost;
+
+        StubTask(String name, int cost) {
+            this.name = name;
+            this.cost = cost;
+        }
+
+        @Override
+        public void generateReports() {
+        }
+
+        @Override
+        public String reportName() {
+            return name;
+        }
+
+        @Override
+        public int estimatedCost() {
+            return cost;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
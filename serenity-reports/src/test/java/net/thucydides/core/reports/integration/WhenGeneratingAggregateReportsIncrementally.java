@@ -0,0 +1,138 @@
+package net.thucydides.core.reports.integration;
+
+import net.thucydides.core.issues.IssueTracking;
+import net.thucydides.core.model.TestOutcome;
+import net.thucydides.core.reports.html.HtmlAggregateStoryReporter;
+import net.thucydides.core.reports.json.JSONTestOutcomeReporter;
+import net.thucydides.core.util.EnvironmentVariables;
+import net.thucydides.core.util.MockEnvironmentVariables;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static net.thucydides.core.matchers.FileMatchers.exists;
+import static net.thucydides.core.util.TestResources.directoryInClasspathCalled;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+
+public class WhenGeneratingAggregateReportsIncrementally {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sourceDirectory;
+    private File outputDirectory;
+
+    private final EnvironmentVariables environmentVariables = new MockEnvironmentVariables();
+
+    @Before
+    public void copySourceOutcomes() throws IOException {
+        sourceDirectory = temporaryFolder.newFolder("source");
+        outputDirectory = temporaryFolder.newFolder("report");
+        FileUtils.copyDirectory(directoryInClasspathCalled("/tagged-test-outcomes-json"), sourceDirectory);
+
+        environmentVariables.setProperty("serenity.report.incremental", "true");
+    }
+
+    @Test
+    public void should_record_the_outcome_digests_in_a_manifest() throws IOException {
+        generateReports();
+
+        assertThat(new File(outputDirectory, "serenity-report-manifest.json"), exists());
+        assertThat(new File(outputDirectory, "serenity-outcome-index.json"), exists());
+    }
+
+    @Test
+    public void should_not_regenerate_pages_if_the_outcomes_have_not_changed() throws IOException {
+        generateReports();
+
+        File homePage = new File(outputDirectory, "index.html");
+        FileUtils.writeStringToFile(homePage, "unchanged", StandardCharsets.UTF_8);
+
+        generateReports();
+
+        assertThat(FileUtils.readFileToString(homePage, StandardCharsets.UTF_8), equalTo("unchanged"));
+    }
+
+    @Test
+    public void should_regenerate_pages_that_depend_on_a_changed_outcome() throws IOException {
+        generateReports();
+
+        File homePage = new File(outputDirectory, "index.html");
+        FileUtils.writeStringToFile(homePage, "out of date", StandardCharsets.UTF_8);
+
+        File outcomeFile = new File(sourceDirectory, "sample-report-1.json");
+        String outcome = FileUtils.readFileToString(outcomeFile, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(outcomeFile, outcome.replace("\"PENDING\"", "\"SUCCESS\""), StandardCharsets.UTF_8);
+
+        generateReports();
+
+        assertThat(FileUtils.readFileToString(homePage, StandardCharsets.UTF_8), not(equalTo("out of date")));
+    }
+
+    @Test
+    public void should_regenerate_pages_that_have_been_deleted() throws IOException {
+        generateReports();
+
+        File homePage = new File(outputDirectory, "index.html");
+        homePage.delete();
+
+        generateReports();
+
+        assertThat(homePage, exists());
+    }
+
+    @Test
+    public void should_not_regenerate_test_pages_if_the_outcome_has_not_changed() throws IOException {
+        generateReportsIncludingTestPages();
+
+        File testPage = new File(outputDirectory, testOutcomeIn("sample-report-2.json").getHtmlReport());
+        assertThat(testPage, exists());
+        FileUtils.writeStringToFile(testPage, "unchanged", StandardCharsets.UTF_8);
+
+        generateReportsIncludingTestPages();
+
+        assertThat(FileUtils.readFileToString(testPage, StandardCharsets.UTF_8), equalTo("unchanged"));
+    }
+
+    @Test
+    public void should_regenerate_pages_when_the_report_configuration_changes() throws IOException {
+        generateReports();
+
+        File homePage = new File(outputDirectory, "index.html");
+        FileUtils.writeStringToFile(homePage, "out of date", StandardCharsets.UTF_8);
+
+        environmentVariables.setProperty("serenity.project.name", "Another project");
+        generateReports();
+
+        assertThat(FileUtils.readFileToString(homePage, StandardCharsets.UTF_8), not(equalTo("out of date")));
+    }
+
+    private TestOutcome testOutcomeIn(String outcomeFile) {
+        return new JSONTestOutcomeReporter().loadReportFrom(new File(sourceDirectory, outcomeFile)).get();
+    }
+
+    private void generateReports() throws IOException {
+        reporter().generateReportsForTestResultsFrom(sourceDirectory);
+    }
+
+    private void generateReportsIncludingTestPages() throws IOException {
+        HtmlAggregateStoryReporter reporter = reporter();
+        reporter.setGenerateTestOutcomeReports();
+        reporter.generateReportsForTestResultsFrom(sourceDirectory);
+    }
+
+    private HtmlAggregateStoryReporter reporter() {
+        HtmlAggregateStoryReporter reporter = new HtmlAggregateStoryReporter("project", "", mock(IssueTracking.class), environmentVariables);
+        reporter.setOutputDirectory(outputDirectory);
+        return reporter;
+    }
+}
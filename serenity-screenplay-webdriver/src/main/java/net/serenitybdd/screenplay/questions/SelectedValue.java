@@ -1,5 +1,7 @@
 package net.serenitybdd.screenplay.questions;
 
+import net.serenitybdd.core.pages.ElementSnapshot;
+import net.serenitybdd.core.pages.ElementSnapshots;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.core.pages.WebElementState;
 import net.serenitybdd.screenplay.Question;
@@ -11,7 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.singletonList;
+import static net.serenitybdd.core.pages.ElementProperty.SELECTED_VALUE;
 import static net.serenitybdd.screenplay.questions.LabelledQuestion.answer;
 import static net.serenitybdd.screenplay.questions.LabelledQuestion.answerEach;
 
@@ -30,23 +32,23 @@ public class SelectedValue {
     }
 
     public static Question<Collection<String>> ofEach(Target target) {
-        return Question.about("selected values of " + target.getName()).answeredBy(actor -> target.resolveAllFor(actor)
+        return Question.about("selected values of " + target.getName()).answeredBy(actor -> ElementSnapshots.of(target.resolveAllFor(actor), SELECTED_VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getSelectedValue)
                 .collect(Collectors.toList()));
     }
 
     public static Question<Collection<String>> ofEach(By byLocator) {
-        return Question.about("selected values of element located by " + byLocator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(byLocator)
+        return Question.about("selected values of element located by " + byLocator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(byLocator), SELECTED_VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getSelectedValue)
                 .collect(Collectors.toList()));
     }
 
     public static Question<Collection<String>> ofEach(String locator) {
-        return Question.about("selected values of " + locator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(locator)
+        return Question.about("selected values of " + locator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(locator), SELECTED_VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getSelectedValue)
                 .collect(Collectors.toList()));
     }
 
@@ -1,5 +1,7 @@
 package net.serenitybdd.screenplay.questions;
 
+import net.serenitybdd.core.pages.ElementSnapshot;
+import net.serenitybdd.core.pages.ElementSnapshots;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.core.pages.WebElementState;
 import net.serenitybdd.screenplay.Question;
@@ -10,7 +12,7 @@ import org.openqa.selenium.By;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.singletonList;
+import static net.serenitybdd.core.pages.ElementProperty.TEXT;
 
 public class Text {
 
@@ -28,25 +30,25 @@ public class Text {
 
     public static Question<Collection<String>> ofEach(Target target) {
         return Question.about("text of each of " + target.getName()).answeredBy(
-                actor -> target.resolveAllFor(actor)
+                actor -> ElementSnapshots.of(target.resolveAllFor(actor), TEXT)
                         .stream()
-                        .map(element -> matches(singletonList(element)))
+                        .map(ElementSnapshot::getText)
                         .collect(Collectors.toList())
         );
     }
 
     public static Question<Collection<String>> ofEach(By byLocator) {
-        return Question.about("text of each of element located by " + byLocator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(byLocator)
+        return Question.about("text of each of element located by " + byLocator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(byLocator), TEXT)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getText)
                 .collect(Collectors.toList())
         );
     }
 
     public static Question<Collection<String>> ofEach(String locator) {
-        return Question.about("text of each of " + locator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(locator)
+        return Question.about("text of each of " + locator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(locator), TEXT)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getText)
                 .collect(Collectors.toList())
         );
     }
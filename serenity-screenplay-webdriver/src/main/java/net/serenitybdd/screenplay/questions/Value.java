@@ -1,5 +1,7 @@
 package net.serenitybdd.screenplay.questions;
 
+import net.serenitybdd.core.pages.ElementSnapshot;
+import net.serenitybdd.core.pages.ElementSnapshots;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.core.pages.WebElementState;
 import net.serenitybdd.screenplay.Question;
@@ -11,7 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.singletonList;
+import static net.serenitybdd.core.pages.ElementProperty.VALUE;
 
 public class Value {
 
@@ -28,23 +30,23 @@ public class Value {
     }
 
     public static Question<Collection<String>> ofEach(Target target) {
-        return Question.about("values of each " + target.getName()).answeredBy(actor -> target.resolveAllFor(actor)
+        return Question.about("values of each " + target.getName()).answeredBy(actor -> ElementSnapshots.of(target.resolveAllFor(actor), VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getValue)
                 .collect(Collectors.toList()));
     }
 
     public static Question<Collection<String>> ofEach(By byLocator) {
-        return Question.about("values of each " + byLocator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(byLocator)
+        return Question.about("values of each " + byLocator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(byLocator), VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getValue)
                 .collect(Collectors.toList()));
     }
 
     public static Question<Collection<String>> ofEach(String locator) {
-        return Question.about("values of each " + locator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(locator)
+        return Question.about("values of each " + locator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(locator), VALUE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::getValue)
                 .collect(Collectors.toList()));
     }
 
@@ -1,5 +1,7 @@
 package net.serenitybdd.screenplay.questions;
 
+import net.serenitybdd.core.pages.ElementSnapshot;
+import net.serenitybdd.core.pages.ElementSnapshots;
 import net.serenitybdd.core.pages.WebElementFacade;
 import net.serenitybdd.core.pages.WebElementState;
 import net.serenitybdd.screenplay.Question;
@@ -10,7 +12,7 @@ import org.openqa.selenium.By;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static java.util.Collections.singletonList;
+import static net.serenitybdd.core.pages.ElementProperty.VISIBLE;
 
 public class Visibility {
 
@@ -27,23 +29,23 @@ public class Visibility {
     }
 
     public static Question<List<Boolean>> ofEach(Target target) {
-        return Question.about("visibility of each " + target.getName()).answeredBy(actor -> target.resolveAllFor(actor)
+        return Question.about("visibility of each " + target.getName()).answeredBy(actor -> ElementSnapshots.of(target.resolveAllFor(actor), VISIBLE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::isVisible)
                 .collect(Collectors.toList()));
     }
 
     public static Question<List<Boolean>> ofEach(By byLocator) {
-        return Question.about("visibility of element located by " + byLocator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(byLocator)
+        return Question.about("visibility of element located by " + byLocator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(byLocator), VISIBLE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::isVisible)
                 .collect(Collectors.toList()));
     }
 
     public static Question<List<Boolean>> ofEach(String locator) {
-        return Question.about("visibility of each" + locator).answeredBy(actor -> BrowseTheWeb.as(actor).findAll(locator)
+        return Question.about("visibility of each" + locator).answeredBy(actor -> ElementSnapshots.of(BrowseTheWeb.as(actor).findAll(locator), VISIBLE)
                 .stream()
-                .map(element -> matches(singletonList(element)))
+                .map(ElementSnapshot::isVisible)
                 .collect(Collectors.toList()));
     }
 